@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.benchmark;
+
+import io.novaordis.jboss.cli.JBossCliException;
+import io.novaordis.jboss.cli.JBossControllerClientImpl;
+import io.novaordis.jboss.cli.MockCommandContext;
+import io.novaordis.jboss.cli.MockCommandContextFactory;
+import io.novaordis.jboss.cli.OperationRequestCache;
+import io.novaordis.jboss.cli.model.AttributeRead;
+import io.novaordis.jboss.cli.model.AttributeReadResult;
+import io.novaordis.jboss.cli.model.ManagementPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end client read paths, against a MockModelControllerClient, so the measurement covers request building,
+ * execution dispatch and response conversion, but not the network.
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientBenchmark {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private JBossControllerClientImpl client;
+
+    private ManagementPath path;
+    private List<String> attributeNames;
+    private List<AttributeRead> reads;
+
+    // twice the request cache capacity, cycled through in order, so the least recently used request is always gone
+    private String[] uncachedPaths;
+    private int next;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    @Setup
+    public void setUp() throws Exception {
+
+        MockCommandContext mcc = new MockCommandContext();
+        mcc.install("/subsystem=web/connector=http", "bytesSent", 1024L);
+        mcc.install("/subsystem=web/connector=http", "requestCount", 10L);
+        mcc.install("/subsystem=web/connector=http", "enabled", true);
+        mcc.install("/subsystem=datasources/data-source=ExampleDS", "jndi-name", "java:jboss/datasources/ExampleDS");
+
+        uncachedPaths = new String[2 * OperationRequestCache.DEFAULT_CAPACITY];
+
+        for(int i = 0; i < uncachedPaths.length; i ++) {
+
+            uncachedPaths[i] = "/subsystem=web/connector=http-" + i;
+            mcc.install(uncachedPaths[i], "bytesSent", 1024L);
+        }
+
+        client = new JBossControllerClientImpl();
+        client.setCommandContextFactory(new MockCommandContextFactory(mcc));
+        client.connect();
+
+        path = new ManagementPath("/subsystem=web/connector=http");
+        attributeNames = Arrays.asList("bytesSent", "requestCount", "enabled");
+
+        reads = Arrays.asList(
+                new AttributeRead(path, "bytesSent"),
+                new AttributeRead(path, "requestCount"),
+                new AttributeRead("/subsystem=datasources/data-source=ExampleDS", "jndi-name"));
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        client.disconnect();
+    }
+
+    /**
+     * String path, the compiled request comes from the request cache.
+     */
+    @Benchmark
+    public Object getAttributeValue_String() throws JBossCliException {
+
+        return client.getAttributeValue("/subsystem=web/connector=http", "bytesSent");
+    }
+
+    /**
+     * String path, never found in the request cache: every read runs the CLI parser to compile its request.
+     */
+    @Benchmark
+    public Object getAttributeValue_String_Uncached() throws JBossCliException {
+
+        String p = uncachedPaths[next];
+        next = (next + 1) % uncachedPaths.length;
+        return client.getAttributeValue(p, "bytesSent");
+    }
+
+    @Benchmark
+    public Object getAttributeValue_ManagementPath() throws JBossCliException {
+
+        return client.getAttributeValue(path, "bytesSent");
+    }
+
+    /**
+     * Same read as getAttributeValue_ManagementPath(), without boxing the result.
+     */
+    @Benchmark
+    public long getLongAttribute() throws JBossCliException {
+
+        return client.getLongAttribute(path, "bytesSent", -1L);
+    }
+
+    @Benchmark
+    public Map<String, Object> getAttributeValues() throws JBossCliException {
+
+        return client.getAttributeValues(path, attributeNames);
+    }
+
+    @Benchmark
+    public List<AttributeReadResult> readAttributes() throws JBossCliException {
+
+        return client.readAttributes(reads);
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.benchmark;
+
+import io.novaordis.jboss.cli.JBossCliException;
+import io.novaordis.jboss.cli.ModelNodeUtil;
+import io.novaordis.jboss.cli.model.ManagementPath;
+import org.jboss.as.cli.Util;
+import org.jboss.dmr.ModelNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request building and response conversion, in isolation.
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelNodeUtilBenchmark {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private ManagementPath path;
+
+    private List<ModelNode> steps;
+
+    private ModelNode stringResponse;
+    private ModelNode longResponse;
+    private ModelNode readResourceResponse;
+    private List<String> attributeNames;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    @Setup
+    public void setUp() throws Exception {
+
+        path = new ManagementPath("/subsystem=web/connector=http");
+
+        steps = new ArrayList<>();
+
+        for(int i = 0; i < 8; i ++) {
+
+            steps.add(ModelNodeUtil.buildReadAttributeRequest(path, "attribute" + i));
+        }
+
+        stringResponse = ModelNodeUtil.buildSuccess("java:jboss/datasources/ExampleDS");
+        longResponse = ModelNodeUtil.buildSuccess(1024L);
+
+        readResourceResponse = new ModelNode();
+        readResourceResponse.get(Util.OUTCOME).set(Util.SUCCESS);
+        readResourceResponse.get(Util.RESULT, "bytesSent").set(1024L);
+        readResourceResponse.get(Util.RESULT, "requestCount").set(10L);
+        readResourceResponse.get(Util.RESULT, "enabled").set(true);
+        readResourceResponse.get(Util.RESULT, "scheme").set("http");
+
+        attributeNames = Arrays.asList("bytesSent", "requestCount", "enabled", "scheme");
+    }
+
+    @Benchmark
+    public ModelNode buildReadAttributeRequest() {
+
+        return ModelNodeUtil.buildReadAttributeRequest(path, "bytesSent");
+    }
+
+    @Benchmark
+    public ModelNode buildCompositeRequest() {
+
+        return ModelNodeUtil.buildCompositeRequest(steps);
+    }
+
+    @Benchmark
+    public Object operationResponseToValue_String() throws JBossCliException {
+
+        return ModelNodeUtil.operationResponseToValue(stringResponse);
+    }
+
+    @Benchmark
+    public Object operationResponseToValue_Long() throws JBossCliException {
+
+        return ModelNodeUtil.operationResponseToValue(longResponse);
+    }
+
+    @Benchmark
+    public Map<String, Object> operationResponseToValues() throws JBossCliException {
+
+        return ModelNodeUtil.operationResponseToValues(readResourceResponse, attributeNames);
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves the JARs the JBoss CLI depends on, within a JBoss installation, by walking the modules tree once. It is the
+ * Java equivalent of get-jboss-cli-classpath from jboss-cli.shlib, and applies the same precedence rules: for each
+ * dependency, a JAR found in an overlay (".overlays/<overlay>/...") takes precedence over a JAR found in a lower
+ * overlay, or outside overlays, regardless of its version; JARs in the same overlay are compared by name. Only files
+ * whose name is <dependency>-<digit>...".jar" are considered.
+ *
+ * The resolved classpath can be written to a cache file, together with the list of files and directories whose
+ * modification would invalidate it: the modules directory, the overlay directories and overlay lists, the
+ * directories of the resolved JARs and the two JARs that are not part of the modules tree. The cache is valid as long
+ * as none of them has been modified after the cache file was written. The format is line-oriented, so the launcher
+ * can validate and use the cache without starting a JVM:
+ *
+ * <jboss-home>
+ * <classpath>
+ * <watched path>
+ * ...
+ *
+ * This class only depends on the JDK, so it can be executed before the CLI dependencies are known.
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class ClasspathResolver {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    public static final String OVERLAYS = ".overlays";
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * ClasspathResolver <jboss-home> <cache-file> <dependency> [<dependency> ...]
+     *
+     * Writes the classpath at stdout and exits with 0, or writes an error message at stderr and exits with 1.
+     */
+    public static void main(String[] args) {
+
+        if (args.length < 3) {
+
+            System.err.println("[error]: usage: ClasspathResolver <jboss-home> <cache-file> <dependency> ...");
+            System.exit(1);
+        }
+
+        try {
+
+            ClasspathResolver r =
+                    new ClasspathResolver(new File(args[0]), Arrays.asList(args).subList(2, args.length));
+
+            System.out.println(r.getClasspath(new File(args[1])));
+        }
+        catch(IOException e) {
+
+            System.err.println("[error]: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return true if the name is <dependency>-<digit>...".jar"
+     */
+    static boolean matches(String fileName, String dependency) {
+
+        int l = dependency.length();
+
+        return fileName.length() > l + 1 &&
+                fileName.startsWith(dependency) &&
+                fileName.charAt(l) == '-' &&
+                Character.isDigit(fileName.charAt(l + 1)) &&
+                fileName.endsWith(".jar");
+    }
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final File jbossHome;
+    private final List<String> dependencies;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    /**
+     * @param dependencies the JAR base names, for example "jboss-dmr".
+     */
+    public ClasspathResolver(File jbossHome, List<String> dependencies) {
+
+        if (jbossHome == null) {
+
+            throw new IllegalArgumentException("null jboss home");
+        }
+
+        if (dependencies == null || dependencies.isEmpty()) {
+
+            throw new IllegalArgumentException("null or empty dependencies");
+        }
+
+        this.jbossHome = jbossHome;
+        this.dependencies = Collections.unmodifiableList(new ArrayList<>(dependencies));
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the cached classpath, if the cache file is valid, or resolves the classpath and (re)writes the cache
+     * file.
+     *
+     * @exception IOException if the classpath cannot be resolved. Failing to write the cache is not an error.
+     */
+    public String getClasspath(File cacheFile) throws IOException {
+
+        String classpath = readCache(cacheFile);
+
+        if (classpath != null) {
+
+            return classpath;
+        }
+
+        Resolution resolution = resolve();
+
+        try {
+
+            writeCache(cacheFile, resolution);
+        }
+        catch(IOException e) {
+
+            System.err.println("[warn]: failed to write classpath cache " + cacheFile + ": " + e.getMessage());
+        }
+
+        return resolution.getClasspath();
+    }
+
+    /**
+     * Walks the modules tree once and resolves all dependencies.
+     *
+     * @exception IOException if the installation is not valid, or a dependency cannot be found. The messages are the
+     * same as get-jboss-cli-classpath's.
+     */
+    public Resolution resolve() throws IOException {
+
+        if (!jbossHome.isDirectory()) {
+
+            throw new IOException("jboss_home " + jbossHome + " does not exist");
+        }
+
+        File jbossModulesJar = new File(jbossHome, "jboss-modules.jar");
+
+        if (!jbossModulesJar.isFile()) {
+
+            throw new IOException(jbossModulesJar + " not found");
+        }
+
+        File cliClientJar = new File(jbossHome, "bin/client/jboss-cli-client.jar");
+
+        if (!cliClientJar.isFile()) {
+
+            throw new IOException(cliClientJar + " not found");
+        }
+
+        File modules = new File(jbossHome, "modules");
+
+        if (!modules.isDirectory()) {
+
+            throw new IOException("the module directory " + modules + " does not exist");
+        }
+
+        Map<String, Candidate> newest = new LinkedHashMap<>();
+        Set<File> watched = new LinkedHashSet<>();
+
+        watched.add(modules);
+        watched.add(jbossModulesJar);
+        watched.add(cliClientJar);
+
+        Path modulesPath = modules.toPath();
+
+        Files.walkFileTree(modulesPath, new SimpleFileVisitor<Path>() {
+
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+
+                if (OVERLAYS.equals(String.valueOf(dir.getFileName()))) {
+
+                    watched.add(dir.toFile());
+
+                    File overlayList = new File(dir.toFile(), OVERLAYS);
+
+                    if (overlayList.isFile()) {
+
+                        watched.add(overlayList);
+                    }
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+
+                String name = file.getFileName().toString();
+
+                for(String dependency: dependencies) {
+
+                    if (matches(name, dependency)) {
+
+                        Candidate c = new Candidate(file.toFile(), overlay(modulesPath.relativize(file)));
+                        Candidate current = newest.get(dependency);
+
+                        if (current == null || c.compareTo(current) > 0) {
+
+                            newest.put(dependency, c);
+                        }
+                    }
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        List<File> jars = new ArrayList<>();
+        jars.add(jbossModulesJar);
+        jars.add(cliClientJar);
+
+        for(String dependency: dependencies) {
+
+            Candidate c = newest.get(dependency);
+
+            if (c == null) {
+
+                throw new IOException("no JAR with a name starting with '" + dependency + "' found in " + modules);
+            }
+
+            jars.add(c.jar);
+            watched.add(c.jar.getParentFile());
+        }
+
+        return new Resolution(jars, new ArrayList<>(watched));
+    }
+
+    public File getJBossHome() {
+
+        return jbossHome;
+    }
+
+    public List<String> getDependencies() {
+
+        return dependencies;
+    }
+
+    @Override
+    public String toString() {
+
+        return "ClasspathResolver[" + jbossHome + "]";
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    /**
+     * @return the cached classpath, or null if the cache file does not exist, was built for a different installation,
+     * or any of the watched paths was modified (or removed) after the cache file was written.
+     */
+    String readCache(File cacheFile) throws IOException {
+
+        if (!cacheFile.isFile()) {
+
+            return null;
+        }
+
+        long cacheTimestamp = cacheFile.lastModified();
+
+        try (BufferedReader r = Files.newBufferedReader(cacheFile.toPath(), StandardCharsets.UTF_8)) {
+
+            String home = r.readLine();
+            String classpath = r.readLine();
+
+            if (!jbossHome.getPath().equals(home) || classpath == null || classpath.isEmpty()) {
+
+                return null;
+            }
+
+            String line;
+
+            while((line = r.readLine()) != null) {
+
+                File f = new File(line);
+
+                if (!f.exists() || f.lastModified() > cacheTimestamp) {
+
+                    return null;
+                }
+            }
+
+            return classpath;
+        }
+    }
+
+    /**
+     * Writes the cache atomically, so a concurrent launcher never reads a partial file.
+     */
+    void writeCache(File cacheFile, Resolution resolution) throws IOException {
+
+        File dir = cacheFile.getAbsoluteFile().getParentFile();
+
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+
+            throw new IOException("failed to create directory " + dir);
+        }
+
+        File tmp = File.createTempFile("." + cacheFile.getName() + "-", ".tmp", dir);
+
+        try {
+
+            try (BufferedWriter w = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8)) {
+
+                w.write(jbossHome.getPath());
+                w.newLine();
+                w.write(resolution.getClasspath());
+                w.newLine();
+
+                for(File f: resolution.getWatchedPaths()) {
+
+                    w.write(f.getPath());
+                    w.newLine();
+                }
+            }
+
+            Files.move(tmp.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        finally {
+
+            Files.deleteIfExists(tmp.toPath());
+        }
+    }
+
+    /**
+     * @return the overlay the path (relative to the modules directory) belongs to, or "" if it is not in an overlay.
+     */
+    static String overlay(Path relativePath) {
+
+        for(int i = 0; i < relativePath.getNameCount() - 1; i ++) {
+
+            if (OVERLAYS.equals(relativePath.getName(i).toString())) {
+
+                return relativePath.getName(i + 1).toString();
+            }
+        }
+
+        return "";
+    }
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+    /**
+     * The resolved JARs, in classpath order, and the paths whose modification invalidates the resolution.
+     */
+    public static final class Resolution {
+
+        private final List<File> jars;
+        private final List<File> watchedPaths;
+
+        Resolution(List<File> jars, List<File> watchedPaths) {
+
+            this.jars = Collections.unmodifiableList(jars);
+            this.watchedPaths = Collections.unmodifiableList(watchedPaths);
+        }
+
+        public List<File> getJars() {
+
+            return jars;
+        }
+
+        public List<File> getWatchedPaths() {
+
+            return watchedPaths;
+        }
+
+        public String getClasspath() {
+
+            StringBuilder sb = new StringBuilder();
+
+            for(File f: jars) {
+
+                if (sb.length() > 0) {
+
+                    sb.append(File.pathSeparatorChar);
+                }
+
+                sb.append(f.getPath());
+            }
+
+            return sb.toString();
+        }
+    }
+
+    private static final class Candidate implements Comparable<Candidate> {
+
+        private final File jar;
+        private final String overlay;
+
+        Candidate(File jar, String overlay) {
+
+            this.jar = jar;
+            this.overlay = overlay;
+        }
+
+        /**
+         * Higher overlays win, then higher names within the same overlay.
+         */
+        @Override
+        public int compareTo(Candidate o) {
+
+            int c = overlay.compareTo(o.overlay);
+            return c != 0 ? c : jar.getName().compareTo(o.jar.getName());
+        }
+    }
+}
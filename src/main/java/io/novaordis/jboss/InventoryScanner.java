@@ -0,0 +1,488 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Finds JBoss installations under a set of root directories and fingerprints them (product, major version, version
+ * and applied patches), in parallel, on a bounded number of threads.
+ *
+ * Each root is walked (NIO, not following symbolic links, down to the maximum depth) on its own thread. A directory
+ * that contains jboss-modules.jar is an installation, and its subtree is not walked any further. Each installation is
+ * then fingerprinted as a separate task, on its own bounded pool, so the fingerprints do not queue behind the walks
+ * of the remaining roots, and the results of already found installations are delivered while the walks proceed:
+ *
+ * - the product and major version come from the client JAR (bin/client/jboss-cli-client.jar, or jboss-client.jar),
+ *   via the JBossUtil cache.
+ * - the version comes from version.txt ("... - Version 6.4.0.GA") if present, otherwise from the client JAR.
+ * - the patches are the active overlays listed in modules/system/layers/base/.overlays/.overlays.
+ *
+ * The results are delivered, as they complete, to a handler invoked on the calling thread. The JBossUtil cache is
+ * flushed once, at the end of each scan.
+ *
+ * Thread safe.
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class InventoryScanner {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryScanner.class);
+
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    public static final int DEFAULT_MAX_DEPTH = 4;
+
+    public static final String OVERLAYS_FILE = "modules/system/layers/base/.overlays/.overlays";
+
+    private static final String[] CLIENT_JARS = { "bin/client/jboss-cli-client.jar", "bin/client/jboss-client.jar" };
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    private static final AtomicInteger threadCounter = new AtomicInteger(0);
+
+    /**
+     * @return true if the directory is a JBoss installation (it contains jboss-modules.jar).
+     */
+    public static boolean isInstallation(Path dir) {
+
+        return Files.isRegularFile(dir.resolve("jboss-modules.jar"));
+    }
+
+    /**
+     * Fingerprints one installation, in the calling thread.
+     *
+     * @exception IOException if the directory is not an installation, or it cannot be identified.
+     */
+    public static JBossInfo fingerprint(File home) throws IOException {
+
+        if (!isInstallation(home.toPath())) {
+
+            throw new IOException("not a JBoss installation, no jboss-modules.jar found in " + home);
+        }
+
+        File clientJar = null;
+
+        for(String s: CLIENT_JARS) {
+
+            File f = new File(home, s);
+
+            if (f.isFile()) {
+
+                clientJar = f;
+                break;
+            }
+        }
+
+        if (clientJar == null) {
+
+            throw new IOException("no client JAR found in " + new File(home, "bin/client"));
+        }
+
+        JBossInfo jarInfo = JBossUtil.fromClientJar(clientJar.getPath());
+
+        if (jarInfo == null) {
+
+            throw new IOException("unrecognized client JAR " + clientJar);
+        }
+
+        //
+        // the cached instance is shared
+        //
+
+        JBossInfo info = jarInfo.copy();
+
+        File versionTxt = new File(home, "version.txt");
+
+        if (versionTxt.isFile()) {
+
+            try (BufferedReader r = Files.newBufferedReader(versionTxt.toPath(), StandardCharsets.UTF_8)) {
+
+                String version = parseVersionTxt(r.readLine());
+
+                if (version != null) {
+
+                    info.setVersion(version);
+                }
+            }
+        }
+
+        File overlays = new File(home, OVERLAYS_FILE);
+
+        if (overlays.isFile()) {
+
+            List<String> patches = new ArrayList<>();
+
+            for(String line: Files.readAllLines(overlays.toPath(), StandardCharsets.UTF_8)) {
+
+                line = line.trim();
+
+                if (!line.isEmpty()) {
+
+                    patches.add(line);
+                }
+            }
+
+            info.setPatches(patches);
+        }
+
+        return info;
+    }
+
+    /**
+     * @return the version from the first line of a version.txt file ("Red Hat JBoss Enterprise Application Platform -
+     * Version 6.4.0.GA"), or null if the line does not contain a version.
+     */
+    static String parseVersionTxt(String line) {
+
+        if (line == null) {
+
+            return null;
+        }
+
+        int i = line.lastIndexOf("Version ");
+
+        if (i == -1) {
+
+            return null;
+        }
+
+        String version = line.substring(i + "Version ".length()).trim();
+        return version.isEmpty() ? null : version;
+    }
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final int maxDepth;
+    private final ExecutorService walkExecutor;
+    private final ExecutorService fingerprintExecutor;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    public InventoryScanner() {
+
+        this(DEFAULT_PARALLELISM, DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * @param parallelism the maximum number of roots walked at the same time, and, separately, the maximum number of
+     *                    installations fingerprinted at the same time. The threads are created by this instance and
+     *                    released with shutdown().
+     * @param maxDepth how deep under a root installations are looked for. 0 means the roots themselves.
+     */
+    public InventoryScanner(int parallelism, int maxDepth) {
+
+        if (parallelism <= 0) {
+
+            throw new IllegalArgumentException("invalid parallelism " + parallelism);
+        }
+
+        if (maxDepth < 0) {
+
+            throw new IllegalArgumentException("invalid maximum depth " + maxDepth);
+        }
+
+        this.maxDepth = maxDepth;
+        this.walkExecutor = Executors.newFixedThreadPool(parallelism, r -> {
+
+            Thread t = new Thread(r, "inventory-scanner-walk-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.fingerprintExecutor = Executors.newFixedThreadPool(parallelism, r -> {
+
+            Thread t = new Thread(r, "inventory-scanner-fingerprint-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * Scans the roots and waits for all installations to be fingerprinted.
+     *
+     * @return the results, in completion order.
+     *
+     * @exception IOException if the calling thread is interrupted while waiting.
+     */
+    public List<JBossInstallation> scan(Collection<File> roots) throws IOException {
+
+        return scan(roots, null);
+    }
+
+    /**
+     * Scans the roots and delivers the results, as each installation completes, to the handler. A root that cannot
+     * be walked is reported as a failure whose home is the root.
+     *
+     * @param handler may be null, in which case the results are only returned. Invoked on the calling thread.
+     *
+     * @return the results, in completion order.
+     *
+     * @exception IOException if the calling thread is interrupted while waiting.
+     */
+    public List<JBossInstallation> scan(Collection<File> roots, Consumer<JBossInstallation> handler)
+            throws IOException {
+
+        if (roots == null) {
+
+            throw new IllegalArgumentException("null roots");
+        }
+
+        List<JBossInstallation> results = new ArrayList<>();
+
+        if (roots.isEmpty()) {
+
+            return results;
+        }
+
+        //
+        // the number of walks and fingerprints submitted and not yet completed; the task that brings it to zero posts
+        // the end marker. A walk accounts for the fingerprints it submits before it completes itself, so the count
+        // cannot reach zero while there is work left.
+        //
+
+        Scan scan = new Scan(roots.size());
+
+        for(File root: roots) {
+
+            try {
+
+                walkExecutor.execute(() -> walk(root, scan));
+            }
+            catch(RejectedExecutionException e) {
+
+                scan.results.add(JBossInstallation.failure(root, new IOException(this + " was shut down", e), 0L));
+                scan.complete();
+            }
+        }
+
+        try {
+
+            JBossInstallation r;
+
+            while((r = scan.results.take()) != Scan.END) {
+
+                results.add(r);
+
+                if (handler != null) {
+
+                    handler.accept(r);
+                }
+            }
+        }
+        catch(InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while scanning, " + scan.pending.get() + " task(s) pending");
+        }
+        finally {
+
+            //
+            // once per scan, not once per identified client JAR
+            //
+
+            JBossUtil.getCache().flush();
+        }
+
+        return results;
+    }
+
+    public int getMaxDepth() {
+
+        return maxDepth;
+    }
+
+    /**
+     * Releases the threads, once the tasks already submitted complete. A scan in progress still returns: the
+     * installations found from now on are reported as failures. The instance cannot be used afterwards.
+     */
+    public void shutdown() {
+
+        //
+        // not shutdownNow(), which would drop the queued tasks without completing them, and the scans would never end
+        //
+
+        walkExecutor.shutdown();
+        fingerprintExecutor.shutdown();
+    }
+
+    @Override
+    public String toString() {
+
+        return "InventoryScanner[max depth " + maxDepth + "]";
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    private void walk(File root, Scan scan) {
+
+        long t0 = System.currentTimeMillis();
+
+        try {
+
+            if (!root.isDirectory()) {
+
+                throw new IOException("not a directory: " + root);
+            }
+
+            Files.walkFileTree(root.toPath(), EnumSet.noneOf(FileVisitOption.class), maxDepth,
+                    new SimpleFileVisitor<Path>() {
+
+                        @Override
+                        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+
+                            if (isInstallation(dir)) {
+
+                                submitFingerprint(dir.toFile(), scan);
+                                return FileVisitResult.SKIP_SUBTREE;
+                            }
+
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+
+                            //
+                            // directories at the maximum depth are visited as files
+                            //
+
+                            if (attrs.isDirectory() && isInstallation(file)) {
+
+                                submitFingerprint(file.toFile(), scan);
+                            }
+
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFileFailed(Path file, IOException e) {
+
+                            log.debug("cannot access " + file + ": " + e.getMessage());
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+        }
+        catch(Exception e) {
+
+            log.debug("failed to walk " + root + ": " + e.getMessage());
+            scan.results.add(JBossInstallation.failure(root, e, System.currentTimeMillis() - t0));
+        }
+        finally {
+
+            scan.complete();
+        }
+    }
+
+    private void submitFingerprint(File home, Scan scan) {
+
+        scan.pending.incrementAndGet();
+
+        try {
+
+            fingerprintExecutor.execute(() -> fingerprint(home, scan));
+        }
+        catch(RejectedExecutionException e) {
+
+            //
+            // shut down while walking; the walk still holds its own count, so this cannot end the scan prematurely
+            //
+
+            scan.results.add(JBossInstallation.failure(home, new IOException(this + " was shut down", e), 0L));
+            scan.complete();
+        }
+    }
+
+    private static void fingerprint(File home, Scan scan) {
+
+        long t0 = System.currentTimeMillis();
+
+        try {
+
+            JBossInfo info = fingerprint(home);
+            scan.results.add(JBossInstallation.success(home, info, System.currentTimeMillis() - t0));
+        }
+        catch(Exception e) {
+
+            log.debug("failed to fingerprint " + home + ": " + e.getMessage());
+            scan.results.add(JBossInstallation.failure(home, e, System.currentTimeMillis() - t0));
+        }
+        finally {
+
+            scan.complete();
+        }
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+    /**
+     * The state of one scan() invocation.
+     */
+    private static final class Scan {
+
+        private static final JBossInstallation END =
+                JBossInstallation.failure(new File("/"), new IOException("end of scan"), 0L);
+
+        private final AtomicInteger pending;
+        private final BlockingQueue<JBossInstallation> results;
+
+        Scan(int roots) {
+
+            this.pending = new AtomicInteger(roots);
+            this.results = new LinkedBlockingQueue<>();
+        }
+
+        void complete() {
+
+            if (pending.decrementAndGet() == 0) {
+
+                results.add(END);
+            }
+        }
+    }
+}
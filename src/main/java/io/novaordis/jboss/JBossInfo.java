@@ -16,6 +16,10 @@
 
 package io.novaordis.jboss;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * @author Ovidiu Feodorov <ovidiu@novaordis.com>
  * @since 7/31/17
@@ -35,12 +39,16 @@ public class JBossInfo {
 
     private String version;
 
+    // the patch overlays applied to the installation, in the order they are listed by the installation, never null
+    private List<String> patches;
+
     // Constructors ----------------------------------------------------------------------------------------------------
 
     public JBossInfo() {
 
         // EAP by default
         this.eap = true;
+        this.patches = Collections.emptyList();
     }
 
     // Public ----------------------------------------------------------------------------------------------------------
@@ -63,6 +71,16 @@ public class JBossInfo {
         return majorVersion;
     }
 
+    /**
+     * @return the names of the patch overlays applied to the installation (for example
+     * "layer-base-jboss-eap-6.4.15.CP"), or an empty list if no patches are applied or the information is not available
+     * (when the info was extracted from a client JAR only).
+     */
+    public List<String> getPatches() {
+
+        return patches;
+    }
+
     @Override
     public String toString() {
 
@@ -91,6 +109,11 @@ public class JBossInfo {
             s += version;
         }
 
+        if (!patches.isEmpty()) {
+
+            s += " " + patches;
+        }
+
         return s;
     }
 
@@ -106,6 +129,25 @@ public class JBossInfo {
         this.version = s;
     }
 
+    void setPatches(List<String> patches) {
+
+        this.patches =
+                patches == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(patches));
+    }
+
+    /**
+     * @return a shallow copy, which can be modified without affecting this instance.
+     */
+    JBossInfo copy() {
+
+        JBossInfo c = new JBossInfo();
+        c.eap = eap;
+        c.majorVersion = majorVersion;
+        c.version = version;
+        c.patches = patches;
+        return c;
+    }
+
     void setMajorVersion(Integer i) {
 
         if (i == null) {
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cache of client JAR identification results, keyed by the JAR's canonical path, size and modification time, so
+ * repeated identification of the same (unchanged) file does not open it again. Negative results (files that are not
+ * JBoss client JARs) are cached as well. Failures are not.
+ *
+ * The cache is kept in memory, and optionally in a file, which is loaded upon construction, so the results survive
+ * across processes. New results only mark the cache dirty; the file is rewritten (atomically), in one go, by flush().
+ * The owner of a file-backed cache must invoke flush() after a batch of identifications (InventoryScanner.scan() does
+ * it once per scan, for the JBossUtil cache), otherwise the results added since the last flush are lost when the
+ * process exits. The file is line-oriented:
+ *
+ * <size> <tab> <mtime> <tab> <eap|?|none> <tab> <major version|-> <tab> <version|-> <tab> <canonical path>
+ *
+ * Thread safe.
+ *
+ * @see JBossUtil#fromClientJar(String)
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class JBossInfoCache {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    private static final Logger log = LoggerFactory.getLogger(JBossInfoCache.class);
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    // null for a memory-only cache
+    private final File file;
+
+    private final Map<String, Entry> entries;
+
+    // true if the entries changed since they were last written to the file
+    private final AtomicBoolean dirty;
+
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    /**
+     * A memory-only cache.
+     */
+    public JBossInfoCache() {
+
+        this.file = null;
+        this.entries = new ConcurrentHashMap<>();
+        this.dirty = new AtomicBoolean(false);
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+    }
+
+    /**
+     * A cache backed by the given file. A missing or corrupted file is not an error, it will be (re)written by the
+     * first flush() that follows the addition of results.
+     */
+    public JBossInfoCache(File file) {
+
+        if (file == null) {
+
+            throw new IllegalArgumentException("null file");
+        }
+
+        this.file = file;
+        this.entries = new ConcurrentHashMap<>();
+        this.dirty = new AtomicBoolean(false);
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+
+        load();
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * @return the identification result for the given JAR, from cache if the JAR has not changed since it was
+     * identified, or by reading its manifest otherwise. Null if the file is not a JBoss client JAR.
+     *
+     * @exception IOException if the file cannot be read, or it is not a valid JAR.
+     */
+    public JBossInfo get(File clientJar) throws IOException {
+
+        String path = clientJar.getCanonicalPath();
+        long size = clientJar.length();
+        long mtime = clientJar.lastModified();
+
+        Entry e = entries.get(path);
+
+        if (e != null && e.size == size && e.mtime == mtime) {
+
+            hits.incrementAndGet();
+            return e.info;
+        }
+
+        misses.incrementAndGet();
+
+        JBossInfo info = JBossUtil.readClientJar(clientJar);
+
+        entries.put(path, new Entry(size, mtime, info));
+        dirty.set(true);
+
+        return info;
+    }
+
+    /**
+     * Writes the entries to the file, if they changed since the last flush. A no-op for a memory-only cache. Failure
+     * to write is logged, and the cache stays dirty.
+     */
+    public void flush() {
+
+        if (file == null || !dirty.compareAndSet(true, false)) {
+
+            return;
+        }
+
+        //
+        // the flag is cleared before writing, so an entry added concurrently is either written now, or by the next
+        // flush
+        //
+
+        if (!save()) {
+
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * @return true if results were added (or the cache was cleared) since the last flush.
+     */
+    public boolean isDirty() {
+
+        return dirty.get();
+    }
+
+    public void clear() {
+
+        entries.clear();
+        dirty.set(true);
+    }
+
+    /**
+     * @return null for a memory-only cache.
+     */
+    public File getFile() {
+
+        return file;
+    }
+
+    public int size() {
+
+        return entries.size();
+    }
+
+    public long getHitCount() {
+
+        return hits.get();
+    }
+
+    public long getMissCount() {
+
+        return misses.get();
+    }
+
+    @Override
+    public String toString() {
+
+        return "JBossInfoCache[" + (file == null ? "memory" : file.getPath()) + ", " + entries.size() + " entries]";
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    static String format(String path, Entry e) {
+
+        JBossInfo i = e.info;
+
+        return e.size + "\t" + e.mtime + "\t" +
+                (i == null ? "none" : (i.isEAP() ? "eap" : "?")) + "\t" +
+                (i == null || i.getMajorVersion() == null ? "-" : i.getMajorVersion()) + "\t" +
+                (i == null || i.getVersion() == null ? "-" : i.getVersion()) + "\t" +
+                path;
+    }
+
+    /**
+     * @return the path, with the entry attached, or null if the line is not valid.
+     */
+    static Map.Entry<String, Entry> parse(String line) {
+
+        String[] tokens = line.split("\t", 6);
+
+        if (tokens.length != 6) {
+
+            return null;
+        }
+
+        try {
+
+            long size = Long.parseLong(tokens[0]);
+            long mtime = Long.parseLong(tokens[1]);
+
+            JBossInfo info = null;
+
+            if (!"none".equals(tokens[2])) {
+
+                info = new JBossInfo();
+                info.setEAP("eap".equals(tokens[2]));
+                info.setMajorVersion("-".equals(tokens[3]) ? null : Integer.valueOf(tokens[3]));
+                info.setVersion("-".equals(tokens[4]) ? null : tokens[4]);
+            }
+
+            return new AbstractMap.SimpleImmutableEntry<>(tokens[5], new Entry(size, mtime, info));
+        }
+        catch(IllegalArgumentException e) {
+
+            return null;
+        }
+    }
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    private void load() {
+
+        if (!file.isFile()) {
+
+            return;
+        }
+
+        try (BufferedReader r = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+
+            String line;
+
+            while((line = r.readLine()) != null) {
+
+                Map.Entry<String, Entry> e = parse(line);
+
+                if (e == null) {
+
+                    log.warn("ignoring invalid line in " + file + ": " + line);
+                    continue;
+                }
+
+                entries.put(e.getKey(), e.getValue());
+            }
+        }
+        catch(IOException e) {
+
+            //
+            // not fatal, the file will be overwritten
+            //
+
+            log.warn("failed to load " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return false if the file could not be written.
+     */
+    private synchronized boolean save() {
+
+        File tmp = null;
+
+        try {
+
+            File dir = file.getAbsoluteFile().getParentFile();
+
+            if (!dir.isDirectory() && !dir.mkdirs()) {
+
+                throw new IOException("failed to create directory " + dir);
+            }
+
+            tmp = File.createTempFile("." + file.getName() + "-", ".tmp", dir);
+
+            try (BufferedWriter w = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8)) {
+
+                for(Map.Entry<String, Entry> e: entries.entrySet()) {
+
+                    w.write(format(e.getKey(), e.getValue()));
+                    w.newLine();
+                }
+            }
+
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        }
+        catch(IOException e) {
+
+            log.warn("failed to write " + file + ": " + e.getMessage());
+            return false;
+        }
+        finally {
+
+            if (tmp != null && tmp.exists() && !tmp.delete()) {
+
+                log.warn("failed to delete " + tmp);
+            }
+        }
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+    static final class Entry {
+
+        final long size;
+        final long mtime;
+
+        // null if the file is not a JBoss client JAR
+        final JBossInfo info;
+
+        Entry(long size, long mtime, JBossInfo info) {
+
+            this.size = size;
+            this.mtime = mtime;
+            this.info = info;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss;
+
+import java.io.File;
+
+/**
+ * The outcome of fingerprinting one installation found by an InventoryScanner: either the installation's JBossInfo,
+ * or the failure to identify it.
+ *
+ * @see InventoryScanner
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public final class JBossInstallation {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    public static JBossInstallation success(File home, JBossInfo info, long durationMs) {
+
+        if (info == null) {
+
+            throw new IllegalArgumentException("null info");
+        }
+
+        return new JBossInstallation(home, info, null, durationMs);
+    }
+
+    public static JBossInstallation failure(File home, Exception failure, long durationMs) {
+
+        if (failure == null) {
+
+            throw new IllegalArgumentException("null failure");
+        }
+
+        return new JBossInstallation(home, null, failure, durationMs);
+    }
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final File home;
+    private final JBossInfo info;
+    private final Exception failure;
+    private final long durationMs;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    private JBossInstallation(File home, JBossInfo info, Exception failure, long durationMs) {
+
+        if (home == null) {
+
+            throw new IllegalArgumentException("null home");
+        }
+
+        this.home = home;
+        this.info = info;
+        this.failure = failure;
+        this.durationMs = durationMs;
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * @return the installation directory (JBOSS_HOME), or the scanned root directory, if the failure occurred while
+     * walking it.
+     */
+    public File getHome() {
+
+        return home;
+    }
+
+    public boolean isSuccess() {
+
+        return failure == null;
+    }
+
+    /**
+     * @return null on failure.
+     */
+    public JBossInfo getInfo() {
+
+        return info;
+    }
+
+    /**
+     * @return null on success.
+     */
+    public Exception getFailure() {
+
+        return failure;
+    }
+
+    public long getDurationMs() {
+
+        return durationMs;
+    }
+
+    @Override
+    public String toString() {
+
+        return home + ": " + (failure == null ? info : "FAILURE: " + failure.getMessage());
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -19,13 +19,8 @@ package io.novaordis.jboss;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.jar.JarFile;
-import java.util.zip.ZipEntry;
 
 /**
  *
@@ -42,17 +37,25 @@ public class JBossUtil {
 
     // Static ----------------------------------------------------------------------------------------------------------
 
+    private static volatile JBossInfoCache cache = new JBossInfoCache();
+
+    // the readers keep their inflater and buffers between reads, and are not thread safe
+    private static final ThreadLocal<ManifestReader> manifestReader = ThreadLocal.withInitial(ManifestReader::new);
+
     /**
      * Analyzes the path and decides whether is a valid JBoss client JAR. If it is, extracts information from it.
      *
+     * The results are cached, so repeated calls for an unchanged file do not read it again. The JBossInfo instances
+     * may be shared, and must not be modified.
+     *
+     * @see JBossUtil#setCache(JBossInfoCache)
+     *
      * @return a JBossInfo instance if the given path represents a valid JBoss client JAR, or null otherwise.
      *
      * @exception IOException on any file-related problems, such as file not existing, etc.
      */
     public static JBossInfo fromClientJar(String clientJarPath) throws IOException {
 
-        log.debug("extracting JBoss info from " + clientJarPath);
-
         File f = new File(clientJarPath);
 
         if (f.isDirectory()) {
@@ -65,113 +68,116 @@ public class JBossUtil {
             throw new IOException("no such file: " + clientJarPath);
         }
 
-        JarFile jarFile = new JarFile(f);
-
-        //
-        // look for Manifest
-        //
-
-        ZipEntry e = jarFile.getEntry("META-INF/MANIFEST.MF");
+        return cache.get(f);
+    }
 
-        if (e == null) {
+    /**
+     * Replaces the process-wide cache used by fromClientJar(), for example with a file-backed one. A file-backed cache
+     * is only written by JBossInfoCache.flush().
+     *
+     * @see JBossInfoCache#flush()
+     */
+    public static void setCache(JBossInfoCache c) {
 
-            //
-            // no manifest
-            //
+        if (c == null) {
 
-            throw new IOException("no META-INF/MANIFEST.MF found in " + f.getPath());
+            throw new IllegalArgumentException("null cache");
         }
 
-        InputStream is = null;
-        BufferedReader br;
+        cache = c;
+    }
 
-        JBossInfo info = null;
+    public static JBossInfoCache getCache() {
 
-        try {
+        return cache;
+    }
 
-            is = jarFile.getInputStream(e);
-            br = new BufferedReader(new InputStreamReader(is));
+    /**
+     * Reads the manifest of the given JAR, bypassing the cache.
+     */
+    static JBossInfo readClientJar(File f) throws IOException {
 
-            //
-            // look for "Implementation Title:"
-            //
-            // EAP 6
-            //  jboss-client.jar:
-            //      Implementation-Title: JBoss Application Server: EJB and JMS client [...]
-            //  jboss-cli.jar:
-            //      Implementation-Title: JBoss Application Server: Command line interface
-            //
-            // EAP 7
-            //  jboss-client.jar:
-            //      Implementation-Title: WildFly: EJB and JMS client [...]
-            //  jboss-cli.jar:
-            //      Implementation-Title: WildFly: Command line interface
+        log.debug("extracting JBoss info from " + f);
 
-            String line;
-            boolean isClientJar = false;
-            boolean isCliJar = false;
-            Integer majorVersion = null;
+        //
+        // look for Manifest, without opening the JAR as a JarFile
+        //
 
-            while((line = br.readLine()) != null) {
+        ManifestReader reader = manifestReader.get();
 
-                if (line.startsWith("Implementation-Title:")) {
+        if (!reader.read(f)) {
 
-                    line = line.substring("Implementation-Title:".length()).trim();
+            //
+            // no manifest
+            //
 
-                    if (line.startsWith("JBoss Application Server")) {
+            throw new IOException("no META-INF/MANIFEST.MF found in " + f.getPath());
+        }
 
-                        majorVersion = 6;
-                    }
-                    else if (line.startsWith("WildFly")) {
+        //
+        // look for "Implementation Title:"
+        //
+        // EAP 6
+        //  jboss-client.jar:
+        //      Implementation-Title: JBoss Application Server: EJB and JMS client [...]
+        //  jboss-cli.jar:
+        //      Implementation-Title: JBoss Application Server: Command line interface
+        //
+        // EAP 7
+        //  jboss-client.jar:
+        //      Implementation-Title: WildFly: EJB and JMS client [...]
+        //  jboss-cli.jar:
+        //      Implementation-Title: WildFly: Command line interface
 
-                        majorVersion = 7;
-                    }
-                    else {
+        String title = reader.getAttribute("Implementation-Title");
+        String version = reader.getAttribute("Implementation-Version");
 
-                        log.warn("we did not find \"JBoss Application Server\" or \"WildFly\" on the Implementation-Title line");
-                        break;
-                    }
+        boolean isClientJar = false;
+        boolean isCliJar = false;
+        Integer majorVersion = null;
 
-                    if (line.contains("Command line interface")) {
+        if (title != null) {
 
-                        isCliJar = true;
+            if (title.startsWith("JBoss Application Server")) {
 
-                    }
-                    else if (line.contains("EJB and JMS client")) {
+                majorVersion = 6;
+            }
+            else if (title.startsWith("WildFly")) {
 
-                        isClientJar = true;
-                    }
+                majorVersion = 7;
+            }
+            else {
 
-                    break;
-                }
+                log.warn("we did not find \"JBoss Application Server\" or \"WildFly\" on the Implementation-Title line");
             }
 
-            if (isClientJar || isCliJar) {
+            if (majorVersion != null) {
 
-                info = new JBossInfo();
+                if (title.contains("Command line interface")) {
 
-                // TODO more heuristics required here, this is pretty thin
+                    isCliJar = true;
+                }
+                else if (title.contains("EJB and JMS client")) {
 
-                info.setMajorVersion(majorVersion);
-                info.setEAP(true);
+                    isClientJar = true;
+                }
             }
         }
-        finally {
 
-            if (is != null) {
+        JBossInfo info = null;
 
-                try {
+        if (isClientJar || isCliJar) {
 
-                    is.close();
-                }
-                catch (IOException ioe) {
+            info = new JBossInfo();
 
-                    log.warn("failed to close input stream");
-                }
-            }
+            // TODO more heuristics required here, this is pretty thin
+
+            info.setMajorVersion(majorVersion);
+            info.setVersion(version == null || version.isEmpty() ? null : version);
+            info.setEAP(true);
         }
 
-        log.debug(info == null ? "no JBoss info identified in " +  clientJarPath: info + " identified based on " + clientJarPath);
+        log.debug(info == null ? "no JBoss info identified in " +  f : info + " identified based on " + f);
 
         return info;
     }
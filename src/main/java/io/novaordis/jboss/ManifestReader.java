@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Reads META-INF/MANIFEST.MF from a JAR without building the JAR's entry table: the file is memory-mapped, the
+ * manifest entry is located by walking the central directory, and only that entry is inflated, into a buffer that is
+ * reused across reads. The attribute values are then extracted directly from the manifest bytes, so the only objects
+ * created per read are the values that are actually requested.
+ *
+ * Multi-disk and ZIP64 archives, and encrypted manifests, are not supported.
+ *
+ * Not thread safe: an instance keeps its Inflater and buffers between reads. Instances should be reused by the same
+ * thread, and released with close().
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public final class ManifestReader implements AutoCloseable {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    public static final String MANIFEST = "META-INF/MANIFEST.MF";
+
+    private static final byte[] MANIFEST_NAME = MANIFEST.getBytes(StandardCharsets.US_ASCII);
+
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+    private static final int EOCD_SIZE = 22;
+    private static final int CEN_SIGNATURE = 0x02014b50;
+    private static final int CEN_SIZE = 46;
+    private static final int LOC_SIGNATURE = 0x04034b50;
+    private static final int LOC_SIZE = 30;
+
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final Inflater inflater;
+
+    private byte[] input;
+
+    // the manifest content of the last successful read is manifest[0 ... length)
+    private byte[] manifest;
+    private int length;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    public ManifestReader() {
+
+        this.inflater = new Inflater(true);
+        this.input = new byte[4096];
+        this.manifest = new byte[8192];
+        this.length = -1;
+    }
+
+    // AutoCloseable implementation ------------------------------------------------------------------------------------
+
+    /**
+     * Releases the Inflater's native resources. The instance cannot be used afterwards.
+     */
+    @Override
+    public void close() {
+
+        inflater.end();
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads the manifest of the given JAR, replacing the manifest of the previous read.
+     *
+     * @return false if the JAR does not contain a META-INF/MANIFEST.MF entry.
+     *
+     * @exception ZipException if the file is not a valid ZIP file, or it uses an unsupported feature.
+     * @exception IOException on any other file-related problems.
+     */
+    public boolean read(File jar) throws IOException {
+
+        length = -1;
+
+        try (FileChannel channel = FileChannel.open(jar.toPath(), StandardOpenOption.READ)) {
+
+            long size = channel.size();
+
+            if (size > Integer.MAX_VALUE) {
+
+                throw new ZipException("file too large: " + jar);
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            int cen = findManifestCentralDirectoryEntry(buffer, jar);
+
+            if (cen == -1) {
+
+                return false;
+            }
+
+            extract(buffer, cen, jar);
+            return true;
+        }
+    }
+
+    /**
+     * @return the value of the first "<name>: <value>" line of the last read manifest, with continuation lines
+     * joined, or null if there is no such line, or no manifest was read.
+     */
+    public String getAttribute(String name) {
+
+        if (length == -1) {
+
+            return null;
+        }
+
+        byte[] key = name.getBytes(StandardCharsets.UTF_8);
+
+        int i = 0;
+
+        while(i < length) {
+
+            //
+            // i is at the beginning of a line
+            //
+
+            int end = endOfLine(i);
+
+            if (startsWithKey(i, end, key)) {
+
+                return value(i + key.length + 1, end);
+            }
+
+            i = nextLine(end);
+        }
+
+        return null;
+    }
+
+    /**
+     * @return the size of the last read manifest, or -1 if no manifest was read.
+     */
+    public int getManifestLength() {
+
+        return length;
+    }
+
+    @Override
+    public String toString() {
+
+        return "ManifestReader[" + (length == -1 ? "no manifest" : length + " bytes") + "]";
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    /**
+     * @return the offset of the manifest's central directory entry, or -1 if the JAR has no manifest.
+     */
+    private static int findManifestCentralDirectoryEntry(MappedByteBuffer buffer, File jar) throws ZipException {
+
+        int size = buffer.limit();
+
+        //
+        // the end of central directory record is followed by a comment of at most 65535 bytes
+        //
+
+        int eocd = -1;
+
+        for(int i = size - EOCD_SIZE; i >= 0 && i >= size - EOCD_SIZE - 0xFFFF; i --) {
+
+            if (buffer.getInt(i) == EOCD_SIGNATURE) {
+
+                eocd = i;
+                break;
+            }
+        }
+
+        if (eocd == -1) {
+
+            throw new ZipException("zip END header not found in " + jar);
+        }
+
+        int entries = buffer.getShort(eocd + 10) & 0xFFFF;
+        long cenSize = buffer.getInt(eocd + 12) & 0xFFFFFFFFL;
+        long cenOffset = buffer.getInt(eocd + 16) & 0xFFFFFFFFL;
+
+        if (entries == 0xFFFF || cenSize == 0xFFFFFFFFL || cenOffset == 0xFFFFFFFFL) {
+
+            throw new ZipException("ZIP64 archives are not supported: " + jar);
+        }
+
+        if (cenOffset + cenSize > eocd) {
+
+            throw new ZipException("invalid central directory in " + jar);
+        }
+
+        int p = (int)cenOffset;
+
+        for(int i = 0; i < entries; i ++) {
+
+            if (p + CEN_SIZE > eocd || buffer.getInt(p) != CEN_SIGNATURE) {
+
+                throw new ZipException("invalid central directory header in " + jar);
+            }
+
+            int nameLength = buffer.getShort(p + 28) & 0xFFFF;
+            int extraLength = buffer.getShort(p + 30) & 0xFFFF;
+            int commentLength = buffer.getShort(p + 32) & 0xFFFF;
+
+            if (nameLength == MANIFEST_NAME.length && nameEquals(buffer, p + CEN_SIZE)) {
+
+                return p;
+            }
+
+            p += CEN_SIZE + nameLength + extraLength + commentLength;
+        }
+
+        return -1;
+    }
+
+    private static boolean nameEquals(MappedByteBuffer buffer, int offset) {
+
+        for(int i = 0; i < MANIFEST_NAME.length; i ++) {
+
+            if (buffer.get(offset + i) != MANIFEST_NAME[i]) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Copies or inflates the entry whose central directory header is at the given offset into the manifest buffer.
+     */
+    private void extract(MappedByteBuffer buffer, int cen, File jar) throws ZipException {
+
+        int flags = buffer.getShort(cen + 8) & 0xFFFF;
+        int method = buffer.getShort(cen + 10) & 0xFFFF;
+        long compressedSize = buffer.getInt(cen + 20) & 0xFFFFFFFFL;
+        long uncompressedSize = buffer.getInt(cen + 24) & 0xFFFFFFFFL;
+        long locOffset = buffer.getInt(cen + 42) & 0xFFFFFFFFL;
+
+        if ((flags & 1) != 0) {
+
+            throw new ZipException("encrypted " + MANIFEST + " in " + jar);
+        }
+
+        if (locOffset + LOC_SIZE > buffer.limit() || buffer.getInt((int)locOffset) != LOC_SIGNATURE) {
+
+            throw new ZipException("invalid local header for " + MANIFEST + " in " + jar);
+        }
+
+        //
+        // the local header name and extra field lengths may differ from the central directory ones
+        //
+
+        int loc = (int)locOffset;
+        long data = locOffset + LOC_SIZE +
+                (buffer.getShort(loc + 26) & 0xFFFF) + (buffer.getShort(loc + 28) & 0xFFFF);
+
+        if (data + compressedSize > buffer.limit() || uncompressedSize > Integer.MAX_VALUE - 8) {
+
+            throw new ZipException("invalid " + MANIFEST + " entry size in " + jar);
+        }
+
+        int csize = (int)compressedSize;
+        int usize = (int)uncompressedSize;
+
+        if (manifest.length < usize) {
+
+            manifest = new byte[Math.max(usize, manifest.length * 2)];
+        }
+
+        if (method == STORED) {
+
+            if (csize != usize) {
+
+                throw new ZipException("invalid STORED " + MANIFEST + " entry in " + jar);
+            }
+
+            ((Buffer)buffer).position((int)data);
+            buffer.get(manifest, 0, usize);
+            length = usize;
+            return;
+        }
+
+        if (method != DEFLATED) {
+
+            throw new ZipException("unsupported compression method " + method + " for " + MANIFEST + " in " + jar);
+        }
+
+        //
+        // the Inflater only accepts arrays (in Java 8), the compressed manifest is small. In "nowrap" mode, the
+        // Inflater may need an extra dummy byte after the compressed data.
+        //
+
+        if (input.length < csize + 1) {
+
+            input = new byte[Math.max(csize + 1, input.length * 2)];
+        }
+
+        ((Buffer)buffer).position((int)data);
+        buffer.get(input, 0, csize);
+        input[csize] = 0;
+
+        inflater.reset();
+        inflater.setInput(input, 0, csize + 1);
+
+        try {
+
+            int n = inflater.inflate(manifest, 0, usize);
+
+            if (n != usize) {
+
+                throw new ZipException("invalid compressed " + MANIFEST + " in " + jar);
+            }
+        }
+        catch(DataFormatException e) {
+
+            throw new ZipException("invalid compressed " + MANIFEST + " in " + jar + ": " + e.getMessage());
+        }
+
+        length = usize;
+    }
+
+    /**
+     * @return the index of the CR or LF that ends the line starting at i, or length.
+     */
+    private int endOfLine(int i) {
+
+        while(i < length && manifest[i] != '\r' && manifest[i] != '\n') {
+
+            i ++;
+        }
+
+        return i;
+    }
+
+    /**
+     * @return the index of the beginning of the line that follows the line ending at end.
+     */
+    private int nextLine(int end) {
+
+        if (end < length && manifest[end] == '\r') {
+
+            end ++;
+        }
+
+        if (end < length && manifest[end] == '\n') {
+
+            end ++;
+        }
+
+        return end;
+    }
+
+    private boolean startsWithKey(int start, int end, byte[] key) {
+
+        if (end - start < key.length + 1 || manifest[start + key.length] != ':') {
+
+            return false;
+        }
+
+        for(int i = 0; i < key.length; i ++) {
+
+            if (manifest[start + i] != key[i]) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @param start the index right after "<name>:".
+     * @param end the end of the first line of the value.
+     */
+    private String value(int start, int end) {
+
+        int next = nextLine(end);
+
+        if (next >= length || manifest[next] != ' ') {
+
+            //
+            // single line, the common case
+            //
+
+            return new String(manifest, start, end - start, StandardCharsets.UTF_8).trim();
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new String(manifest, start, end - start, StandardCharsets.UTF_8));
+
+        while(next < length && manifest[next] == ' ') {
+
+            end = endOfLine(next);
+            sb.append(new String(manifest, next + 1, end - next - 1, StandardCharsets.UTF_8));
+            next = nextLine(end);
+        }
+
+        return sb.toString().trim();
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
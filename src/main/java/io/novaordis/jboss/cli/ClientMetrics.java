@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Invocation counters and latency histograms, per operation type, for the operations executed by a client against
+ * its controller.
+ *
+ * The latency histograms have power-of-two buckets: bucket i counts the operations that took [2^i, 2^(i+1))
+ * nanoseconds, so percentiles are approximated within a factor of two. All storage is allocated upon construction,
+ * recording does not allocate and does not lock.
+ *
+ * Thread safe.
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class ClientMetrics {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    public static final int BUCKET_COUNT = 64;
+
+    private static final OperationType[] TYPES = OperationType.values();
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * @return the index of the histogram bucket the duration falls into.
+     */
+    public static int bucket(long durationNanos) {
+
+        if (durationNanos <= 0) {
+
+            return 0;
+        }
+
+        return 63 - Long.numberOfLeadingZeros(durationNanos);
+    }
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final JBossControllerAddress controllerAddress;
+
+    // indexed by operation type ordinal
+    private final LongAdder[] counts;
+    private final LongAdder[] failures;
+    private final LongAdder[] totalNanos;
+    private final AtomicLongArray maxNanos;
+
+    // indexed by operation type ordinal * BUCKET_COUNT + bucket
+    private final AtomicLongArray histograms;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    public ClientMetrics(JBossControllerAddress controllerAddress) {
+
+        this.controllerAddress = controllerAddress;
+
+        this.counts = new LongAdder[TYPES.length];
+        this.failures = new LongAdder[TYPES.length];
+        this.totalNanos = new LongAdder[TYPES.length];
+
+        for(int i = 0; i < TYPES.length; i ++) {
+
+            counts[i] = new LongAdder();
+            failures[i] = new LongAdder();
+            totalNanos[i] = new LongAdder();
+        }
+
+        this.maxNanos = new AtomicLongArray(TYPES.length);
+        this.histograms = new AtomicLongArray(TYPES.length * BUCKET_COUNT);
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * Records an operation that started at startNanos (a System.nanoTime() value) and completed now.
+     */
+    public void record(OperationType type, long startNanos, boolean success) {
+
+        recordDuration(type, System.nanoTime() - startNanos, success);
+    }
+
+    public void recordDuration(OperationType type, long durationNanos, boolean success) {
+
+        int i = type.ordinal();
+
+        counts[i].increment();
+
+        if (!success) {
+
+            failures[i].increment();
+        }
+
+        totalNanos[i].add(durationNanos);
+        histograms.incrementAndGet(i * BUCKET_COUNT + bucket(durationNanos));
+
+        long max;
+
+        while((max = maxNanos.get(i)) < durationNanos) {
+
+            if (maxNanos.compareAndSet(i, max, durationNanos)) {
+
+                break;
+            }
+        }
+    }
+
+    /**
+     * @return the controller the metrics are collected for. May be null.
+     */
+    public JBossControllerAddress getControllerAddress() {
+
+        return controllerAddress;
+    }
+
+    /**
+     * @return the number of operations of the given type, successful or not.
+     */
+    public long getCount(OperationType type) {
+
+        return counts[type.ordinal()].sum();
+    }
+
+    public long getFailureCount(OperationType type) {
+
+        return failures[type.ordinal()].sum();
+    }
+
+    public long getTotalTimeNanos(OperationType type) {
+
+        return totalNanos[type.ordinal()].sum();
+    }
+
+    /**
+     * @return the mean duration, or 0 if no operation of the given type was recorded.
+     */
+    public long getMeanTimeNanos(OperationType type) {
+
+        long count = getCount(type);
+
+        return count == 0 ? 0 : getTotalTimeNanos(type) / count;
+    }
+
+    public long getMaxTimeNanos(OperationType type) {
+
+        return maxNanos.get(type.ordinal());
+    }
+
+    /**
+     * @param percentile a value in the (0, 100] interval.
+     *
+     * @return the upper bound of the histogram bucket that contains the given percentile, capped at the maximum
+     * recorded duration. 0 if no operation of the given type was recorded.
+     */
+    public long getPercentileNanos(OperationType type, double percentile) {
+
+        if (percentile <= 0 || percentile > 100) {
+
+            throw new IllegalArgumentException("invalid percentile " + percentile);
+        }
+
+        long[] histogram = getHistogram(type);
+
+        long total = 0;
+
+        for(long c: histogram) {
+
+            total += c;
+        }
+
+        if (total == 0) {
+
+            return 0;
+        }
+
+        long rank = (long)Math.ceil(total * percentile / 100);
+        long seen = 0;
+
+        for(int i = 0; i < BUCKET_COUNT; i ++) {
+
+            seen += histogram[i];
+
+            if (seen >= rank) {
+
+                long upperBound = i == BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+                return Math.min(upperBound, getMaxTimeNanos(type));
+            }
+        }
+
+        return getMaxTimeNanos(type);
+    }
+
+    /**
+     * @return a copy of the latency histogram for the given operation type.
+     */
+    public long[] getHistogram(OperationType type) {
+
+        long[] histogram = new long[BUCKET_COUNT];
+
+        int offset = type.ordinal() * BUCKET_COUNT;
+
+        for(int i = 0; i < BUCKET_COUNT; i ++) {
+
+            histogram[i] = histograms.get(offset + i);
+        }
+
+        return histogram;
+    }
+
+    /**
+     * Resets all counters and histograms. Operations recorded concurrently with the reset may be partially lost.
+     */
+    public void reset() {
+
+        for(int i = 0; i < TYPES.length; i ++) {
+
+            counts[i].reset();
+            failures[i].reset();
+            totalNanos[i].reset();
+            maxNanos.set(i, 0);
+        }
+
+        for(int i = 0; i < histograms.length(); i ++) {
+
+            histograms.set(i, 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(controllerAddress).append(':');
+
+        for(OperationType t: TYPES) {
+
+            long count = getCount(t);
+
+            if (count == 0) {
+
+                continue;
+            }
+
+            sb.append(' ').append(t).append("[count=").append(count).
+                    append(", failures=").append(getFailureCount(t)).
+                    append(", mean=").append(getMeanTimeNanos(t) / 1000).append(" us").
+                    append(", p99=").append(getPercentileNanos(t, 99) / 1000).append(" us").
+                    append(", max=").append(getMaxTimeNanos(t) / 1000).append(" us]");
+        }
+
+        return sb.toString();
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import io.novaordis.jboss.cli.model.AttributeRead;
+import io.novaordis.jboss.cli.model.AttributeReadResult;
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import io.novaordis.jboss.cli.model.ManagementPath;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A list of attribute reads, read from a file or from stdin, and executed in one process:
+ *
+ * [--controller=[username:password@]host[:port]] --file=<file>|-
+ *
+ * The file contains one <path>:<attribute> read per line. Empty lines and lines starting with '#' are ignored. A
+ * "--controller=..." line switches the controller for the lines that follow it; until the first such line, the reads
+ * are addressed to the controller specified on the command line, or to the default controller.
+ *
+ * The reads are grouped per controller, and each group is executed over one connection, packed into composite
+ * operations of up to getCompositeSize() reads. The results of each composite operation are written as soon as it
+ * completes, one "<path>:<attribute>=<value>" line per read, so the output order follows the grouping, not necessarily
+ * the order of the file. When more than one controller is involved, each group is preceded by a "# <controller>" line.
+ * The failure of individual reads, or of a whole group, are reported on the error stream.
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class CommandLineBatch {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    public static final String FILE_OPTION = "--file=";
+
+    public static final String STDIN = "-";
+
+    public static final int DEFAULT_COMPOSITE_SIZE = 100;
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * @return true if the arguments describe a batch, as opposed to a single request.
+     */
+    public static boolean isBatch(List<String> args) {
+
+        for(String arg: args) {
+
+            if (arg.startsWith(FILE_OPTION)) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @param stdin the stream "--file=-" reads from. May be null, in which case "--file=-" is rejected.
+     *
+     * @exception JBossCliException if the arguments are invalid, or the file cannot be read or parsed. The message is
+     * suitable to be displayed to the user.
+     */
+    public static CommandLineBatch parse(List<String> args, InputStream stdin) throws JBossCliException {
+
+        if (args == null) {
+
+            throw new IllegalArgumentException("null arguments");
+        }
+
+        JBossControllerAddress address = new JBossControllerAddress();
+        String file = null;
+
+        for(String arg: args) {
+
+            if (arg.startsWith(CommandLineRequest.CONTROLLER_OPTION)) {
+
+                address = CommandLineRequest.parseControllerAddress(
+                        arg.substring(CommandLineRequest.CONTROLLER_OPTION.length()));
+            }
+            else if (arg.startsWith(FILE_OPTION)) {
+
+                file = arg.substring(FILE_OPTION.length());
+            }
+            else if (arg.startsWith("--")) {
+
+                throw new JBossCliException("unknown option " + arg);
+            }
+            else {
+
+                throw new JBossCliException("unexpected argument \"" + arg + "\" in batch mode");
+            }
+        }
+
+        if (file == null || file.isEmpty()) {
+
+            throw new JBossCliException("a file name, or " + STDIN + " for standard input, is required");
+        }
+
+        if (STDIN.equals(file)) {
+
+            if (stdin == null) {
+
+                throw new JBossCliException("standard input not available");
+            }
+
+            //
+            // do not close stdin
+            //
+
+            try {
+
+                return read(new BufferedReader(new InputStreamReader(stdin, StandardCharsets.UTF_8)), address);
+            }
+            catch(IOException e) {
+
+                throw new JBossCliException("failed to read standard input: " + e.getMessage(), e);
+            }
+        }
+
+        File f = new File(file);
+
+        if (!f.isFile()) {
+
+            throw new JBossCliException("no such file: " + f);
+        }
+
+        try (BufferedReader r =
+                     new BufferedReader(new InputStreamReader(new FileInputStream(f), StandardCharsets.UTF_8))) {
+
+            return read(r, address);
+        }
+        catch(IOException e) {
+
+            throw new JBossCliException("failed to read " + f + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param controller the controller the reads are addressed to, until the first "--controller=..." line.
+     *
+     * @exception JBossCliException on an invalid line. The message contains the line number, but not the content of
+     * the line: the file may have been read on behalf of someone else (see CommandLineDaemon), and it may not be a
+     * batch file at all.
+     */
+    public static CommandLineBatch read(BufferedReader reader, JBossControllerAddress controller)
+            throws JBossCliException, IOException {
+
+        CommandLineBatch batch = new CommandLineBatch();
+
+        String line;
+        int lineNumber = 0;
+
+        while((line = reader.readLine()) != null) {
+
+            lineNumber ++;
+            line = line.trim();
+
+            if (line.isEmpty() || line.startsWith("#")) {
+
+                continue;
+            }
+
+            if (line.startsWith(CommandLineRequest.CONTROLLER_OPTION)) {
+
+                try {
+
+                    controller = CommandLineRequest.parseControllerAddress(
+                            line.substring(CommandLineRequest.CONTROLLER_OPTION.length()));
+                }
+                catch(JBossCliException e) {
+
+                    throw new JBossCliException("line " + lineNumber + ": invalid controller address");
+                }
+
+                continue;
+            }
+
+            //
+            // the attribute name cannot contain ':', but a (quoted) path name can
+            //
+
+            int i = line.lastIndexOf(':');
+
+            if (i <= 0 || i == line.length() - 1) {
+
+                throw new JBossCliException("line " + lineNumber + ": expected <path>:<attribute>");
+            }
+
+            ManagementPath path;
+
+            try {
+
+                path = new ManagementPath(line.substring(0, i).trim());
+            }
+            catch(JBossCliException e) {
+
+                throw new JBossCliException("line " + lineNumber + ": invalid path");
+            }
+
+            batch.add(controller, new AttributeRead(path, line.substring(i + 1).trim()));
+        }
+
+        return batch;
+    }
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final Map<JBossControllerAddress, List<AttributeRead>> reads;
+
+    private int compositeSize;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    public CommandLineBatch() {
+
+        this.reads = new LinkedHashMap<>();
+        this.compositeSize = DEFAULT_COMPOSITE_SIZE;
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    public void add(JBossControllerAddress controller, AttributeRead read) {
+
+        if (controller == null) {
+
+            throw new IllegalArgumentException("null controller address");
+        }
+
+        if (read == null) {
+
+            throw new IllegalArgumentException("null read");
+        }
+
+        reads.computeIfAbsent(controller, k -> new ArrayList<>()).add(read);
+    }
+
+    /**
+     * @return the controllers, in the order they were first referred to.
+     */
+    public Set<JBossControllerAddress> getControllerAddresses() {
+
+        return Collections.unmodifiableSet(reads.keySet());
+    }
+
+    /**
+     * @return the reads addressed to the given controller, in the order they were added. Never null.
+     */
+    public List<AttributeRead> getReads(JBossControllerAddress controller) {
+
+        List<AttributeRead> l = reads.get(controller);
+        return l == null ? Collections.emptyList() : Collections.unmodifiableList(l);
+    }
+
+    /**
+     * @return the total number of reads.
+     */
+    public int size() {
+
+        int size = 0;
+
+        for(List<AttributeRead> l: reads.values()) {
+
+            size += l.size();
+        }
+
+        return size;
+    }
+
+    public int getCompositeSize() {
+
+        return compositeSize;
+    }
+
+    /**
+     * @param compositeSize the maximum number of reads packed into one composite operation.
+     */
+    public void setCompositeSize(int compositeSize) {
+
+        if (compositeSize <= 0) {
+
+            throw new IllegalArgumentException("invalid composite size " + compositeSize);
+        }
+
+        this.compositeSize = compositeSize;
+    }
+
+    /**
+     * Executes the reads, writing the results to out as they arrive, and the failures to err. The clients built with
+     * the factory are disconnected when their group completes.
+     *
+     * @return the number of reads that failed, including the reads that could not be attempted because the
+     * connection to their controller failed.
+     */
+    public int execute(JBossControllerClientFactory factory, PrintStream out, PrintStream err) {
+
+        int failures = 0;
+
+        for(Map.Entry<JBossControllerAddress, List<AttributeRead>> e: reads.entrySet()) {
+
+            if (reads.size() > 1) {
+
+                out.println("# " + e.getKey().getLiteral());
+            }
+
+            failures += execute(factory, e.getKey(), e.getValue(), out, err);
+        }
+
+        out.flush();
+        err.flush();
+
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+
+        return "CommandLineBatch[" + size() + " reads, " + reads.size() + " controller(s)]";
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    private int execute(JBossControllerClientFactory factory, JBossControllerAddress address,
+                        List<AttributeRead> group, PrintStream out, PrintStream err) {
+
+        JBossControllerClient client;
+
+        try {
+
+            client = factory.buildControllerClient(address);
+            client.connect();
+        }
+        catch(JBossCliException e) {
+
+            err.println("[error]: " + address.getLiteral() + ": " + e.getMessage());
+            return group.size();
+        }
+
+        int failures = 0;
+
+        try {
+
+            for(int i = 0; i < group.size(); i += compositeSize) {
+
+                List<AttributeRead> composite = group.subList(i, Math.min(i + compositeSize, group.size()));
+
+                List<AttributeReadResult> results;
+
+                try {
+
+                    results = client.readAttributes(composite);
+                }
+                catch(JBossCliException e) {
+
+                    err.println("[error]: " + address.getLiteral() + ": " + e.getMessage());
+                    failures += composite.size();
+                    continue;
+                }
+
+                for(AttributeReadResult r: results) {
+
+                    AttributeRead read = r.getRead();
+                    String spec = read.getPath().getLiteral() + ":" + read.getAttributeName();
+
+                    if (r.isSuccess()) {
+
+                        out.println(spec + "=" + CommandLineRequest.format(r.getValue()));
+                    }
+                    else {
+
+                        err.println("[error]: " + spec + ": " + r.getFailure().getMessage());
+                        failures ++;
+                    }
+                }
+
+                out.flush();
+            }
+        }
+        finally {
+
+            client.disconnect();
+        }
+
+        return failures;
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -0,0 +1,562 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A long-running server that executes command line requests on behalf of thin clients (the jboss-cli launcher), so
+ * the cost of starting a JVM and of connecting to the controller is only paid once. Connections are kept warm in a
+ * PooledJBossControllerClientFactory and reused across requests.
+ *
+ * The daemon only listens on the loopback interface, but any local user can connect to a loopback port, so requests
+ * must be authenticated. Upon start, the daemon generates a random token and publishes it, together with its port and
+ * pid, in a token file only readable by its owner (see getTokenFile()). The file is deleted when the daemon stops.
+ * Requests that do not carry the token are rejected, without being executed.
+ *
+ * The protocol is one request per connection:
+ *
+ * request:  the token, followed by a newline, followed by the command line arguments, each terminated by a NUL
+ *           byte, followed by a newline.
+ * response: the exit code, in decimal, followed by a newline, followed by the byte lengths of the standard output and
+ *           of the standard error of the request, separated by a space and followed by a newline, followed by the
+ *           standard error content, followed by the standard output content, after which the daemon closes the
+ *           connection. Both streams are always sent: a batch with a failed read exits with 1, but the results of
+ *           its successful reads are still relevant. The standard error is sent first, so the launcher can read it
+ *           by length and then relay the standard output until the end of the stream.
+ *
+ * A request consisting of the single argument "--shutdown" stops the daemon.
+ *
+ * @see Main#run(List, JBossControllerClientFactory, InputStream, PrintStream, PrintStream)
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class CommandLineDaemon {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    private static final Logger log = LoggerFactory.getLogger(CommandLineDaemon.class);
+
+    public static final int DEFAULT_PORT = 9899;
+
+    public static final int DEFAULT_THREADS = 8;
+
+    public static final String SHUTDOWN = "--shutdown";
+
+    // a client that does not send its request within this interval is disconnected
+    public static final int READ_TIMEOUT_MS = 30 * 1000;
+
+    public static final File DEFAULT_TOKEN_DIRECTORY =
+            new File(System.getProperty("user.home"), ".novaordis" + File.separator + "jboss-cli");
+
+    // the token is 32 random bytes, hex encoded, a longer first line is rejected without being read in full
+    private static final int TOKEN_LENGTH = 64;
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * @return the file the daemon listening on the given port publishes its token in. The file contains one
+     * "<port> <pid> <token>" line.
+     */
+    public static File getTokenFile(File directory, int port) {
+
+        return new File(directory, "daemon-" + port + ".token");
+    }
+
+    /**
+     * Reads the first line of a request, which carries the token.
+     *
+     * @return the line, without the newline, or null if the stream ended before the newline, or if the line is longer
+     * than a token, in which case the line is consumed, but not kept.
+     */
+    static String readToken(InputStream is) throws IOException {
+
+        StringBuilder sb = new StringBuilder(TOKEN_LENGTH);
+
+        int b;
+
+        while((b = is.read()) != -1) {
+
+            if (b == '\n') {
+
+                return sb.length() > TOKEN_LENGTH ? null : sb.toString();
+            }
+
+            if (sb.length() <= TOKEN_LENGTH) {
+
+                sb.append((char)b);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Consumes the stream up to and including the next newline, without keeping what was read.
+     */
+    static void skipLine(InputStream is) throws IOException {
+
+        int b;
+
+        //noinspection StatementWithEmptyBody
+        while((b = is.read()) != -1 && b != '\n');
+    }
+
+    /**
+     * Reads a request from the stream.
+     *
+     * @return the arguments, or null if the stream ended before a complete request was received.
+     */
+    static List<String> readRequest(InputStream is) throws IOException {
+
+        List<String> args = new ArrayList<>();
+        ByteArrayOutputStream arg = new ByteArrayOutputStream();
+
+        int b;
+
+        while((b = is.read()) != -1) {
+
+            if (b == '\n') {
+
+                if (arg.size() != 0) {
+
+                    //
+                    // tolerate a missing terminator for the last argument
+                    //
+
+                    args.add(new String(arg.toByteArray(), StandardCharsets.UTF_8));
+                }
+
+                return args;
+            }
+
+            if (b == 0) {
+
+                args.add(new String(arg.toByteArray(), StandardCharsets.UTF_8));
+                arg.reset();
+            }
+            else {
+
+                arg.write(b);
+            }
+        }
+
+        return null;
+    }
+
+    static void writeResponse(OutputStream os, int exitCode, byte[] out, byte[] err) throws IOException {
+
+        os.write((exitCode + "\n" + out.length + " " + err.length + "\n").getBytes(StandardCharsets.UTF_8));
+        os.write(err);
+        os.write(out);
+        os.flush();
+    }
+
+    static String generateToken() {
+
+        byte[] bytes = new byte[TOKEN_LENGTH / 2];
+        new SecureRandom().nextBytes(bytes);
+
+        StringBuilder sb = new StringBuilder(TOKEN_LENGTH);
+
+        for(byte b: bytes) {
+
+            sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+
+        return sb.toString();
+    }
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final int requestedPort;
+    private final File tokenDirectory;
+    private final String token;
+    private final PooledJBossControllerClientFactory factory;
+    private final ExecutorService workers;
+    private final CountDownLatch terminated;
+
+    private volatile ServerSocket serverSocket;
+    private volatile File tokenFile;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    public CommandLineDaemon(int port) {
+
+        this(port, new PooledJBossControllerClientFactory(), DEFAULT_THREADS, DEFAULT_TOKEN_DIRECTORY);
+    }
+
+    /**
+     * @param port the loopback port to listen on. Zero means an ephemeral port, see getPort().
+     * @param factory the source of warm connections. It is closed when the daemon stops.
+     * @param threads the maximum number of requests executed concurrently.
+     * @param tokenDirectory the directory the token file is written in. Created if it does not exist.
+     */
+    public CommandLineDaemon(int port, PooledJBossControllerClientFactory factory, int threads, File tokenDirectory) {
+
+        if (port < 0 || port > 65535) {
+
+            throw new IllegalArgumentException("invalid port " + port);
+        }
+
+        if (factory == null) {
+
+            throw new IllegalArgumentException("null factory");
+        }
+
+        if (threads <= 0) {
+
+            throw new IllegalArgumentException("invalid thread count " + threads);
+        }
+
+        if (tokenDirectory == null) {
+
+            throw new IllegalArgumentException("null token directory");
+        }
+
+        this.requestedPort = port;
+        this.tokenDirectory = tokenDirectory;
+        this.token = generateToken();
+        this.factory = factory;
+        this.workers = Executors.newFixedThreadPool(threads, r -> {
+
+            Thread t = new Thread(r, "jboss-cli-daemon-worker");
+            t.setDaemon(true);
+            return t;
+        });
+        this.terminated = new CountDownLatch(1);
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * Binds the loopback port, publishes the token file and starts accepting requests, on a separate thread.
+     *
+     * @exception IOException if the port cannot be bound (for example, if another daemon is already running), or the
+     * token file cannot be written.
+     * @exception IllegalStateException if already started.
+     */
+    public synchronized void start() throws IOException {
+
+        if (serverSocket != null) {
+
+            throw new IllegalStateException(this + " already started");
+        }
+
+        ServerSocket ss = new ServerSocket(requestedPort, 50, InetAddress.getLoopbackAddress());
+
+        try {
+
+            tokenFile = publishToken(ss.getLocalPort());
+        }
+        catch(IOException e) {
+
+            ss.close();
+            throw e;
+        }
+
+        serverSocket = ss;
+
+        Thread acceptor = new Thread(this::acceptLoop, "jboss-cli-daemon-acceptor");
+        acceptor.start();
+
+        log.info(this + " started");
+    }
+
+    /**
+     * @return the port the daemon listens on, or -1 if not started.
+     */
+    public int getPort() {
+
+        ServerSocket ss = serverSocket;
+        return ss == null ? -1 : ss.getLocalPort();
+    }
+
+    /**
+     * @return the file the token has been published in, or null if not started.
+     */
+    public File getTokenFile() {
+
+        return tokenFile;
+    }
+
+    public boolean isRunning() {
+
+        ServerSocket ss = serverSocket;
+        return ss != null && !ss.isClosed();
+    }
+
+    /**
+     * Stops accepting requests, waits for nothing, and closes the pooled connections. Idempotent.
+     */
+    public void stop() {
+
+        ServerSocket ss = serverSocket;
+
+        if (ss == null || ss.isClosed()) {
+
+            return;
+        }
+
+        try {
+
+            ss.close();
+        }
+        catch(IOException e) {
+
+            log.warn("failed to close " + ss, e);
+        }
+
+        workers.shutdown();
+        factory.close();
+
+        if (tokenFile.exists() && !tokenFile.delete()) {
+
+            log.warn("failed to delete " + tokenFile);
+        }
+
+        terminated.countDown();
+
+        log.info(this + " stopped");
+    }
+
+    /**
+     * Blocks until the daemon is stopped.
+     */
+    public void awaitTermination() throws InterruptedException {
+
+        terminated.await();
+    }
+
+    @Override
+    public String toString() {
+
+        return "CommandLineDaemon[" + InetAddress.getLoopbackAddress().getHostAddress() + ":" +
+                (serverSocket == null ? requestedPort : getPort()) + "]";
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    String getToken() {
+
+        return token;
+    }
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    private void acceptLoop() {
+
+        ServerSocket ss = serverSocket;
+
+        while(!ss.isClosed()) {
+
+            Socket socket;
+
+            try {
+
+                socket = ss.accept();
+            }
+            catch(SocketException e) {
+
+                //
+                // closed by stop()
+                //
+
+                break;
+            }
+            catch(IOException e) {
+
+                log.warn(this + " failed to accept connection", e);
+                continue;
+            }
+
+            try {
+
+                workers.execute(() -> handle(socket));
+            }
+            catch(RejectedExecutionException e) {
+
+                closeQuietly(socket);
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+
+        try {
+
+            socket.setSoTimeout(READ_TIMEOUT_MS);
+
+            InputStream is = new BufferedInputStream(socket.getInputStream());
+
+            String t = readToken(is);
+
+            if (t == null || !MessageDigest.isEqual(
+                    token.getBytes(StandardCharsets.UTF_8), t.getBytes(StandardCharsets.UTF_8))) {
+
+                log.warn(this + " rejected a request without a valid token");
+
+                //
+                // consume the arguments before responding, closing the connection with unread data would reset it
+                // and the client may not get to read the response
+                //
+
+                skipLine(is);
+                byte[] error = "[error]: authentication failed\n".getBytes(StandardCharsets.UTF_8);
+                writeResponse(socket.getOutputStream(), 1, new byte[0], error);
+                return;
+            }
+
+            List<String> args = readRequest(is);
+
+            if (args == null) {
+
+                log.debug(this + " received an incomplete request");
+                return;
+            }
+
+            if (Collections.singletonList(SHUTDOWN).equals(args)) {
+
+                writeResponse(socket.getOutputStream(), 0, new byte[0], new byte[0]);
+                stop();
+                return;
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+            int exitCode;
+
+            try (PrintStream o = new PrintStream(out, true, "UTF-8");
+                 PrintStream e = new PrintStream(err, true, "UTF-8")) {
+
+                //
+                // the client's stdin is not forwarded, and relative batch file names are resolved by the launcher
+                //
+
+                exitCode = Main.run(args, factory, null, o, e);
+            }
+
+            writeResponse(socket.getOutputStream(), exitCode, out.toByteArray(), err.toByteArray());
+        }
+        catch(IOException e) {
+
+            log.debug(this + " failed to handle request: " + e.getMessage());
+        }
+        finally {
+
+            closeQuietly(socket);
+        }
+    }
+
+    /**
+     * Writes "<port> <pid> <token>" in the token file, atomically. The file is created readable and writable by the
+     * owner only.
+     */
+    private File publishToken(int port) throws IOException {
+
+        Path dir = tokenDirectory.toPath();
+        Files.createDirectories(dir);
+
+        File file = getTokenFile(tokenDirectory, port);
+        Path tmp;
+
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+
+            tmp = Files.createTempFile(dir, "." + file.getName() + "-", ".tmp",
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        }
+        else {
+
+            tmp = Files.createTempFile(dir, "." + file.getName() + "-", ".tmp");
+            File f = tmp.toFile();
+
+            if (!f.setReadable(false, false) || !f.setReadable(true, true) ||
+                    !f.setWritable(false, false) || !f.setWritable(true, true)) {
+
+                Files.delete(tmp);
+                throw new IOException("failed to restrict the permissions of " + f);
+            }
+        }
+
+        try {
+
+            //
+            // the pid lets the launcher verify that the process listening on the port belongs to the same user
+            //
+
+            String pid = ManagementFactory.getRuntimeMXBean().getName();
+            pid = pid.indexOf('@') == -1 ? pid : pid.substring(0, pid.indexOf('@'));
+
+            Files.write(tmp, (port + " " + pid + " " + token + "\n").getBytes(StandardCharsets.UTF_8));
+            Files.move(tmp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally {
+
+            Files.deleteIfExists(tmp);
+        }
+
+        return file;
+    }
+
+    private static void closeQuietly(Socket socket) {
+
+        try {
+
+            socket.close();
+        }
+        catch(IOException e) {
+
+            log.debug("failed to close " + socket + ": " + e.getMessage());
+        }
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
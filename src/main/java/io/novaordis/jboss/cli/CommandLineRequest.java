@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import io.novaordis.jboss.cli.model.ManagementPath;
+import io.novaordis.utilities.address.AddressException;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A read request expressed as command line arguments:
+ *
+ * [--controller=[username:password@]host[:port]] <path> <attribute> [<attribute> ...]
+ *
+ * Upon execution, the values of the attributes are written one per line, in the order the attributes were specified.
+ * Undefined values and unknown attributes are rendered as empty lines.
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class CommandLineRequest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    public static final String CONTROLLER_OPTION = "--controller=";
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * @exception JBossCliException if the arguments do not form a valid request. The message is suitable to be
+     * displayed to the user.
+     */
+    public static CommandLineRequest parse(List<String> args) throws JBossCliException {
+
+        if (args == null) {
+
+            throw new IllegalArgumentException("null arguments");
+        }
+
+        JBossControllerAddress address = new JBossControllerAddress();
+        List<String> positional = new ArrayList<>();
+
+        for(String arg: args) {
+
+            if (arg.startsWith(CONTROLLER_OPTION)) {
+
+                address = parseControllerAddress(arg.substring(CONTROLLER_OPTION.length()));
+            }
+            else if (arg.startsWith("--")) {
+
+                throw new JBossCliException("unknown option " + arg);
+            }
+            else {
+
+                positional.add(arg);
+            }
+        }
+
+        if (positional.isEmpty()) {
+
+            throw new JBossCliException("a management path and at least one attribute name are required");
+        }
+
+        if (positional.size() == 1) {
+
+            throw new JBossCliException("at least one attribute name is required");
+        }
+
+        ManagementPath path = new ManagementPath(positional.get(0));
+
+        return new CommandLineRequest(address, path, positional.subList(1, positional.size()));
+    }
+
+    public static CommandLineRequest parse(String... args) throws JBossCliException {
+
+        return parse(Arrays.asList(args));
+    }
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final JBossControllerAddress controllerAddress;
+    private final ManagementPath path;
+    private final List<String> attributeNames;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    public CommandLineRequest(JBossControllerAddress controllerAddress, ManagementPath path,
+                              List<String> attributeNames) {
+
+        if (controllerAddress == null) {
+
+            throw new IllegalArgumentException("null controller address");
+        }
+
+        if (path == null) {
+
+            throw new IllegalArgumentException("null path");
+        }
+
+        if (attributeNames == null || attributeNames.isEmpty()) {
+
+            throw new IllegalArgumentException("null or empty attribute names");
+        }
+
+        this.controllerAddress = controllerAddress;
+        this.path = path;
+        this.attributeNames = Collections.unmodifiableList(new ArrayList<>(attributeNames));
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    public JBossControllerAddress getControllerAddress() {
+
+        return controllerAddress;
+    }
+
+    public ManagementPath getPath() {
+
+        return path;
+    }
+
+    public List<String> getAttributeNames() {
+
+        return attributeNames;
+    }
+
+    /**
+     * Reads the attributes with the given client, which must be connected to the request's controller, and writes
+     * their values. Several attributes are read in one round trip.
+     */
+    public void execute(JBossControllerClient client, PrintStream out) throws JBossCliException {
+
+        if (attributeNames.size() == 1) {
+
+            out.println(format(client.getAttributeValue(path, attributeNames.get(0))));
+            return;
+        }
+
+        Map<String, Object> values = client.getAttributeValues(path, attributeNames);
+
+        for(String name: attributeNames) {
+
+            out.println(format(values.get(name)));
+        }
+    }
+
+    @Override
+    public String toString() {
+
+        return controllerAddress + " " + path + " " + attributeNames;
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    static JBossControllerAddress parseControllerAddress(String literal) throws JBossCliException {
+
+        try {
+
+            return new JBossControllerAddress(literal);
+        }
+        catch(AddressException e) {
+
+            throw new JBossCliException("invalid controller address \"" + literal + "\": " + e.getMessage(), e);
+        }
+    }
+
+    static String format(Object value) {
+
+        if (value == null) {
+
+            return "";
+        }
+
+        if (value instanceof byte[]) {
+
+            return Arrays.toString((byte[])value);
+        }
+
+        return value.toString();
+    }
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
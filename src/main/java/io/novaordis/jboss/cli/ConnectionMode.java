@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+/**
+ * The way a JBossControllerClientImpl establishes its management connection.
+ *
+ * @see JBossControllerClientImpl#setConnectionMode(ConnectionMode)
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public enum ConnectionMode {
+
+    /**
+     * A full CLI CommandContext is built and connected, and its ModelControllerClient is used for requests. String
+     * paths are compiled with the CLI parser, which resolves them against the CommandContext. This is the default.
+     */
+    COMMAND_CONTEXT,
+
+    /**
+     * The ModelControllerClient is built directly from the controller address, with no CLI layer. Connecting is
+     * cheaper, both in time and in heap, and String paths are parsed with ManagementPath. The connection is
+     * established lazily, by the first request, so connection failures are reported by the first read, not by
+     * connect().
+     */
+    DIRECT
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+
+/**
+ * The outcome of a ControllerQuery executed against a specific controller: either a value (which can be null) or the
+ * failure of that specific execution. Connection failures are reported as failures of the query.
+ *
+ * @see FanOutQueryExecutor
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public final class ControllerQueryResult<T> {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    public static <T> ControllerQueryResult<T> success(JBossControllerAddress address, T value, long durationMs) {
+
+        return new ControllerQueryResult<>(address, value, null, durationMs);
+    }
+
+    public static <T> ControllerQueryResult<T> failure(
+            JBossControllerAddress address, Exception failure, long durationMs) {
+
+        if (failure == null) {
+
+            throw new IllegalArgumentException("null failure");
+        }
+
+        return new ControllerQueryResult<>(address, null, failure, durationMs);
+    }
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final JBossControllerAddress address;
+    private final T value;
+    private final Exception failure;
+    private final long durationMs;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    private ControllerQueryResult(JBossControllerAddress address, T value, Exception failure, long durationMs) {
+
+        if (address == null) {
+
+            throw new IllegalArgumentException("null address");
+        }
+
+        this.address = address;
+        this.value = value;
+        this.failure = failure;
+        this.durationMs = durationMs;
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    public JBossControllerAddress getAddress() {
+
+        return address;
+    }
+
+    public boolean isSuccess() {
+
+        return failure == null;
+    }
+
+    /**
+     * @return the query result. Always null for failed queries.
+     */
+    public T getValue() {
+
+        return value;
+    }
+
+    /**
+     * @return the failure, or null if the query was successful. Typically a JBossCliException, but it can also be a
+     * runtime exception thrown by the query.
+     */
+    public Exception getFailure() {
+
+        return failure;
+    }
+
+    /**
+     * @return the time, in milliseconds, spent connecting to the controller and executing the query.
+     */
+    public long getDurationMs() {
+
+        return durationMs;
+    }
+
+    @Override
+    public String toString() {
+
+        return address + (failure == null ? ": " + value : " failed: " + failure.getMessage());
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
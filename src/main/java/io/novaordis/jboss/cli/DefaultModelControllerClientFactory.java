@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import org.jboss.as.controller.client.ModelControllerClient;
+
+import javax.security.auth.callback.Callback;
+import javax.security.auth.callback.CallbackHandler;
+import javax.security.auth.callback.NameCallback;
+import javax.security.auth.callback.PasswordCallback;
+import javax.security.auth.callback.UnsupportedCallbackException;
+import javax.security.sasl.RealmCallback;
+import java.io.IOException;
+
+/**
+ * Builds ModelControllerClient instances with ModelControllerClient.Factory. If the address carries a username, the
+ * username and password are supplied to the authentication mechanism, otherwise the client relies on local
+ * authentication.
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class DefaultModelControllerClientFactory implements ModelControllerClientFactory {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // ModelControllerClientFactory implementation ---------------------------------------------------------------------
+
+    @Override
+    public ModelControllerClient create(JBossControllerAddress address, int timeout) throws IOException {
+
+        if (address == null) {
+
+            throw new IllegalArgumentException("null address");
+        }
+
+        CallbackHandler callbackHandler = null;
+
+        if (address.getUsername() != null) {
+
+            callbackHandler = new CredentialCallbackHandler(address.getUsername(), address.getPassword());
+        }
+
+        if (timeout > 0) {
+
+            return ModelControllerClient.Factory.create(
+                    address.getHost(), address.getPort(), callbackHandler, null, timeout);
+        }
+
+        return ModelControllerClient.Factory.create(address.getHost(), address.getPort(), callbackHandler);
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    @Override
+    public String toString() {
+
+        return "DefaultModelControllerClientFactory";
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+    static class CredentialCallbackHandler implements CallbackHandler {
+
+        private final String username;
+        private final char[] password;
+
+        CredentialCallbackHandler(String username, char[] password) {
+
+            this.username = username;
+            this.password = password;
+        }
+
+        @Override
+        public void handle(Callback[] callbacks) throws IOException, UnsupportedCallbackException {
+
+            for(Callback c: callbacks) {
+
+                if (c instanceof NameCallback) {
+
+                    ((NameCallback)c).setName(username);
+                }
+                else if (c instanceof PasswordCallback) {
+
+                    ((PasswordCallback)c).setPassword(password);
+                }
+                else if (c instanceof RealmCallback) {
+
+                    RealmCallback rc = (RealmCallback)c;
+                    rc.setText(rc.getDefaultText());
+                }
+                else {
+
+                    throw new UnsupportedCallbackException(c);
+                }
+            }
+        }
+    }
+
+}
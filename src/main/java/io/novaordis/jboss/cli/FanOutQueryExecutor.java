@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Executes the same query, in parallel, against a set of controllers, on a bounded executor. The per-controller
+ * results (values or failures) are delivered as they complete, so the total time of a sweep is close to the time it
+ * takes the slowest controller to respond, not to the sum of all response times.
+ *
+ * Each execution builds a client with the configured factory, connects it, runs the query and disconnects it. Using a
+ * PooledJBossControllerClientFactory allows repeated sweeps to reuse the connections.
+ *
+ * Thread safe.
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class FanOutQueryExecutor {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    private static final Logger log = LoggerFactory.getLogger(FanOutQueryExecutor.class);
+
+    public static final int DEFAULT_PARALLELISM = 16;
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    private static final AtomicInteger threadCounter = new AtomicInteger(0);
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final JBossControllerClientFactory factory;
+    private final ExecutorService executor;
+
+    // true if the executor was created by this instance, and it must be shut down by it
+    private final boolean ownsExecutor;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    public FanOutQueryExecutor(JBossControllerClientFactory factory) {
+
+        this(factory, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * @param parallelism the maximum number of controllers queried at the same time. The executor threads are created
+     *                    by this instance and released with shutdown().
+     */
+    public FanOutQueryExecutor(JBossControllerClientFactory factory, int parallelism) {
+
+        if (parallelism <= 0) {
+
+            throw new IllegalArgumentException("invalid parallelism " + parallelism);
+        }
+
+        this.factory = checkFactory(factory);
+
+        this.executor = Executors.newFixedThreadPool(parallelism, r -> {
+
+            Thread t = new Thread(r, "fan-out-query-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.ownsExecutor = true;
+    }
+
+    /**
+     * @param executor an externally managed executor, which bounds the parallelism. It won't be shut down by
+     *                 shutdown().
+     */
+    public FanOutQueryExecutor(JBossControllerClientFactory factory, ExecutorService executor) {
+
+        if (executor == null) {
+
+            throw new IllegalArgumentException("null executor");
+        }
+
+        this.factory = checkFactory(factory);
+        this.executor = executor;
+        this.ownsExecutor = false;
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * Executes the query against all given controllers and waits for all executions to complete.
+     *
+     * @return the per-controller results, in completion order.
+     *
+     * @exception JBossCliException if the calling thread is interrupted while waiting.
+     */
+    public <T> List<ControllerQueryResult<T>> execute(
+            Collection<JBossControllerAddress> addresses, ControllerQuery<T> query) throws JBossCliException {
+
+        return execute(addresses, query, null, 0L);
+    }
+
+    /**
+     * Executes the query against all given controllers, and delivers the per-controller results, as they complete, to
+     * the handler. The handler is invoked on the calling thread.
+     *
+     * @param handler may be null, in which case the results are only returned.
+     * @param timeoutMs the maximum time to wait for the whole sweep. Executions that did not complete in time are
+     *                  cancelled and reported as failures. Zero means wait indefinitely.
+     *
+     * @return the per-controller results, in completion order.
+     *
+     * @exception JBossCliException if the calling thread is interrupted while waiting.
+     */
+    public <T> List<ControllerQueryResult<T>> execute(
+            Collection<JBossControllerAddress> addresses, ControllerQuery<T> query,
+            Consumer<ControllerQueryResult<T>> handler, long timeoutMs) throws JBossCliException {
+
+        if (addresses == null) {
+
+            throw new IllegalArgumentException("null addresses");
+        }
+
+        if (query == null) {
+
+            throw new IllegalArgumentException("null query");
+        }
+
+        if (timeoutMs < 0) {
+
+            throw new IllegalArgumentException("invalid timeout " + timeoutMs);
+        }
+
+        long t0 = System.currentTimeMillis();
+        long deadline = t0 + timeoutMs;
+
+        CompletionService<ControllerQueryResult<T>> completionService = new ExecutorCompletionService<>(executor);
+        Map<Future<ControllerQueryResult<T>>, JBossControllerAddress> pending = new HashMap<>();
+
+        for(JBossControllerAddress a: addresses) {
+
+            pending.put(completionService.submit(() -> executeOne(a, query)), a);
+        }
+
+        List<ControllerQueryResult<T>> results = new ArrayList<>(pending.size());
+
+        try {
+
+            while(!pending.isEmpty()) {
+
+                Future<ControllerQueryResult<T>> f;
+
+                if (timeoutMs == 0) {
+
+                    f = completionService.take();
+                }
+                else {
+
+                    f = completionService.poll(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+                }
+
+                if (f == null) {
+
+                    //
+                    // timed out
+                    //
+
+                    for(Map.Entry<Future<ControllerQueryResult<T>>, JBossControllerAddress> e: pending.entrySet()) {
+
+                        e.getKey().cancel(true);
+
+                        ControllerQueryResult<T> r = ControllerQueryResult.failure(
+                                e.getValue(), new JBossCliException("timed out after " + timeoutMs + " ms"),
+                                System.currentTimeMillis() - t0);
+
+                        deliver(r, results, handler);
+                    }
+
+                    pending.clear();
+                    break;
+                }
+
+                JBossControllerAddress a = pending.remove(f);
+                ControllerQueryResult<T> r;
+
+                try {
+
+                    r = f.get();
+                }
+                catch(ExecutionException e) {
+
+                    //
+                    // executeOne() handles all exceptions, we only get here on Errors
+                    //
+
+                    r = ControllerQueryResult.failure(
+                            a, new JBossCliException(e.getCause()), System.currentTimeMillis() - t0);
+                }
+
+                deliver(r, results, handler);
+            }
+        }
+        catch(InterruptedException e) {
+
+            for(Future<ControllerQueryResult<T>> f: pending.keySet()) {
+
+                f.cancel(true);
+            }
+
+            Thread.currentThread().interrupt();
+            throw new JBossCliException("interrupted while waiting for " + pending.size() + " controller(s)");
+        }
+
+        return results;
+    }
+
+    /**
+     * Shuts down the executor, if it was created by this instance.
+     */
+    public void shutdown() {
+
+        if (ownsExecutor) {
+
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public String toString() {
+
+        return "FanOutQueryExecutor[" + executor + "]";
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    private static JBossControllerClientFactory checkFactory(JBossControllerClientFactory factory) {
+
+        if (factory == null) {
+
+            throw new IllegalArgumentException("null factory");
+        }
+
+        return factory;
+    }
+
+    private static <T> void deliver(
+            ControllerQueryResult<T> r, List<ControllerQueryResult<T>> results, Consumer<ControllerQueryResult<T>> h) {
+
+        results.add(r);
+
+        if (h != null) {
+
+            h.accept(r);
+        }
+    }
+
+    /**
+     * Never throws exceptions, all failures are captured in the result.
+     */
+    private <T> ControllerQueryResult<T> executeOne(JBossControllerAddress address, ControllerQuery<T> query) {
+
+        long t0 = System.currentTimeMillis();
+
+        JBossControllerClient client = null;
+
+        try {
+
+            client = factory.buildControllerClient(address);
+            client.connect();
+
+            T value = query.execute(client);
+
+            return ControllerQueryResult.success(address, value, System.currentTimeMillis() - t0);
+        }
+        catch(Exception e) {
+
+            log.debug("query failed on " + address + ": " + e.getMessage());
+            return ControllerQueryResult.failure(address, e, System.currentTimeMillis() - t0);
+        }
+        finally {
+
+            if (client != null && client.isConnected()) {
+
+                client.disconnect();
+            }
+        }
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -16,10 +16,19 @@
 
 package io.novaordis.jboss.cli;
 
+import io.novaordis.jboss.cli.model.AttributeRead;
+import io.novaordis.jboss.cli.model.AttributeReadResult;
 import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import io.novaordis.jboss.cli.model.ManagementPath;
+import io.novaordis.jboss.cli.model.ResourceSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Stateful JBoss controller client, requires connection via the connect() method, and it can be disconnected, thus
  * releasing resources. Local connection is possible, if the controller is located on the same host, for local
@@ -140,6 +149,193 @@ public interface JBossControllerClient {
      */
     Object getAttributeValue(String path, String attributeName) throws JBossCliException;
 
+    /**
+     * Same semantics as getAttributeValue(String, String), but the request is built directly from the pre-parsed
+     * path, without involving the CLI parser or the command context.
+     *
+     * @see JBossControllerClient#getAttributeValue(String, String)
+     *
+     * @throws JBossCliException if the path is invalid (does not exist on controller)
+     */
+    Object getAttributeValue(ManagementPath path, String attributeName) throws JBossCliException;
+
+    /**
+     * Same semantics as getAttributeValue(), but returns the value as a primitive long, without boxing. INT and LONG
+     * attributes are converted directly, STRING attributes are parsed.
+     *
+     * @param undefinedValue the value to return if the attribute does not exist or is undefined, so the undefined
+     *                       state can be reported without allocating.
+     *
+     * @see JBossControllerClient#getAttributeValue(String, String)
+     *
+     * @throws JBossCliException if the path is invalid, or the value cannot be represented as a long.
+     */
+    long getLongAttribute(String path, String attributeName, long undefinedValue) throws JBossCliException;
+
+    long getLongAttribute(ManagementPath path, String attributeName, long undefinedValue) throws JBossCliException;
+
+    /**
+     * Same semantics as getAttributeValue(), but returns the value as a primitive int, without boxing.
+     *
+     * @param undefinedValue the value to return if the attribute does not exist or is undefined.
+     *
+     * @see JBossControllerClient#getLongAttribute(String, String, long)
+     *
+     * @throws JBossCliException if the path is invalid, or the value cannot be represented as an int.
+     */
+    int getIntAttribute(String path, String attributeName, int undefinedValue) throws JBossCliException;
+
+    int getIntAttribute(ManagementPath path, String attributeName, int undefinedValue) throws JBossCliException;
+
+    /**
+     * Same semantics as getAttributeValue(), but returns the value as a primitive double, without boxing.
+     *
+     * @param undefinedValue the value to return if the attribute does not exist or is undefined. Double.NaN is a
+     *                       convenient choice.
+     *
+     * @see JBossControllerClient#getLongAttribute(String, String, long)
+     *
+     * @throws JBossCliException if the path is invalid, or the value cannot be represented as a double.
+     */
+    double getDoubleAttribute(String path, String attributeName, double undefinedValue) throws JBossCliException;
+
+    double getDoubleAttribute(ManagementPath path, String attributeName, double undefinedValue)
+            throws JBossCliException;
+
+    /**
+     * Same semantics as getAttributeValue(), but returns the value as a primitive boolean.
+     *
+     * @param undefinedValue the value to return if the attribute does not exist or is undefined.
+     *
+     * @throws JBossCliException if the path is invalid, or the value is not a boolean.
+     */
+    boolean getBooleanAttribute(String path, String attributeName, boolean undefinedValue) throws JBossCliException;
+
+    boolean getBooleanAttribute(ManagementPath path, String attributeName, boolean undefinedValue)
+            throws JBossCliException;
+
+    /**
+     * Reads the values of several attributes of the same resource in one round trip, by sending a single
+     * read-resource(include-runtime=true, attributes-only=true) operation into the controller.
+     *
+     * @return a map containing all requested attribute names, in the order they were requested. The values follow the
+     * same conventions as getAttributeValue(): non-existent or undefined attributes are mapped to null.
+     *
+     * @see JBossControllerClient#getAttributeValue(String, String)
+     *
+     * @throws JBossCliException if the path is invalid (does not exist on controller)
+     */
+    Map<String, Object> getAttributeValues(String path, Collection<String> attributeNames) throws JBossCliException;
+
+    /**
+     * @see JBossControllerClient#getAttributeValues(String, Collection)
+     */
+    Map<String, Object> getAttributeValues(ManagementPath path, Collection<String> attributeNames)
+            throws JBossCliException;
+
+    /**
+     * Reads the same attribute from all resources matched by a wildcard path (for example
+     * "/subsystem=datasources/data-source=*") in one round trip: the wildcard is expanded by the controller, which
+     * avoids listing the children first and then reading the attribute of each of them.
+     *
+     * @param path the path, which may contain any number of wildcard names. A path without wildcards is also accepted,
+     *             and produces a single-entry map.
+     *
+     * @return the attribute values keyed by the concrete path of each matching resource, in the order returned by the
+     * controller. The values follow the same conventions as getAttributeValue(). An empty map if no resource matched.
+     *
+     * @see ManagementPath#WILDCARD
+     *
+     * @throws JBossCliException if the path is invalid, or the read fails for any of the matching resources.
+     */
+    Map<ManagementPath, Object> getWildcardAttributeValues(ManagementPath path, String attributeName)
+            throws JBossCliException;
+
+    /**
+     * Executes an arbitrary number of attribute reads, possibly on different resources, in one round trip, by packing
+     * them into a single "composite" operation.
+     *
+     * The failure of an individual read does not fail the batch; it is reported in the corresponding result instead.
+     * A read of a resource that does not exist fails the whole composite operation, and the controller does not
+     * execute the reads that follow it, so these reads are sent again, in a new composite operation. Each such failure
+     * costs one more round trip.
+     *
+     * @return the results, one for each read, in the order the reads were specified.
+     *
+     * @throws JBossCliException if the client is not connected, or the composite operation could not be executed at
+     * all (for example, on a network failure).
+     */
+    List<AttributeReadResult> readAttributes(List<AttributeRead> reads) throws JBossCliException;
+
+    /**
+     * The asynchronous version of getAttributeValue(): the request is sent into the controller without blocking the
+     * calling thread for the network round trip. The returned future completes with the same value getAttributeValue()
+     * would have returned, or exceptionally with the JBossCliException getAttributeValue() would have thrown.
+     *
+     * Non-async dependent stages are executed by the management client's thread, so they should be short.
+     *
+     * @see JBossControllerClient#getAttributeValue(String, String)
+     *
+     * @throws JBossCliException if the request cannot be sent (for example, the client is not connected).
+     */
+    CompletableFuture<Object> getAttributeValueAsync(String path, String attributeName) throws JBossCliException;
+
+    /**
+     * @see JBossControllerClient#getAttributeValueAsync(String, String)
+     */
+    CompletableFuture<Object> getAttributeValueAsync(ManagementPath path, String attributeName)
+            throws JBossCliException;
+
+    /**
+     * The asynchronous version of readAttributes().
+     *
+     * @see JBossControllerClient#readAttributes(List)
+     * @see JBossControllerClient#getAttributeValueAsync(String, String)
+     *
+     * @throws JBossCliException if the request cannot be sent (for example, the client is not connected).
+     */
+    CompletableFuture<List<AttributeReadResult>> readAttributesAsync(List<AttributeRead> reads)
+            throws JBossCliException;
+
+    /**
+     * Reads the attribute value and walks it with the visitor, so values of any type, including large OBJECT and LIST
+     * values, can be consumed without building an intermediate object graph. An attribute that does not exist is
+     * reported as an undefined value.
+     *
+     * @see ModelNodeVisitor
+     *
+     * @throws JBossCliException if the path is invalid (does not exist on controller), or if thrown by the visitor.
+     */
+    void visitAttributeValue(ManagementPath path, String attributeName, ModelNodeVisitor visitor)
+            throws JBossCliException;
+
+    /**
+     * Reads the resource, including runtime attributes, and walks the result with the visitor.
+     *
+     * @param recursive whether to include the children, recursively.
+     *
+     * @see ModelNodeVisitor
+     *
+     * @throws JBossCliException if the path is invalid (does not exist on controller), or if thrown by the visitor.
+     */
+    void visitResource(ManagementPath path, boolean recursive, ModelNodeVisitor visitor) throws JBossCliException;
+
+    /**
+     * Reads the whole subtree rooted in the given path, including runtime attributes, in one round trip, and indexes
+     * it into an immutable snapshot. Subsequent lookups on the snapshot involve no network activity.
+     *
+     * @see ResourceSnapshot
+     *
+     * @throws JBossCliException if the path is invalid (does not exist on controller).
+     */
+    ResourceSnapshot getSnapshot(ManagementPath path) throws JBossCliException;
+
+    /**
+     * @return the operation counters and latency histograms collected by this client for its controller. May return
+     * null if the implementation does not collect metrics.
+     */
+    ClientMetrics getMetrics();
+
     /**
      * Install a custom command context factory. If not installed, CommandContextFactory.getInstance() is used.
      *
@@ -30,18 +30,45 @@ public class JBossControllerClientFactoryImpl implements JBossControllerClientFa
 
     // Attributes ------------------------------------------------------------------------------------------------------
 
+    private final ConnectionMode connectionMode;
+
     // Constructors ----------------------------------------------------------------------------------------------------
 
+    public JBossControllerClientFactoryImpl() {
+
+        this(ConnectionMode.COMMAND_CONTEXT);
+    }
+
+    /**
+     * @param connectionMode the connection mode of the clients built by this factory.
+     */
+    public JBossControllerClientFactoryImpl(ConnectionMode connectionMode) {
+
+        if (connectionMode == null) {
+
+            throw new IllegalArgumentException("null connection mode");
+        }
+
+        this.connectionMode = connectionMode;
+    }
+
     // JBossControllerClientFactory implementation ---------------------------------------------------------------------
 
     @Override
     public JBossControllerClient buildControllerClient(JBossControllerAddress address) throws JBossCliException {
 
-        return new JBossControllerClientImpl(address);
+        JBossControllerClientImpl client = new JBossControllerClientImpl(address);
+        client.setConnectionMode(connectionMode);
+        return client;
     }
 
     // Public ----------------------------------------------------------------------------------------------------------
 
+    public ConnectionMode getConnectionMode() {
+
+        return connectionMode;
+    }
+
     // Package protected -----------------------------------------------------------------------------------------------
 
     // Protected -------------------------------------------------------------------------------------------------------
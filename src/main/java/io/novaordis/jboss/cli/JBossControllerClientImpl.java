@@ -16,7 +16,11 @@
 
 package io.novaordis.jboss.cli;
 
+import io.novaordis.jboss.cli.model.AttributeRead;
+import io.novaordis.jboss.cli.model.AttributeReadResult;
 import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import io.novaordis.jboss.cli.model.ManagementPath;
+import io.novaordis.jboss.cli.model.ResourceSnapshot;
 import org.jboss.as.cli.CommandContext;
 import org.jboss.as.cli.CommandContextFactory;
 import org.jboss.as.cli.operation.impl.DefaultCallbackHandler;
@@ -24,14 +28,37 @@ import org.jboss.as.cli.parsing.ParserUtil;
 import org.jboss.as.cli.parsing.operation.OperationFormat;
 import org.jboss.as.controller.client.ModelControllerClient;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.threads.AsyncFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
+ * Thread safe. Once connected, any number of threads can issue reads concurrently, and they are multiplexed over the
+ * single management connection, by executing them directly on the underlying ModelControllerClient. The
+ * CommandContext, which is not meant for concurrent use, is only involved in connecting, disconnecting and, under a
+ * lock, in compiling String path requests that are not already cached. Reads in flight when disconnect() is called
+ * fail with a JBossCliException.
+ *
+ * By default, the connection is established by a CLI CommandContext. In ConnectionMode.DIRECT the
+ * ModelControllerClient is built directly from the controller address, with no CLI layer, and String paths are
+ * parsed with ManagementPath instead of the CLI parser.
+ *
  * @author Ovidiu Feodorov <ovidiu@novaordis.com>
  * @since 9/2/16
  */
-public class JBossControllerClientImpl implements JBossControllerClient {
+public class JBossControllerClientImpl implements JBossControllerClient, ResourceDescriptionReader {
 
     // Constants -------------------------------------------------------------------------------------------------------
 
@@ -41,15 +68,34 @@ public class JBossControllerClientImpl implements JBossControllerClient {
 
     // Attributes ------------------------------------------------------------------------------------------------------
 
-    private JBossControllerAddress controllerAddress;
+    private volatile JBossControllerAddress controllerAddress;
     private boolean disableLocalAuthentication;
     private boolean initializeConsole;
     private int connectionTimeout;
 
+    // guarded by this
     private CommandContextFactory factory;
+
+    // guarded by this; the instance itself is used as lock when compiling requests
     private CommandContext commandContext;
 
-    private boolean connected;
+    private volatile ConnectionMode connectionMode;
+
+    // guarded by this
+    private ModelControllerClientFactory modelControllerClientFactory;
+
+    private volatile boolean connected;
+
+    // non-null only while connected; reads use a local copy, so they never see a half-disconnected client
+    private volatile ModelControllerClient modelControllerClient;
+
+    private final OperationRequestCache requestCache;
+
+    // guarded by this; null if no description cache is installed
+    private ResourceDescriptionCache descriptionCache;
+    private String descriptionCacheVersion;
+
+    private volatile ClientMetrics metrics;
 
     // Constructors ----------------------------------------------------------------------------------------------------
 
@@ -65,6 +111,9 @@ public class JBossControllerClientImpl implements JBossControllerClient {
         this.initializeConsole = false;
         this.connectionTimeout = -1;
         this.connected = false;
+        this.connectionMode = ConnectionMode.COMMAND_CONTEXT;
+        this.requestCache = new OperationRequestCache();
+        this.metrics = new ClientMetrics(address);
     }
 
     // JBossControllerClient implementation ----------------------------------------------------------------------------
@@ -100,7 +149,13 @@ public class JBossControllerClientImpl implements JBossControllerClient {
     }
 
     @Override
-    public void setCommandContextFactory(Object factory) {
+    public ClientMetrics getMetrics() {
+
+        return metrics;
+    }
+
+    @Override
+    public synchronized void setCommandContextFactory(Object factory) {
 
         if (!(factory instanceof CommandContextFactory)) {
             throw new IllegalArgumentException(
@@ -111,40 +166,84 @@ public class JBossControllerClientImpl implements JBossControllerClient {
     }
 
     @Override
-    public void connect() throws JBossCliException {
+    public synchronized void connect() throws JBossCliException {
 
         if (connected) {
             log.warn(this + " already connected");
             return;
         }
 
-        try {
-
-            if (factory == null) {
-                factory = CommandContextFactory.getInstance();
+        timed(OperationType.CONNECT, () -> {
+
+            try {
+
+                if (connectionMode == ConnectionMode.DIRECT) {
+
+                    //
+                    // a context left over from a COMMAND_CONTEXT connection attempt would be taken for the owner of
+                    // the direct client
+                    //
+
+                    commandContext = null;
+                    connectDirectly();
+                    return null;
+                }
+
+                if (factory == null) {
+                    factory = CommandContextFactory.getInstance();
+                }
+
+                commandContext = factory.newCommandContext(
+                        controllerAddress.getHost(),
+                        controllerAddress.getPort(),
+                        controllerAddress.getUsername(),
+                        controllerAddress.getPassword(),
+                        disableLocalAuthentication,
+                        initializeConsole,
+                        connectionTimeout);
+                commandContext.connectController();
+                modelControllerClient = commandContext.getModelControllerClient();
+                connected = true;
+                return null;
             }
-
-            commandContext = factory.newCommandContext(
-                    controllerAddress.getHost(),
-                    controllerAddress.getPort(),
-                    controllerAddress.getUsername(),
-                    controllerAddress.getPassword(),
-                    disableLocalAuthentication,
-                    initializeConsole,
-                    connectionTimeout);
-            commandContext.connectController();
-            connected = true;
-        }
-        catch (Exception e) {
-            throw new JBossCliException(e);
-        }
+            catch (Exception e) {
+                throw new JBossCliException(e);
+            }
+        });
     }
 
     @Override
-    public void disconnect() {
+    public synchronized void disconnect() {
+
+        //
+        // stop new reads first
+        //
 
-        commandContext.disconnectController();
         connected = false;
+        ModelControllerClient client = modelControllerClient;
+        modelControllerClient = null;
+        CommandContext ctx = commandContext;
+        commandContext = null;
+
+        if (ctx != null) {
+
+            ctx.disconnectController();
+        }
+        else if (client != null) {
+
+            //
+            // directly built client, we own it
+            //
+
+            try {
+
+                client.close();
+            }
+            catch(IOException e) {
+
+                log.warn("failed to close " + client, e);
+            }
+        }
     }
 
     @Override
@@ -156,72 +255,444 @@ public class JBossControllerClientImpl implements JBossControllerClient {
     @Override
     public Object getAttributeValue(String path, String attributeName) throws JBossCliException {
 
+        ModelNode result = readAttributeResult(path, attributeName);
+        return result == null ? null : ModelNodeUtil.toValue(result);
+    }
+
+    @Override
+    public Object getAttributeValue(ManagementPath path, String attributeName) throws JBossCliException {
+
+        ModelNode result = readAttributeResult(path, attributeName);
+        return result == null ? null : ModelNodeUtil.toValue(result);
+    }
+
+    @Override
+    public long getLongAttribute(String path, String attributeName, long undefinedValue) throws JBossCliException {
+
+        return ModelNodeUtil.toLong(readAttributeResult(path, attributeName), undefinedValue);
+    }
+
+    @Override
+    public long getLongAttribute(ManagementPath path, String attributeName, long undefinedValue)
+            throws JBossCliException {
+
+        return ModelNodeUtil.toLong(readAttributeResult(path, attributeName), undefinedValue);
+    }
+
+    @Override
+    public int getIntAttribute(String path, String attributeName, int undefinedValue) throws JBossCliException {
+
+        return ModelNodeUtil.toInt(readAttributeResult(path, attributeName), undefinedValue);
+    }
+
+    @Override
+    public int getIntAttribute(ManagementPath path, String attributeName, int undefinedValue) throws JBossCliException {
+
+        return ModelNodeUtil.toInt(readAttributeResult(path, attributeName), undefinedValue);
+    }
+
+    @Override
+    public double getDoubleAttribute(String path, String attributeName, double undefinedValue)
+            throws JBossCliException {
+
+        return ModelNodeUtil.toDouble(readAttributeResult(path, attributeName), undefinedValue);
+    }
+
+    @Override
+    public double getDoubleAttribute(ManagementPath path, String attributeName, double undefinedValue)
+            throws JBossCliException {
+
+        return ModelNodeUtil.toDouble(readAttributeResult(path, attributeName), undefinedValue);
+    }
+
+    @Override
+    public boolean getBooleanAttribute(String path, String attributeName, boolean undefinedValue)
+            throws JBossCliException {
+
+        return ModelNodeUtil.toBoolean(readAttributeResult(path, attributeName), undefinedValue);
+    }
+
+    @Override
+    public boolean getBooleanAttribute(ManagementPath path, String attributeName, boolean undefinedValue)
+            throws JBossCliException {
+
+        return ModelNodeUtil.toBoolean(readAttributeResult(path, attributeName), undefinedValue);
+    }
+
+    @Override
+    public Map<String, Object> getAttributeValues(String path, Collection<String> attributeNames)
+            throws JBossCliException {
+
+        return getAttributeValues(new ManagementPath(path), attributeNames);
+    }
+
+    @Override
+    public Map<String, Object> getAttributeValues(ManagementPath path, Collection<String> attributeNames)
+            throws JBossCliException {
+
+        if (attributeNames == null) {
+
+            throw new IllegalArgumentException("null attribute names");
+        }
+
         if (!connected) {
 
             throw new JBossCliException(this + " not connected");
         }
 
-        String command = path + ":read-attribute(name=" + attributeName + ")";
+        return timed(OperationType.READ_ATTRIBUTES, () -> {
 
-        boolean validate = true;
+            ModelNode request = ModelNodeUtil.buildReadResourceRequest(path, true, true);
+            return ModelNodeUtil.operationResponseToValues(execute(request), attributeNames);
+        });
+    }
 
-        //noinspection ConstantConditions
-        DefaultCallbackHandler parsedCommand = new DefaultCallbackHandler(validate);
+    @Override
+    public Map<ManagementPath, Object> getWildcardAttributeValues(ManagementPath path, String attributeName)
+            throws JBossCliException {
 
-        try {
+        if (path == null) {
 
-            ParserUtil.parse(command, parsedCommand);
+            throw new IllegalArgumentException("null path");
         }
-        catch(Exception e) {
 
-            throw new JBossCliException(e);
+        if (!connected) {
+
+            throw new JBossCliException(this + " not connected");
         }
 
-        if (parsedCommand.getFormat() != OperationFormat.INSTANCE ) {
+        return timed(OperationType.WILDCARD_READ, () -> {
+
+            ModelNode response = readAttribute(path, attributeName);
+
+            if (path.isWildcard()) {
+
+                return ModelNodeUtil.wildcardResponseToValues(response);
+            }
 
             //
-            // we got this from the CLI code, what is "INSTANCE"?
+            // the controller does not wrap the result of a non-wildcard operation
             //
 
-            throw new RuntimeException("NOT YET IMPLEMENTED");
+            Map<ManagementPath, Object> values = new LinkedHashMap<>();
+            values.put(path, ModelNodeUtil.operationResponseToValue(response));
+            return values;
+        });
+    }
+
+    @Override
+    public List<AttributeReadResult> readAttributes(List<AttributeRead> reads) throws JBossCliException {
+
+        if (reads == null) {
+
+            throw new IllegalArgumentException("null reads");
         }
 
-        ModelNode request;
+        if (!connected) {
 
-        try {
+            throw new JBossCliException(this + " not connected");
+        }
+
+        if (reads.isEmpty()) {
 
-            request = parsedCommand.toOperationRequest(commandContext);
+            return Collections.emptyList();
         }
-        catch (Exception e) {
 
-            throw new JBossCliException(e);
+        ModelNode[] responses = new ModelNode[reads.size()];
+        List<Integer> pending = indexes(reads.size());
+
+        while(!pending.isEmpty()) {
+
+            List<Integer> retry = executeReads(reads, pending, responses);
+
+            if (retry.size() == pending.size()) {
+
+                //
+                // no read was isolated, send them one by one
+                //
+
+                for(Integer i: retry) {
+
+                    executeReads(reads, Collections.singletonList(i), responses);
+                }
+
+                break;
+            }
+
+            pending = retry;
         }
 
-        ModelControllerClient client = commandContext.getModelControllerClient();
+        return toAttributeReadResults(reads, responses);
+    }
 
-        ModelNode result;
+    @Override
+    public void visitAttributeValue(ManagementPath path, String attributeName, ModelNodeVisitor visitor)
+            throws JBossCliException {
 
-        try {
+        if (visitor == null) {
 
-            result = client.execute(request);
+            throw new IllegalArgumentException("null visitor");
         }
-        catch (Exception e) {
 
-            throw new JBossCliException(e);
+        if (!connected) {
+
+            throw new JBossCliException(this + " not connected");
+        }
+
+        timed(OperationType.READ_ATTRIBUTE, () -> {
+
+            ModelNodeUtil.walkOperationResponse(readAttribute(path, attributeName), visitor);
+            return null;
+        });
+    }
+
+    @Override
+    public void visitResource(ManagementPath path, boolean recursive, ModelNodeVisitor visitor)
+            throws JBossCliException {
+
+        if (visitor == null) {
+
+            throw new IllegalArgumentException("null visitor");
+        }
+
+        if (!connected) {
+
+            throw new JBossCliException(this + " not connected");
+        }
+
+        timed(OperationType.READ_RESOURCE, () -> {
+
+            ModelNode request = ModelNodeUtil.buildReadResourceRequest(path, true, false, recursive);
+            ModelNodeUtil.walkOperationResponse(execute(request), visitor);
+            return null;
+        });
+    }
+
+    @Override
+    public ResourceSnapshot getSnapshot(ManagementPath path) throws JBossCliException {
+
+        if (path == null) {
+
+            throw new IllegalArgumentException("null path");
+        }
+
+        if (!connected) {
+
+            throw new JBossCliException(this + " not connected");
+        }
+
+        return timed(OperationType.READ_RESOURCE, () -> {
+
+            ModelNode request = ModelNodeUtil.buildReadResourceRequest(path, true, false, true);
+            return ModelNodeUtil.readResourceResponseToSnapshot(path, execute(request));
+        });
+    }
+
+    @Override
+    public ModelNode getResourceDescription(ManagementPath path) throws JBossCliException {
+
+        if (path == null) {
+
+            throw new IllegalArgumentException("null path");
+        }
+
+        if (!connected) {
+
+            throw new JBossCliException(this + " not connected");
         }
 
-        return ModelNodeUtil.operationResponseToValue(result);
+        return timed(OperationType.READ_DESCRIPTION, () -> {
+
+            ModelNode request = ModelNodeUtil.buildReadResourceDescriptionRequest(path);
+            return ModelNodeUtil.descriptionResponseToDescription(execute(request));
+        });
+    }
+
+    @Override
+    public CompletableFuture<Object> getAttributeValueAsync(String path, String attributeName)
+            throws JBossCliException {
+
+        if (!connected) {
+
+            throw new JBossCliException(this + " not connected");
+        }
+
+        //
+        // a compilation failure is recorded as COMPILE, like on the synchronous path
+        //
+
+        ModelNode request = getReadAttributeRequest(path, attributeName);
+
+        return executeAsync(request, OperationType.READ_ATTRIBUTE, ModelNodeUtil::operationResponseToValue);
+    }
+
+    @Override
+    public CompletableFuture<Object> getAttributeValueAsync(ManagementPath path, String attributeName)
+            throws JBossCliException {
+
+        if (!connected) {
+
+            throw new JBossCliException(this + " not connected");
+        }
+
+        ModelNode request = ModelNodeUtil.buildReadAttributeRequest(path, attributeName);
+
+        return executeAsync(request, OperationType.READ_ATTRIBUTE, ModelNodeUtil::operationResponseToValue);
+    }
+
+    @Override
+    public CompletableFuture<List<AttributeReadResult>> readAttributesAsync(List<AttributeRead> reads)
+            throws JBossCliException {
+
+        if (reads == null) {
+
+            throw new IllegalArgumentException("null reads");
+        }
+
+        if (!connected) {
+
+            throw new JBossCliException(this + " not connected");
+        }
+
+        if (reads.isEmpty()) {
+
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        ModelNode[] responses = new ModelNode[reads.size()];
+
+        //
+        // the rounds are sequential, the one in flight is cancelled when the returned future is cancelled
+        //
+
+        AtomicReference<CompletableFuture<?>> inFlight = new AtomicReference<>();
+
+        CompletableFuture<List<AttributeReadResult>> future =
+                executeReadsAsync(reads, indexes(reads.size()), responses, inFlight)
+                        .thenApply(v -> toAttributeReadResults(reads, responses));
+
+        future.whenComplete((value, throwable) -> {
+
+            if (future.isCancelled()) {
+
+                inFlight.get().cancel(true);
+            }
+        });
+
+        return future;
     }
 
     // Public ----------------------------------------------------------------------------------------------------------
 
-    public void setControllerAddress(JBossControllerAddress a) {
+    public synchronized void setControllerAddress(JBossControllerAddress a) {
 
         if (a == null) {
             throw new IllegalArgumentException("null controller address");
         }
 
         this.controllerAddress = a;
+        this.metrics = new ClientMetrics(a);
+    }
+
+    /**
+     * May only be invoked on a disconnected client.
+     *
+     * @exception IllegalStateException if the client is connected.
+     */
+    public synchronized void setConnectionMode(ConnectionMode mode) {
+
+        if (mode == null) {
+            throw new IllegalArgumentException("null connection mode");
+        }
+
+        if (connected) {
+            throw new IllegalStateException("cannot change the connection mode of a connected client");
+        }
+
+        this.connectionMode = mode;
+
+        //
+        // requests compiled against a CommandContext are also valid in DIRECT mode, and vice-versa, so the request
+        // cache is kept
+        //
+    }
+
+    public ConnectionMode getConnectionMode() {
+
+        return connectionMode;
+    }
+
+    /**
+     * Only used in ConnectionMode.DIRECT. If not set, a DefaultModelControllerClientFactory is used.
+     */
+    public synchronized void setModelControllerClientFactory(ModelControllerClientFactory f) {
+
+        if (f == null) {
+            throw new IllegalArgumentException("null model controller client factory");
+        }
+
+        this.modelControllerClientFactory = f;
+    }
+
+    /**
+     * Installs a resource description cache, usually shared by the clients of all servers running the same version.
+     * Once installed, the paths of the compiled read-attribute requests are validated against the cached
+     * descriptions, and the CLI parser's own validation, which costs a round trip to the controller, is skipped. A
+     * description is read from this controller only if no other client cached it already.
+     *
+     * @param cache the cache. Null uninstalls the current one.
+     * @param version the version key of the server this client connects to.
+     *
+     * @see ResourceDescriptionCache#versionKey(io.novaordis.jboss.JBossInfo)
+     */
+    public synchronized void setResourceDescriptionCache(ResourceDescriptionCache cache, String version) {
+
+        if (cache != null && version == null) {
+
+            throw new IllegalArgumentException("null version");
+        }
+
+        this.descriptionCache = cache;
+        this.descriptionCacheVersion = cache == null ? null : version;
+    }
+
+    public synchronized ResourceDescriptionCache getResourceDescriptionCache() {
+
+        return descriptionCache;
+    }
+
+    /**
+     * @return the type of the attribute, as declared by its resource description, or null if the resource has no such
+     * attribute. The description is obtained via the installed resource description cache.
+     *
+     * @exception IllegalStateException if no resource description cache is installed.
+     * @exception JBossCliException if the description is not cached and cannot be read.
+     */
+    public ModelType getAttributeType(ManagementPath path, String attributeName) throws JBossCliException {
+
+        ResourceDescriptionCache cache;
+        String version;
+
+        synchronized (this) {
+
+            cache = descriptionCache;
+            version = descriptionCacheVersion;
+        }
+
+        if (cache == null) {
+
+            throw new IllegalStateException(this + " has no resource description cache");
+        }
+
+        return cache.getAttributeType(version, path, attributeName, isConnected() ? this : null);
+    }
+
+    /**
+     * @return the cache of compiled read-attribute requests, for statistics and tuning. Never null.
+     */
+    public OperationRequestCache getRequestCache() {
+
+        return requestCache;
     }
 
     @Override
@@ -236,6 +707,503 @@ public class JBossControllerClientImpl implements JBossControllerClient {
 
     // Private ---------------------------------------------------------------------------------------------------------
 
+    /**
+     * Builds the ModelControllerClient directly, with no CommandContext. Must be called under the instance lock.
+     */
+    private void connectDirectly() throws IOException {
+
+        if (modelControllerClientFactory == null) {
+            modelControllerClientFactory = new DefaultModelControllerClientFactory();
+        }
+
+        ModelControllerClient client = modelControllerClientFactory.create(controllerAddress, connectionTimeout);
+
+        if (client == null) {
+
+            throw new IOException(modelControllerClientFactory + " produced a null client");
+        }
+
+        modelControllerClient = client;
+        connected = true;
+    }
+
+    /**
+     * The single-attribute reads: checks the connection, compiles the request (or gets it from the request cache) and
+     * executes it.
+     *
+     * @return the result node, or null if the attribute is unknown. An undefined attribute yields an undefined node.
+     */
+    private ModelNode readAttributeResult(String path, String attributeName) throws JBossCliException {
+
+        if (!connected) {
+
+            throw new JBossCliException(this + " not connected");
+        }
+
+        return readAttributeResult(getReadAttributeRequest(path, attributeName));
+    }
+
+    /**
+     * @see JBossControllerClientImpl#readAttributeResult(String, String)
+     */
+    private ModelNode readAttributeResult(ManagementPath path, String attributeName) throws JBossCliException {
+
+        if (!connected) {
+
+            throw new JBossCliException(this + " not connected");
+        }
+
+        return readAttributeResult(ModelNodeUtil.buildReadAttributeRequest(path, attributeName));
+    }
+
+    /**
+     * Executes a read-attribute request and extracts its result, recorded as READ_ATTRIBUTE. The callers convert the
+     * result, so the primitive getters do not box. This is the hot path, so the recording is inlined instead of going
+     * through timed(), which would allocate a capturing lambda per read.
+     */
+    private ModelNode readAttributeResult(ModelNode request) throws JBossCliException {
+
+        long t0 = System.nanoTime();
+        boolean success = false;
+
+        try {
+
+            ModelNode result = ModelNodeUtil.operationResponseToResult(execute(request));
+            success = true;
+            return result;
+        }
+        finally {
+
+            metrics.record(OperationType.READ_ATTRIBUTE, t0, success);
+        }
+    }
+
+    /**
+     * Executes a read-attribute request built with the CLI parser, or from the request cache.
+     *
+     * @return the raw response.
+     */
+    private ModelNode readAttribute(String path, String attributeName) throws JBossCliException {
+
+        return execute(getReadAttributeRequest(path, attributeName));
+    }
+
+    /**
+     * Executes a read-attribute request built directly from the pre-parsed path.
+     *
+     * @return the raw response.
+     */
+    private ModelNode readAttribute(ManagementPath path, String attributeName) throws JBossCliException {
+
+        return execute(ModelNodeUtil.buildReadAttributeRequest(path, attributeName));
+    }
+
+    /**
+     * @return the compiled read-attribute request, from cache if possible.
+     */
+    private ModelNode getReadAttributeRequest(String path, String attributeName) throws JBossCliException {
+
+        ModelNode request = requestCache.get(path, attributeName);
+
+        if (request == null) {
+
+            request = compileReadAttributeRequest(path, attributeName);
+            requestCache.put(path, attributeName, request);
+        }
+
+        return request;
+    }
+
+    /**
+     * Sends the given reads into the controller, as one composite operation, and stores the responses of the reads
+     * whose outcome is known into the responses array.
+     *
+     * rollback-on-runtime-failure=false only keeps runtime-stage failures independent of each other. A model-stage
+     * failure (for example, a resource that does not exist) fails the whole composite, and the controller does not
+     * execute the steps that follow the failed step. So, when the composite fails, only the steps that succeeded and
+     * the steps that failed with their own failure description are considered final. The others must be sent again.
+     *
+     * @param pending the indexes, in the reads list, of the reads to send.
+     *
+     * @return the indexes of the reads that must be sent again, in order. Empty if the outcome of all reads is known.
+     * A single read is always final.
+     */
+    private List<Integer> executeReads(List<AttributeRead> reads, List<Integer> pending, ModelNode[] responses)
+            throws JBossCliException {
+
+        return timed(OperationType.BATCH_READ, () -> {
+
+            ModelNode response = execute(buildReadAttributesRequest(reads, pending));
+            return isolate(response, pending, responses);
+        });
+    }
+
+    /**
+     * The asynchronous equivalent of the readAttributes() loop: the rounds are chained, and never overlap.
+     */
+    private CompletableFuture<Void> executeReadsAsync(List<AttributeRead> reads, List<Integer> pending,
+                                                      ModelNode[] responses,
+                                                      AtomicReference<CompletableFuture<?>> inFlight) {
+
+        CompletableFuture<List<Integer>> round = executeAsync(
+                buildReadAttributesRequest(reads, pending), OperationType.BATCH_READ,
+                response -> isolate(response, pending, responses));
+
+        inFlight.set(round);
+
+        return round.thenCompose(retry -> {
+
+            if (retry.isEmpty()) {
+
+                return CompletableFuture.completedFuture(null);
+            }
+
+            if (retry.size() < pending.size()) {
+
+                return executeReadsAsync(reads, retry, responses, inFlight);
+            }
+
+            //
+            // no read was isolated, send them one by one
+            //
+
+            CompletableFuture<Void> f = CompletableFuture.completedFuture(null);
+
+            for(Integer i: retry) {
+
+                f = f.thenCompose(v -> executeReadsAsync(reads, Collections.singletonList(i), responses, inFlight));
+            }
+
+            return f;
+        });
+    }
+
+    private static ModelNode buildReadAttributesRequest(List<AttributeRead> reads, List<Integer> pending) {
+
+        List<ModelNode> steps = new ArrayList<>(pending.size());
+
+        for(Integer i: pending) {
+
+            AttributeRead r = reads.get(i);
+            steps.add(ModelNodeUtil.buildReadAttributeRequest(r.getPath(), r.getAttributeName()));
+        }
+
+        return ModelNodeUtil.buildCompositeRequest(steps);
+    }
+
+    /**
+     * @see JBossControllerClientImpl#executeReads(List, List, ModelNode[])
+     */
+    private static List<Integer> isolate(ModelNode response, List<Integer> pending, ModelNode[] responses)
+            throws JBossCliException {
+
+        List<ModelNode> stepResponses = ModelNodeUtil.compositeResponseToStepResponses(response, pending.size());
+
+        List<Integer> retry = new ArrayList<>();
+
+        for(int i = 0; i < pending.size(); i ++) {
+
+            if (pending.size() == 1 || ModelNodeUtil.isStepOutcomeFinal(response, i + 1)) {
+
+                responses[pending.get(i)] = stepResponses.get(i);
+            }
+            else {
+
+                retry.add(pending.get(i));
+            }
+        }
+
+        return retry;
+    }
+
+    private static List<AttributeReadResult> toAttributeReadResults(List<AttributeRead> reads, ModelNode[] responses) {
+
+        List<AttributeReadResult> results = new ArrayList<>(reads.size());
+
+        for(int i = 0; i < reads.size(); i ++) {
+
+            AttributeRead r = reads.get(i);
+
+            try {
+
+                Object value = ModelNodeUtil.operationResponseToValue(responses[i]);
+                results.add(AttributeReadResult.success(r, value));
+            }
+            catch(JBossCliException e) {
+
+                results.add(AttributeReadResult.failure(r, e));
+            }
+        }
+
+        return results;
+    }
+
+    private static List<Integer> indexes(int size) {
+
+        List<Integer> indexes = new ArrayList<>(size);
+
+        for(int i = 0; i < size; i ++) {
+
+            indexes.add(i);
+        }
+
+        return indexes;
+    }
+
+    /**
+     * Runs the operation, and records its duration and outcome in the client metrics, under the given type. The
+     * synchronous operations go through here, except the single-attribute reads, which record inline; executeAsync()
+     * is the asynchronous equivalent.
+     */
+    private <T> T timed(OperationType type, Operation<T> operation) throws JBossCliException {
+
+        long t0 = System.nanoTime();
+        boolean success = false;
+
+        try {
+
+            T result = operation.execute();
+            success = true;
+            return result;
+        }
+        finally {
+
+            metrics.record(type, t0, success);
+        }
+    }
+
+    /**
+     * Sends the request without blocking and converts the response upon arrival. Cancelling the returned future
+     * cancels the underlying management request.
+     *
+     * @param type the operation type the request is accounted under, upon completion.
+     */
+    private <T> CompletableFuture<T> executeAsync(
+            ModelNode request, OperationType type, ResponseConverter<T> converter) {
+
+        long t0 = System.nanoTime();
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+
+        AsyncFuture<ModelNode> asyncFuture;
+
+        try {
+
+            asyncFuture = getModelControllerClient().executeAsync(request, null);
+        }
+        catch(Exception e) {
+
+            metrics.record(type, t0, false);
+            future.completeExceptionally(e instanceof JBossCliException ? e : new JBossCliException(e));
+            return future;
+        }
+
+        asyncFuture.addListener(new AsyncFuture.Listener<ModelNode, Void>() {
+
+            @Override
+            public void handleComplete(AsyncFuture<? extends ModelNode> f, Void attachment) {
+
+                try {
+
+                    future.complete(converter.convert(f.get()));
+                }
+                catch(JBossCliException e) {
+
+                    future.completeExceptionally(e);
+                }
+                catch(Exception e) {
+
+                    future.completeExceptionally(new JBossCliException(e));
+                }
+            }
+
+            @Override
+            public void handleFailed(AsyncFuture<? extends ModelNode> f, Throwable cause, Void attachment) {
+
+                future.completeExceptionally(new JBossCliException(cause));
+            }
+
+            @Override
+            public void handleCancelled(AsyncFuture<? extends ModelNode> f, Void attachment) {
+
+                future.completeExceptionally(new CancellationException("management request cancelled"));
+            }
+
+        }, null);
+
+        future.whenComplete((value, throwable) -> {
+
+            metrics.record(type, t0, throwable == null);
+
+            if (future.isCancelled()) {
+
+                asyncFuture.asyncCancel(true);
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * @return the client of the current connection. Thread safe.
+     *
+     * @exception JBossCliException if not connected.
+     */
+    private ModelControllerClient getModelControllerClient() throws JBossCliException {
+
+        ModelControllerClient client = modelControllerClient;
+
+        if (client == null) {
+
+            throw new JBossCliException(this + " not connected");
+        }
+
+        return client;
+    }
+
+    private ModelNode execute(ModelNode request) throws JBossCliException {
+
+        ModelControllerClient client = getModelControllerClient();
+
+        try {
+
+            return client.execute(request);
+        }
+        catch (Exception e) {
+
+            throw new JBossCliException(e);
+        }
+    }
+
+    /**
+     * Runs the CLI parser on the read-attribute command and builds the corresponding operation request. This is
+     * expensive, so the result is cached by the caller. In ConnectionMode.DIRECT the path is parsed with
+     * ManagementPath instead.
+     */
+    private ModelNode compileReadAttributeRequest(String path, String attributeName) throws JBossCliException {
+
+        return timed(OperationType.COMPILE, () -> compileReadAttributeRequest0(path, attributeName));
+    }
+
+    private ModelNode compileReadAttributeRequest0(String path, String attributeName) throws JBossCliException {
+
+        ResourceDescriptionCache cache;
+        String version;
+
+        synchronized (this) {
+
+            cache = descriptionCache;
+            version = descriptionCacheVersion;
+        }
+
+        boolean validated = false;
+
+        if (cache != null) {
+
+            ManagementPath p = null;
+
+            try {
+
+                p = new ManagementPath(path);
+            }
+            catch(JBossCliException e) {
+
+                //
+                // a path only the CLI parser understands, let it validate the request
+                //
+
+                log.debug("cannot validate " + path + " against the description cache: " + e.getMessage());
+            }
+
+            if (p != null) {
+
+                //
+                // fails if the resource does not exist, as the parser's validation would
+                //
+
+                cache.getDescription(version, p, this);
+                validated = true;
+            }
+        }
+
+        if (connectionMode == ConnectionMode.DIRECT) {
+
+            //
+            // there is no CommandContext to resolve the request against
+            //
+
+            return ModelNodeUtil.buildReadAttributeRequest(new ManagementPath(path), attributeName);
+        }
+
+        String command = path + ":read-attribute(name=" + attributeName + ")";
+
+        boolean validate = !validated;
+
+        DefaultCallbackHandler parsedCommand = new DefaultCallbackHandler(validate);
+
+        try {
+
+            ParserUtil.parse(command, parsedCommand);
+        }
+        catch(Exception e) {
+
+            throw new JBossCliException(e);
+        }
+
+        if (parsedCommand.getFormat() != OperationFormat.INSTANCE ) {
+
+            //
+            // we got this from the CLI code, what is "INSTANCE"?
+            //
+
+            throw new RuntimeException("NOT YET IMPLEMENTED");
+        }
+
+        ModelNode request;
+
+        CommandContext ctx;
+
+        synchronized (this) {
+
+            ctx = commandContext;
+        }
+
+        if (ctx == null) {
+
+            throw new JBossCliException(this + " not connected");
+        }
+
+        //
+        // CommandContext is not meant for concurrent use
+        //
+
+        synchronized (ctx) {
+
+            try {
+
+                request = parsedCommand.toOperationRequest(ctx);
+            }
+            catch (Exception e) {
+
+                throw new JBossCliException(e);
+            }
+        }
+
+        return request;
+    }
+
     // Inner classes ---------------------------------------------------------------------------------------------------
 
+    @FunctionalInterface
+    private interface ResponseConverter<T> {
+
+        T convert(ModelNode response) throws JBossCliException;
+    }
+
+    @FunctionalInterface
+    private interface Operation<T> {
+
+        T execute() throws JBossCliException;
+    }
+
 }
\ No newline at end of file
@@ -16,9 +16,28 @@
 
 package io.novaordis.jboss.cli;
 
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * A simple command line wrapper to test the library.
  *
+ * jboss-cli [--controller=[username:password@]host[:port]] <path> <attribute> [<attribute> ...]
+ *
+ * jboss-cli [--controller=[username:password@]host[:port]] --file=<file>|-
+ *
+ * jboss-cli --daemon [--port=<port>]
+ *
+ * In batch mode, the <path>:<attribute> reads listed in the file (or stdin) are executed in one process, see
+ * CommandLineBatch.
+ *
+ * In daemon mode, the process stays up, keeps its controller connections warm and executes requests forwarded over a
+ * loopback socket by the jboss-cli launcher, which thus avoids starting a JVM for each invocation. See
+ * CommandLineDaemon.
+ *
  * @author Ovidiu Feodorov <ovidiu@novaordis.com>
  * @since 9/2/16
  */
@@ -26,25 +45,96 @@ public class Main {
 
     // Constants -------------------------------------------------------------------------------------------------------
 
+    public static final String DAEMON_OPTION = "--daemon";
+
+    public static final String PORT_OPTION = "--port=";
+
     // Static ----------------------------------------------------------------------------------------------------------
 
     public static void main(String[] args) throws Exception {
 
-        JBossControllerClient c = new JBossControllerClientImpl();
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+
+        if (!arguments.remove(DAEMON_OPTION)) {
+
+            System.exit(run(arguments, new JBossControllerClientFactoryImpl(), System.in, System.out, System.err));
+        }
+
+        int port = CommandLineDaemon.DEFAULT_PORT;
+
+        for(String arg: arguments) {
+
+            if (arg.startsWith(PORT_OPTION)) {
+
+                try {
+
+                    port = Integer.parseInt(arg.substring(PORT_OPTION.length()));
+                }
+                catch(NumberFormatException e) {
+
+                    System.err.println("[error]: invalid port " + arg.substring(PORT_OPTION.length()));
+                    System.exit(1);
+                }
+            }
+            else {
+
+                System.err.println("[error]: unknown daemon option " + arg);
+                System.exit(1);
+            }
+        }
+
+        CommandLineDaemon daemon = new CommandLineDaemon(port);
+        daemon.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(daemon::stop, "jboss-cli-daemon-shutdown"));
+        System.err.println("jboss-cli daemon listening on port " + daemon.getPort());
+        daemon.awaitTermination();
+    }
+
+    /**
+     * Parses and executes one command line request, or a batch.
+     *
+     * @param factory the source of controller clients. The clients are disconnected after the request is executed, so
+     *                a pooling factory will keep their connections warm.
+     * @param in the stream a "--file=-" batch is read from. May be null, in which case such a batch is rejected.
+     *
+     * @return the process exit code: 0 on success, 1 on failure, in which case the reason has been written to err. A
+     * batch fails if any of its reads fails.
+     */
+    public static int run(List<String> args, JBossControllerClientFactory factory,
+                          InputStream in, PrintStream out, PrintStream err) {
+
+        try {
+
+            if (CommandLineBatch.isBatch(args)) {
+
+                CommandLineBatch batch = CommandLineBatch.parse(args, in);
+                return batch.execute(factory, out, err) == 0 ? 0 : 1;
+            }
+
+            CommandLineRequest request = CommandLineRequest.parse(args);
+
+            JBossControllerClient client = factory.buildControllerClient(request.getControllerAddress());
 
-        c.connect();
+            client.connect();
 
-//        String path = "/subsystem=web/connector=http";
-//        String attributeName = "bytesReceived";
+            try {
 
-        String path = "/";
-        String attributeName = "no-such-attr";
+                request.execute(client, out);
+            }
+            finally {
 
-        Object o = c.getAttributeValue(path, attributeName);
+                client.disconnect();
+            }
 
-        System.out.println("value: " + o);
+            out.flush();
+            return 0;
+        }
+        catch(JBossCliException e) {
 
-        c.disconnect();
+            err.println("[error]: " + e.getMessage());
+            err.flush();
+            return 1;
+        }
     }
 
     // Attributes ------------------------------------------------------------------------------------------------------
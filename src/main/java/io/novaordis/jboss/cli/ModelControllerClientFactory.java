@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import org.jboss.as.controller.client.ModelControllerClient;
+
+import java.io.IOException;
+
+/**
+ * Builds the ModelControllerClient instances used by clients in ConnectionMode.DIRECT. The extension point exists
+ * mainly for testing.
+ *
+ * @see ConnectionMode#DIRECT
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+@FunctionalInterface
+public interface ModelControllerClientFactory {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * @param timeout the connection timeout, in milliseconds. A zero or negative value means the ModelControllerClient
+     *                default.
+     *
+     * @exception IOException if the client cannot be built (for example, if the host cannot be resolved).
+     */
+    ModelControllerClient create(JBossControllerAddress address, int timeout) throws IOException;
+
+}
@@ -16,9 +16,21 @@
 
 package io.novaordis.jboss.cli;
 
+import io.novaordis.jboss.cli.model.ManagementPath;
+import io.novaordis.jboss.cli.model.ResourceSnapshot;
 import org.jboss.as.cli.Util;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.dmr.Property;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Ovidiu Feodorov <ovidiu@novaordis.com>
@@ -30,6 +42,12 @@ public class ModelNodeUtil {
 
     public static final String FAILED = "failed";
 
+    public static final String ATTRIBUTES_ONLY = "attributes-only";
+
+    public static final String STEP_PREFIX = "step-";
+
+    public static final String RECURSIVE = "recursive";
+
     // Static ----------------------------------------------------------------------------------------------------------
 
     /**
@@ -44,97 +62,687 @@ public class ModelNodeUtil {
      */
     public static Object operationResponseToValue(ModelNode response) throws JBossCliException {
 
+        ModelNode result = operationResponseToResult(response);
+
+        return result == null ? null : toValue(result);
+    }
+
+    /**
+     * Converts a read-attribute operation response to a primitive long, without boxing.
+     *
+     * @param undefinedValue the value to return if the attribute is undefined or unknown.
+     *
+     * @exception JBossCliException if the value cannot be represented as a long, and in all situations in which
+     *  operationResponseToValue() throws an exception.
+     *
+     * @see ModelNodeUtil#operationResponseToValue(ModelNode)
+     */
+    public static long operationResponseToLong(ModelNode response, long undefinedValue) throws JBossCliException {
+
+        return toLong(operationResponseToResult(response), undefinedValue);
+    }
+
+    /**
+     * Converts a read-attribute operation response to a primitive int, without boxing.
+     *
+     * @param undefinedValue the value to return if the attribute is undefined or unknown.
+     *
+     * @exception JBossCliException if the value cannot be represented as an int, and in all situations in which
+     *  operationResponseToValue() throws an exception.
+     *
+     * @see ModelNodeUtil#operationResponseToValue(ModelNode)
+     */
+    public static int operationResponseToInt(ModelNode response, int undefinedValue) throws JBossCliException {
+
+        return toInt(operationResponseToResult(response), undefinedValue);
+    }
+
+    /**
+     * Converts a read-attribute operation response to a primitive double, without boxing.
+     *
+     * @param undefinedValue the value to return if the attribute is undefined or unknown. Double.NaN is a convenient
+     *                       choice.
+     *
+     * @exception JBossCliException if the value cannot be represented as a double, and in all situations in which
+     *  operationResponseToValue() throws an exception.
+     *
+     * @see ModelNodeUtil#operationResponseToValue(ModelNode)
+     */
+    public static double operationResponseToDouble(ModelNode response, double undefinedValue)
+            throws JBossCliException {
+
+        return toDouble(operationResponseToResult(response), undefinedValue);
+    }
+
+    /**
+     * Converts a read-attribute operation response to a primitive boolean.
+     *
+     * @param undefinedValue the value to return if the attribute is undefined or unknown.
+     *
+     * @exception JBossCliException if the value is not a boolean, and in all situations in which
+     *  operationResponseToValue() throws an exception.
+     *
+     * @see ModelNodeUtil#operationResponseToValue(ModelNode)
+     */
+    public static boolean operationResponseToBoolean(ModelNode response, boolean undefinedValue)
+            throws JBossCliException {
+
+        return toBoolean(operationResponseToResult(response), undefinedValue);
+    }
+
+    /**
+     * Converts a read-resource operation response to a map of typed attribute values, or throws an Exception as
+     * necessary. The map contains all requested attributes, in the order they were requested. Attributes that are
+     * not present in the response, or are undefined, are mapped to null.
+     *
+     * @exception IllegalArgumentException on null response or null attribute name collection.
+     *
+     * @exception JBossCliException on various error conditions, including unsupported attribute types.
+     *
+     * @exception JBossCliOperationFailureException in case the response represents an operation failure.
+     */
+    public static Map<String, Object> operationResponseToValues(ModelNode response, Collection<String> attributeNames)
+            throws JBossCliException {
+
         if (response == null) {
 
             throw new IllegalArgumentException("null response");
         }
 
+        if (attributeNames == null) {
+
+            throw new IllegalArgumentException("null attribute names");
+        }
+
         if (!response.hasDefined(Util.OUTCOME)) {
 
             throw new JBossCliException("node has no '" + Util.OUTCOME + "' key; is it an operation response? " + response);
         }
 
-        ModelNode outcome = response.get(Util.OUTCOME);
-        String outcomeAsString = outcome.asString();
+        String outcomeAsString = response.get(Util.OUTCOME).asString();
 
-        if (Util.SUCCESS.equals(outcomeAsString)) {
+        if (FAILED.equals(outcomeAsString)) {
+
+            String failureDescription = null;
+
+            if (response.hasDefined(Util.FAILURE_DESCRIPTION)) {
+
+                failureDescription = Util.getFailureDescription(response);
+            }
+
+            throw new JBossCliOperationFailureException(failureDescription == null ? "no details" : failureDescription);
+        }
+        else if (!Util.SUCCESS.equals(outcomeAsString)) {
+
+            throw new JBossCliException("unknown jboss CLI operation outcome: " + outcomeAsString);
+        }
+
+        ModelNode result = response.get(Util.RESULT);
+        boolean resultDefined = ModelType.OBJECT.equals(result.getType());
+
+        Map<String, Object> values = new LinkedHashMap<>();
+
+        for(String name: attributeNames) {
+
+            Object value = null;
+
+            if (resultDefined && result.hasDefined(name)) {
+
+                value = toValue(result.get(name));
+            }
+
+            values.put(name, value);
+        }
+
+        return values;
+    }
+
+    /**
+     * Converts the response of a read-attribute operation addressed to a wildcard path to the attribute values of the
+     * individual resources, keyed by their concrete paths. The controller returns one (address, outcome, result)
+     * element for each matching resource; each element is converted with the same rules as operationResponseToValue().
+     *
+     * @return the values, in the order returned by the controller. An empty map if no resource matched, or if the
+     * attribute is unknown.
+     *
+     * @exception IllegalArgumentException on null response.
+     *
+     * @exception JBossCliException on various error conditions, including unsupported attribute types.
+     *
+     * @exception JBossCliOperationFailureException in case the response, or the response of any of the individual
+     * resources, represents an operation failure.
+     */
+    public static Map<ManagementPath, Object> wildcardResponseToValues(ModelNode response) throws JBossCliException {
+
+        ModelNode result = operationResponseToResult(response);
+
+        Map<ManagementPath, Object> values = new LinkedHashMap<>();
+
+        if (result == null || !result.isDefined()) {
+
+            return values;
+        }
+
+        if (!ModelType.LIST.equals(result.getType())) {
+
+            throw new JBossCliException("not a wildcard operation response, the result is not a LIST: " + response);
+        }
+
+        for(ModelNode element: result.asList()) {
+
+            if (!element.has(Util.ADDRESS)) {
+
+                throw new JBossCliException("wildcard result element has no '" + Util.ADDRESS + "' key: " + element);
+            }
+
+            ManagementPath path = ManagementPath.fromAddress(element.get(Util.ADDRESS));
+            values.put(path, operationResponseToValue(element));
+        }
+
+        return values;
+    }
+
+    /**
+     * Extracts the description from the response of a read-resource-description operation. If the operation was
+     * addressed to a wildcard path, the controller returns one description per matching resource, and the first
+     * successful one is used.
+     *
+     * @return the description (an OBJECT with "description", "attributes", "children", etc.).
+     *
+     * @exception IllegalArgumentException on null response.
+     *
+     * @exception JBossCliException if the response carries no description, or if no resource matched the wildcard
+     * path.
+     *
+     * @exception JBossCliOperationFailureException in case the response represents an operation failure.
+     */
+    public static ModelNode descriptionResponseToDescription(ModelNode response) throws JBossCliException {
+
+        ModelNode result = operationResponseToResult(response);
+
+        if (result == null || !result.isDefined()) {
+
+            throw new JBossCliException("read-resource-description response has no result: " + response);
+        }
+
+        if (!ModelType.LIST.equals(result.getType())) {
+
+            return result;
+        }
+
+        for(ModelNode element: result.asList()) {
+
+            if (Util.isSuccess(element) && element.hasDefined(Util.RESULT)) {
+
+                return element.get(Util.RESULT);
+            }
+        }
+
+        throw new JBossCliException("no resource matched, no description available");
+    }
+
+    /**
+     * Indexes the response of a recursive read-resource operation into a snapshot.
+     *
+     * @param path the path the read-resource operation was addressed to.
+     *
+     * @exception IllegalArgumentException on null response.
+     *
+     * @exception JBossCliException if the response is not a read-resource response.
+     *
+     * @exception JBossCliOperationFailureException in case the response represents an operation failure.
+     */
+    public static ResourceSnapshot readResourceResponseToSnapshot(ManagementPath path, ModelNode response)
+            throws JBossCliException {
+
+        ModelNode result = operationResponseToResult(response);
+
+        if (result == null) {
+
+            throw new JBossCliException("read-resource response has no result: " + response);
+        }
+
+        return ResourceSnapshot.build(path, result, System.currentTimeMillis());
+    }
+
+    /**
+     * Converts a value node to the corresponding Java type.
+     *
+     * @return null for UNDEFINED nodes.
+     *
+     * @exception JBossCliException if the node type is not supported.
+     */
+    public static Object toValue(ModelNode r) throws JBossCliException {
+
+        ModelType type = r.getType();
+
+        if (ModelType.UNDEFINED.equals(type)) {
+
+            return null;
+        }
+        else if (ModelType.STRING.equals(type)) {
+
+            return r.asString();
+        }
+        else if (ModelType.BOOLEAN.equals(type)) {
+
+            return r.asBoolean();
+        }
+        else if (ModelType.INT.equals(type)) {
+
+            return r.asInt();
+        }
+        else if (ModelType.LONG.equals(type)) {
+
+            return r.asLong();
+        }
+        else if (ModelType.DOUBLE.equals(type)) {
+
+            return r.asDouble();
+        }
+        else if (ModelType.BIG_DECIMAL.equals(type)) {
+
+            return r.asBigDecimal();
+        }
+        else if (ModelType.BIG_INTEGER.equals(type)) {
+
+            return r.asBigInteger();
+        }
+        else if (ModelType.BYTES.equals(type)) {
+
+            return r.asBytes();
+        }
+        else {
 
             //
-            // success
+            // complex types (OBJECT, LIST, PROPERTY) are handled with walk()
             //
 
-            ModelNode r = response.get(Util.RESULT);
-            ModelType type = r.getType();
+            throw new JBossCliException("unsupported response type " + type);
+        }
+    }
+
+    /**
+     * Walks the node depth-first, and emits the corresponding typed events into the visitor. No intermediate object
+     * graph is built.
+     *
+     * @see ModelNodeVisitor
+     *
+     * @exception JBossCliException if thrown by the visitor.
+     */
+    public static void walk(ModelNode node, ModelNodeVisitor visitor) throws JBossCliException {
 
-            if (ModelType.UNDEFINED.equals(type)) {
+        if (node == null) {
 
-                return null;
+            throw new IllegalArgumentException("null node");
+        }
+
+        if (visitor == null) {
+
+            throw new IllegalArgumentException("null visitor");
+        }
+
+        walk0(node, visitor);
+    }
+
+    /**
+     * Walks the result of a successful operation response. An unknown attribute is reported as an undefined value,
+     * consistently with operationResponseToValue().
+     *
+     * @exception JBossCliOperationFailureException in case the response represents an operation failure.
+     *
+     * @see ModelNodeUtil#operationResponseToValue(ModelNode)
+     */
+    public static void walkOperationResponse(ModelNode response, ModelNodeVisitor visitor) throws JBossCliException {
+
+        if (visitor == null) {
+
+            throw new IllegalArgumentException("null visitor");
+        }
+
+        ModelNode result = operationResponseToResult(response);
+
+        if (result == null) {
+
+            visitor.undefinedValue();
+            return;
+        }
+
+        walk0(result, visitor);
+    }
+
+    /**
+     * Converts a value node to a primitive long. LONG and INT nodes are converted directly, STRING nodes are parsed.
+     *
+     * @param r may be null, which is handled as an undefined node.
+     *
+     * @return undefinedValue for null or UNDEFINED nodes.
+     *
+     * @exception JBossCliException if the node cannot be represented as a long.
+     */
+    public static long toLong(ModelNode r, long undefinedValue) throws JBossCliException {
+
+        if (r == null) {
+
+            return undefinedValue;
+        }
+
+        ModelType type = r.getType();
+
+        if (ModelType.LONG.equals(type) || ModelType.INT.equals(type)) {
+
+            return r.asLong();
+        }
+        else if (ModelType.UNDEFINED.equals(type)) {
+
+            return undefinedValue;
+        }
+        else if (ModelType.STRING.equals(type)) {
+
+            try {
+
+                return Long.parseLong(r.asString());
             }
-            else if (ModelType.STRING.equals(type)) {
+            catch(NumberFormatException e) {
 
-                return r.asString();
+                throw new JBossCliException("cannot convert \"" + r.asString() + "\" to long");
             }
-            else if (ModelType.BOOLEAN.equals(type)) {
+        }
+
+        throw new JBossCliException("cannot convert " + type + " to long");
+    }
+
+    /**
+     * Converts a value node to a primitive int. INT nodes, and LONG nodes within the int range, are converted
+     * directly, STRING nodes are parsed.
+     *
+     * @param r may be null, which is handled as an undefined node.
+     *
+     * @return undefinedValue for null or UNDEFINED nodes.
+     *
+     * @exception JBossCliException if the node cannot be represented as an int.
+     */
+    public static int toInt(ModelNode r, int undefinedValue) throws JBossCliException {
+
+        if (r == null) {
+
+            return undefinedValue;
+        }
+
+        ModelType type = r.getType();
+
+        if (ModelType.INT.equals(type)) {
+
+            return r.asInt();
+        }
+        else if (ModelType.UNDEFINED.equals(type)) {
 
-                return r.asBoolean();
+            return undefinedValue;
+        }
+        else if (ModelType.LONG.equals(type)) {
+
+            long l = r.asLong();
+
+            if (l < Integer.MIN_VALUE || l > Integer.MAX_VALUE) {
+
+                throw new JBossCliException("long value " + l + " out of int range");
             }
-            else if (ModelType.INT.equals(type)) {
 
-                return r.asInt();
+            return (int)l;
+        }
+        else if (ModelType.STRING.equals(type)) {
+
+            try {
+
+                return Integer.parseInt(r.asString());
             }
-            else if (ModelType.LONG.equals(type)) {
+            catch(NumberFormatException e) {
 
-                return r.asLong();
+                throw new JBossCliException("cannot convert \"" + r.asString() + "\" to int");
             }
-            else if (ModelType.DOUBLE.equals(type)) {
+        }
+
+        throw new JBossCliException("cannot convert " + type + " to int");
+    }
+
+    /**
+     * Converts a value node to a primitive double. DOUBLE, INT and LONG nodes are converted directly, STRING nodes are
+     * parsed.
+     *
+     * @param r may be null, which is handled as an undefined node.
+     *
+     * @return undefinedValue for null or UNDEFINED nodes.
+     *
+     * @exception JBossCliException if the node cannot be represented as a double.
+     */
+    public static double toDouble(ModelNode r, double undefinedValue) throws JBossCliException {
 
-                return r.asDouble();
+        if (r == null) {
+
+            return undefinedValue;
+        }
+
+        ModelType type = r.getType();
+
+        if (ModelType.DOUBLE.equals(type) || ModelType.LONG.equals(type) || ModelType.INT.equals(type)) {
+
+            return r.asDouble();
+        }
+        else if (ModelType.UNDEFINED.equals(type)) {
+
+            return undefinedValue;
+        }
+        else if (ModelType.STRING.equals(type)) {
+
+            try {
+
+                return Double.parseDouble(r.asString());
             }
-            else {
+            catch(NumberFormatException e) {
 
-                throw new JBossCliException("unsupported response type " + type);
+                throw new JBossCliException("cannot convert \"" + r.asString() + "\" to double");
             }
+        }
+
+        throw new JBossCliException("cannot convert " + type + " to double");
+    }
+
+    /**
+     * Converts a value node to a primitive boolean. STRING nodes must be "true" or "false" (case insensitive).
+     *
+     * @param r may be null, which is handled as an undefined node.
+     *
+     * @return undefinedValue for null or UNDEFINED nodes.
+     *
+     * @exception JBossCliException if the node is not a boolean.
+     */
+    public static boolean toBoolean(ModelNode r, boolean undefinedValue) throws JBossCliException {
+
+        if (r == null) {
 
+            return undefinedValue;
         }
-        else if (FAILED.equals(outcomeAsString)) {
 
-            //
-            // failure
-            //
+        ModelType type = r.getType();
 
-            if (!response.hasDefined(Util.FAILURE_DESCRIPTION)) {
+        if (ModelType.BOOLEAN.equals(type)) {
 
-                throw new JBossCliOperationFailureException("no details");
+            return r.asBoolean();
+        }
+        else if (ModelType.UNDEFINED.equals(type)) {
+
+            return undefinedValue;
+        }
+        else if (ModelType.STRING.equals(type)) {
+
+            String s = r.asString();
+
+            if ("true".equalsIgnoreCase(s)) {
+
+                return true;
             }
+            else if ("false".equalsIgnoreCase(s)) {
 
-            String failureDescription = Util.getFailureDescription(response);
+                return false;
+            }
 
-            if (failureDescription == null) {
+            throw new JBossCliException("cannot convert \"" + s + "\" to boolean");
+        }
 
-                throw new JBossCliOperationFailureException("no details");
+        throw new JBossCliException("cannot convert " + type + " to boolean");
+    }
+
+    /**
+     * Builds a read-resource request for the given resource.
+     */
+    public static ModelNode buildReadResourceRequest(ManagementPath path, boolean includeRuntime,
+                                                     boolean attributesOnly) {
+
+        return buildReadResourceRequest(path, includeRuntime, attributesOnly, false);
+    }
+
+    /**
+     * Builds a read-resource request for the given resource.
+     *
+     * @param recursive whether to include the children, recursively.
+     */
+    public static ModelNode buildReadResourceRequest(ManagementPath path, boolean includeRuntime,
+                                                     boolean attributesOnly, boolean recursive) {
+
+        ModelNode request = buildOperation(path, Util.READ_RESOURCE);
+        request.get(Util.INCLUDE_RUNTIME).set(includeRuntime);
+
+        if (attributesOnly) {
+
+            request.get(ATTRIBUTES_ONLY).set(true);
+        }
+
+        if (recursive) {
+
+            request.get(RECURSIVE).set(true);
+        }
+
+        return request;
+    }
+
+    /**
+     * Packs the given operations into a single "composite" operation. The composite is configured not to roll back on
+     * runtime failures, which keeps runtime-stage failures independent from each other. A model-stage failure (an
+     * unknown resource, for example) still fails the whole composite, and the steps that follow it are not executed,
+     * see isStepOutcomeFinal().
+     */
+    public static ModelNode buildCompositeRequest(List<ModelNode> steps) {
+
+        if (steps == null) {
+
+            throw new IllegalArgumentException("null steps");
+        }
+
+        ModelNode request = new ModelNode();
+
+        request.get(Util.OPERATION).set(Util.COMPOSITE);
+        request.get(Util.ADDRESS).setEmptyList();
+
+        ModelNode stepsNode = request.get(Util.STEPS);
+        stepsNode.setEmptyList();
+
+        for(ModelNode step: steps) {
+
+            stepsNode.add(step);
+        }
+
+        request.get(Util.OPERATION_HEADERS, Util.ROLLBACK_ON_RUNTIME_FAILURE).set(false);
+
+        return request;
+    }
+
+    /**
+     * Splits a composite operation response into the individual step responses, in step order. Each step response can
+     * then be converted with operationResponseToValue(). A failed composite is not an error by itself: the steps that
+     * succeeded still carry their results. If the response does not contain a specific step - for example, because
+     * the whole composite was rejected - a failure response is synthesized for that step, carrying the composite
+     * failure description.
+     *
+     * @exception IllegalArgumentException on null response.
+     *
+     * @exception JBossCliException if the node is not an operation response.
+     */
+    public static List<ModelNode> compositeResponseToStepResponses(ModelNode response, int stepCount)
+            throws JBossCliException {
+
+        if (response == null) {
+
+            throw new IllegalArgumentException("null response");
+        }
+
+        if (!response.hasDefined(Util.OUTCOME)) {
+
+            throw new JBossCliException("node has no '" + Util.OUTCOME + "' key; is it an operation response? " + response);
+        }
+
+        ModelNode result = response.get(Util.RESULT);
+        boolean resultDefined = ModelType.OBJECT.equals(result.getType());
+
+        List<ModelNode> stepResponses = new ArrayList<>(stepCount);
+
+        for(int i = 1; i <= stepCount; i ++) {
+
+            String stepName = STEP_PREFIX + i;
+
+            if (resultDefined && result.hasDefined(stepName)) {
+
+                stepResponses.add(result.get(stepName));
             }
+            else {
 
-            String fdtlc = failureDescription.toLowerCase();
-            if (fdtlc.contains("unknown attribute")) {
+                String failureDescription = null;
 
-                //
-                // we don't fail, we return null
-                //
-                return null;
+                if (response.hasDefined(Util.FAILURE_DESCRIPTION)) {
+
+                    failureDescription = response.get(Util.FAILURE_DESCRIPTION).asString();
+                }
+
+                stepResponses.add(buildFailure(
+                        failureDescription == null ? "no response for " + stepName : failureDescription));
             }
+        }
 
-            //
-            // if the path does not exist, we get something similar to
-            // JBAS014883: No resource definition is registered for address [("subsystem" => "no-such-path")]
-            //
+        return stepResponses;
+    }
 
-            throw new JBossCliOperationFailureException(failureDescription);
+    /**
+     * @param step the step number, starting with 1.
+     *
+     * @return true if the outcome of the given step of a composite operation response is final: the composite
+     * succeeded, or the step succeeded, or the step failed with a failure description of its own. The controller does
+     * not execute the steps that follow a model-stage failure, and it reports them, if at all, without a failure
+     * description of their own. Such steps have to be executed again.
+     *
+     * @exception IllegalArgumentException on null response.
+     */
+    public static boolean isStepOutcomeFinal(ModelNode response, int step) {
+
+        if (response == null) {
 
+            throw new IllegalArgumentException("null response");
         }
-        else {
 
-            throw new JBossCliException("unknown jboss CLI operation outcome: " + outcomeAsString);
+        if (Util.isSuccess(response)) {
+
+            return true;
+        }
+
+        String stepName = STEP_PREFIX + step;
+
+        if (!response.hasDefined(Util.RESULT) || !ModelType.OBJECT.equals(response.get(Util.RESULT).getType()) ||
+                !response.get(Util.RESULT).hasDefined(stepName)) {
+
+            return false;
         }
+
+        ModelNode stepResponse = response.get(Util.RESULT).get(stepName);
+
+        return Util.isSuccess(stepResponse) || stepResponse.hasDefined(Util.FAILURE_DESCRIPTION);
     }
 
     public static ModelNode buildFailure(String failureDescription) {
@@ -168,6 +776,27 @@ public class ModelNodeUtil {
         else if (attributeValue instanceof Integer) {
             result.get(Util.RESULT).set((Integer)attributeValue);
         }
+        else if (attributeValue instanceof Long) {
+            result.get(Util.RESULT).set((Long)attributeValue);
+        }
+        else if (attributeValue instanceof Boolean) {
+            result.get(Util.RESULT).set((Boolean)attributeValue);
+        }
+        else if (attributeValue instanceof Double) {
+            result.get(Util.RESULT).set((Double)attributeValue);
+        }
+        else if (attributeValue instanceof BigDecimal) {
+            result.get(Util.RESULT).set((BigDecimal)attributeValue);
+        }
+        else if (attributeValue instanceof BigInteger) {
+            result.get(Util.RESULT).set((BigInteger)attributeValue);
+        }
+        else if (attributeValue instanceof byte[]) {
+            result.get(Util.RESULT).set((byte[])attributeValue);
+        }
+        else if (attributeValue instanceof ModelNode) {
+            result.get(Util.RESULT).set((ModelNode)attributeValue);
+        }
         else {
             throw new RuntimeException("SUPPORT FOR " + attributeValue.getClass().getName() + " NOT YET IMPLEMENTED");
         }
@@ -175,6 +804,48 @@ public class ModelNodeUtil {
         return result;
     }
 
+    /**
+     * Builds an operation request for the given resource, without involving the CLI parser.
+     *
+     * @return a new, modifiable request, with the "operation" and "address" set. The operation parameters, if any,
+     * must be added by the caller.
+     */
+    public static ModelNode buildOperation(ManagementPath path, String operationName) {
+
+        if (path == null) {
+
+            throw new IllegalArgumentException("null path");
+        }
+
+        if (operationName == null) {
+
+            throw new IllegalArgumentException("null operation name");
+        }
+
+        ModelNode request = new ModelNode();
+
+        request.get(Util.OPERATION).set(operationName);
+        request.get(Util.ADDRESS).set(path.getAddress());
+        return request;
+    }
+
+    public static ModelNode buildReadResourceDescriptionRequest(ManagementPath path) {
+
+        return buildOperation(path, Util.READ_RESOURCE_DESCRIPTION);
+    }
+
+    public static ModelNode buildReadAttributeRequest(ManagementPath path, String attributeName) {
+
+        if (attributeName == null) {
+
+            throw new IllegalArgumentException("null attribute name");
+        }
+
+        ModelNode request = buildOperation(path, Util.READ_ATTRIBUTE);
+        request.get(Util.NAME).set(attributeName);
+        return request;
+    }
+
     // Attributes ------------------------------------------------------------------------------------------------------
 
     // Constructors ----------------------------------------------------------------------------------------------------
@@ -183,10 +854,188 @@ public class ModelNodeUtil {
 
     // Package protected -----------------------------------------------------------------------------------------------
 
+    /**
+     * @return the "result" node of a successful response, or null if the response reports an unknown attribute.
+     *
+     * @exception JBossCliOperationFailureException in case the response represents any other operation failure.
+     */
+    static ModelNode operationResponseToResult(ModelNode response) throws JBossCliException {
+
+        if (response == null) {
+
+            throw new IllegalArgumentException("null response");
+        }
+
+        if (!response.hasDefined(Util.OUTCOME)) {
+
+            throw new JBossCliException("node has no '" + Util.OUTCOME + "' key; is it an operation response? " + response);
+        }
+
+        ModelNode outcome = response.get(Util.OUTCOME);
+        String outcomeAsString = outcome.asString();
+
+        if (Util.SUCCESS.equals(outcomeAsString)) {
+
+            //
+            // success
+            //
+
+            return response.get(Util.RESULT);
+        }
+        else if (FAILED.equals(outcomeAsString)) {
+
+            //
+            // failure
+            //
+
+            if (!response.hasDefined(Util.FAILURE_DESCRIPTION)) {
+
+                throw new JBossCliOperationFailureException("no details");
+            }
+
+            String failureDescription = Util.getFailureDescription(response);
+
+            if (failureDescription == null) {
+
+                throw new JBossCliOperationFailureException("no details");
+            }
+
+            String fdtlc = failureDescription.toLowerCase();
+            if (fdtlc.contains("unknown attribute")) {
+
+                //
+                // we don't fail, we return null
+                //
+                return null;
+            }
+
+            //
+            // if the path does not exist, we get something similar to
+            // JBAS014883: No resource definition is registered for address [("subsystem" => "no-such-path")]
+            //
+
+            throw new JBossCliOperationFailureException(failureDescription);
+
+        }
+        else {
+
+            throw new JBossCliException("unknown jboss CLI operation outcome: " + outcomeAsString);
+        }
+    }
+
     // Protected -------------------------------------------------------------------------------------------------------
 
     // Private ---------------------------------------------------------------------------------------------------------
 
+    private static void walk0(ModelNode node, ModelNodeVisitor visitor) throws JBossCliException {
+
+        ModelType type = node.getType();
+
+        switch(type) {
+
+            case OBJECT:
+
+                Set<String> keys = node.keys();
+
+                visitor.startObject(keys.size());
+
+                for(String key: keys) {
+
+                    visitor.key(key);
+                    walk0(node.get(key), visitor);
+                }
+
+                visitor.endObject();
+                break;
+
+            case LIST:
+
+                //
+                // asInt() returns the size of a list; indexed access avoids copying the list with asList()
+                //
+
+                int size = node.asInt();
+
+                visitor.startList(size);
+
+                for(int i = 0; i < size; i ++) {
+
+                    walk0(node.get(i), visitor);
+                }
+
+                visitor.endList();
+                break;
+
+            case PROPERTY:
+
+                Property p = node.asProperty();
+
+                visitor.startProperty(p.getName());
+                walk0(p.getValue(), visitor);
+                visitor.endProperty();
+                break;
+
+            case UNDEFINED:
+
+                visitor.undefinedValue();
+                break;
+
+            case STRING:
+
+                visitor.stringValue(node.asString());
+                break;
+
+            case BOOLEAN:
+
+                visitor.booleanValue(node.asBoolean());
+                break;
+
+            case INT:
+
+                visitor.intValue(node.asInt());
+                break;
+
+            case LONG:
+
+                visitor.longValue(node.asLong());
+                break;
+
+            case DOUBLE:
+
+                visitor.doubleValue(node.asDouble());
+                break;
+
+            case BIG_DECIMAL:
+
+                visitor.bigDecimalValue(node.asBigDecimal());
+                break;
+
+            case BIG_INTEGER:
+
+                visitor.bigIntegerValue(node.asBigInteger());
+                break;
+
+            case BYTES:
+
+                visitor.bytesValue(node.asBytes());
+                break;
+
+            case EXPRESSION:
+
+                visitor.expressionValue(node.asString());
+                break;
+
+            case TYPE:
+
+                visitor.typeValue(node.asType());
+                break;
+
+            default:
+
+                throw new JBossCliException("unsupported node type " + type);
+        }
+    }
+
     // Inner classes ---------------------------------------------------------------------------------------------------
 
 }
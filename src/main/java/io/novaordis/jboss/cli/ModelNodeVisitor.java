@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import org.jboss.dmr.ModelType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Receives typed events while a ModelNode is walked depth-first, so large results can be consumed without building a
+ * second object graph.
+ *
+ * OBJECT nodes produce startObject(), then key() followed by the events of the value for each key, then endObject().
+ * LIST nodes produce startList(), the events of each element, then endList(). PROPERTY nodes produce startProperty(),
+ * the events of the property value, then endProperty(). All other node types produce exactly one value event.
+ *
+ * All methods have empty default implementations, so implementations only override the events they are interested
+ * in. Any method can throw a JBossCliException to abort the walk.
+ *
+ * @see ModelNodeUtil#walk(org.jboss.dmr.ModelNode, ModelNodeVisitor)
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public interface ModelNodeVisitor {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * @param size the number of keys.
+     */
+    default void startObject(int size) throws JBossCliException {}
+
+    default void key(String name) throws JBossCliException {}
+
+    default void endObject() throws JBossCliException {}
+
+    /**
+     * @param size the number of elements.
+     */
+    default void startList(int size) throws JBossCliException {}
+
+    default void endList() throws JBossCliException {}
+
+    default void startProperty(String name) throws JBossCliException {}
+
+    default void endProperty() throws JBossCliException {}
+
+    default void undefinedValue() throws JBossCliException {}
+
+    default void stringValue(String value) throws JBossCliException {}
+
+    default void booleanValue(boolean value) throws JBossCliException {}
+
+    default void intValue(int value) throws JBossCliException {}
+
+    default void longValue(long value) throws JBossCliException {}
+
+    default void doubleValue(double value) throws JBossCliException {}
+
+    default void bigDecimalValue(BigDecimal value) throws JBossCliException {}
+
+    default void bigIntegerValue(BigInteger value) throws JBossCliException {}
+
+    /**
+     * @param value the node's copy of the bytes.
+     */
+    default void bytesValue(byte[] value) throws JBossCliException {}
+
+    /**
+     * @param expression the unresolved expression, for example "${jboss.bind.address:127.0.0.1}".
+     */
+    default void expressionValue(String expression) throws JBossCliException {}
+
+    default void typeValue(ModelType value) throws JBossCliException {}
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import org.jboss.dmr.ModelNode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded, least-recently-used cache of compiled read-attribute operation requests, keyed by (path, attribute name).
+ * It allows repeated reads of the same attribute to skip the CLI parser completely.
+ *
+ * The cached requests are protected (made immutable), as they are shared between invocations.
+ *
+ * Thread safe.
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class OperationRequestCache {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final int capacity;
+
+    private final LinkedHashMap<Key, ModelNode> requests;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    public OperationRequestCache() {
+
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the maximum number of requests kept in the cache. Zero disables caching.
+     *
+     * @exception IllegalArgumentException on negative capacity.
+     */
+    public OperationRequestCache(int capacity) {
+
+        if (capacity < 0) {
+
+            throw new IllegalArgumentException("invalid capacity " + capacity);
+        }
+
+        this.capacity = capacity;
+
+        //
+        // access order, so the eldest entry is the least recently used one
+        //
+
+        this.requests = new LinkedHashMap<Key, ModelNode>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, ModelNode> eldest) {
+
+                if (size() > OperationRequestCache.this.capacity) {
+
+                    evictions ++;
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * @return the cached request, or null if there is no request cached for the given path and attribute. The
+     * returned request is protected and must not be modified.
+     */
+    public synchronized ModelNode get(String path, String attributeName) {
+
+        ModelNode request = requests.get(new Key(path, attributeName));
+
+        if (request == null) {
+
+            misses ++;
+        }
+        else {
+
+            hits ++;
+        }
+
+        return request;
+    }
+
+    /**
+     * Caches the request, protecting it in the process. If the cache is full, the least recently used request is
+     * evicted.
+     */
+    public synchronized void put(String path, String attributeName, ModelNode request) {
+
+        if (request == null) {
+
+            throw new IllegalArgumentException("null request");
+        }
+
+        if (capacity == 0) {
+
+            return;
+        }
+
+        request.protect();
+
+        requests.put(new Key(path, attributeName), request);
+    }
+
+    public synchronized void clear() {
+
+        requests.clear();
+    }
+
+    public int getCapacity() {
+
+        return capacity;
+    }
+
+    public synchronized int size() {
+
+        return requests.size();
+    }
+
+    public synchronized long getHitCount() {
+
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+
+        return misses;
+    }
+
+    public synchronized long getEvictionCount() {
+
+        return evictions;
+    }
+
+    @Override
+    public synchronized String toString() {
+
+        return "OperationRequestCache[" + requests.size() + "/" + capacity + ", hits=" + hits + ", misses=" + misses +
+                ", evictions=" + evictions + "]";
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+    private static final class Key {
+
+        private final String path;
+        private final String attributeName;
+        private final int hashCode;
+
+        Key(String path, String attributeName) {
+
+            this.path = path;
+            this.attributeName = attributeName;
+            this.hashCode =
+                    31 * (path == null ? 0 : path.hashCode()) + (attributeName == null ? 0 : attributeName.hashCode());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+
+                return true;
+            }
+
+            if (!(o instanceof Key)) {
+
+                return false;
+            }
+
+            Key that = (Key)o;
+
+            return (path == null ? that.path == null : path.equals(that.path)) &&
+                    (attributeName == null ? that.attributeName == null : attributeName.equals(that.attributeName));
+        }
+
+        @Override
+        public int hashCode() {
+
+            return hashCode;
+        }
+    }
+}
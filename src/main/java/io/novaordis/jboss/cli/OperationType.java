@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+/**
+ * The categories of management operations for which a client keeps metrics.
+ *
+ * @see ClientMetrics
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public enum OperationType {
+
+    /**
+     * Establishing the connection to the controller.
+     */
+    CONNECT,
+
+    /**
+     * Compiling a read-attribute command with the CLI parser. Only happens on request cache misses.
+     */
+    COMPILE,
+
+    /**
+     * A single attribute read, synchronous or asynchronous.
+     */
+    READ_ATTRIBUTE,
+
+    /**
+     * A multiple-attribute read of a single resource.
+     */
+    READ_ATTRIBUTES,
+
+    /**
+     * A read of the same attribute from all resources matched by a wildcard path.
+     */
+    WILDCARD_READ,
+
+    /**
+     * A composite read of attributes of arbitrary resources, synchronous or asynchronous. Each composite operation is
+     * accounted for, including the ones that re-send the reads a failed composite operation did not execute.
+     */
+    BATCH_READ,
+
+    /**
+     * A read-resource whose result is walked with a visitor, or indexed into a snapshot.
+     */
+    READ_RESOURCE,
+
+    /**
+     * A read-resource-description. Normally served from a ResourceDescriptionCache after the first read.
+     */
+    READ_DESCRIPTION
+
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import io.novaordis.jboss.cli.model.AttributeRead;
+import io.novaordis.jboss.cli.model.AttributeReadResult;
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import io.novaordis.jboss.cli.model.ManagementPath;
+import io.novaordis.jboss.cli.model.ResourceSnapshot;
+import org.jboss.dmr.ModelNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A client handed over by PooledJBossControllerClientFactory. connect() checks out a connection from the pool and
+ * disconnect() returns it. All operations are delegated to the checked out connection.
+ *
+ * @see PooledJBossControllerClientFactory
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+class PooledJBossControllerClient implements JBossControllerClient, ResourceDescriptionReader {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    private static final Logger log = LoggerFactory.getLogger(PooledJBossControllerClient.class);
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final PooledJBossControllerClientFactory pool;
+
+    private volatile JBossControllerAddress controllerAddress;
+
+    // null when disconnected
+    private volatile JBossControllerClient delegate;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    PooledJBossControllerClient(PooledJBossControllerClientFactory pool, JBossControllerAddress address) {
+
+        this.pool = pool;
+        this.controllerAddress = address;
+    }
+
+    // JBossControllerClient implementation ----------------------------------------------------------------------------
+
+    @Override
+    public String getHost() {
+
+        return controllerAddress.getHost();
+    }
+
+    @Override
+    public int getPort() {
+
+        return controllerAddress.getPort();
+    }
+
+    @Override
+    public String getUsername() {
+
+        return controllerAddress.getUsername();
+    }
+
+    @Override
+    public char[] getPassword() {
+
+        return controllerAddress.getPassword();
+    }
+
+    /**
+     * @exception IllegalStateException if the client is connected.
+     */
+    @Override
+    public synchronized void setControllerAddress(JBossControllerAddress a) {
+
+        if (a == null) {
+
+            throw new IllegalArgumentException("null controller address");
+        }
+
+        if (delegate != null) {
+
+            throw new IllegalStateException("cannot change the address of a connected client");
+        }
+
+        this.controllerAddress = a;
+    }
+
+    @Override
+    public JBossControllerAddress getControllerAddress() {
+
+        return controllerAddress;
+    }
+
+    /**
+     * Checks out a connection from the pool.
+     */
+    @Override
+    public synchronized void connect() throws JBossCliException {
+
+        if (delegate != null) {
+
+            return;
+        }
+
+        delegate = pool.borrow(controllerAddress);
+    }
+
+    /**
+     * Returns the connection to the pool.
+     */
+    @Override
+    public synchronized void disconnect() {
+
+        JBossControllerClient d = delegate;
+
+        if (d == null) {
+
+            return;
+        }
+
+        delegate = null;
+        pool.release(controllerAddress, d);
+    }
+
+    @Override
+    public boolean isConnected() {
+
+        return delegate != null;
+    }
+
+    @Override
+    public Object getAttributeValue(String path, String attributeName) throws JBossCliException {
+
+        return getDelegate().getAttributeValue(path, attributeName);
+    }
+
+    @Override
+    public Object getAttributeValue(ManagementPath path, String attributeName) throws JBossCliException {
+
+        return getDelegate().getAttributeValue(path, attributeName);
+    }
+
+    @Override
+    public long getLongAttribute(String path, String attributeName, long undefinedValue) throws JBossCliException {
+
+        return getDelegate().getLongAttribute(path, attributeName, undefinedValue);
+    }
+
+    @Override
+    public long getLongAttribute(ManagementPath path, String attributeName, long undefinedValue)
+            throws JBossCliException {
+
+        return getDelegate().getLongAttribute(path, attributeName, undefinedValue);
+    }
+
+    @Override
+    public int getIntAttribute(String path, String attributeName, int undefinedValue) throws JBossCliException {
+
+        return getDelegate().getIntAttribute(path, attributeName, undefinedValue);
+    }
+
+    @Override
+    public int getIntAttribute(ManagementPath path, String attributeName, int undefinedValue) throws JBossCliException {
+
+        return getDelegate().getIntAttribute(path, attributeName, undefinedValue);
+    }
+
+    @Override
+    public double getDoubleAttribute(String path, String attributeName, double undefinedValue)
+            throws JBossCliException {
+
+        return getDelegate().getDoubleAttribute(path, attributeName, undefinedValue);
+    }
+
+    @Override
+    public double getDoubleAttribute(ManagementPath path, String attributeName, double undefinedValue)
+            throws JBossCliException {
+
+        return getDelegate().getDoubleAttribute(path, attributeName, undefinedValue);
+    }
+
+    @Override
+    public boolean getBooleanAttribute(String path, String attributeName, boolean undefinedValue)
+            throws JBossCliException {
+
+        return getDelegate().getBooleanAttribute(path, attributeName, undefinedValue);
+    }
+
+    @Override
+    public boolean getBooleanAttribute(ManagementPath path, String attributeName, boolean undefinedValue)
+            throws JBossCliException {
+
+        return getDelegate().getBooleanAttribute(path, attributeName, undefinedValue);
+    }
+
+    @Override
+    public Map<String, Object> getAttributeValues(String path, Collection<String> attributeNames)
+            throws JBossCliException {
+
+        return getDelegate().getAttributeValues(path, attributeNames);
+    }
+
+    @Override
+    public Map<String, Object> getAttributeValues(ManagementPath path, Collection<String> attributeNames)
+            throws JBossCliException {
+
+        return getDelegate().getAttributeValues(path, attributeNames);
+    }
+
+    @Override
+    public Map<ManagementPath, Object> getWildcardAttributeValues(ManagementPath path, String attributeName)
+            throws JBossCliException {
+
+        return getDelegate().getWildcardAttributeValues(path, attributeName);
+    }
+
+    @Override
+    public List<AttributeReadResult> readAttributes(List<AttributeRead> reads) throws JBossCliException {
+
+        return getDelegate().readAttributes(reads);
+    }
+
+    @Override
+    public void visitAttributeValue(ManagementPath path, String attributeName, ModelNodeVisitor visitor)
+            throws JBossCliException {
+
+        getDelegate().visitAttributeValue(path, attributeName, visitor);
+    }
+
+    @Override
+    public void visitResource(ManagementPath path, boolean recursive, ModelNodeVisitor visitor)
+            throws JBossCliException {
+
+        getDelegate().visitResource(path, recursive, visitor);
+    }
+
+    @Override
+    public ResourceSnapshot getSnapshot(ManagementPath path) throws JBossCliException {
+
+        return getDelegate().getSnapshot(path);
+    }
+
+    @Override
+    public ModelNode getResourceDescription(ManagementPath path) throws JBossCliException {
+
+        JBossControllerClient d = getDelegate();
+
+        if (!(d instanceof ResourceDescriptionReader)) {
+
+            throw new JBossCliException(d + " cannot read resource descriptions");
+        }
+
+        return ((ResourceDescriptionReader)d).getResourceDescription(path);
+    }
+
+    @Override
+    public CompletableFuture<Object> getAttributeValueAsync(String path, String attributeName)
+            throws JBossCliException {
+
+        return getDelegate().getAttributeValueAsync(path, attributeName);
+    }
+
+    @Override
+    public CompletableFuture<Object> getAttributeValueAsync(ManagementPath path, String attributeName)
+            throws JBossCliException {
+
+        return getDelegate().getAttributeValueAsync(path, attributeName);
+    }
+
+    @Override
+    public CompletableFuture<List<AttributeReadResult>> readAttributesAsync(List<AttributeRead> reads)
+            throws JBossCliException {
+
+        return getDelegate().readAttributesAsync(reads);
+    }
+
+    /**
+     * @return the metrics of the checked out connection, or null if the client is not connected.
+     */
+    @Override
+    public ClientMetrics getMetrics() {
+
+        JBossControllerClient d = delegate;
+
+        return d == null ? null : d.getMetrics();
+    }
+
+    /**
+     * A no-op: the pooled connections are shared, and they are created by the pool's delegate factory, which must be
+     * configured instead. Only logs a warning, so code that configures whatever client a factory returns still works.
+     */
+    @Override
+    public void setCommandContextFactory(Object commandContextFactory) {
+
+        log.warn(this + " ignores the command context factory, configure the pool's delegate factory instead");
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    @Override
+    public String toString() {
+
+        return "pooled " + controllerAddress;
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    private JBossControllerClient getDelegate() throws JBossCliException {
+
+        JBossControllerClient d = delegate;
+
+        if (d == null) {
+
+            throw new JBossCliException(this + " not connected");
+        }
+
+        return d;
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -0,0 +1,519 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import io.novaordis.jboss.cli.model.ManagementPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A JBossControllerClientFactory that maintains, for each controller address, a pool of connected clients.
+ *
+ * The clients built by this factory are disconnected, as required by the JBossControllerClientFactory contract, but
+ * connect() checks out an already connected ("warm") client from the pool, or connects a new one if none is available,
+ * and disconnect() returns it to the pool instead of closing the connection. Short-lived tasks can thus reuse
+ * connections instead of paying for the connection handshake every time.
+ *
+ * The number of connections per controller is bounded: when all connections are checked out, connect() blocks until
+ * one is returned, or the borrow timeout expires. Connections that have been idle for longer than the maximum idle
+ * time are closed, lazily on pool access, or explicitly with evictIdle(). By default, idle connections are validated
+ * on borrow, by reading the root resource "release-version" attribute.
+ *
+ * The actual connections are created by a delegate factory.
+ *
+ * Thread safe.
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class PooledJBossControllerClientFactory implements JBossControllerClientFactory {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    private static final Logger log = LoggerFactory.getLogger(PooledJBossControllerClientFactory.class);
+
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_CONTROLLER = 8;
+
+    public static final long DEFAULT_MAX_IDLE_TIME_MS = 60 * 1000L;
+
+    public static final long DEFAULT_BORROW_TIMEOUT_MS = 30 * 1000L;
+
+    public static final String VALIDATION_ATTRIBUTE = "release-version";
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final JBossControllerClientFactory delegate;
+    private final int maxConnectionsPerController;
+    private final long maxIdleTimeMs;
+    private final long borrowTimeoutMs;
+
+    private volatile boolean validateOnBorrow;
+    private volatile boolean closed;
+
+    private final Map<JBossControllerAddress, Pool> pools;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    public PooledJBossControllerClientFactory() {
+
+        this(new JBossControllerClientFactoryImpl(), DEFAULT_MAX_CONNECTIONS_PER_CONTROLLER, DEFAULT_MAX_IDLE_TIME_MS,
+                DEFAULT_BORROW_TIMEOUT_MS);
+    }
+
+    /**
+     * @param delegate the factory that creates the actual (pooled) clients.
+     * @param maxConnectionsPerController the maximum number of connections, idle or checked out, per controller.
+     * @param maxIdleTimeMs the time after which an idle connection is closed.
+     * @param borrowTimeoutMs how long connect() waits for a connection to be returned to the pool, when the maximum
+     *                        number of connections has been reached.
+     */
+    public PooledJBossControllerClientFactory(JBossControllerClientFactory delegate, int maxConnectionsPerController,
+                                              long maxIdleTimeMs, long borrowTimeoutMs) {
+
+        if (delegate == null) {
+
+            throw new IllegalArgumentException("null delegate factory");
+        }
+
+        if (maxConnectionsPerController <= 0) {
+
+            throw new IllegalArgumentException("invalid maximum connections per controller " +
+                    maxConnectionsPerController);
+        }
+
+        if (maxIdleTimeMs < 0) {
+
+            throw new IllegalArgumentException("invalid maximum idle time " + maxIdleTimeMs);
+        }
+
+        if (borrowTimeoutMs < 0) {
+
+            throw new IllegalArgumentException("invalid borrow timeout " + borrowTimeoutMs);
+        }
+
+        this.delegate = delegate;
+        this.maxConnectionsPerController = maxConnectionsPerController;
+        this.maxIdleTimeMs = maxIdleTimeMs;
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.validateOnBorrow = true;
+        this.pools = new ConcurrentHashMap<>();
+    }
+
+    // JBossControllerClientFactory implementation ---------------------------------------------------------------------
+
+    /**
+     * @return a disconnected client, whose connect() checks out a connection from the pool and whose disconnect()
+     * returns it.
+     */
+    @Override
+    public JBossControllerClient buildControllerClient(JBossControllerAddress address) throws JBossCliException {
+
+        if (address == null) {
+
+            throw new IllegalArgumentException("null controller address");
+        }
+
+        if (closed) {
+
+            throw new JBossCliException(this + " closed");
+        }
+
+        return new PooledJBossControllerClient(this, address);
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    public int getMaxConnectionsPerController() {
+
+        return maxConnectionsPerController;
+    }
+
+    public long getMaxIdleTimeMs() {
+
+        return maxIdleTimeMs;
+    }
+
+    public long getBorrowTimeoutMs() {
+
+        return borrowTimeoutMs;
+    }
+
+    public boolean isValidateOnBorrow() {
+
+        return validateOnBorrow;
+    }
+
+    public void setValidateOnBorrow(boolean b) {
+
+        this.validateOnBorrow = b;
+    }
+
+    /**
+     * @return the number of idle (connected, not checked out) connections to the given controller.
+     */
+    public int getIdleCount(JBossControllerAddress address) {
+
+        Pool pool = pools.get(address);
+
+        if (pool == null) {
+
+            return 0;
+        }
+
+        synchronized (pool) {
+
+            return pool.idle.size();
+        }
+    }
+
+    /**
+     * @return the number of connections to the given controller that are currently checked out.
+     */
+    public int getActiveCount(JBossControllerAddress address) {
+
+        Pool pool = pools.get(address);
+
+        if (pool == null) {
+
+            return 0;
+        }
+
+        synchronized (pool) {
+
+            return pool.active;
+        }
+    }
+
+    /**
+     * Closes the connections that have been idle for longer than the maximum idle time, for all controllers.
+     *
+     * @return the number of closed connections.
+     */
+    public int evictIdle() {
+
+        long now = System.currentTimeMillis();
+        int count = 0;
+
+        for(Pool pool: pools.values()) {
+
+            List<JBossControllerClient> evicted;
+
+            synchronized (pool) {
+
+                evicted = pool.removeExpired(now, maxIdleTimeMs);
+            }
+
+            count += evicted.size();
+            disconnectQuietly(evicted);
+        }
+
+        return count;
+    }
+
+    /**
+     * Closes all idle connections and prevents new clients from being built. Connections that are checked out at the
+     * time of the call are closed when returned.
+     */
+    public void close() {
+
+        closed = true;
+
+        for(Pool pool: pools.values()) {
+
+            List<JBossControllerClient> idle;
+
+            synchronized (pool) {
+
+                idle = new ArrayList<>(pool.idle.size());
+
+                for(IdleConnection c: pool.idle) {
+
+                    idle.add(c.client);
+                }
+
+                pool.idle.clear();
+                pool.notifyAll();
+            }
+
+            disconnectQuietly(idle);
+        }
+    }
+
+    @Override
+    public String toString() {
+
+        return "PooledJBossControllerClientFactory[" + pools.size() + " controller(s)]";
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    /**
+     * Checks out a connected client from the pool, creating and connecting a new one if no idle client is available
+     * and the maximum number of connections has not been reached.
+     */
+    JBossControllerClient borrow(JBossControllerAddress address) throws JBossCliException {
+
+        Pool pool = pools.computeIfAbsent(address, a -> new Pool());
+
+        long deadline = System.currentTimeMillis() + borrowTimeoutMs;
+
+        while(true) {
+
+            JBossControllerClient candidate = null;
+            List<JBossControllerClient> expired;
+
+            synchronized (pool) {
+
+                while(true) {
+
+                    if (closed) {
+
+                        throw new JBossCliException(this + " closed");
+                    }
+
+                    long now = System.currentTimeMillis();
+
+                    expired = pool.removeExpired(now, maxIdleTimeMs);
+
+                    if (!pool.idle.isEmpty()) {
+
+                        //
+                        // LIFO, the most recently used connection is the most likely to be still valid
+                        //
+
+                        candidate = pool.idle.pollLast().client;
+                        pool.active ++;
+                        break;
+                    }
+
+                    if (pool.active < maxConnectionsPerController) {
+
+                        //
+                        // reserve the slot, the connection is created outside the lock
+                        //
+
+                        pool.active ++;
+                        break;
+                    }
+
+                    long wait = deadline - now;
+
+                    if (wait <= 0) {
+
+                        throw new JBossCliException("timed out waiting for a connection to " + address + ", " +
+                                maxConnectionsPerController + " connection(s) checked out");
+                    }
+
+                    try {
+
+                        pool.wait(wait);
+                    }
+                    catch(InterruptedException e) {
+
+                        Thread.currentThread().interrupt();
+                        throw new JBossCliException("interrupted while waiting for a connection to " + address);
+                    }
+                }
+            }
+
+            disconnectQuietly(expired);
+
+            if (candidate == null) {
+
+                try {
+
+                    JBossControllerClient client = delegate.buildControllerClient(address);
+                    client.connect();
+                    log.debug(this + " created new connection to " + address);
+                    return client;
+                }
+                catch(JBossCliException | RuntimeException e) {
+
+                    synchronized (pool) {
+
+                        pool.active --;
+                        pool.notifyAll();
+                    }
+
+                    throw e;
+                }
+            }
+
+            if (!validateOnBorrow || isValid(candidate)) {
+
+                return candidate;
+            }
+
+            log.debug("discarding invalid connection to " + address);
+
+            synchronized (pool) {
+
+                pool.active --;
+                pool.notifyAll();
+            }
+
+            disconnectQuietly(candidate);
+        }
+    }
+
+    /**
+     * Returns a client previously checked out with borrow() to the pool.
+     */
+    void release(JBossControllerAddress address, JBossControllerClient client) {
+
+        Pool pool = pools.get(address);
+
+        if (pool == null) {
+
+            throw new IllegalStateException("no pool for " + address);
+        }
+
+        boolean keep;
+
+        synchronized (pool) {
+
+            pool.active --;
+
+            keep = !closed && client.isConnected();
+
+            if (keep) {
+
+                pool.idle.addLast(new IdleConnection(client, System.currentTimeMillis()));
+            }
+
+            pool.notifyAll();
+        }
+
+        if (!keep) {
+
+            disconnectQuietly(client);
+        }
+    }
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    private static boolean isValid(JBossControllerClient client) {
+
+        if (!client.isConnected()) {
+
+            return false;
+        }
+
+        try {
+
+            client.getAttributeValue(ManagementPath.ROOT, VALIDATION_ATTRIBUTE);
+            return true;
+        }
+        catch(Exception e) {
+
+            log.debug("connection validation failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static void disconnectQuietly(List<JBossControllerClient> clients) {
+
+        for(JBossControllerClient c: clients) {
+
+            disconnectQuietly(c);
+        }
+    }
+
+    private static void disconnectQuietly(JBossControllerClient client) {
+
+        try {
+
+            if (client.isConnected()) {
+
+                client.disconnect();
+            }
+        }
+        catch(Exception e) {
+
+            log.warn("failed to disconnect " + client + ": " + e.getMessage());
+        }
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+    /**
+     * Per-controller pool state. All access must be synchronized on the instance.
+     */
+    private static class Pool {
+
+        // ordered from the least recently returned to the most recently returned
+        final ArrayDeque<IdleConnection> idle = new ArrayDeque<>();
+
+        // checked out, or being connected
+        int active;
+
+        List<JBossControllerClient> removeExpired(long now, long maxIdleTimeMs) {
+
+            List<JBossControllerClient> expired = null;
+
+            for(Iterator<IdleConnection> i = idle.iterator(); i.hasNext(); ) {
+
+                IdleConnection c = i.next();
+
+                if (now - c.since < maxIdleTimeMs) {
+
+                    //
+                    // the rest are more recent
+                    //
+
+                    break;
+                }
+
+                i.remove();
+
+                if (expired == null) {
+
+                    expired = new ArrayList<>();
+                }
+
+                expired.add(c.client);
+            }
+
+            return expired == null ? Collections.<JBossControllerClient>emptyList() : expired;
+        }
+    }
+
+    private static class IdleConnection {
+
+        final JBossControllerClient client;
+        final long since;
+
+        IdleConnection(JBossControllerClient client, long since) {
+
+            this.client = client;
+            this.since = since;
+        }
+    }
+}
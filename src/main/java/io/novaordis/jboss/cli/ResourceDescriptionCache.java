@@ -0,0 +1,503 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import io.novaordis.jboss.JBossInfo;
+import io.novaordis.jboss.cli.model.ManagementPath;
+import org.jboss.as.cli.Util;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cache of resource descriptions (as returned by read-resource-description), keyed by server version and resource
+ * path. The description of a resource is identical on all servers running the same version, so it only needs to be
+ * read once, from any of them, and can then be used to validate requests and to find attribute types for all the
+ * others.
+ *
+ * Each version is persisted in its own file in the cache directory, and is loaded lazily, on the first lookup for
+ * that version. The file is a sequence of length-prefixed records, each holding a path and its description in DMR
+ * binary format. A new description is appended to the file as a record, after the in-memory cache is updated, so
+ * lookups never wait for appends, and only the first lookup for a version waits for its file to be read. The file is
+ * locked while it is read or appended to, so several processes can share the cache directory. A partial record at the end of the file, left behind by an
+ * interrupted write, is discarded when the file is loaded.
+ *
+ * Descriptions are keyed by the literal path, so resources whose description does not depend on their name should
+ * be looked up with a wildcard path (for example "/subsystem=datasources/data-source=*"), which yields one entry for
+ * all of them.
+ *
+ * Thread safe.
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class ResourceDescriptionCache {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    private static final Logger log = LoggerFactory.getLogger(ResourceDescriptionCache.class);
+
+    public static final String FILE_EXTENSION = ".dmr";
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * @return the cache key for the version described by the given info (for example "EAP-6.4.15.GA").
+     *
+     * @exception JBossCliException if the version is not known.
+     */
+    public static String versionKey(JBossInfo info) throws JBossCliException {
+
+        if (info == null) {
+
+            throw new IllegalArgumentException("null info");
+        }
+
+        if (info.getVersion() == null) {
+
+            throw new JBossCliException("unknown version: " + info);
+        }
+
+        return (info.isEAP() ? "EAP-" : "") + info.getVersion();
+    }
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final File directory;
+
+    // version key -> (path literal -> protected description)
+    private final Map<String, Map<String, ModelNode>> versions;
+
+    // serializes file access within the process; the file locks only exclude other processes
+    private final Object fileLock;
+
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    /**
+     * @param directory the directory the descriptions are persisted in. It is created when the first description is
+     *                  written, if it does not exist.
+     */
+    public ResourceDescriptionCache(File directory) {
+
+        if (directory == null) {
+
+            throw new IllegalArgumentException("null directory");
+        }
+
+        this.directory = directory;
+        this.versions = new ConcurrentHashMap<>();
+        this.hits = new AtomicLong(0L);
+        this.misses = new AtomicLong(0L);
+        this.fileLock = new Object();
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    public File getDirectory() {
+
+        return directory;
+    }
+
+    /**
+     * @return the cached description, or null if the description for the given version and path is neither in memory
+     * nor on disk. The returned description is protected and must not be modified.
+     */
+    public ModelNode get(String version, ManagementPath path) {
+
+        if (path == null) {
+
+            throw new IllegalArgumentException("null path");
+        }
+
+        ModelNode description = getVersion(version).get(path.getLiteral());
+
+        if (description == null) {
+
+            misses.incrementAndGet();
+        }
+        else {
+
+            hits.incrementAndGet();
+        }
+
+        return description;
+    }
+
+    /**
+     * Returns the cached description, reading it with the given client, and caching it, on a miss.
+     *
+     * @param client a connected client for a server running the given version. May be null, in which case a miss
+     *               yields null.
+     *
+     * @exception JBossCliException if the description cannot be read, or the client cannot read descriptions at all
+     * (only the clients built by this library's factories can).
+     */
+    public ModelNode getDescription(String version, ManagementPath path, JBossControllerClient client)
+            throws JBossCliException {
+
+        ModelNode description = get(version, path);
+
+        if (description != null || client == null) {
+
+            return description;
+        }
+
+        //
+        // concurrent misses for the same key may read the description more than once, but the network round trip is
+        // not made under the lock
+        //
+
+        if (!(client instanceof ResourceDescriptionReader)) {
+
+            throw new JBossCliException(client + " cannot read resource descriptions");
+        }
+
+        description = ((ResourceDescriptionReader)client).getResourceDescription(path);
+        return put(version, path, description);
+    }
+
+    /**
+     * Caches the description in memory, then appends it to the version file. Failure to write to disk is logged, but
+     * otherwise ignored.
+     *
+     * @return the cached, protected, description.
+     */
+    public ModelNode put(String version, ManagementPath path, ModelNode description) {
+
+        if (path == null) {
+
+            throw new IllegalArgumentException("null path");
+        }
+
+        if (description == null) {
+
+            throw new IllegalArgumentException("null description");
+        }
+
+        ModelNode copy = description.clone();
+        copy.protect();
+
+        getVersion(version).put(path.getLiteral(), copy);
+
+        try {
+
+            append(version, path.getLiteral(), copy);
+        }
+        catch(IOException e) {
+
+            log.warn("failed to persist the " + version + " descriptions in " + directory + ": " + e.getMessage());
+        }
+
+        return copy;
+    }
+
+    /**
+     * @return the type of the attribute, as declared by the resource description, or null if the resource has no
+     * such attribute.
+     *
+     * @see ResourceDescriptionCache#getDescription(String, ManagementPath, JBossControllerClient)
+     *
+     * @exception JBossCliException if the description is not cached and cannot be read.
+     */
+    public ModelType getAttributeType(String version, ManagementPath path, String attributeName,
+                                      JBossControllerClient client) throws JBossCliException {
+
+        ModelNode attribute = getAttributeDescription(version, path, attributeName, client);
+
+        if (attribute == null || !attribute.hasDefined(Util.TYPE)) {
+
+            return null;
+        }
+
+        return attribute.get(Util.TYPE).asType();
+    }
+
+    /**
+     * @exception JBossCliException if the resource has no such attribute, or if the description is not cached and
+     * cannot be read.
+     */
+    public void validateAttribute(String version, ManagementPath path, String attributeName,
+                                  JBossControllerClient client) throws JBossCliException {
+
+        if (getAttributeDescription(version, path, attributeName, client) == null) {
+
+            throw new JBossCliException("no attribute \"" + attributeName + "\" in " + path + " (" + version + ")");
+        }
+    }
+
+    /**
+     * @return the number of versions loaded in memory.
+     */
+    public int getVersionCount() {
+
+        return versions.size();
+    }
+
+    public long getHitCount() {
+
+        return hits.get();
+    }
+
+    public long getMissCount() {
+
+        return misses.get();
+    }
+
+    /**
+     * @return the file the descriptions of the given version are persisted in.
+     */
+    public File getFile(String version) {
+
+        if (version == null) {
+
+            throw new IllegalArgumentException("null version");
+        }
+
+        return new File(directory, version.replaceAll("[^A-Za-z0-9._-]", "_") + FILE_EXTENSION);
+    }
+
+    @Override
+    public String toString() {
+
+        return "ResourceDescriptionCache[" + directory + "]";
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    /**
+     * @return the descriptions of the given version, loading them from disk on first access. The load does not block
+     * the lookups for other versions; concurrent first accesses to the same version may each load the file, and the
+     * first one to finish is kept.
+     */
+    private Map<String, ModelNode> getVersion(String version) {
+
+        if (version == null) {
+
+            throw new IllegalArgumentException("null version");
+        }
+
+        Map<String, ModelNode> descriptions = versions.get(version);
+
+        if (descriptions == null) {
+
+            Map<String, ModelNode> loaded = load(version);
+            descriptions = versions.putIfAbsent(version, loaded);
+
+            if (descriptions == null) {
+
+                descriptions = loaded;
+            }
+        }
+
+        return descriptions;
+    }
+
+    private Map<String, ModelNode> load(String version) {
+
+        Map<String, ModelNode> descriptions = new ConcurrentHashMap<>();
+
+        File file = getFile(version);
+
+        if (!file.isFile()) {
+
+            return descriptions;
+        }
+
+        synchronized (fileLock) {
+
+            try (FileChannel channel =
+                         FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+                FileLock lock = channel.lock();
+
+                try {
+
+                    ByteBuffer buffer = ByteBuffer.allocate((int)channel.size());
+
+                    while(buffer.hasRemaining() && channel.read(buffer) >= 0) {
+
+                        // keep reading
+                    }
+
+                    buffer.flip();
+
+                    int valid = readRecords(buffer, descriptions);
+
+                    if (valid < buffer.limit()) {
+
+                        //
+                        // a partial record, or a corrupted file; the records appended from now on must start at a
+                        // record boundary
+                        //
+
+                        log.warn(
+                                "discarding " + (buffer.limit() - valid) + " unreadable byte(s) at the end of " + file);
+                        channel.truncate(valid);
+                    }
+                }
+                finally {
+
+                    lock.release();
+                }
+            }
+            catch(IOException e) {
+
+                log.warn("failed to load the " + version + " descriptions from " + file + ": " + e.getMessage());
+            }
+        }
+
+        log.debug(this + " loaded " + descriptions.size() + " " + version + " description(s) from " + file);
+
+        return descriptions;
+    }
+
+    /**
+     * Appends one record to the version file.
+     */
+    private void append(String version, String path, ModelNode description) throws IOException {
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        try (DataOutputStream dos = new DataOutputStream(baos)) {
+
+            dos.writeUTF(path);
+            description.writeExternal(dos);
+        }
+
+        byte[] record = baos.toByteArray();
+        ByteBuffer buffer = ByteBuffer.allocate(4 + record.length);
+        buffer.putInt(record.length).put(record).flip();
+
+        synchronized (fileLock) {
+
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+
+                throw new IOException("cannot create directory " + directory);
+            }
+
+            try (FileChannel channel = FileChannel.open(getFile(version).toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+
+                FileLock lock = channel.lock();
+
+                try {
+
+                    while(buffer.hasRemaining()) {
+
+                        channel.write(buffer);
+                    }
+                }
+                finally {
+
+                    lock.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads records from the buffer until its end, or until the first incomplete or unreadable record.
+     *
+     * @return the length of the buffer prefix made of complete, readable records.
+     */
+    private static int readRecords(ByteBuffer buffer, Map<String, ModelNode> descriptions) {
+
+        while(buffer.remaining() >= 4) {
+
+            int start = buffer.position();
+            int length = buffer.getInt();
+
+            if (length < 0 || length > buffer.remaining()) {
+
+                return start;
+            }
+
+            try (DataInputStream dis =
+                         new DataInputStream(new ByteArrayInputStream(buffer.array(), buffer.position(), length))) {
+
+                String path = dis.readUTF();
+                ModelNode description = new ModelNode();
+                description.readExternal(dis);
+                description.protect();
+
+                //
+                // a path may have been appended more than once, by concurrent misses; the last record wins
+                //
+
+                descriptions.put(path, description);
+            }
+            catch(Exception e) {
+
+                return start;
+            }
+
+            buffer.position(buffer.position() + length);
+        }
+
+        return buffer.position();
+    }
+
+    private ModelNode getAttributeDescription(String version, ManagementPath path, String attributeName,
+                                              JBossControllerClient client) throws JBossCliException {
+
+        if (attributeName == null) {
+
+            throw new IllegalArgumentException("null attribute name");
+        }
+
+        ModelNode description = getDescription(version, path, client);
+
+        if (description == null) {
+
+            throw new JBossCliException("no " + version + " description cached for " + path);
+        }
+
+        if (!description.hasDefined(Util.ATTRIBUTES)) {
+
+            return null;
+        }
+
+        ModelNode attributes = description.get(Util.ATTRIBUTES);
+
+        return attributes.hasDefined(attributeName) ? attributes.get(attributeName) : null;
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import io.novaordis.jboss.cli.model.ManagementPath;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Reads resource descriptions on behalf of ResourceDescriptionCache. Kept out of JBossControllerClient, whose public
+ * contract does not expose jboss types.
+ *
+ * @see ResourceDescriptionCache
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+interface ResourceDescriptionReader {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads the description of the resource: its attributes, with their types, and its child types. Operations are
+     * not included. The answer only depends on the server version, so it should be obtained via a
+     * ResourceDescriptionCache instead of being read from every server.
+     *
+     * @param path a concrete or wildcard path. For wildcard paths, the description of the first matching resource is
+     *             returned.
+     *
+     * @throws JBossCliException if the path is invalid (does not exist on controller).
+     */
+    ModelNode getResourceDescription(ManagementPath path) throws JBossCliException;
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli.model;
+
+import io.novaordis.jboss.cli.JBossCliException;
+
+/**
+ * An immutable (path, attribute name) pair, designating an attribute read. Used to batch reads.
+ *
+ * Correctly implements equals() and hashCode().
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public final class AttributeRead {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final ManagementPath path;
+    private final String attributeName;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    public AttributeRead(ManagementPath path, String attributeName) {
+
+        if (path == null) {
+
+            throw new IllegalArgumentException("null path");
+        }
+
+        if (attributeName == null) {
+
+            throw new IllegalArgumentException("null attribute name");
+        }
+
+        this.path = path;
+        this.attributeName = attributeName;
+    }
+
+    /**
+     * @exception JBossCliException if the path cannot be parsed.
+     */
+    public AttributeRead(String path, String attributeName) throws JBossCliException {
+
+        this(new ManagementPath(path), attributeName);
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    public ManagementPath getPath() {
+
+        return path;
+    }
+
+    public String getAttributeName() {
+
+        return attributeName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+
+            return true;
+        }
+
+        if (!(o instanceof AttributeRead)) {
+
+            return false;
+        }
+
+        AttributeRead that = (AttributeRead)o;
+
+        return path.equals(that.path) && attributeName.equals(that.attributeName);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return 31 * path.hashCode() + attributeName.hashCode();
+    }
+
+    @Override
+    public String toString() {
+
+        return path + ":" + attributeName;
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
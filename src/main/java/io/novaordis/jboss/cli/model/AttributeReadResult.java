@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli.model;
+
+import io.novaordis.jboss.cli.JBossCliException;
+
+/**
+ * The result of an individual attribute read that was part of a batch. A result carries either a value (which can be
+ * null, with the same semantics as JBossControllerClient.getAttributeValue()) or the failure of that specific read.
+ *
+ * @see io.novaordis.jboss.cli.JBossControllerClient#readAttributes(java.util.List)
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public final class AttributeReadResult {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    public static AttributeReadResult success(AttributeRead read, Object value) {
+
+        return new AttributeReadResult(read, value, null);
+    }
+
+    public static AttributeReadResult failure(AttributeRead read, JBossCliException failure) {
+
+        if (failure == null) {
+
+            throw new IllegalArgumentException("null failure");
+        }
+
+        return new AttributeReadResult(read, null, failure);
+    }
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final AttributeRead read;
+    private final Object value;
+    private final JBossCliException failure;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    private AttributeReadResult(AttributeRead read, Object value, JBossCliException failure) {
+
+        if (read == null) {
+
+            throw new IllegalArgumentException("null read");
+        }
+
+        this.read = read;
+        this.value = value;
+        this.failure = failure;
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    public AttributeRead getRead() {
+
+        return read;
+    }
+
+    public boolean isSuccess() {
+
+        return failure == null;
+    }
+
+    /**
+     * @return the attribute value. Always null for failed reads.
+     */
+    public Object getValue() {
+
+        return value;
+    }
+
+    /**
+     * @return the failure of this specific read, or null if the read was successful.
+     */
+    public JBossCliException getFailure() {
+
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+
+        return read + (failure == null ? "=" + value : " failed: " + failure.getMessage());
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -0,0 +1,504 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli.model;
+
+import io.novaordis.jboss.cli.JBossCliException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.dmr.Property;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable management resource path (for example "/subsystem=web/connector=http"). The path is parsed once, upon
+ * construction, without involving the CLI parser or a CommandContext, and the corresponding DMR "address" ModelNode
+ * list is pre-computed and kept for the lifetime of the instance.
+ *
+ * Values that contain '/', '=' or '"' can be double-quoted, and inside quotes '\' escapes the next character:
+ * /subsystem=naming/binding="java:global/a".
+ *
+ * A name can be the wildcard "*" (for example "/subsystem=datasources/data-source=*"). Operations addressed to a
+ * wildcard path are expanded by the controller, which executes them on all matching resources in one round trip.
+ *
+ * Correctly implements equals() and hashCode().
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public final class ManagementPath {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    public static final String WILDCARD = "*";
+
+    public static final ManagementPath ROOT = new ManagementPath(new String[0], new String[0]);
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * Builds the path corresponding to a DMR address, as found, for example, in the individual results of a wildcard
+     * operation.
+     *
+     * @param address a LIST of PROPERTY nodes, or of single-key OBJECT nodes. An UNDEFINED node means the root.
+     *
+     * @exception JBossCliException if the node is not a valid address.
+     */
+    public static ManagementPath fromAddress(ModelNode address) throws JBossCliException {
+
+        if (address == null) {
+
+            throw new IllegalArgumentException("null address");
+        }
+
+        if (!address.isDefined()) {
+
+            return ROOT;
+        }
+
+        if (!ModelType.LIST.equals(address.getType())) {
+
+            throw new JBossCliException("invalid address, not a LIST: " + address);
+        }
+
+        List<ModelNode> elements = address.asList();
+        String[] t = new String[elements.size()];
+        String[] n = new String[elements.size()];
+
+        for(int i = 0; i < t.length; i ++) {
+
+            Property p;
+
+            try {
+
+                p = elements.get(i).asProperty();
+            }
+            catch(IllegalArgumentException e) {
+
+                throw new JBossCliException("invalid address element: " + elements.get(i), e);
+            }
+
+            t[i] = p.getName();
+            n[i] = p.getValue().asString();
+        }
+
+        return new ManagementPath(t, n);
+    }
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final String[] types;
+    private final String[] names;
+
+    // protected ModelNode, cannot be modified
+    private final ModelNode address;
+
+    private final String literal;
+
+    private final boolean wildcard;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    /**
+     * @param path accepts "/", "" (both meaning the root), "/type=name/type2=name2" and "type=name/type2=name2".
+     *
+     * @exception JBossCliException if the path cannot be parsed.
+     */
+    public ManagementPath(String path) throws JBossCliException {
+
+        if (path == null) {
+
+            throw new IllegalArgumentException("null path");
+        }
+
+        List<String> t = new ArrayList<>();
+        List<String> n = new ArrayList<>();
+
+        parse(path, t, n);
+
+        this.types = t.toArray(new String[t.size()]);
+        this.names = n.toArray(new String[n.size()]);
+        this.address = buildAddress(types, names);
+        this.literal = buildLiteral(types, names);
+        this.wildcard = containsWildcard(names);
+    }
+
+    private ManagementPath(String[] types, String[] names) {
+
+        this.types = types;
+        this.names = names;
+        this.address = buildAddress(types, names);
+        this.literal = buildLiteral(types, names);
+        this.wildcard = containsWildcard(names);
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * @return the pre-computed, protected DMR address (a LIST of PROPERTY nodes), ready to be set as the "address" of
+     * an operation request. The instance is shared, and any attempt to modify it will fail.
+     */
+    public ModelNode getAddress() {
+
+        return address;
+    }
+
+    /**
+     * @return the number of path elements. The root has zero elements.
+     */
+    public int size() {
+
+        return types.length;
+    }
+
+    public boolean isRoot() {
+
+        return types.length == 0;
+    }
+
+    /**
+     * @return true if at least one of the names is the wildcard "*".
+     */
+    public boolean isWildcard() {
+
+        return wildcard;
+    }
+
+    /**
+     * @return true if the given path is matched by this path: they have the same types, in the same order, and each
+     * name is either equal to the corresponding name of the given path, or a wildcard. A path without wildcards only
+     * matches itself.
+     */
+    public boolean matches(ManagementPath path) {
+
+        if (path == null || path.types.length != types.length) {
+
+            return false;
+        }
+
+        for(int i = 0; i < types.length; i ++) {
+
+            if (!types[i].equals(path.types[i])) {
+
+                return false;
+            }
+
+            if (!WILDCARD.equals(names[i]) && !names[i].equals(path.names[i])) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @exception IndexOutOfBoundsException
+     */
+    public String getType(int index) {
+
+        return types[index];
+    }
+
+    /**
+     * @exception IndexOutOfBoundsException
+     */
+    public String getName(int index) {
+
+        return names[index];
+    }
+
+    /**
+     * @return the parent path, or null if this is the root.
+     */
+    public ManagementPath getParent() {
+
+        if (types.length == 0) {
+
+            return null;
+        }
+
+        return new ManagementPath(
+                Arrays.copyOf(types, types.length - 1), Arrays.copyOf(names, names.length - 1));
+    }
+
+    /**
+     * @return a new path, obtained by appending type=name to this path.
+     */
+    public ManagementPath append(String type, String name) {
+
+        if (type == null || type.isEmpty()) {
+
+            throw new IllegalArgumentException("null or empty type");
+        }
+
+        if (name == null || name.isEmpty()) {
+
+            throw new IllegalArgumentException("null or empty name");
+        }
+
+        String[] t = Arrays.copyOf(types, types.length + 1);
+        String[] n = Arrays.copyOf(names, names.length + 1);
+        t[types.length] = type;
+        n[names.length] = name;
+
+        return new ManagementPath(t, n);
+    }
+
+    /**
+     * @return the path in the canonical "/type=name/type2=name2" format. The root is rendered as "/".
+     */
+    public String getLiteral() {
+
+        return literal;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+
+            return true;
+        }
+
+        if (!(o instanceof ManagementPath)) {
+
+            return false;
+        }
+
+        ManagementPath that = (ManagementPath)o;
+
+        return Arrays.equals(types, that.types) && Arrays.equals(names, that.names);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return literal.hashCode();
+    }
+
+    @Override
+    public String toString() {
+
+        return literal;
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    static void parse(String path, List<String> types, List<String> names) throws JBossCliException {
+
+        int length = path.length();
+        int i = 0;
+
+        if (i < length && path.charAt(i) == '/') {
+
+            i ++;
+        }
+
+        StringBuilder token = new StringBuilder();
+
+        while(i < length) {
+
+            //
+            // type
+            //
+
+            token.setLength(0);
+
+            while(i < length && path.charAt(i) != '=' && path.charAt(i) != '/') {
+
+                token.append(path.charAt(i ++));
+            }
+
+            String type = token.toString().trim();
+
+            if (i == length && type.isEmpty()) {
+
+                //
+                // trailing slash
+                //
+
+                break;
+            }
+
+            if (i == length || path.charAt(i) != '=') {
+
+                throw new JBossCliException("invalid path \"" + path + "\": missing '=' after \"" + type + "\"");
+            }
+
+            if (type.isEmpty()) {
+
+                throw new JBossCliException("invalid path \"" + path + "\": empty type");
+            }
+
+            i ++;
+
+            //
+            // name, possibly quoted
+            //
+
+            token.setLength(0);
+
+            if (i < length && path.charAt(i) == '"') {
+
+                i ++;
+
+                boolean closed = false;
+
+                while(i < length) {
+
+                    char c = path.charAt(i ++);
+
+                    if (c == '\\' && i < length) {
+
+                        token.append(path.charAt(i ++));
+                    }
+                    else if (c == '"') {
+
+                        closed = true;
+                        break;
+                    }
+                    else {
+
+                        token.append(c);
+                    }
+                }
+
+                if (!closed) {
+
+                    throw new JBossCliException("invalid path \"" + path + "\": unbalanced quotes");
+                }
+
+                if (i < length && path.charAt(i) != '/') {
+
+                    throw new JBossCliException(
+                            "invalid path \"" + path + "\": unexpected character after quoted value");
+                }
+            }
+            else {
+
+                while(i < length && path.charAt(i) != '/') {
+
+                    char c = path.charAt(i ++);
+
+                    if (c == '=') {
+
+                        throw new JBossCliException("invalid path \"" + path + "\": unexpected '='");
+                    }
+
+                    token.append(c);
+                }
+            }
+
+            String name = token.toString();
+
+            if (name.isEmpty()) {
+
+                throw new JBossCliException("invalid path \"" + path + "\": empty value for \"" + type + "\"");
+            }
+
+            types.add(type);
+            names.add(name);
+
+            if (i < length) {
+
+                //
+                // skip the separator
+                //
+
+                i ++;
+            }
+        }
+    }
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    private static ModelNode buildAddress(String[] types, String[] names) {
+
+        ModelNode address = new ModelNode();
+        address.setEmptyList();
+
+        for(int i = 0; i < types.length; i ++) {
+
+            address.add(types[i], names[i]);
+        }
+
+        address.protect();
+        return address;
+    }
+
+    private static boolean containsWildcard(String[] names) {
+
+        for(String n: names) {
+
+            if (WILDCARD.equals(n)) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String buildLiteral(String[] types, String[] names) {
+
+        if (types.length == 0) {
+
+            return "/";
+        }
+
+        StringBuilder sb = new StringBuilder();
+
+        for(int i = 0; i < types.length; i ++) {
+
+            sb.append('/').append(types[i]).append('=');
+
+            String name = names[i];
+
+            if (name.indexOf('/') == -1 && name.indexOf('=') == -1 && name.indexOf('"') == -1) {
+
+                sb.append(name);
+            }
+            else {
+
+                sb.append('"');
+
+                for(int j = 0; j < name.length(); j ++) {
+
+                    char c = name.charAt(j);
+
+                    if (c == '"' || c == '\\') {
+
+                        sb.append('\\');
+                    }
+
+                    sb.append(c);
+                }
+
+                sb.append('"');
+            }
+        }
+
+        return sb.toString();
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli.model;
+
+import io.novaordis.jboss.cli.JBossCliException;
+import io.novaordis.jboss.cli.ModelNodeUtil;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.dmr.Property;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable, indexed in-memory copy of a management resource subtree, as returned by a recursive
+ * read-resource(include-runtime=true). The raw ModelNode is discarded after indexing: each resource is stored under
+ * its ManagementPath, and each attribute value under its name, so lookups by (path, attribute) are two hash lookups
+ * and involve no network round trip and no ModelNode traversal.
+ *
+ * Simple values are converted upon indexing, with the same rules as JBossControllerClient.getAttributeValue(). Complex
+ * values (OBJECT, LIST, PROPERTY) are kept as protected ModelNode instances. read-resource does not resolve
+ * expressions by default, so EXPRESSION values are kept as their "${...}" expression String; TYPE values are kept as
+ * the ModelType they designate, as ModelNodeUtil.walk() reports them. Attribute names, which repeat across resources
+ * of the same type, are shared between resources.
+ *
+ * The read-resource result does not differentiate between child types and OBJECT attributes; a key is considered a
+ * child type if its value is a non-empty OBJECT whose values are all OBJECT or UNDEFINED. Child types with no
+ * children are rendered by the controller as UNDEFINED, and they are indexed as undefined attributes.
+ *
+ * @see io.novaordis.jboss.cli.JBossControllerClient#getSnapshot(ManagementPath)
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public final class ResourceSnapshot {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * @param root the path of the resource the read-resource operation was addressed to.
+     * @param result the "result" node of the read-resource response (an OBJECT).
+     * @param timestamp the time the snapshot was taken, in milliseconds.
+     *
+     * @exception JBossCliException if the result is not an OBJECT.
+     */
+    public static ResourceSnapshot build(ManagementPath root, ModelNode result, long timestamp)
+            throws JBossCliException {
+
+        if (root == null) {
+
+            throw new IllegalArgumentException("null root");
+        }
+
+        if (result == null) {
+
+            throw new IllegalArgumentException("null result");
+        }
+
+        if (!ModelType.OBJECT.equals(result.getType())) {
+
+            throw new JBossCliException("not a read-resource result, expecting an OBJECT but got " + result.getType());
+        }
+
+        Map<ManagementPath, Resource> resources = new HashMap<>();
+        Map<String, String> names = new HashMap<>();
+
+        index(root, result, resources, names);
+
+        return new ResourceSnapshot(root, timestamp, resources);
+    }
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final ManagementPath root;
+    private final long timestamp;
+    private final Map<ManagementPath, Resource> resources;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    private ResourceSnapshot(ManagementPath root, long timestamp, Map<ManagementPath, Resource> resources) {
+
+        this.root = root;
+        this.timestamp = timestamp;
+        this.resources = resources;
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    public ManagementPath getRoot() {
+
+        return root;
+    }
+
+    /**
+     * @return the time the snapshot was taken, in milliseconds.
+     */
+    public long getTimestamp() {
+
+        return timestamp;
+    }
+
+    /**
+     * @return the number of resources in the snapshot, including the root.
+     */
+    public int size() {
+
+        return resources.size();
+    }
+
+    public boolean contains(ManagementPath path) {
+
+        return resources.containsKey(path);
+    }
+
+    /**
+     * @return the attribute value, or null if the resource is not in the snapshot, the attribute does not exist, or
+     * it is undefined. Complex values are returned as protected ModelNode instances.
+     */
+    public Object getAttributeValue(ManagementPath path, String attributeName) {
+
+        Resource r = resources.get(path);
+
+        return r == null ? null : r.attributes.get(attributeName);
+    }
+
+    /**
+     * @exception JBossCliException if the path cannot be parsed.
+     *
+     * @see ResourceSnapshot#getAttributeValue(ManagementPath, String)
+     */
+    public Object getAttributeValue(String path, String attributeName) throws JBossCliException {
+
+        return getAttributeValue(new ManagementPath(path), attributeName);
+    }
+
+    /**
+     * @return true if the resource is in the snapshot and has the attribute, even if the attribute is undefined.
+     */
+    public boolean hasAttribute(ManagementPath path, String attributeName) {
+
+        Resource r = resources.get(path);
+
+        return r != null && r.attributes.containsKey(attributeName);
+    }
+
+    /**
+     * @return the attribute names of the resource, or an empty set if the resource is not in the snapshot.
+     */
+    public Set<String> getAttributeNames(ManagementPath path) {
+
+        Resource r = resources.get(path);
+
+        return r == null ? Collections.emptySet() : Collections.unmodifiableSet(r.attributes.keySet());
+    }
+
+    /**
+     * @return the paths of the direct children of the resource, in the order returned by the controller, or an empty
+     * list if the resource is not in the snapshot or has no children.
+     */
+    public List<ManagementPath> getChildren(ManagementPath path) {
+
+        Resource r = resources.get(path);
+
+        return r == null ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(r.children));
+    }
+
+    /**
+     * @return the paths of all resources in the snapshot matched by the given (possibly wildcard) path.
+     *
+     * @see ManagementPath#matches(ManagementPath)
+     */
+    public List<ManagementPath> find(ManagementPath path) {
+
+        if (!path.isWildcard()) {
+
+            return contains(path) ? Collections.singletonList(path) : Collections.emptyList();
+        }
+
+        List<ManagementPath> result = new ArrayList<>();
+
+        for(ManagementPath p: resources.keySet()) {
+
+            if (path.matches(p)) {
+
+                result.add(p);
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+
+        return "ResourceSnapshot[" + root + ", " + resources.size() + " resource(s)]";
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    private static void index(ManagementPath path, ModelNode node, Map<ManagementPath, Resource> resources,
+                              Map<String, String> names) throws JBossCliException {
+
+        List<Property> properties = node.asPropertyList();
+
+        Map<String, Object> attributes = new HashMap<>(capacity(properties.size()));
+        List<ManagementPath> children = new ArrayList<>();
+
+        for(Property p: properties) {
+
+            ModelNode value = p.getValue();
+
+            if (isChildType(value)) {
+
+                String type = intern(p.getName(), names);
+
+                for(Property child: value.asPropertyList()) {
+
+                    ModelNode childNode = child.getValue();
+
+                    if (!childNode.isDefined()) {
+
+                        continue;
+                    }
+
+                    ManagementPath childPath = path.append(type, child.getName());
+                    children.add(childPath);
+                    index(childPath, childNode, resources, names);
+                }
+            }
+            else {
+
+                attributes.put(intern(p.getName(), names), toSnapshotValue(value));
+            }
+        }
+
+        resources.put(path, new Resource(attributes, children.toArray(new ManagementPath[children.size()])));
+    }
+
+    private static boolean isChildType(ModelNode value) {
+
+        if (!ModelType.OBJECT.equals(value.getType()) || value.keys().isEmpty()) {
+
+            return false;
+        }
+
+        for(String key: value.keys()) {
+
+            ModelType t = value.get(key).getType();
+
+            if (!ModelType.OBJECT.equals(t) && !ModelType.UNDEFINED.equals(t)) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static Object toSnapshotValue(ModelNode value) throws JBossCliException {
+
+        ModelType t = value.getType();
+
+        if (ModelType.OBJECT.equals(t) || ModelType.LIST.equals(t) || ModelType.PROPERTY.equals(t)) {
+
+            ModelNode copy = value.clone();
+            copy.protect();
+            return copy;
+        }
+
+        if (ModelType.EXPRESSION.equals(t)) {
+
+            return value.asString();
+        }
+
+        if (ModelType.TYPE.equals(t)) {
+
+            return value.asType();
+        }
+
+        return ModelNodeUtil.toValue(value);
+    }
+
+    private static String intern(String name, Map<String, String> names) {
+
+        String s = names.putIfAbsent(name, name);
+
+        return s == null ? name : s;
+    }
+
+    /**
+     * @return the initial HashMap capacity that holds the given number of entries without rehashing.
+     */
+    private static int capacity(int entries) {
+
+        return entries < 3 ? entries + 1 : (int)(entries / 0.75f) + 1;
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+    private static final class Resource {
+
+        private final Map<String, Object> attributes;
+        private final ManagementPath[] children;
+
+        Resource(Map<String, Object> attributes, ManagementPath[] children) {
+
+            this.attributes = attributes;
+            this.children = children;
+        }
+    }
+
+}
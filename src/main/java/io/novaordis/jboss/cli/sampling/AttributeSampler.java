@@ -0,0 +1,718 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli.sampling;
+
+import io.novaordis.jboss.cli.JBossCliException;
+import io.novaordis.jboss.cli.JBossControllerClient;
+import io.novaordis.jboss.cli.JBossControllerClientFactory;
+import io.novaordis.jboss.cli.model.AttributeRead;
+import io.novaordis.jboss.cli.model.AttributeReadResult;
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import io.novaordis.jboss.cli.model.ManagementPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Periodically samples attributes of management resources, on behalf of subscriptions.
+ *
+ * On each tick, all subscriptions that are due for the same controller are coalesced into a single composite
+ * read-attribute request, and identical reads are only sent once. Each controller is sampled on its own, on a bounded
+ * executor, and the tick does not wait for the samples: a slow or hung controller does not delay the others. A
+ * controller whose previous sample is still in progress is skipped, and its subscriptions stay due until the sample
+ * completes. The sampler keeps one connected client per controller, which is re-created on the next tick if a request
+ * fails.
+ *
+ * stop() does not wait for the samples in progress, it interrupts them. A sample collected by a task that was still
+ * running when stop() returned is dropped, and a client connected by such a task is disconnected instead of kept.
+ *
+ * The ticks are driven by an internal scheduler, once started, but they can also be triggered explicitly, with
+ * tick().
+ *
+ * Subscriptions created with subscribeToChanges() only receive the samples whose value differs from the previously
+ * delivered one, plus optional periodic heartbeats. The last delivered values are kept in a primitive table indexed
+ * by a slot that is reused after the subscription is cancelled, so suppressed samples are not allocated at all.
+ *
+ * Thread safe.
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class AttributeSampler {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    private static final Logger log = LoggerFactory.getLogger(AttributeSampler.class);
+
+    public static final long DEFAULT_RESOLUTION_MS = 250L;
+
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final JBossControllerClientFactory factory;
+    private final long resolutionMs;
+    private final ExecutorService readExecutor;
+
+    private final List<Subscription> subscriptions;
+    private final AtomicInteger subscriptionIdGenerator;
+
+    private final Map<JBossControllerAddress, JBossControllerClient> clients;
+
+    // serializes ticks; never held while sampling
+    private final Object tickLock;
+
+    // the samples dispatched and not completed yet, at most one per controller. An entry is removed by its own task,
+    // right before the task completes, or by stop()
+    private final Map<JBossControllerAddress, FutureTask<Void>> inFlight;
+
+    private final AtomicLong requestCount;
+
+    // all access, including to the subscriptions' slots, is synchronized on the table
+    private final ChangeTable changeTable;
+
+    private final AtomicLong suppressedCount;
+
+    // incremented by stop(); a task dispatched in an earlier generation does not keep clients and does not deliver
+    private volatile int generation;
+
+    // the deliveries hold the read lock, stop() takes the write lock to change the generation, so no sample is
+    // delivered after stop() returns
+    private final ReentrantReadWriteLock deliveryLock;
+
+    // null when stopped
+    private ScheduledExecutorService scheduler;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    public AttributeSampler(JBossControllerClientFactory factory) {
+
+        this(factory, DEFAULT_RESOLUTION_MS, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * @param resolutionMs the tick period. Subscription intervals are effectively rounded up to a multiple of it.
+     * @param parallelism the maximum number of controllers sampled at the same time.
+     */
+    public AttributeSampler(JBossControllerClientFactory factory, long resolutionMs, int parallelism) {
+
+        if (factory == null) {
+
+            throw new IllegalArgumentException("null factory");
+        }
+
+        if (resolutionMs <= 0) {
+
+            throw new IllegalArgumentException("invalid resolution " + resolutionMs);
+        }
+
+        if (parallelism <= 0) {
+
+            throw new IllegalArgumentException("invalid parallelism " + parallelism);
+        }
+
+        this.factory = factory;
+        this.resolutionMs = resolutionMs;
+        this.readExecutor = Executors.newFixedThreadPool(parallelism, r -> {
+
+            Thread t = new Thread(r, "attribute-sampler-reader");
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.subscriptions = new CopyOnWriteArrayList<>();
+        this.subscriptionIdGenerator = new AtomicInteger(0);
+        this.clients = new ConcurrentHashMap<>();
+        this.tickLock = new Object();
+        this.inFlight = new ConcurrentHashMap<>();
+        this.requestCount = new AtomicLong(0L);
+        this.changeTable = new ChangeTable();
+        this.suppressedCount = new AtomicLong(0L);
+        this.deliveryLock = new ReentrantReadWriteLock();
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * Subscribes for periodic samples of the given attribute. The first sample is collected on the next tick.
+     */
+    public Subscription subscribe(JBossControllerAddress address, AttributeRead read, long intervalMs,
+                                  SampleListener listener) {
+
+        return subscribe(address, read, intervalMs, listener, false, 0L);
+    }
+
+    public Subscription subscribe(JBossControllerAddress address, ManagementPath path, String attributeName,
+                                  long intervalMs, SampleListener listener) {
+
+        return subscribe(address, new AttributeRead(path, attributeName), intervalMs, listener);
+    }
+
+    /**
+     * Subscribes for periodic samples of the given attribute, but only delivers the samples whose value (or failure)
+     * differs from the previously delivered one. The first sample is always delivered.
+     *
+     * @param heartbeatMs if positive, an unchanged value is re-delivered, as a heartbeat sample, when the previous
+     *                    delivery is at least that old. Zero disables heartbeats.
+     *
+     * @see Sample#isHeartbeat()
+     */
+    public Subscription subscribeToChanges(JBossControllerAddress address, AttributeRead read, long intervalMs,
+                                           long heartbeatMs, SampleListener listener) {
+
+        if (heartbeatMs < 0) {
+
+            throw new IllegalArgumentException("invalid heartbeat " + heartbeatMs);
+        }
+
+        return subscribe(address, read, intervalMs, listener, true, heartbeatMs);
+    }
+
+    public Subscription subscribeToChanges(JBossControllerAddress address, ManagementPath path, String attributeName,
+                                           long intervalMs, long heartbeatMs, SampleListener listener) {
+
+        return subscribeToChanges(address, new AttributeRead(path, attributeName), intervalMs, heartbeatMs, listener);
+    }
+
+    /**
+     * @return true if the subscription was active.
+     */
+    public boolean unsubscribe(Subscription s) {
+
+        boolean removed = subscriptions.remove(s);
+
+        if (removed) {
+
+            if (s.isChangesOnly()) {
+
+                //
+                // a sample in progress for this subscription will not be delivered, and will not leave a value in the
+                // slot, which can be immediately reused
+                //
+
+                synchronized (changeTable) {
+
+                    changeTable.release(s.getSlot());
+                    s.setSlot(-1);
+                }
+            }
+
+            log.debug(this + " removed " + s);
+        }
+
+        return removed;
+    }
+
+    /**
+     * @return a snapshot of the active subscriptions.
+     */
+    public List<Subscription> getSubscriptions() {
+
+        return Collections.unmodifiableList(new ArrayList<>(subscriptions));
+    }
+
+    public long getResolutionMs() {
+
+        return resolutionMs;
+    }
+
+    /**
+     * @return the number of requests sent to controllers since the sampler was created. Each request carries all
+     * the reads due for a controller on a tick.
+     */
+    public long getRequestCount() {
+
+        return requestCount.get();
+    }
+
+    /**
+     * @return the number of samples collected for changes-only subscriptions and not delivered, because their value
+     * did not change, since the sampler was created.
+     */
+    public long getSuppressedCount() {
+
+        return suppressedCount.get();
+    }
+
+    /**
+     * Starts ticking every resolutionMs. Idempotent.
+     */
+    public synchronized void start() {
+
+        if (scheduler != null) {
+
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+
+            Thread t = new Thread(r, "attribute-sampler");
+            t.setDaemon(true);
+            return t;
+        });
+
+        scheduler.scheduleAtFixedRate(() -> {
+
+            try {
+
+                tick(System.currentTimeMillis());
+            }
+            catch(Throwable t) {
+
+                //
+                // an exception would cancel the periodic execution
+                //
+
+                log.warn(this + " tick failed", t);
+            }
+
+        }, 0, resolutionMs, TimeUnit.MILLISECONDS);
+
+        log.debug(this + " started");
+    }
+
+    public synchronized boolean isStarted() {
+
+        return scheduler != null;
+    }
+
+    /**
+     * Stops ticking, interrupts the samples in progress and disconnects from all controllers. It does not wait for the
+     * interrupted samples, but their results are dropped: no sample is delivered after stop() returns. It waits for
+     * the deliveries already in progress, unless it is invoked by a listener. The sampler can be restarted. Idempotent.
+     */
+    public synchronized void stop() {
+
+        if (scheduler != null) {
+
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+
+        if (deliveryLock.getReadHoldCount() > 0) {
+
+            //
+            // invoked by a listener, the write lock cannot be acquired; this thread does not deliver anything else
+            //
+
+            generation++;
+        }
+        else {
+
+            deliveryLock.writeLock().lock();
+
+            try {
+
+                generation++;
+            }
+            finally {
+
+                deliveryLock.writeLock().unlock();
+            }
+        }
+
+        for(Map.Entry<JBossControllerAddress, FutureTask<Void>> e: inFlight.entrySet()) {
+
+            e.getValue().cancel(true);
+            inFlight.remove(e.getKey(), e.getValue());
+        }
+
+        //
+        // a task of the previous generation that connects a client after this point disconnects it itself
+        //
+
+        for(Map.Entry<JBossControllerAddress, JBossControllerClient> e: clients.entrySet()) {
+
+            if (clients.remove(e.getKey(), e.getValue())) {
+
+                disconnectQuietly(e.getValue());
+            }
+        }
+
+        log.debug(this + " stopped");
+    }
+
+    /**
+     * Stops the sampler and releases its threads. The sampler cannot be used afterwards.
+     */
+    public void shutdown() {
+
+        stop();
+        readExecutor.shutdownNow();
+    }
+
+    /**
+     * Dispatches the samples of all subscriptions that are due at the given time, one task per controller, and returns
+     * without waiting for them. The controllers whose previous sample is still in progress are skipped. Normally
+     * invoked by the internal scheduler, but it can be invoked explicitly.
+     *
+     * @see AttributeSampler#awaitSamples(long)
+     *
+     * @return the number of requests dispatched (one per controller with due subscriptions).
+     */
+    public int tick(long now) {
+
+        Map<JBossControllerAddress, FutureTask<Void>> dispatched = new LinkedHashMap<>();
+
+        synchronized (tickLock) {
+
+            int g = generation;
+            Map<JBossControllerAddress, List<Subscription>> due = new LinkedHashMap<>();
+
+            for(Subscription s: subscriptions) {
+
+                if (s.getNextDueMs() > now || inFlight.containsKey(s.getControllerAddress())) {
+
+                    continue;
+                }
+
+                due.computeIfAbsent(s.getControllerAddress(), a -> new ArrayList<>()).add(s);
+                s.advance(now);
+            }
+
+            for(Map.Entry<JBossControllerAddress, List<Subscription>> e: due.entrySet()) {
+
+                JBossControllerAddress address = e.getKey();
+                List<Subscription> ss = e.getValue();
+
+                FutureTask<Void> task = new FutureTask<Void>(() -> sample(address, ss, now, g), null) {
+
+                    //
+                    // leave the in-flight map before the waiters are released
+                    //
+
+                    @Override
+                    protected void set(Void v) {
+
+                        inFlight.remove(address, this);
+                        super.set(v);
+                    }
+
+                    @Override
+                    protected void setException(Throwable t) {
+
+                        inFlight.remove(address, this);
+                        super.setException(t);
+                    }
+                };
+
+                inFlight.put(address, task);
+                dispatched.put(address, task);
+            }
+        }
+
+        for(Map.Entry<JBossControllerAddress, FutureTask<Void>> e: dispatched.entrySet()) {
+
+            try {
+
+                readExecutor.execute(e.getValue());
+            }
+            catch(RejectedExecutionException ree) {
+
+                //
+                // shut down
+                //
+
+                inFlight.remove(e.getKey(), e.getValue());
+                log.debug(this + " failed to dispatch the sample of " + e.getKey() + ": " + ree.getMessage());
+            }
+        }
+
+        return dispatched.size();
+    }
+
+    /**
+     * Waits until the samples dispatched so far are delivered.
+     *
+     * @return false if the timeout expired first.
+     */
+    public boolean awaitSamples(long timeoutMs) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + timeoutMs;
+
+        for(FutureTask<Void> t: new ArrayList<>(inFlight.values())) {
+
+            try {
+
+                t.get(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            }
+            catch(TimeoutException e) {
+
+                return false;
+            }
+            catch(ExecutionException | CancellationException e) {
+
+                //
+                // sample() does not throw, the task was cancelled by stop()
+                //
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public String toString() {
+
+        return "AttributeSampler[" + subscriptions.size() + " subscription(s)]";
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    private Subscription subscribe(JBossControllerAddress address, AttributeRead read, long intervalMs,
+                                   SampleListener listener, boolean changesOnly, long heartbeatMs) {
+
+        if (address == null) {
+
+            throw new IllegalArgumentException("null controller address");
+        }
+
+        if (read == null) {
+
+            throw new IllegalArgumentException("null read");
+        }
+
+        if (intervalMs <= 0) {
+
+            throw new IllegalArgumentException("invalid interval " + intervalMs);
+        }
+
+        if (listener == null) {
+
+            throw new IllegalArgumentException("null listener");
+        }
+
+        Subscription s = new Subscription(subscriptionIdGenerator.getAndIncrement(), address, read, intervalMs,
+                listener, Long.MIN_VALUE, changesOnly, heartbeatMs);
+
+        if (changesOnly) {
+
+            synchronized (changeTable) {
+
+                s.setSlot(changeTable.allocate());
+            }
+        }
+
+        subscriptions.add(s);
+
+        log.debug(this + " added " + s);
+
+        return s;
+    }
+
+    /**
+     * Sends one request for all the given subscriptions, which must belong to the same controller, and delivers the
+     * samples, unless the sampler was stopped since the given generation. Never throws exceptions.
+     */
+    private void sample(JBossControllerAddress address, List<Subscription> due, long now, int g) {
+
+        if (g != generation) {
+
+            return;
+        }
+
+        //
+        // identical reads are sent only once
+        //
+
+        Map<AttributeRead, Integer> indexes = new LinkedHashMap<>();
+        List<AttributeRead> reads = new ArrayList<>();
+
+        for(Subscription s: due) {
+
+            indexes.computeIfAbsent(s.getRead(), r -> {
+
+                reads.add(r);
+                return reads.size() - 1;
+            });
+        }
+
+        List<AttributeReadResult> results = null;
+        JBossCliException failure = null;
+        JBossControllerClient client = null;
+
+        try {
+
+            client = getClient(address, g);
+            requestCount.incrementAndGet();
+            results = client.readAttributes(reads);
+        }
+        catch(JBossCliException | RuntimeException e) {
+
+            log.debug(this + " failed to sample " + address + ": " + e.getMessage());
+
+            failure = e instanceof JBossCliException ? (JBossCliException)e : new JBossCliException(e);
+
+            //
+            // only discard the client this task used, the controller may already have a newer one
+            //
+
+            if (client != null && clients.remove(address, client)) {
+
+                disconnectQuietly(client);
+            }
+        }
+
+        deliveryLock.readLock().lock();
+
+        try {
+
+            if (g == generation) {
+
+                deliver(due, indexes, results, failure, now);
+            }
+            else {
+
+                log.debug(this + " stopped while sampling " + address + ", dropping the samples");
+            }
+        }
+        finally {
+
+            deliveryLock.readLock().unlock();
+        }
+    }
+
+    private void deliver(List<Subscription> due, Map<AttributeRead, Integer> indexes,
+                         List<AttributeReadResult> results, JBossCliException failure, long now) {
+
+        for(Subscription s: due) {
+
+            Object value = null;
+            JBossCliException sampleFailure = failure;
+
+            if (failure == null) {
+
+                AttributeReadResult r = results.get(indexes.get(s.getRead()));
+                value = r.getValue();
+                sampleFailure = r.getFailure();
+            }
+
+            boolean heartbeat = false;
+
+            if (s.isChangesOnly()) {
+
+                ChangeTable.Delivery d;
+
+                synchronized (changeTable) {
+
+                    if (s.getSlot() < 0) {
+
+                        //
+                        // unsubscribed while sampling
+                        //
+
+                        continue;
+                    }
+
+                    d = changeTable.update(s.getSlot(), value, sampleFailure, now, s.getHeartbeatMs());
+                }
+
+                if (d == null) {
+
+                    suppressedCount.incrementAndGet();
+                    continue;
+                }
+
+                heartbeat = d == ChangeTable.Delivery.HEARTBEAT;
+            }
+
+            Sample sample = new Sample(s, now, value, sampleFailure, heartbeat);
+
+            try {
+
+                s.getListener().onSample(sample);
+            }
+            catch(RuntimeException e) {
+
+                log.warn("sample listener for " + s + " failed", e);
+            }
+        }
+    }
+
+    private JBossControllerClient getClient(JBossControllerAddress address, int g) throws JBossCliException {
+
+        JBossControllerClient client = clients.get(address);
+
+        if (client != null && client.isConnected()) {
+
+            return client;
+        }
+
+        client = factory.buildControllerClient(address);
+        client.connect();
+        clients.put(address, client);
+
+        if (g != generation) {
+
+            //
+            // stopped while connecting; stop() may or may not have seen the client, whoever removes it disconnects it
+            //
+
+            if (clients.remove(address, client)) {
+
+                disconnectQuietly(client);
+            }
+
+            throw new JBossCliException(this + " was stopped");
+        }
+
+        return client;
+    }
+
+    private static void disconnectQuietly(JBossControllerClient client) {
+
+        try {
+
+            if (client.isConnected()) {
+
+                client.disconnect();
+            }
+        }
+        catch(Exception e) {
+
+            log.warn("failed to disconnect " + client + ": " + e.getMessage());
+        }
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
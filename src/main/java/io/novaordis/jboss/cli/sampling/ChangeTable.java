@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli.sampling;
+
+import io.novaordis.jboss.cli.JBossCliException;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The last delivered value of each change-detection subscription, kept in parallel primitive arrays indexed by a slot
+ * that is allocated when the subscription is created, and released when it is cancelled. Released slots are reused
+ * before the table grows, so its size is bounded by the largest number of simultaneously active subscriptions, not by
+ * the number of subscriptions ever created. Numeric and boolean values are stored and compared as raw long bits, so
+ * unchanged values are detected without allocating; other values are compared with equals() (array contents for
+ * byte[]). Consecutive failures with the same message are also considered unchanged.
+ *
+ * Not thread safe. The sampler synchronizes all access on the table instance, so the reader threads never see the
+ * arrays being replaced, or a slot being released and reused, concurrently.
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+final class ChangeTable {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    static final int DEFAULT_CAPACITY = 64;
+
+    // value kinds; EMPTY means nothing was delivered yet
+    private static final byte EMPTY = 0;
+    private static final byte NULL = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte BOOLEAN = 5;
+    private static final byte OBJECT = 6;
+    private static final byte FAILURE = 7;
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private byte[] kinds;
+    private long[] bits;
+    private Object[] references;
+    private long[] lastDeliveryMs;
+
+    // slots [0, size) have been handed out at least once; the released ones are stacked in free[0, freeCount)
+    private int size;
+    private int[] free;
+    private int freeCount;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    ChangeTable() {
+
+        this(DEFAULT_CAPACITY);
+    }
+
+    ChangeTable(int capacity) {
+
+        if (capacity <= 0) {
+
+            throw new IllegalArgumentException("invalid capacity " + capacity);
+        }
+
+        this.kinds = new byte[capacity];
+        this.bits = new long[capacity];
+        this.references = new Object[capacity];
+        this.lastDeliveryMs = new long[capacity];
+        this.free = new int[capacity];
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    /**
+     * @return an empty slot: the most recently released one, if any, or the next unused one, in which case the table
+     * doubles its size if it is full.
+     */
+    int allocate() {
+
+        if (freeCount > 0) {
+
+            return free[--freeCount];
+        }
+
+        if (size == kinds.length) {
+
+            int capacity = kinds.length * 2;
+
+            kinds = Arrays.copyOf(kinds, capacity);
+            bits = Arrays.copyOf(bits, capacity);
+            references = Arrays.copyOf(references, capacity);
+            lastDeliveryMs = Arrays.copyOf(lastDeliveryMs, capacity);
+            free = Arrays.copyOf(free, capacity);
+        }
+
+        return size ++;
+    }
+
+    /**
+     * Forgets the last value stored in the slot, and makes the slot available to allocate().
+     */
+    void release(int slot) {
+
+        if (slot < 0 || slot >= size) {
+
+            throw new IllegalArgumentException("invalid slot " + slot);
+        }
+
+        kinds[slot] = EMPTY;
+        bits[slot] = 0L;
+        references[slot] = null;
+        lastDeliveryMs[slot] = 0L;
+
+        free[freeCount ++] = slot;
+    }
+
+    int capacity() {
+
+        return kinds.length;
+    }
+
+    /**
+     * Records the sampled value (or failure) and decides whether it must be delivered.
+     *
+     * @param heartbeatMs if positive, an unchanged value is delivered anyway when the last delivery is at least that
+     *                    old.
+     *
+     * @return CHANGED if the value differs from the last delivered one (or is the first one), HEARTBEAT if the value
+     * did not change but a heartbeat is due, null if the value must be suppressed.
+     */
+    Delivery update(int slot, Object value, JBossCliException failure, long now, long heartbeatMs) {
+
+        byte kind;
+        long b = 0L;
+        Object reference = null;
+
+        if (failure != null) {
+
+            kind = FAILURE;
+            reference = failure.getMessage();
+        }
+        else if (value == null) {
+
+            kind = NULL;
+        }
+        else if (value instanceof Integer) {
+
+            kind = INT;
+            b = (Integer)value;
+        }
+        else if (value instanceof Long) {
+
+            kind = LONG;
+            b = (Long)value;
+        }
+        else if (value instanceof Double) {
+
+            kind = DOUBLE;
+            b = Double.doubleToLongBits((Double)value);
+        }
+        else if (value instanceof Boolean) {
+
+            kind = BOOLEAN;
+            b = (Boolean)value ? 1L : 0L;
+        }
+        else {
+
+            kind = OBJECT;
+            reference = value;
+        }
+
+        if (kinds[slot] == kind && bits[slot] == b && Objects.deepEquals(references[slot], reference)) {
+
+            if (heartbeatMs > 0 && now - lastDeliveryMs[slot] >= heartbeatMs) {
+
+                lastDeliveryMs[slot] = now;
+                return Delivery.HEARTBEAT;
+            }
+
+            return null;
+        }
+
+        kinds[slot] = kind;
+        bits[slot] = b;
+        references[slot] = reference;
+        lastDeliveryMs[slot] = now;
+
+        return Delivery.CHANGED;
+    }
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+    enum Delivery {
+
+        CHANGED,
+        HEARTBEAT
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli.sampling;
+
+import io.novaordis.jboss.cli.JBossCliException;
+
+/**
+ * A value sampled for a subscription, or the failure to sample it.
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public final class Sample {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final Subscription subscription;
+    private final long timestamp;
+    private final Object value;
+    private final JBossCliException failure;
+    private final boolean heartbeat;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    public Sample(Subscription subscription, long timestamp, Object value, JBossCliException failure) {
+
+        this(subscription, timestamp, value, failure, false);
+    }
+
+    public Sample(Subscription subscription, long timestamp, Object value, JBossCliException failure,
+                  boolean heartbeat) {
+
+        if (subscription == null) {
+
+            throw new IllegalArgumentException("null subscription");
+        }
+
+        this.subscription = subscription;
+        this.timestamp = timestamp;
+        this.value = value;
+        this.failure = failure;
+        this.heartbeat = heartbeat;
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    public Subscription getSubscription() {
+
+        return subscription;
+    }
+
+    /**
+     * @return the time (ms) of the tick that collected the sample.
+     */
+    public long getTimestamp() {
+
+        return timestamp;
+    }
+
+    public boolean isSuccess() {
+
+        return failure == null;
+    }
+
+    /**
+     * @return the sampled value. Always null for failed samples.
+     */
+    public Object getValue() {
+
+        return value;
+    }
+
+    /**
+     * @return the failure, or null if the sample was successfully collected.
+     */
+    public JBossCliException getFailure() {
+
+        return failure;
+    }
+
+    /**
+     * @return true if the sample was delivered to a changes-only subscription only because a heartbeat was due, and
+     * its value (or failure) is the same as the one of the previously delivered sample.
+     */
+    public boolean isHeartbeat() {
+
+        return heartbeat;
+    }
+
+    @Override
+    public String toString() {
+
+        return subscription.getRead() + "@" + timestamp +
+                (failure == null ? "=" + value : " failed: " + failure.getMessage());
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
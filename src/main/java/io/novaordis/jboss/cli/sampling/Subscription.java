@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli.sampling;
+
+import io.novaordis.jboss.cli.model.AttributeRead;
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+
+/**
+ * A request to periodically sample an attribute of a management resource of a specific controller. Created by
+ * AttributeSampler.subscribe().
+ *
+ * @see AttributeSampler#subscribe(JBossControllerAddress, AttributeRead, long, SampleListener)
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public final class Subscription {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private final int id;
+    private final JBossControllerAddress controllerAddress;
+    private final AttributeRead read;
+    private final long intervalMs;
+    private final SampleListener listener;
+    private final boolean changesOnly;
+    private final long heartbeatMs;
+
+    // only accessed by the sampler, under its tick lock
+    private long nextDueMs;
+
+    // the change table slot of an active changes-only subscription, -1 otherwise. Only accessed by the sampler, while
+    // holding the change table's lock
+    private int slot;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    Subscription(int id, JBossControllerAddress controllerAddress, AttributeRead read, long intervalMs,
+                 SampleListener listener, long firstDueMs, boolean changesOnly, long heartbeatMs) {
+
+        this.id = id;
+        this.controllerAddress = controllerAddress;
+        this.read = read;
+        this.intervalMs = intervalMs;
+        this.listener = listener;
+        this.nextDueMs = firstDueMs;
+        this.changesOnly = changesOnly;
+        this.heartbeatMs = heartbeatMs;
+        this.slot = -1;
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * @return a small, non-negative integer, unique for the sampler that created the subscription.
+     */
+    public int getId() {
+
+        return id;
+    }
+
+    public JBossControllerAddress getControllerAddress() {
+
+        return controllerAddress;
+    }
+
+    public AttributeRead getRead() {
+
+        return read;
+    }
+
+    public long getIntervalMs() {
+
+        return intervalMs;
+    }
+
+    public SampleListener getListener() {
+
+        return listener;
+    }
+
+    /**
+     * @return true if only the samples whose value differs from the previously delivered one (and the heartbeats) are
+     * delivered to the listener.
+     *
+     * @see AttributeSampler#subscribeToChanges(JBossControllerAddress, AttributeRead, long, long, SampleListener)
+     */
+    public boolean isChangesOnly() {
+
+        return changesOnly;
+    }
+
+    /**
+     * @return the heartbeat period of a changes-only subscription, or 0 if no heartbeats are delivered.
+     */
+    public long getHeartbeatMs() {
+
+        return heartbeatMs;
+    }
+
+    @Override
+    public String toString() {
+
+        return "Subscription[" + id + ", " + controllerAddress + ", " + read + ", " + intervalMs + " ms" +
+                (changesOnly ? ", changes only" : "") + "]";
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    long getNextDueMs() {
+
+        return nextDueMs;
+    }
+
+    /**
+     * Advances the due time by one interval. Samples missed because of slow ticks are not made up for.
+     */
+    void advance(long now) {
+
+        nextDueMs += intervalMs;
+
+        if (nextDueMs <= now) {
+
+            nextDueMs = now + intervalMs;
+        }
+    }
+
+    int getSlot() {
+
+        return slot;
+    }
+
+    void setSlot(int slot) {
+
+        this.slot = slot;
+    }
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class ClasspathResolverTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    private static final String BASE = "modules/system/layers/base";
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private File home;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    @Before
+    public void setUp() throws Exception {
+
+        home = Files.createTempDirectory("jboss-home").toFile();
+
+        touch("jboss-modules.jar");
+        touch("bin/client/jboss-cli-client.jar");
+        touch(BASE + "/org/jboss/dmr/main/jboss-dmr-1.2.0.Final.jar");
+        touch(BASE + "/org/jboss/dmr/main/jboss-dmr-1.2.0.Final.jar.index");
+        touch(BASE + "/org/jboss/xnio/main/xnio-api-3.0.0.jar");
+        touch(BASE + "/org/jboss/xnio/main/xnio-api-3.0.1.jar");
+        touch(BASE + "/org/jboss/xnio/nio/main/xnio-nio-3.0.0.jar");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+
+        try (Stream<Path> s = Files.walk(home.toPath())) {
+
+            s.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void matches() throws Exception {
+
+        assertTrue(ClasspathResolver.matches("jboss-dmr-1.2.0.Final.jar", "jboss-dmr"));
+        assertFalse(ClasspathResolver.matches("jboss-dmr-1.2.0.Final.jar.index", "jboss-dmr"));
+        assertFalse(ClasspathResolver.matches("jboss-dmr-api-1.0.jar", "jboss-dmr"));
+        assertFalse(ClasspathResolver.matches("jboss-dmr.jar", "jboss-dmr"));
+        assertFalse(ClasspathResolver.matches("xnio-nio-3.0.0.jar", "xnio-api"));
+    }
+
+    @Test
+    public void overlay() throws Exception {
+
+        assertEquals("", ClasspathResolver.overlay(Paths.get("system/layers/base/org/a/main/a-1.jar")));
+        assertEquals("layer-base-jboss-eap-6.4.15.CP",
+                ClasspathResolver.overlay(Paths.get(
+                        "system/layers/base/.overlays/layer-base-jboss-eap-6.4.15.CP/org/a/main/a-1.jar")));
+    }
+
+    @Test
+    public void resolve() throws Exception {
+
+        ClasspathResolver.Resolution r = resolver().resolve();
+
+        assertEquals(Arrays.asList(
+                file("jboss-modules.jar"),
+                file("bin/client/jboss-cli-client.jar"),
+                file(BASE + "/org/jboss/dmr/main/jboss-dmr-1.2.0.Final.jar"),
+                file(BASE + "/org/jboss/xnio/main/xnio-api-3.0.1.jar"),
+                file(BASE + "/org/jboss/xnio/nio/main/xnio-nio-3.0.0.jar")), r.getJars());
+
+        assertTrue(r.getWatchedPaths().contains(file("modules")));
+        assertTrue(r.getWatchedPaths().contains(file(BASE + "/org/jboss/xnio/main")));
+    }
+
+    @Test
+    public void resolve_OverlayTakesPrecedenceRegardlessOfVersion() throws Exception {
+
+        touch(BASE + "/.overlays/.overlays");
+        touch(BASE + "/.overlays/layer-base-jboss-eap-6.4.1.CP/org/jboss/dmr/main/jboss-dmr-1.1.0.Final.jar");
+        touch(BASE + "/.overlays/layer-base-jboss-eap-6.4.2.CP/org/jboss/dmr/main/jboss-dmr-1.0.0.Final.jar");
+
+        ClasspathResolver.Resolution r = resolver().resolve();
+
+        assertEquals(
+                file(BASE + "/.overlays/layer-base-jboss-eap-6.4.2.CP/org/jboss/dmr/main/jboss-dmr-1.0.0.Final.jar"),
+                r.getJars().get(2));
+
+        assertTrue(r.getWatchedPaths().contains(file(BASE + "/.overlays")));
+        assertTrue(r.getWatchedPaths().contains(file(BASE + "/.overlays/.overlays")));
+    }
+
+    @Test
+    public void resolve_MissingDependency() throws Exception {
+
+        try {
+
+            new ClasspathResolver(home, Arrays.asList("jboss-dmr", "aesh")).resolve();
+            fail("should throw exception");
+        }
+        catch(IOException e) {
+
+            assertTrue(e.getMessage().startsWith("no JAR with a name starting with 'aesh' found in"));
+        }
+    }
+
+    @Test
+    public void resolve_MissingCliClientJar() throws Exception {
+
+        assertTrue(file("bin/client/jboss-cli-client.jar").delete());
+
+        try {
+
+            resolver().resolve();
+            fail("should throw exception");
+        }
+        catch(IOException e) {
+
+            assertTrue(e.getMessage().endsWith("jboss-cli-client.jar not found"));
+        }
+    }
+
+    @Test
+    public void getClasspath_Cache() throws Exception {
+
+        File cache = file("cache/classpath");
+        ClasspathResolver r = resolver();
+
+        assertNull(r.readCache(cache));
+
+        String classpath = r.getClasspath(cache);
+
+        assertTrue(cache.isFile());
+        assertEquals(r.resolve().getClasspath(), classpath);
+
+        List<String> lines = Files.readAllLines(cache.toPath());
+        assertEquals(home.getPath(), lines.get(0));
+        assertEquals(classpath, lines.get(1));
+
+        //
+        // served from cache
+        //
+
+        assertEquals(classpath, r.readCache(cache));
+
+        //
+        // a new version in a watched directory invalidates the cache
+        //
+
+        touch(BASE + "/org/jboss/xnio/main/xnio-api-3.0.2.jar");
+
+        // do not depend on the file system timestamp granularity
+        File d = file(BASE + "/org/jboss/xnio/main");
+        assertTrue(d.setLastModified(cache.lastModified() + 2000L));
+
+        assertNull(r.readCache(cache));
+
+        String classpath2 = r.getClasspath(cache);
+        assertTrue(classpath2.contains("xnio-api-3.0.2.jar"));
+        assertEquals(classpath2, Files.readAllLines(cache.toPath()).get(1));
+    }
+
+    @Test
+    public void readCache_DifferentInstallation() throws Exception {
+
+        File cache = file("cache/classpath");
+
+        resolver().getClasspath(cache);
+
+        ClasspathResolver other = new ClasspathResolver(file("modules"), Arrays.asList("jboss-dmr"));
+        assertNull(other.readCache(cache));
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    private ClasspathResolver resolver() {
+
+        return new ClasspathResolver(home, Arrays.asList("jboss-dmr", "xnio-api", "xnio-nio"));
+    }
+
+    private File file(String relativePath) {
+
+        return new File(home, relativePath);
+    }
+
+    private void touch(String relativePath) throws Exception {
+
+        File f = file(relativePath);
+        assertTrue(f.getParentFile().isDirectory() || f.getParentFile().mkdirs());
+        assertTrue(f.createNewFile());
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
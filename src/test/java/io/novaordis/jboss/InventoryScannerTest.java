@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class InventoryScannerTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private File dir;
+    private InventoryScanner scanner;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    @Before
+    public void setUp() throws Exception {
+
+        dir = Files.createTempDirectory("inventory").toFile();
+        scanner = new InventoryScanner(2, 3);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+
+        scanner.shutdown();
+
+        try (Stream<Path> s = Files.walk(dir.toPath())) {
+
+            s.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void parseVersionTxt() throws Exception {
+
+        assertEquals("6.4.0.GA", InventoryScanner.parseVersionTxt(
+                "Red Hat JBoss Enterprise Application Platform - Version 6.4.0.GA"));
+        assertNull(InventoryScanner.parseVersionTxt("something else"));
+        assertNull(InventoryScanner.parseVersionTxt(null));
+    }
+
+    @Test
+    public void fingerprint() throws Exception {
+
+        File home = installation("eap/jboss-eap-6.4", "JBoss Application Server: Command line interface",
+                "Red Hat JBoss Enterprise Application Platform - Version 6.4.0.GA",
+                "layer-base-jboss-eap-6.4.14.CP", "layer-base-jboss-eap-6.4.15.CP");
+
+        JBossInfo i = InventoryScanner.fingerprint(home);
+
+        assertTrue(i.isEAP());
+        assertEquals(6, i.getMajorVersion().intValue());
+        assertEquals("6.4.0.GA", i.getVersion());
+        assertEquals(Arrays.asList("layer-base-jboss-eap-6.4.14.CP", "layer-base-jboss-eap-6.4.15.CP"), i.getPatches());
+
+        //
+        // the shared, cached client JAR info was not modified
+        //
+
+        JBossInfo jarInfo = JBossUtil.fromClientJar(new File(home, "bin/client/jboss-cli-client.jar").getPath());
+        assertEquals("jar-version", jarInfo.getVersion());
+        assertTrue(jarInfo.getPatches().isEmpty());
+    }
+
+    @Test
+    public void fingerprint_NoVersionTxtNoPatches() throws Exception {
+
+        File home = installation("wildfly", "WildFly: Command line interface", null);
+
+        JBossInfo i = InventoryScanner.fingerprint(home);
+
+        assertEquals(7, i.getMajorVersion().intValue());
+        assertEquals("jar-version", i.getVersion());
+        assertTrue(i.getPatches().isEmpty());
+    }
+
+    @Test
+    public void fingerprint_NotAnInstallation() throws Exception {
+
+        try {
+
+            InventoryScanner.fingerprint(dir);
+            fail("should throw exception");
+        }
+        catch(IOException e) {
+
+            assertTrue(e.getMessage().startsWith("not a JBoss installation"));
+        }
+    }
+
+    @Test
+    public void scan() throws Exception {
+
+        File root1 = new File(dir, "root1");
+        File root2 = new File(dir, "root2");
+
+        installation("root1/a/jboss-eap-6.4", "JBoss Application Server: Command line interface", null);
+        installation("root1/b/c/wildfly", "WildFly: Command line interface", null);
+        installation("root2/jboss-eap-7.0", "WildFly: EJB and JMS client", null);
+        installation("root2/unknown", "Something Else", null);
+
+        // too deep
+        installation("root2/d/e/f/jboss-eap-6.3", "JBoss Application Server: Command line interface", null);
+
+        // nested installations are not looked for
+        installation("root2/jboss-eap-7.0/nested", "WildFly: Command line interface", null);
+
+        File missing = new File(dir, "no-such-root");
+
+        List<JBossInstallation> delivered = new ArrayList<>();
+
+        List<JBossInstallation> results = scanner.scan(Arrays.asList(root1, root2, missing), delivered::add);
+
+        assertEquals(results, delivered);
+        assertEquals(5, results.size());
+
+        Map<String, JBossInstallation> byName = new HashMap<>();
+
+        for(JBossInstallation r: results) {
+
+            byName.put(r.getHome().getName(), r);
+        }
+
+        assertEquals(6, byName.get("jboss-eap-6.4").getInfo().getMajorVersion().intValue());
+        assertEquals(7, byName.get("wildfly").getInfo().getMajorVersion().intValue());
+        assertEquals(7, byName.get("jboss-eap-7.0").getInfo().getMajorVersion().intValue());
+
+        JBossInstallation unknown = byName.get("unknown");
+        assertFalse(unknown.isSuccess());
+        assertTrue(unknown.getFailure().getMessage().startsWith("unrecognized client JAR"));
+
+        JBossInstallation m = byName.get("no-such-root");
+        assertFalse(m.isSuccess());
+        assertEquals(missing, m.getHome());
+    }
+
+    @Test
+    public void scan_CacheFlushedOncePerScan() throws Exception {
+
+        installation("root/jboss-eap-6.4", "JBoss Application Server: Command line interface", null);
+        installation("root/wildfly", "WildFly: Command line interface", null);
+
+        JBossInfoCache original = JBossUtil.getCache();
+        File file = new File(dir, "jboss-info");
+        JBossInfoCache cache = new JBossInfoCache(file);
+        JBossUtil.setCache(cache);
+
+        try {
+
+            List<JBossInstallation> results = scanner.scan(Collections.singletonList(new File(dir, "root")), r -> {
+
+                // not yet
+                assertFalse(file.exists());
+            });
+
+            assertEquals(2, results.size());
+            assertFalse(cache.isDirty());
+            assertEquals(2, Files.readAllLines(file.toPath()).size());
+        }
+        finally {
+
+            JBossUtil.setCache(original);
+        }
+    }
+
+    @Test
+    public void scan_NoRoots() throws Exception {
+
+        assertTrue(scanner.scan(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void scan_RootIsAnInstallation() throws Exception {
+
+        File home = installation("jboss-eap-6.4", "JBoss Application Server: Command line interface", null);
+
+        List<JBossInstallation> results = scanner.scan(Collections.singletonList(home));
+
+        assertEquals(1, results.size());
+        assertEquals(home, results.get(0).getHome());
+        assertTrue(results.get(0).isSuccess());
+    }
+
+    @Test
+    public void scan_AfterShutdown() throws Exception {
+
+        File home = installation("jboss-eap-6.4", "JBoss Application Server: Command line interface", null);
+
+        scanner.shutdown();
+
+        List<JBossInstallation> results = scanner.scan(Collections.singletonList(home));
+
+        assertEquals(1, results.size());
+        assertEquals(home, results.get(0).getHome());
+        assertFalse(results.get(0).isSuccess());
+    }
+
+    @Test
+    public void scan_ShutdownWhileScanning() throws Exception {
+
+        scanner.shutdown();
+        scanner = new InventoryScanner(1, 3);
+
+        for(int i = 0; i < 20; i ++) {
+
+            installation("root/jboss-eap-6.4-" + i, "JBoss Application Server: Command line interface", null);
+        }
+
+        //
+        // the first result is the missing root, and the walk of the other root may still be in progress when the
+        // scanner is shut down; the installations it finds from then on cannot be fingerprinted, but are reported
+        //
+
+        List<JBossInstallation> results = scanner.scan(
+                Arrays.asList(new File(dir, "no-such-root"), new File(dir, "root")), r -> scanner.shutdown());
+
+        assertEquals(21, results.size());
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    /**
+     * @param versionTxt the content of version.txt, or null if the installation has no version.txt.
+     */
+    private File installation(String relativePath, String clientJarTitle, String versionTxt, String... overlays)
+            throws Exception {
+
+        File home = new File(dir, relativePath);
+
+        assertTrue(new File(home, "bin/client").mkdirs());
+        assertTrue(new File(home, "jboss-modules.jar").createNewFile());
+
+        String clientJar = clientJarTitle.contains("EJB") ? "jboss-client.jar" : "jboss-cli-client.jar";
+        JBossInfoCacheTest.writeClientJar(new File(home, "bin/client/" + clientJar), clientJarTitle, "jar-version");
+
+        if (versionTxt != null) {
+
+            Files.write(new File(home, "version.txt").toPath(), (versionTxt + "\n").getBytes());
+        }
+
+        if (overlays.length > 0) {
+
+            File f = new File(home, InventoryScanner.OVERLAYS_FILE);
+            assertTrue(f.getParentFile().mkdirs());
+            Files.write(f.toPath(), Arrays.asList(overlays));
+        }
+
+        return home;
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class JBossInfoCacheTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes a JAR whose manifest contains the given Implementation-Title and Implementation-Version. Null values are
+     * omitted.
+     */
+    static File writeClientJar(File f, String title, String version) throws Exception {
+
+        Manifest m = new Manifest();
+        Attributes a = m.getMainAttributes();
+        a.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+
+        if (title != null) {
+
+            a.put(Attributes.Name.IMPLEMENTATION_TITLE, title);
+        }
+
+        if (version != null) {
+
+            a.put(Attributes.Name.IMPLEMENTATION_VERSION, version);
+        }
+
+        try (JarOutputStream jos = new JarOutputStream(new FileOutputStream(f), m)) {
+
+            jos.flush();
+        }
+
+        return f;
+    }
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private File dir;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    @Before
+    public void setUp() throws Exception {
+
+        dir = Files.createTempDirectory("jboss-info-cache").toFile();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+
+        try (Stream<Path> s = Files.walk(dir.toPath())) {
+
+            s.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void get_CachedUntilTheFileChanges() throws Exception {
+
+        File jar = writeClientJar(new File(dir, "jboss-cli-client.jar"),
+                "JBoss Application Server: Command line interface", "7.5.15.Final-redhat-2");
+
+        JBossInfoCache c = new JBossInfoCache();
+
+        JBossInfo i = c.get(jar);
+        assertNotNull(i);
+        assertTrue(i.isEAP());
+        assertEquals(6, i.getMajorVersion().intValue());
+        assertEquals("7.5.15.Final-redhat-2", i.getVersion());
+        assertEquals(0, c.getHitCount());
+        assertEquals(1, c.getMissCount());
+
+        assertSame(i, c.get(jar));
+        assertEquals(1, c.getHitCount());
+
+        //
+        // replaced with a different JAR
+        //
+
+        writeClientJar(jar, "WildFly: Command line interface", "2.1.0.Final");
+        assertTrue(jar.setLastModified(jar.lastModified() + 2000L));
+
+        JBossInfo i2 = c.get(jar);
+        assertEquals(7, i2.getMajorVersion().intValue());
+        assertEquals("2.1.0.Final", i2.getVersion());
+        assertEquals(2, c.getMissCount());
+    }
+
+    @Test
+    public void get_NegativeResultIsCached() throws Exception {
+
+        File jar = writeClientJar(new File(dir, "something.jar"), "Something Else", "1.0");
+
+        JBossInfoCache c = new JBossInfoCache();
+
+        assertNull(c.get(jar));
+        assertNull(c.get(jar));
+        assertEquals(1, c.getMissCount());
+        assertEquals(1, c.getHitCount());
+    }
+
+    @Test
+    public void persistence() throws Exception {
+
+        File jar = writeClientJar(new File(dir, "jboss-client.jar"),
+                "WildFly: EJB and JMS client combined jar", "7.0.0.GA-redhat-2");
+        File other = writeClientJar(new File(dir, "other.jar"), "Other", null);
+        File file = new File(dir, "cache/jboss-info");
+
+        JBossInfoCache c = new JBossInfoCache(file);
+        assertNotNull(c.get(jar));
+        assertNull(c.get(other));
+
+        //
+        // written on flush only
+        //
+
+        assertFalse(file.exists());
+        assertTrue(c.isDirty());
+
+        c.flush();
+        assertTrue(file.isFile());
+        assertFalse(c.isDirty());
+
+        JBossInfoCache c2 = new JBossInfoCache(file);
+        assertEquals(2, c2.size());
+
+        JBossInfo i = c2.get(jar);
+        assertEquals(1, c2.getHitCount());
+        assertEquals(0, c2.getMissCount());
+        assertTrue(i.isEAP());
+        assertEquals(7, i.getMajorVersion().intValue());
+        assertEquals("7.0.0.GA-redhat-2", i.getVersion());
+
+        assertNull(c2.get(other));
+        assertEquals(2, c2.getHitCount());
+    }
+
+    @Test
+    public void persistence_CorruptedFileIsIgnored() throws Exception {
+
+        File file = new File(dir, "jboss-info");
+        Files.write(file.toPath(), "this is not\ta valid line\n".getBytes());
+
+        JBossInfoCache c = new JBossInfoCache(file);
+        assertEquals(0, c.size());
+
+        File jar = writeClientJar(new File(dir, "jboss-cli-client.jar"),
+                "JBoss Application Server: Command line interface", null);
+
+        JBossInfo i = c.get(jar);
+        assertNull(i.getVersion());
+
+        c.flush();
+
+        List<String> lines = Files.readAllLines(file.toPath());
+        assertEquals(1, lines.size());
+    }
+
+    @Test
+    public void flush_OnlyWhenDirty() throws Exception {
+
+        File jar = writeClientJar(new File(dir, "jboss-cli-client.jar"),
+                "JBoss Application Server: Command line interface", null);
+        File file = new File(dir, "jboss-info");
+
+        JBossInfoCache c = new JBossInfoCache(file);
+
+        c.flush();
+        assertFalse(file.exists());
+
+        c.get(jar);
+        c.flush();
+        assertTrue(file.delete());
+
+        //
+        // hits do not make the cache dirty
+        //
+
+        c.get(jar);
+        assertEquals(1, c.getHitCount());
+        c.flush();
+        assertFalse(file.exists());
+
+        c.clear();
+        assertTrue(c.isDirty());
+        c.flush();
+        assertTrue(Files.readAllLines(file.toPath()).isEmpty());
+    }
+
+    @Test
+    public void flush_MemoryOnly() throws Exception {
+
+        File jar = writeClientJar(new File(dir, "jboss-cli-client.jar"),
+                "JBoss Application Server: Command line interface", null);
+
+        JBossInfoCache c = new JBossInfoCache();
+        c.get(jar);
+
+        // no-op
+        c.flush();
+        assertNull(c.getFile());
+    }
+
+    @Test
+    public void formatAndParse() throws Exception {
+
+        JBossInfo i = new JBossInfo();
+        i.setMajorVersion(6);
+        i.setVersion("7.5.0.Final-redhat-21");
+
+        String line = JBossInfoCache.format("/a\tb/c.jar", new JBossInfoCache.Entry(10L, 20L, i));
+
+        Map.Entry<String, JBossInfoCache.Entry> e = JBossInfoCache.parse(line);
+
+        assertEquals("/a\tb/c.jar", e.getKey());
+        assertEquals(10L, e.getValue().size);
+        assertEquals(20L, e.getValue().mtime);
+        assertTrue(e.getValue().info.isEAP());
+        assertEquals(6, e.getValue().info.getMajorVersion().intValue());
+        assertEquals("7.5.0.Final-redhat-21", e.getValue().info.getVersion());
+
+        e = JBossInfoCache.parse(JBossInfoCache.format("/x.jar", new JBossInfoCache.Entry(1L, 2L, null)));
+        assertNull(e.getValue().info);
+
+        assertNull(JBossInfoCache.parse("1\t2\teap\tnot-a-number\t-\t/x.jar"));
+        assertNull(JBossInfoCache.parse("1\t2\t3"));
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
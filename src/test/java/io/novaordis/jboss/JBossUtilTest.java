@@ -24,6 +24,7 @@ import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -147,6 +148,25 @@ public class JBossUtilTest {
         assertEquals(6, i.getMajorVersion().intValue());
     }
 
+    @Test
+    public void fromClientJar_VersionAndCaching() throws Exception {
+
+        File f = File.createTempFile("jboss-cli-client", ".jar");
+        f.deleteOnExit();
+
+        JBossInfoCacheTest.writeClientJar(
+                f, "JBoss Application Server: Command line interface", "7.5.15.Final-redhat-2");
+
+        JBossInfo i = JBossUtil.fromClientJar(f.getPath());
+        assertEquals(6, i.getMajorVersion().intValue());
+        assertEquals("7.5.15.Final-redhat-2", i.getVersion());
+
+        long hits = JBossUtil.getCache().getHitCount();
+
+        assertSame(i, JBossUtil.fromClientJar(f.getPath()));
+        assertEquals(hits + 1, JBossUtil.getCache().getHitCount());
+    }
+
     // Package protected -----------------------------------------------------------------------------------------------
 
     // Protected -------------------------------------------------------------------------------------------------------
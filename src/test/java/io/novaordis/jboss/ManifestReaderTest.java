@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class ManifestReaderTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private File dir;
+    private ManifestReader reader;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    @Before
+    public void setUp() throws Exception {
+
+        dir = Files.createTempDirectory("manifest-reader").toFile();
+        reader = new ManifestReader();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+
+        reader.close();
+
+        try (Stream<Path> s = Files.walk(dir.toPath())) {
+
+            s.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void read_Deflated() throws Exception {
+
+        //
+        // JarOutputStream writes the sizes in a data descriptor, after the entry data, so they are only available in
+        // the central directory
+        //
+
+        File jar = JBossInfoCacheTest.writeClientJar(
+                new File(dir, "a.jar"), "WildFly: Command line interface", "2.1.0.Final");
+
+        assertTrue(reader.read(jar));
+        assertEquals("WildFly: Command line interface", reader.getAttribute("Implementation-Title"));
+        assertEquals("2.1.0.Final", reader.getAttribute("Implementation-Version"));
+        assertEquals("1.0", reader.getAttribute("Manifest-Version"));
+        assertNull(reader.getAttribute("Implementation-Vendor"));
+        assertNull(reader.getAttribute("Implementation"));
+    }
+
+    @Test
+    public void read_StoredWithOtherEntriesAndComment() throws Exception {
+
+        String manifest = "Manifest-Version: 1.0\r\n" +
+                "Implementation-Title: JBoss Application Server: EJB and JMS client combined jar, a title lo\r\n" +
+                " ng enough to be continued on the next line\r\n" +
+                "Implementation-Version: 7.5.0.Final-redhat-21\r\n" +
+                "\r\n";
+
+        File jar = new File(dir, "b.jar");
+
+        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(jar))) {
+
+            zos.putNextEntry(new ZipEntry("META-INF/"));
+            zos.closeEntry();
+
+            byte[] content = manifest.getBytes(StandardCharsets.UTF_8);
+            ZipEntry e = new ZipEntry(ManifestReader.MANIFEST);
+            e.setMethod(ZipEntry.STORED);
+            e.setSize(content.length);
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            e.setCrc(crc.getValue());
+            zos.putNextEntry(e);
+            zos.write(content);
+            zos.closeEntry();
+
+            zos.putNextEntry(new ZipEntry("org/something/Something.class"));
+            zos.write(new byte[100]);
+            zos.closeEntry();
+
+            zos.setComment("an archive comment");
+        }
+
+        assertTrue(reader.read(jar));
+        assertEquals(manifest.length(), reader.getManifestLength());
+        assertEquals("JBoss Application Server: EJB and JMS client combined jar, a title long enough to be " +
+                "continued on the next line", reader.getAttribute("Implementation-Title"));
+        assertEquals("7.5.0.Final-redhat-21", reader.getAttribute("Implementation-Version"));
+    }
+
+    @Test
+    public void read_ReusedAcrossJars() throws Exception {
+
+        StringBuilder large = new StringBuilder();
+
+        for(int i = 0; i < 2000; i ++) {
+
+            large.append(i % 10);
+        }
+
+        File a = JBossInfoCacheTest.writeClientJar(new File(dir, "a.jar"), large.toString(), "1");
+        File b = JBossInfoCacheTest.writeClientJar(new File(dir, "b.jar"), "B", null);
+
+        assertTrue(reader.read(a));
+        assertEquals(large.toString(), reader.getAttribute("Implementation-Title"));
+
+        assertTrue(reader.read(b));
+        assertEquals("B", reader.getAttribute("Implementation-Title"));
+        assertNull(reader.getAttribute("Implementation-Version"));
+    }
+
+    @Test
+    public void read_NoManifest() throws Exception {
+
+        File f = new File(System.getProperty("basedir"), "src/test/resources/data/jar-without-manifest.jar");
+
+        assertFalse(reader.read(f));
+        assertEquals(-1, reader.getManifestLength());
+        assertNull(reader.getAttribute("Manifest-Version"));
+    }
+
+    @Test
+    public void read_InvalidJar() throws Exception {
+
+        File f = new File(System.getProperty("basedir"), "src/test/resources/data/invalid-jar-file.jar");
+
+        try {
+
+            reader.read(f);
+            fail("should throw exception");
+        }
+        catch(ZipException e) {
+
+            assertTrue(e.getMessage().contains("END header not found"));
+        }
+    }
+
+    @Test
+    public void read_Truncated() throws Exception {
+
+        File jar = JBossInfoCacheTest.writeClientJar(new File(dir, "a.jar"), "A", "1");
+        byte[] content = Files.readAllBytes(jar.toPath());
+
+        //
+        // drop the beginning of the file, the central directory now points to invalid offsets
+        //
+
+        File truncated = new File(dir, "truncated.jar");
+        Files.write(truncated.toPath(), Arrays.copyOfRange(content, 10, content.length));
+
+        try {
+
+            reader.read(truncated);
+            fail("should throw exception");
+        }
+        catch(ZipException e) {
+
+            assertTrue(e.getMessage().startsWith("invalid"));
+        }
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class ClientMetricsTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void bucket() throws Exception {
+
+        assertEquals(0, ClientMetrics.bucket(-1));
+        assertEquals(0, ClientMetrics.bucket(0));
+        assertEquals(0, ClientMetrics.bucket(1));
+        assertEquals(1, ClientMetrics.bucket(2));
+        assertEquals(1, ClientMetrics.bucket(3));
+        assertEquals(2, ClientMetrics.bucket(4));
+        assertEquals(10, ClientMetrics.bucket(1024));
+        assertEquals(62, ClientMetrics.bucket(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void initialState() throws Exception {
+
+        ClientMetrics m = new ClientMetrics(null);
+
+        assertNull(m.getControllerAddress());
+
+        for(OperationType t: OperationType.values()) {
+
+            assertEquals(0, m.getCount(t));
+            assertEquals(0, m.getFailureCount(t));
+            assertEquals(0, m.getTotalTimeNanos(t));
+            assertEquals(0, m.getMeanTimeNanos(t));
+            assertEquals(0, m.getMaxTimeNanos(t));
+            assertEquals(0, m.getPercentileNanos(t, 99));
+        }
+    }
+
+    @Test
+    public void recordDuration() throws Exception {
+
+        ClientMetrics m = new ClientMetrics(null);
+
+        m.recordDuration(OperationType.READ_ATTRIBUTE, 100, true);
+        m.recordDuration(OperationType.READ_ATTRIBUTE, 300, true);
+        m.recordDuration(OperationType.READ_ATTRIBUTE, 5000, false);
+
+        assertEquals(3, m.getCount(OperationType.READ_ATTRIBUTE));
+        assertEquals(1, m.getFailureCount(OperationType.READ_ATTRIBUTE));
+        assertEquals(5400, m.getTotalTimeNanos(OperationType.READ_ATTRIBUTE));
+        assertEquals(1800, m.getMeanTimeNanos(OperationType.READ_ATTRIBUTE));
+        assertEquals(5000, m.getMaxTimeNanos(OperationType.READ_ATTRIBUTE));
+
+        long[] histogram = m.getHistogram(OperationType.READ_ATTRIBUTE);
+        assertEquals(ClientMetrics.BUCKET_COUNT, histogram.length);
+        assertEquals(1, histogram[6]);
+        assertEquals(1, histogram[8]);
+        assertEquals(1, histogram[12]);
+
+        //
+        // other types are not affected
+        //
+
+        assertEquals(0, m.getCount(OperationType.CONNECT));
+    }
+
+    @Test
+    public void getPercentileNanos() throws Exception {
+
+        ClientMetrics m = new ClientMetrics(null);
+
+        for(int i = 0; i < 99; i ++) {
+
+            m.recordDuration(OperationType.COMPILE, 1000, true);
+        }
+
+        m.recordDuration(OperationType.COMPILE, 1000000, true);
+
+        //
+        // 1000 falls in the [512, 1024) bucket
+        //
+
+        assertEquals(1023, m.getPercentileNanos(OperationType.COMPILE, 50));
+        assertEquals(1023, m.getPercentileNanos(OperationType.COMPILE, 99));
+
+        //
+        // capped at the maximum
+        //
+
+        assertEquals(1000000, m.getPercentileNanos(OperationType.COMPILE, 100));
+    }
+
+    @Test
+    public void getPercentileNanos_InvalidPercentile() throws Exception {
+
+        ClientMetrics m = new ClientMetrics(null);
+
+        try {
+
+            m.getPercentileNanos(OperationType.COMPILE, 0);
+            fail("should throw exception");
+        }
+        catch(IllegalArgumentException e) {
+
+            assertTrue(e.getMessage().contains("invalid percentile"));
+        }
+    }
+
+    @Test
+    public void reset() throws Exception {
+
+        ClientMetrics m = new ClientMetrics(null);
+
+        m.recordDuration(OperationType.CONNECT, 1000, false);
+
+        m.reset();
+
+        assertEquals(0, m.getCount(OperationType.CONNECT));
+        assertEquals(0, m.getFailureCount(OperationType.CONNECT));
+        assertEquals(0, m.getMaxTimeNanos(OperationType.CONNECT));
+        assertEquals(0, m.getHistogram(OperationType.CONNECT)[9]);
+    }
+
+    @Test
+    public void concurrentRecording() throws Exception {
+
+        ClientMetrics m = new ClientMetrics(null);
+
+        Thread[] threads = new Thread[4];
+
+        for(int i = 0; i < threads.length; i ++) {
+
+            threads[i] = new Thread(() -> {
+
+                for(int j = 0; j < 10000; j ++) {
+
+                    m.recordDuration(OperationType.BATCH_READ, j, true);
+                }
+            });
+
+            threads[i].start();
+        }
+
+        for(Thread t: threads) {
+
+            t.join();
+        }
+
+        assertEquals(40000, m.getCount(OperationType.BATCH_READ));
+        assertEquals(9999, m.getMaxTimeNanos(OperationType.BATCH_READ));
+
+        long total = 0;
+
+        for(long c: m.getHistogram(OperationType.BATCH_READ)) {
+
+            total += c;
+        }
+
+        assertEquals(40000, total);
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import io.novaordis.jboss.cli.model.AttributeRead;
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import io.novaordis.jboss.cli.model.ManagementPath;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class CommandLineBatchTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void isBatch() throws Exception {
+
+        assertTrue(CommandLineBatch.isBatch(Arrays.asList("--controller=somehost", "--file=-")));
+        assertFalse(CommandLineBatch.isBatch(Arrays.asList("/a=b", "c")));
+    }
+
+    @Test
+    public void read() throws Exception {
+
+        String content =
+                "# a comment\n" +
+                "\n" +
+                "/a=b:c\n" +
+                "  /subsystem=naming/binding=\"java:global/x\" : value  \n" +
+                "--controller=otherhost:10000\n" +
+                "/a=b:d\n";
+
+        CommandLineBatch b = read(content);
+
+        assertEquals(3, b.size());
+
+        List<JBossControllerAddress> controllers = new ArrayList<>(b.getControllerAddresses());
+        assertEquals(2, controllers.size());
+        assertEquals(new JBossControllerAddress(), controllers.get(0));
+        assertEquals(new JBossControllerAddress("otherhost:10000"), controllers.get(1));
+
+        List<AttributeRead> reads = b.getReads(controllers.get(0));
+        assertEquals(2, reads.size());
+        assertEquals(new AttributeRead("/a=b", "c"), reads.get(0));
+        assertEquals(new ManagementPath("/subsystem=naming/binding=\"java:global/x\""), reads.get(1).getPath());
+        assertEquals("value", reads.get(1).getAttributeName());
+
+        assertEquals(Arrays.asList(new AttributeRead("/a=b", "d")), b.getReads(controllers.get(1)));
+    }
+
+    @Test
+    public void read_InvalidLine() throws Exception {
+
+        try {
+
+            read("/a=b:c\n/a=b\n");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            // the content of the line is not echoed
+            assertEquals("line 2: expected <path>:<attribute>", e.getMessage());
+        }
+    }
+
+    @Test
+    public void read_InvalidPath() throws Exception {
+
+        try {
+
+            read("/a:c\n");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertEquals("line 1: invalid path", e.getMessage());
+        }
+    }
+
+    @Test
+    public void parse_NoSuchFile() throws Exception {
+
+        try {
+
+            CommandLineBatch.parse(Arrays.asList("--file=/I/am/sure/this/file/does/not/exist"), null);
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().startsWith("no such file:"));
+        }
+    }
+
+    @Test
+    public void parse_StdinNotAvailable() throws Exception {
+
+        try {
+
+            CommandLineBatch.parse(Arrays.asList("--file=-"), null);
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertEquals("standard input not available", e.getMessage());
+        }
+    }
+
+    @Test
+    public void parse_PositionalArgumentsNotAllowed() throws Exception {
+
+        try {
+
+            CommandLineBatch.parse(Arrays.asList("--file=-", "/a=b"), null);
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("unexpected argument \"/a=b\""));
+        }
+    }
+
+    @Test
+    public void parse_File() throws Exception {
+
+        File f = File.createTempFile("batch", ".txt");
+        f.deleteOnExit();
+        Files.write(f.toPath(), "/a=b:c\n".getBytes(StandardCharsets.UTF_8));
+
+        CommandLineBatch b = CommandLineBatch.parse(
+                Arrays.asList("--controller=somehost:1000", "--file=" + f.getPath()), null);
+
+        assertEquals(1, b.size());
+        assertEquals(Arrays.asList(new AttributeRead("/a=b", "c")),
+                b.getReads(new JBossControllerAddress("somehost:1000")));
+    }
+
+    @Test
+    public void execute_ReadsAreGroupedIntoComposites() throws Exception {
+
+        MockCommandContext mcc = new MockCommandContext();
+        mcc.install("/a=b", "c", "d");
+        mcc.install("/a=b", "e", 1);
+        mcc.install("/a=f", "g", true);
+
+        List<JBossControllerClientImpl> clients = new ArrayList<>();
+
+        JBossControllerClientFactory f = address -> {
+
+            JBossControllerClientImpl c = new JBossControllerClientImpl(address);
+            c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+            clients.add(c);
+            return c;
+        };
+
+        CommandLineBatch b = read("/a=b:c\n/a=b:e\n/a=f:g\n");
+        b.setCompositeSize(2);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        int failures = b.execute(f, new PrintStream(out), new PrintStream(err));
+
+        assertEquals(0, failures);
+        assertEquals("/a=b:c=d\n/a=b:e=1\n/a=f:g=true\n", out.toString());
+        assertEquals("", err.toString());
+
+        // one connection, disconnected at the end, two composite operations
+        assertEquals(1, clients.size());
+        assertFalse(clients.get(0).isConnected());
+        assertEquals(2, clients.get(0).getMetrics().getCount(OperationType.BATCH_READ));
+    }
+
+    @Test
+    public void execute_ConnectionFailure() throws Exception {
+
+        JBossControllerClientFactory f = address -> {
+
+            throw new JBossCliException("SYNTHETIC");
+        };
+
+        CommandLineBatch b = read("/a=b:c\n--controller=otherhost\n/a=b:c\n/a=b:d\n");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        int failures = b.execute(f, new PrintStream(out), new PrintStream(err));
+
+        assertEquals(3, failures);
+        assertEquals("# jbosscli://localhost:9999\n# jbosscli://otherhost:9999\n", out.toString());
+        assertEquals("[error]: jbosscli://localhost:9999: SYNTHETIC\n[error]: jbosscli://otherhost:9999: SYNTHETIC\n",
+                err.toString());
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    private static CommandLineBatch read(String content) throws Exception {
+
+        return CommandLineBatch.read(new BufferedReader(new StringReader(content)), new JBossControllerAddress());
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class CommandLineDaemonTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private File tokenDirectory;
+    private AtomicInteger created;
+    private CommandLineDaemon daemon;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    @Before
+    public void setUp() throws Exception {
+
+        tokenDirectory = Files.createTempDirectory("jboss-cli-daemon").toFile();
+
+        MockCommandContext mcc = new MockCommandContext();
+        mcc.install("/", PooledJBossControllerClientFactory.VALIDATION_ATTRIBUTE, "7.5.0.Final-redhat-21");
+        mcc.install("/a=b", "c", "d");
+
+        created = new AtomicInteger();
+
+        JBossControllerClientFactory delegate = address -> {
+
+            JBossControllerClientImpl c = new JBossControllerClientImpl(address);
+            c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+            created.incrementAndGet();
+            return c;
+        };
+
+        daemon = new CommandLineDaemon(
+                0, new PooledJBossControllerClientFactory(delegate, 2, 60000, 1000), 2, tokenDirectory);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+
+        daemon.stop();
+
+        File[] files = tokenDirectory.listFiles();
+
+        if (files != null) {
+
+            for(File f: files) {
+
+                assertTrue(f.delete());
+            }
+        }
+
+        assertTrue(tokenDirectory.delete());
+    }
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void readToken() throws Exception {
+
+        String token = CommandLineDaemon.generateToken();
+        assertEquals(64, token.length());
+
+        InputStream is = new ByteArrayInputStream((token + "\n/a=b\0c\0\n").getBytes(StandardCharsets.UTF_8));
+        assertEquals(token, CommandLineDaemon.readToken(is));
+        assertEquals(Arrays.asList("/a=b", "c"), CommandLineDaemon.readRequest(is));
+    }
+
+    @Test
+    public void readToken_TooLong() throws Exception {
+
+        String request = CommandLineDaemon.generateToken() + "x\n/a=b\0c\0\n";
+        InputStream is = new ByteArrayInputStream(request.getBytes(StandardCharsets.UTF_8));
+
+        assertNull(CommandLineDaemon.readToken(is));
+
+        // the whole line is consumed
+        assertEquals(Arrays.asList("/a=b", "c"), CommandLineDaemon.readRequest(is));
+    }
+
+    @Test
+    public void skipLine() throws Exception {
+
+        InputStream is = new ByteArrayInputStream("/a=b\0c\0\nx".getBytes(StandardCharsets.UTF_8));
+
+        CommandLineDaemon.skipLine(is);
+
+        assertEquals('x', is.read());
+        CommandLineDaemon.skipLine(is);
+        assertEquals(-1, is.read());
+    }
+
+    @Test
+    public void readRequest() throws Exception {
+
+        InputStream is = new ByteArrayInputStream("/a=b\0c\0\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals(Arrays.asList("/a=b", "c"), CommandLineDaemon.readRequest(is));
+    }
+
+    @Test
+    public void readRequest_EmptyArgumentAndMissingLastTerminator() throws Exception {
+
+        InputStream is = new ByteArrayInputStream("\0x\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals(Arrays.asList("", "x"), CommandLineDaemon.readRequest(is));
+    }
+
+    @Test
+    public void readRequest_Incomplete() throws Exception {
+
+        InputStream is = new ByteArrayInputStream("/a=b\0c\0".getBytes(StandardCharsets.UTF_8));
+        assertNull(CommandLineDaemon.readRequest(is));
+    }
+
+    @Test
+    public void lifecycle() throws Exception {
+
+        assertFalse(daemon.isRunning());
+        assertEquals(-1, daemon.getPort());
+        assertNull(daemon.getTokenFile());
+
+        daemon.start();
+
+        assertTrue(daemon.isRunning());
+        assertTrue(daemon.getPort() > 0);
+
+        File tokenFile = daemon.getTokenFile();
+        assertEquals(CommandLineDaemon.getTokenFile(tokenDirectory, daemon.getPort()), tokenFile);
+
+        String[] content = new String(Files.readAllBytes(tokenFile.toPath()), StandardCharsets.UTF_8).trim().split(" ");
+        assertEquals(3, content.length);
+        assertEquals(Integer.toString(daemon.getPort()), content[0]);
+        assertTrue(content[1].matches("[0-9]+"));
+        assertEquals(daemon.getToken(), content[2]);
+
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+
+            assertEquals("rw-------",
+                    PosixFilePermissions.toString(Files.getPosixFilePermissions(tokenFile.toPath())));
+        }
+
+        daemon.stop();
+
+        assertFalse(daemon.isRunning());
+        assertFalse(tokenFile.exists());
+
+        // idempotent
+        daemon.stop();
+        daemon.awaitTermination();
+    }
+
+    @Test
+    public void request_ConnectionIsKeptWarm() throws Exception {
+
+        daemon.start();
+
+        assertEquals("0\n2 0\nd\n", send(Arrays.asList("/a=b", "c")));
+        assertEquals("0\n2 0\nd\n", send(Arrays.asList("/a=b", "c")));
+
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    public void request_Failure() throws Exception {
+
+        daemon.start();
+
+        String response = send(Arrays.asList("/a=b"));
+
+        assertEquals("1\n0 49\n[error]: at least one attribute name is required\n", response);
+    }
+
+    @Test
+    public void request_BatchWithFailedRead_BothStreamsAreSent() throws Exception {
+
+        File batch = new File(tokenDirectory, "batch.txt");
+        Files.write(batch.toPath(), "/a=b:c\n/no=such:c\n/a=b:c\n".getBytes(StandardCharsets.UTF_8));
+
+        daemon.start();
+
+        String response = send(Arrays.asList("--file=" + batch.getPath()));
+
+        // exit code, lengths, stderr, stdout
+        String[] lines = response.split("\n");
+        assertEquals(5, lines.length);
+        assertEquals("1", lines[0]);
+        assertTrue(lines[2].startsWith("[error]: /no=such:c: JBAS014883: No resource definition is registered"));
+        assertEquals("/a=b:c=d", lines[3]);
+        assertEquals("/a=b:c=d", lines[4]);
+
+        String[] lengths = lines[1].split(" ");
+        assertEquals(lines[3].length() + lines[4].length() + 2, Integer.parseInt(lengths[0]));
+        assertEquals(lines[2].length() + 1, Integer.parseInt(lengths[1]));
+    }
+
+    @Test
+    public void request_InvalidToken() throws Exception {
+
+        daemon.start();
+
+        String token = CommandLineDaemon.generateToken();
+        assertNotNull(token);
+
+        assertEquals("1\n0 31\n[error]: authentication failed\n", send(token, Arrays.asList("/a=b", "c")));
+        assertEquals("1\n0 31\n[error]: authentication failed\n", send("", Arrays.asList("/a=b", "c")));
+
+        // the rejected request is consumed, so the response is not lost to a connection reset
+        char[] large = new char[64 * 1024];
+        Arrays.fill(large, 'x');
+        assertEquals("1\n0 31\n[error]: authentication failed\n",
+                send(token, Arrays.asList("/a=b", new String(large))));
+        assertEquals(0, created.get());
+    }
+
+    @Test
+    public void shutdown() throws Exception {
+
+        daemon.start();
+
+        assertEquals("0\n0 0\n", send(Arrays.asList(CommandLineDaemon.SHUTDOWN)));
+
+        daemon.awaitTermination();
+        assertFalse(daemon.isRunning());
+    }
+
+    @Test
+    public void shutdown_InvalidToken() throws Exception {
+
+        daemon.start();
+
+        assertEquals("1\n0 31\n[error]: authentication failed\n",
+                send(CommandLineDaemon.generateToken(), Arrays.asList(CommandLineDaemon.SHUTDOWN)));
+
+        assertTrue(daemon.isRunning());
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    /**
+     * Sends a request the way the launcher does and returns the complete response.
+     */
+    private String send(List<String> args) throws Exception {
+
+        return send(daemon.getToken(), args);
+    }
+
+    private String send(String token, List<String> args) throws Exception {
+
+        try (Socket s = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort())) {
+
+            OutputStream os = s.getOutputStream();
+
+            os.write((token + "\n").getBytes(StandardCharsets.UTF_8));
+
+            for(String arg: args) {
+
+                os.write(arg.getBytes(StandardCharsets.UTF_8));
+                os.write(0);
+            }
+
+            os.write('\n');
+            os.flush();
+
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            InputStream is = s.getInputStream();
+            byte[] buffer = new byte[1024];
+            int r;
+
+            while((r = is.read(buffer)) != -1) {
+
+                baos.write(buffer, 0, r);
+            }
+
+            return new String(baos.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import io.novaordis.jboss.cli.model.ManagementPath;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class CommandLineRequestTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void parse_DefaultController() throws Exception {
+
+        CommandLineRequest r = CommandLineRequest.parse("/subsystem=web/connector=http", "bytesReceived");
+
+        assertEquals(new JBossControllerAddress(), r.getControllerAddress());
+        assertEquals(new ManagementPath("/subsystem=web/connector=http"), r.getPath());
+        assertEquals(Arrays.asList("bytesReceived"), r.getAttributeNames());
+    }
+
+    @Test
+    public void parse_ExplicitControllerAndSeveralAttributes() throws Exception {
+
+        CommandLineRequest r = CommandLineRequest.parse("--controller=admin:secret@somehost:9999", "/", "a", "b");
+
+        JBossControllerAddress a = r.getControllerAddress();
+        assertEquals("somehost", a.getHost());
+        assertEquals(9999, a.getPort().intValue());
+        assertEquals("admin", a.getUsername());
+        assertEquals(ManagementPath.ROOT, r.getPath());
+        assertEquals(Arrays.asList("a", "b"), r.getAttributeNames());
+    }
+
+    @Test
+    public void parse_UnknownOption() throws Exception {
+
+        try {
+
+            CommandLineRequest.parse("--no-such-option", "/", "a");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("unknown option --no-such-option"));
+        }
+    }
+
+    @Test
+    public void parse_NoArguments() throws Exception {
+
+        try {
+
+            CommandLineRequest.parse();
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("a management path and at least one attribute name are required"));
+        }
+    }
+
+    @Test
+    public void parse_NoAttribute() throws Exception {
+
+        try {
+
+            CommandLineRequest.parse("/a=b");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("at least one attribute name is required"));
+        }
+    }
+
+    @Test
+    public void parse_InvalidPath() throws Exception {
+
+        try {
+
+            CommandLineRequest.parse("/a", "b");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("invalid path"));
+        }
+    }
+
+    @Test
+    public void format() throws Exception {
+
+        assertEquals("", CommandLineRequest.format(null));
+        assertEquals("10", CommandLineRequest.format(10L));
+        assertEquals("[1, 2]", CommandLineRequest.format(new byte[] { 1, 2 }));
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
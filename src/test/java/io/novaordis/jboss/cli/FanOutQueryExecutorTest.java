@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import io.novaordis.jboss.cli.model.ManagementPath;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class FanOutQueryExecutorTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private FanOutQueryExecutor executor;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    @After
+    public void cleanup() {
+
+        if (executor != null) {
+
+            executor.shutdown();
+        }
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void constructor_InvalidParallelism() throws Exception {
+
+        try {
+
+            new FanOutQueryExecutor(a -> null, 0);
+            fail("should throw exception");
+        }
+        catch(IllegalArgumentException e) {
+
+            assertTrue(e.getMessage().contains("invalid parallelism"));
+        }
+    }
+
+    @Test
+    public void execute() throws Exception {
+
+        Map<String, MockCommandContext> contexts = new HashMap<>();
+        List<JBossControllerAddress> addresses = new ArrayList<>();
+
+        for(int i = 0; i < 5; i ++) {
+
+            MockCommandContext mcc = new MockCommandContext();
+            mcc.install("/", "release-version", "7.5." + i);
+            contexts.put("host" + i, mcc);
+            addresses.add(new JBossControllerAddress(null, null, "host" + i, 9999));
+        }
+
+        executor = new FanOutQueryExecutor(buildFactory(contexts), 3);
+
+        List<ControllerQueryResult<Object>> handled = new ArrayList<>();
+
+        List<ControllerQueryResult<Object>> results = executor.execute(
+                addresses, c -> c.getAttributeValue(ManagementPath.ROOT, "release-version"), handled::add, 0L);
+
+        assertEquals(5, results.size());
+        assertEquals(results, handled);
+
+        Set<String> versions = new HashSet<>();
+
+        for(ControllerQueryResult<Object> r: results) {
+
+            assertTrue(r.isSuccess());
+            assertNull(r.getFailure());
+            assertEquals("7.5." + r.getAddress().getHost().substring("host".length()), r.getValue());
+            versions.add((String)r.getValue());
+        }
+
+        assertEquals(5, versions.size());
+    }
+
+    @Test
+    public void execute_FailuresAreReportedPerController() throws Exception {
+
+        MockCommandContext good = new MockCommandContext();
+        good.install("/", "release-version", "7.5.0");
+
+        Map<String, MockCommandContext> contexts = new HashMap<>();
+        contexts.put("good", good);
+        contexts.put("bad", new MockCommandContext());
+
+        executor = new FanOutQueryExecutor(buildFactory(contexts), 2);
+
+        List<ControllerQueryResult<Object>> results = executor.execute(
+                Arrays.asList(
+                        new JBossControllerAddress(null, null, "good", 9999),
+                        new JBossControllerAddress(null, null, "bad", 9999),
+                        new JBossControllerAddress(null, null, "unknown", 9999)),
+                c -> c.getAttributeValue(ManagementPath.ROOT, "release-version"));
+
+        assertEquals(3, results.size());
+
+        int successes = 0;
+
+        for(ControllerQueryResult<Object> r: results) {
+
+            if ("good".equals(r.getAddress().getHost())) {
+
+                assertTrue(r.isSuccess());
+                assertEquals("7.5.0", r.getValue());
+                successes ++;
+            }
+            else {
+
+                assertFalse(r.isSuccess());
+                assertNull(r.getValue());
+                assertTrue(r.getFailure() instanceof JBossCliException);
+            }
+        }
+
+        assertEquals(1, successes);
+    }
+
+    @Test
+    public void execute_RunsInParallel() throws Exception {
+
+        Map<String, MockCommandContext> contexts = new HashMap<>();
+        List<JBossControllerAddress> addresses = new ArrayList<>();
+
+        for(int i = 0; i < 8; i ++) {
+
+            contexts.put("host" + i, new MockCommandContext());
+            addresses.add(new JBossControllerAddress(null, null, "host" + i, 9999));
+        }
+
+        executor = new FanOutQueryExecutor(buildFactory(contexts), 8);
+
+        long t0 = System.currentTimeMillis();
+
+        List<ControllerQueryResult<Object>> results = executor.execute(addresses, c -> {
+
+            try {
+
+                Thread.sleep(200);
+            }
+            catch(InterruptedException e) {
+
+                throw new JBossCliException(e);
+            }
+
+            return c.getControllerAddress().getHost();
+        });
+
+        long t1 = System.currentTimeMillis();
+
+        assertEquals(8, results.size());
+
+        //
+        // serially, it would have taken 1600 ms
+        //
+
+        assertTrue(t1 - t0 < 1000);
+    }
+
+    @Test
+    public void execute_Timeout() throws Exception {
+
+        Map<String, MockCommandContext> contexts = new HashMap<>();
+        contexts.put("fast", new MockCommandContext());
+        contexts.put("slow", new MockCommandContext());
+
+        executor = new FanOutQueryExecutor(buildFactory(contexts), 2);
+
+        List<ControllerQueryResult<Object>> results = executor.execute(
+                Arrays.asList(
+                        new JBossControllerAddress(null, null, "fast", 9999),
+                        new JBossControllerAddress(null, null, "slow", 9999)),
+                c -> {
+
+                    if ("slow".equals(c.getControllerAddress().getHost())) {
+
+                        try {
+
+                            Thread.sleep(10000);
+                        }
+                        catch(InterruptedException e) {
+
+                            throw new JBossCliException(e);
+                        }
+                    }
+
+                    return "ok";
+                },
+                null, 300L);
+
+        assertEquals(2, results.size());
+
+        ControllerQueryResult<Object> r = results.get(0);
+        assertEquals("fast", r.getAddress().getHost());
+        assertTrue(r.isSuccess());
+        assertEquals("ok", r.getValue());
+
+        r = results.get(1);
+        assertEquals("slow", r.getAddress().getHost());
+        assertFalse(r.isSuccess());
+        assertTrue(r.getFailure().getMessage().contains("timed out"));
+    }
+
+    @Test
+    public void execute_QueryRuntimeExceptionIsCaptured() throws Exception {
+
+        Map<String, MockCommandContext> contexts = new HashMap<>();
+        contexts.put("host", new MockCommandContext());
+
+        executor = new FanOutQueryExecutor(buildFactory(contexts), 1);
+
+        List<ControllerQueryResult<Object>> results = executor.execute(
+                Arrays.asList(new JBossControllerAddress(null, null, "host", 9999)),
+                c -> { throw new IllegalStateException("SYNTHETIC"); });
+
+        assertEquals(1, results.size());
+        assertEquals("SYNTHETIC", results.get(0).getFailure().getMessage());
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    /**
+     * A factory that binds each client to the mock context associated with its host. Clients for hosts with no
+     * associated context fail to connect.
+     */
+    private static JBossControllerClientFactory buildFactory(Map<String, MockCommandContext> contexts) {
+
+        return address -> {
+
+            MockCommandContext mcc = contexts.get(address.getHost());
+
+            if (mcc == null) {
+
+                throw new JBossCliException("cannot connect to " + address.getHost());
+            }
+
+            JBossControllerClientImpl c = new JBossControllerClientImpl(address);
+            c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+            return c;
+        };
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -16,6 +16,11 @@
 
 package io.novaordis.jboss.cli;
 
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
 /**
  * @author Ovidiu Feodorov <ovidiu@novaordis.com>
  * @since 6/14/17
@@ -32,6 +37,21 @@ public class JBossControllerClientFactoryImplTest extends JBossControllerClientF
 
     // Public ----------------------------------------------------------------------------------------------------------
 
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void connectionMode() throws Exception {
+
+        JBossControllerClientFactoryImpl f = new JBossControllerClientFactoryImpl();
+        assertEquals(ConnectionMode.COMMAND_CONTEXT, f.getConnectionMode());
+
+        f = new JBossControllerClientFactoryImpl(ConnectionMode.DIRECT);
+        assertEquals(ConnectionMode.DIRECT, f.getConnectionMode());
+
+        JBossControllerClientImpl c = (JBossControllerClientImpl)f.buildControllerClient(new JBossControllerAddress());
+        assertEquals(ConnectionMode.DIRECT, c.getConnectionMode());
+    }
+
     // Package protected -----------------------------------------------------------------------------------------------
 
     // Protected -------------------------------------------------------------------------------------------------------
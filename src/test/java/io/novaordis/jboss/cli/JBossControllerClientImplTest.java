@@ -16,6 +16,34 @@
 
 package io.novaordis.jboss.cli;
 
+import io.novaordis.jboss.cli.model.AttributeRead;
+import io.novaordis.jboss.cli.model.AttributeReadResult;
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import io.novaordis.jboss.cli.model.ManagementPath;
+import io.novaordis.jboss.cli.model.ResourceSnapshot;
+import org.jboss.as.cli.Util;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
 /**
  * @author Ovidiu Feodorov <ovidiu@novaordis.com>
  * @since 9/2/16
@@ -32,6 +60,722 @@ public class JBossControllerClientImplTest extends JBossControllerClientTest {
 
     // Public ----------------------------------------------------------------------------------------------------------
 
+    // getAttributeValue() ---------------------------------------------------------------------------------------------
+
+    @Test
+    public void getAttributeValue_CompiledRequestIsCached() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+
+        MockCommandContext mcc = new MockCommandContext();
+        c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+
+        mcc.install("/a=b", "c", "d");
+        mcc.install("/a=b", "e", "f");
+
+        c.connect();
+
+        OperationRequestCache cache = c.getRequestCache();
+
+        assertEquals("d", c.getAttributeValue("/a=b", "c"));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.size());
+
+        assertEquals("d", c.getAttributeValue("/a=b", "c"));
+        assertEquals("d", c.getAttributeValue("/a=b", "c"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        assertEquals("f", c.getAttributeValue("/a=b", "e"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+
+        c.disconnect();
+    }
+
+    // getMetrics() ----------------------------------------------------------------------------------------------------
+
+    @Test
+    public void getMetrics() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+
+        ClientMetrics m = c.getMetrics();
+        assertNotNull(m);
+        assertEquals(c.getControllerAddress(), m.getControllerAddress());
+
+        MockCommandContext mcc = new MockCommandContext();
+        c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+
+        mcc.install("/a=b", "c", "d");
+
+        c.connect();
+
+        assertEquals(1, m.getCount(OperationType.CONNECT));
+        assertEquals(0, m.getFailureCount(OperationType.CONNECT));
+
+        c.getAttributeValue("/a=b", "c");
+        c.getAttributeValue("/a=b", "c");
+
+        try {
+
+            c.getAttributeValue("/no=such", "c");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            // expected
+        }
+
+        assertEquals(3, m.getCount(OperationType.READ_ATTRIBUTE));
+        assertEquals(1, m.getFailureCount(OperationType.READ_ATTRIBUTE));
+        assertTrue(m.getTotalTimeNanos(OperationType.READ_ATTRIBUTE) > 0);
+
+        //
+        // the parser only ran for the first and the third read
+        //
+
+        assertEquals(2, m.getCount(OperationType.COMPILE));
+
+        c.getAttributeValues("/a=b", Collections.singletonList("c"));
+        assertEquals(1, m.getCount(OperationType.READ_ATTRIBUTES));
+
+        c.readAttributes(Collections.singletonList(new AttributeRead("/a=b", "c")));
+        assertEquals(1, m.getCount(OperationType.BATCH_READ));
+
+        c.getAttributeValueAsync(new ManagementPath("/a=b"), "c").get();
+        assertEquals(4, m.getCount(OperationType.READ_ATTRIBUTE));
+
+        c.disconnect();
+    }
+
+    @Test
+    public void getMetrics_CompileFailure() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+        c.setCommandContextFactory(new MockCommandContextFactory(new MockCommandContext()));
+        c.connect();
+
+        ClientMetrics m = c.getMetrics();
+
+        try {
+
+            c.getAttributeValue("/a=b=c", "d");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            // expected
+        }
+
+        try {
+
+            c.getAttributeValueAsync("/a=b=c", "d");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            // expected
+        }
+
+        //
+        // a request that cannot be compiled is not a read, on either path
+        //
+
+        assertEquals(2, m.getFailureCount(OperationType.COMPILE));
+        assertEquals(0, m.getCount(OperationType.READ_ATTRIBUTE));
+
+        c.disconnect();
+    }
+
+    // getWildcardAttributeValues() ------------------------------------------------------------------------------------
+
+    @Test
+    public void getWildcardAttributeValues() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+
+        MockCommandContext mcc = new MockCommandContext();
+        c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+
+        mcc.install("/subsystem=datasources/data-source=A", "ActiveCount", 1);
+        mcc.install("/subsystem=datasources/data-source=B", "ActiveCount", 2);
+        mcc.install("/subsystem=datasources/data-source=C", "ActiveCount", 3);
+        mcc.install("/subsystem=datasources/xa-data-source=X", "ActiveCount", 4);
+
+        c.connect();
+
+        MockModelControllerClient mmcc = (MockModelControllerClient)mcc.getModelControllerClient();
+        int before = mmcc.getExecutionCount();
+
+        Map<ManagementPath, Object> values =
+                c.getWildcardAttributeValues(new ManagementPath("/subsystem=datasources/data-source=*"), "ActiveCount");
+
+        //
+        // one round trip
+        //
+
+        assertEquals(before + 1, mmcc.getExecutionCount());
+
+        assertEquals(3, values.size());
+        assertEquals(1, values.get(new ManagementPath("/subsystem=datasources/data-source=A")));
+        assertEquals(2, values.get(new ManagementPath("/subsystem=datasources/data-source=B")));
+        assertEquals(3, values.get(new ManagementPath("/subsystem=datasources/data-source=C")));
+
+        assertEquals(1, c.getMetrics().getCount(OperationType.WILDCARD_READ));
+
+        c.disconnect();
+    }
+
+    @Test
+    public void getWildcardAttributeValues_NoWildcard() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+
+        MockCommandContext mcc = new MockCommandContext();
+        c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+        mcc.install("/a=b", "c", "d");
+        c.connect();
+
+        ManagementPath p = new ManagementPath("/a=b");
+        Map<ManagementPath, Object> values = c.getWildcardAttributeValues(p, "c");
+
+        assertEquals(1, values.size());
+        assertEquals("d", values.get(p));
+
+        c.disconnect();
+    }
+
+    @Test
+    public void getWildcardAttributeValues_NoMatch() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+
+        MockCommandContext mcc = new MockCommandContext();
+        c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+        mcc.install("/a=b", "c", "d");
+        c.connect();
+
+        assertTrue(c.getWildcardAttributeValues(new ManagementPath("/x=*"), "c").isEmpty());
+
+        c.disconnect();
+    }
+
+    @Test
+    public void getWildcardAttributeValues_NotConnected() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+
+        try {
+
+            c.getWildcardAttributeValues(new ManagementPath("/a=*"), "c");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            String msg = e.getMessage();
+            assertTrue(msg.contains("not connected"));
+        }
+    }
+
+    // getSnapshot() ---------------------------------------------------------------------------------------------------
+
+    @Test
+    public void getSnapshot() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+
+        MockCommandContext mcc = new MockCommandContext();
+        c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+
+        mcc.install("/subsystem=datasources", "jdbc-driver", "h2");
+        mcc.install("/subsystem=datasources/data-source=A", "enabled", true);
+        mcc.install("/subsystem=datasources/data-source=A/statistics=pool", "ActiveCount", 3);
+        mcc.install("/subsystem=datasources/data-source=B", "enabled", false);
+        mcc.install("/subsystem=web", "default-virtual-server", "x");
+
+        c.connect();
+
+        MockModelControllerClient mmcc = (MockModelControllerClient)mcc.getModelControllerClient();
+        int before = mmcc.getExecutionCount();
+
+        ManagementPath root = new ManagementPath("/subsystem=datasources");
+        ResourceSnapshot s = c.getSnapshot(root);
+
+        assertEquals(before + 1, mmcc.getExecutionCount());
+        assertEquals(1, c.getMetrics().getCount(OperationType.READ_RESOURCE));
+
+        assertEquals(4, s.size());
+        assertEquals("h2", s.getAttributeValue(root, "jdbc-driver"));
+        assertEquals(true, s.getAttributeValue("/subsystem=datasources/data-source=A", "enabled"));
+        assertEquals(false, s.getAttributeValue("/subsystem=datasources/data-source=B", "enabled"));
+        assertEquals(3, s.getAttributeValue("/subsystem=datasources/data-source=A/statistics=pool", "ActiveCount"));
+        assertFalse(s.contains(new ManagementPath("/subsystem=web")));
+
+        //
+        // lookups do not go to the controller
+        //
+
+        assertEquals(before + 1, mmcc.getExecutionCount());
+
+        c.disconnect();
+    }
+
+    @Test
+    public void getSnapshot_NoSuchPath() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+
+        MockCommandContext mcc = new MockCommandContext();
+        c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+        c.connect();
+
+        try {
+
+            c.getSnapshot(new ManagementPath("/no=such"));
+            fail("should throw exception");
+        }
+        catch(JBossCliOperationFailureException e) {
+
+            String msg = e.getMessage();
+            assertTrue(msg.contains("No resource definition is registered"));
+        }
+
+        assertEquals(1, c.getMetrics().getFailureCount(OperationType.READ_RESOURCE));
+
+        c.disconnect();
+    }
+
+    // connection mode -------------------------------------------------------------------------------------------------
+
+    @Test
+    public void connectionMode_DefaultIsCommandContext() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+        assertEquals(ConnectionMode.COMMAND_CONTEXT, c.getConnectionMode());
+    }
+
+    @Test
+    public void connectionMode_Direct() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+
+        //
+        // make sure no CommandContext is built
+        //
+
+        c.setCommandContextFactory(new MockCommandContextFactory(null));
+
+        MockModelControllerClient mmcc = new MockModelControllerClient();
+        mmcc.install("/a=b", "c", "d");
+        mmcc.install("/a=b", "e", 7L);
+
+        AtomicReference<JBossControllerAddress> seen = new AtomicReference<>();
+
+        c.setModelControllerClientFactory((address, timeout) -> {
+
+            seen.set(address);
+            return mmcc;
+        });
+
+        c.setConnectionMode(ConnectionMode.DIRECT);
+        assertEquals(ConnectionMode.DIRECT, c.getConnectionMode());
+
+        c.connect();
+
+        assertTrue(c.isConnected());
+        assertEquals(c.getControllerAddress(), seen.get());
+
+        //
+        // String paths are parsed without the CLI parser, and the resulting requests are cached
+        //
+
+        assertEquals("d", c.getAttributeValue("/a=b", "c"));
+        assertEquals("d", c.getAttributeValue("/a=b", "c"));
+        assertEquals(1, c.getRequestCache().getMissCount());
+        assertEquals(1, c.getRequestCache().getHitCount());
+
+        assertEquals(7L, c.getLongAttribute(new ManagementPath("/a=b"), "e", -1L));
+
+        assertEquals(3, mmcc.getExecutionCount());
+        assertEquals(1, c.getMetrics().getCount(OperationType.CONNECT));
+
+        c.disconnect();
+
+        assertFalse(c.isConnected());
+        assertTrue(mmcc.isClosed());
+
+        try {
+
+            c.getAttributeValue("/a=b", "c");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            String msg = e.getMessage();
+            assertTrue(msg.contains("not connected"));
+        }
+    }
+
+    @Test
+    public void readAttributes_CompositeRejectedAsAWhole() throws Exception {
+
+        //
+        // a response without step results does not isolate anything, the reads are sent one by one
+        //
+
+        MockModelControllerClient mmcc = new MockModelControllerClient() {
+
+            @Override
+            public ModelNode execute(ModelNode operation) throws IOException {
+
+                if (operation.get(Util.STEPS).asList().size() > 1) {
+
+                    super.execute(operation);
+                    return ModelNodeUtil.buildFailure("SYNTHETIC");
+                }
+
+                return super.execute(operation);
+            }
+        };
+
+        mmcc.install("/a=b", "c", "d");
+        mmcc.install("/a=b", "e", "f");
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+        c.setModelControllerClientFactory((address, timeout) -> mmcc);
+        c.setConnectionMode(ConnectionMode.DIRECT);
+        c.connect();
+
+        List<AttributeReadResult> results = c.readAttributes(Arrays.asList(
+                new AttributeRead("/a=b", "c"), new AttributeRead("/no=such", "c"), new AttributeRead("/a=b", "e")));
+
+        assertEquals(4, mmcc.getExecutionCount());
+        assertEquals(4, c.getMetrics().getCount(OperationType.BATCH_READ));
+
+        assertEquals("d", results.get(0).getValue());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("f", results.get(2).getValue());
+
+        c.disconnect();
+    }
+
+    @Test
+    public void connectionMode_Direct_InvalidPath() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+        c.setModelControllerClientFactory((address, timeout) -> new MockModelControllerClient());
+        c.setConnectionMode(ConnectionMode.DIRECT);
+        c.connect();
+
+        try {
+
+            c.getAttributeValue("/a", "c");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            String msg = e.getMessage();
+            assertTrue(msg.contains("invalid path"));
+        }
+
+        c.disconnect();
+    }
+
+    @Test
+    public void connectionMode_Direct_FactoryFailure() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+
+        c.setModelControllerClientFactory((address, timeout) -> {
+            throw new IOException("SYNTHETIC");
+        });
+
+        c.setConnectionMode(ConnectionMode.DIRECT);
+
+        try {
+
+            c.connect();
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            IOException cause = (IOException)e.getCause();
+            assertEquals("SYNTHETIC", cause.getMessage());
+        }
+
+        assertFalse(c.isConnected());
+        assertEquals(1, c.getMetrics().getFailureCount(OperationType.CONNECT));
+    }
+
+    @Test
+    public void connectionMode_SwitchFromCommandContextToDirect() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+
+        MockCommandContext mcc = new MockCommandContext();
+        c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+
+        c.connect();
+        assertTrue(mcc.isConnected());
+        c.disconnect();
+        assertFalse(mcc.isConnected());
+
+        MockModelControllerClient mmcc = new MockModelControllerClient();
+        mmcc.install("/a=b", "c", "d");
+        c.setModelControllerClientFactory((address, timeout) -> mmcc);
+        c.setConnectionMode(ConnectionMode.DIRECT);
+
+        c.connect();
+        assertEquals("d", c.getAttributeValue("/a=b", "c"));
+        c.disconnect();
+
+        //
+        // the direct client is closed, not the stale context
+        //
+
+        assertTrue(mmcc.isClosed());
+    }
+
+    @Test
+    public void connectionMode_CannotBeChangedWhileConnected() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+        c.setModelControllerClientFactory((address, timeout) -> new MockModelControllerClient());
+        c.setConnectionMode(ConnectionMode.DIRECT);
+        c.connect();
+
+        try {
+
+            c.setConnectionMode(ConnectionMode.COMMAND_CONTEXT);
+            fail("should throw exception");
+        }
+        catch(IllegalStateException e) {
+
+            String msg = e.getMessage();
+            assertTrue(msg.contains("connected"));
+        }
+
+        c.disconnect();
+        c.setConnectionMode(ConnectionMode.COMMAND_CONTEXT);
+        assertEquals(ConnectionMode.COMMAND_CONTEXT, c.getConnectionMode());
+    }
+
+    // concurrency -----------------------------------------------------------------------------------------------------
+
+    @Test
+    public void concurrentReadsOverOneConnection() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+
+        MockCommandContext mcc = new MockCommandContext();
+        c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+
+        for(int i = 0; i < 10; i ++) {
+
+            mcc.install("/a=b", "attr" + i, (long)i);
+        }
+
+        c.connect();
+
+        int threadCount = 8;
+        int readsPerThread = 500;
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ManagementPath path = new ManagementPath("/a=b");
+
+        Thread[] threads = new Thread[threadCount];
+
+        for(int t = 0; t < threadCount; t ++) {
+
+            int seed = t;
+
+            threads[t] = new Thread(() -> {
+
+                try {
+
+                    start.await();
+
+                    for(int j = 0; j < readsPerThread; j ++) {
+
+                        int i = (seed + j) % 10;
+
+                        //
+                        // mix the parser-based, the parser-free and the asynchronous paths
+                        //
+
+                        Object value;
+
+                        switch(j % 3) {
+
+                            case 0:
+                                value = c.getAttributeValue("/a=b", "attr" + i);
+                                break;
+                            case 1:
+                                value = c.getLongAttribute(path, "attr" + i, -1L);
+                                break;
+                            default:
+                                value = c.getAttributeValueAsync(path, "attr" + i).get();
+                        }
+
+                        assertEquals((long)i, value);
+                    }
+                }
+                catch(Throwable e) {
+
+                    failure.compareAndSet(null, e);
+                }
+            });
+
+            threads[t].start();
+        }
+
+        start.countDown();
+
+        for(Thread t: threads) {
+
+            t.join();
+        }
+
+        if (failure.get() != null) {
+
+            throw new AssertionError(failure.get());
+        }
+
+        MockModelControllerClient mmcc = (MockModelControllerClient)mcc.getModelControllerClient();
+        assertEquals(threadCount * readsPerThread, mmcc.getExecutionCount());
+        assertEquals(threadCount * readsPerThread, c.getMetrics().getCount(OperationType.READ_ATTRIBUTE));
+
+        c.disconnect();
+    }
+
+    @Test
+    public void disconnect_ReadsFailAfterwards() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+
+        MockCommandContext mcc = new MockCommandContext();
+        c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+        mcc.install("/a=b", "c", "d");
+
+        c.connect();
+        c.disconnect();
+
+        assertFalse(c.isConnected());
+
+        try {
+
+            c.getAttributeValue(new ManagementPath("/a=b"), "c");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("not connected"));
+        }
+
+        //
+        // idempotent
+        //
+
+        c.disconnect();
+    }
+
+    @Test
+    public void resourceDescriptionCache_SharedByClientsOfTheSameVersion() throws Exception {
+
+        File directory = Files.createTempDirectory("resource-description-cache").toFile();
+
+        try {
+
+            ResourceDescriptionCache cache = new ResourceDescriptionCache(directory);
+
+            List<JBossControllerClientImpl> clients = new ArrayList<>();
+
+            for(int i = 0; i < 3; i ++) {
+
+                MockCommandContext mcc = new MockCommandContext();
+                mcc.install("/a=b", "c", i);
+
+                JBossControllerClientImpl c = new JBossControllerClientImpl();
+                c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+                c.setResourceDescriptionCache(cache, "EAP-6.4.15.GA");
+                c.connect();
+                clients.add(c);
+            }
+
+            for(int i = 0; i < clients.size(); i ++) {
+
+                JBossControllerClientImpl c = clients.get(i);
+
+                assertEquals(i, c.getAttributeValue("/a=b", "c"));
+                assertEquals(ModelType.INT, c.getAttributeType(new ManagementPath("/a=b"), "c"));
+
+                //
+                // only the first client read the description
+                //
+
+                assertEquals(i == 0 ? 1 : 0, c.getMetrics().getCount(OperationType.READ_DESCRIPTION));
+            }
+
+            JBossControllerClientImpl c = clients.get(2);
+
+            try {
+
+                c.getAttributeValue("/no=such", "c");
+                fail("should throw exception");
+            }
+            catch(JBossCliException e) {
+
+                // expected
+            }
+
+            //
+            // the failed validation did not cache anything
+            //
+
+            assertNull(cache.get("EAP-6.4.15.GA", new ManagementPath("/no=such")));
+            assertEquals(1, c.getRequestCache().size());
+
+            for(JBossControllerClientImpl client: clients) {
+
+                client.disconnect();
+            }
+        }
+        finally {
+
+            File[] files = directory.listFiles();
+
+            if (files != null) {
+
+                for(File f: files) {
+
+                    assertTrue(f.delete());
+                }
+            }
+
+            assertTrue(directory.delete());
+        }
+    }
+
+    @Test
+    public void getAttributeType_NoResourceDescriptionCache() throws Exception {
+
+        JBossControllerClientImpl c = new JBossControllerClientImpl();
+
+        try {
+
+            c.getAttributeType(new ManagementPath("/a=b"), "c");
+            fail("should throw exception");
+        }
+        catch(IllegalStateException e) {
+
+            assertTrue(e.getMessage().contains("no resource description cache"));
+        }
+    }
+
     // Package protected -----------------------------------------------------------------------------------------------
 
     // Protected -------------------------------------------------------------------------------------------------------
@@ -16,12 +16,24 @@
 
 package io.novaordis.jboss.cli;
 
+import io.novaordis.jboss.cli.model.AttributeRead;
+import io.novaordis.jboss.cli.model.AttributeReadResult;
 import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import io.novaordis.jboss.cli.model.ManagementPath;
 import org.jboss.as.cli.CommandContextFactory;
+import org.jboss.dmr.ModelNode;
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -327,6 +339,605 @@ public abstract class JBossControllerClientTest {
         c.disconnect();
     }
 
+    @Test
+    public void getAttributeValue_ManagementPath() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        MockCommandContext mcc = new MockCommandContext();
+        MockCommandContextFactory mccf = new MockCommandContextFactory(mcc);
+        c.setCommandContextFactory(mccf);
+
+        mcc.install("/a=b/c=d", "e", "f");
+        mcc.install("/a=b/c=d", "g", 7);
+
+        c.connect();
+
+        ManagementPath path = new ManagementPath("/a=b/c=d");
+
+        assertEquals("f", c.getAttributeValue(path, "e"));
+        assertEquals(7, c.getAttributeValue(path, "g"));
+        assertNull(c.getAttributeValue(path, "no-such-attribute"));
+
+        c.disconnect();
+    }
+
+    @Test
+    public void getAttributeValue_ManagementPath_NoSuchPath() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        MockCommandContext mcc = new MockCommandContext();
+        MockCommandContextFactory mccf = new MockCommandContextFactory(mcc);
+        c.setCommandContextFactory(mccf);
+
+        mcc.install("/a=d", "x", "y");
+
+        c.connect();
+
+        try {
+            c.getAttributeValue(new ManagementPath("/a=b"), "c");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+            String s = e.getMessage();
+            log.info(s);
+            assertEquals("JBAS014883: No resource definition is registered for address [(\"a\" => \"b\")]", s);
+        }
+
+        c.disconnect();
+    }
+
+    @Test
+    public void getAttributeValue_ManagementPath_BeforeConnecting() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        try {
+            c.getAttributeValue(ManagementPath.ROOT, "release-version");
+            fail("should have thrown exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("not connected"));
+        }
+    }
+
+    // getLongAttribute() and the other primitive accessors ------------------------------------------------------------
+
+    @Test
+    public void getLongAttribute() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        MockCommandContext mcc = new MockCommandContext();
+        c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+
+        mcc.install("/a=b", "long", 10L);
+        mcc.install("/a=b", "int", 20);
+
+        c.connect();
+
+        assertEquals(10L, c.getLongAttribute("/a=b", "long", -1L));
+        assertEquals(20L, c.getLongAttribute("/a=b", "int", -1L));
+        assertEquals(10L, c.getLongAttribute(new ManagementPath("/a=b"), "long", -1L));
+
+        //
+        // no such attribute
+        //
+
+        assertEquals(-1L, c.getLongAttribute("/a=b", "no-such-attribute", -1L));
+        assertEquals(-1L, c.getLongAttribute(new ManagementPath("/a=b"), "no-such-attribute", -1L));
+
+        c.disconnect();
+    }
+
+    @Test
+    public void getLongAttribute_NoSuchPath() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        MockCommandContext mcc = new MockCommandContext();
+        c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+
+        mcc.install("/a=d", "x", 1L);
+
+        c.connect();
+
+        try {
+
+            c.getLongAttribute(new ManagementPath("/a=b"), "x", -1L);
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertEquals("JBAS014883: No resource definition is registered for address [(\"a\" => \"b\")]",
+                    e.getMessage());
+        }
+
+        c.disconnect();
+    }
+
+    @Test
+    public void getLongAttribute_BeforeConnecting() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        try {
+
+            c.getLongAttribute("/a=b", "c", -1L);
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("not connected"));
+        }
+    }
+
+    @Test
+    public void getIntAttribute() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        MockCommandContext mcc = new MockCommandContext();
+        c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+
+        mcc.install("/a=b", "int", 20);
+        mcc.install("/a=b", "string", "blah");
+
+        c.connect();
+
+        assertEquals(20, c.getIntAttribute("/a=b", "int", -1));
+        assertEquals(20, c.getIntAttribute(new ManagementPath("/a=b"), "int", -1));
+        assertEquals(-1, c.getIntAttribute("/a=b", "no-such-attribute", -1));
+
+        try {
+
+            c.getIntAttribute("/a=b", "string", -1);
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertEquals("cannot convert \"blah\" to int", e.getMessage());
+        }
+
+        c.disconnect();
+    }
+
+    @Test
+    public void getDoubleAttribute() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        MockCommandContext mcc = new MockCommandContext();
+        c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+
+        mcc.install("/a=b", "double", 1.5d);
+
+        c.connect();
+
+        assertEquals(1.5d, c.getDoubleAttribute("/a=b", "double", Double.NaN), 0);
+        assertEquals(1.5d, c.getDoubleAttribute(new ManagementPath("/a=b"), "double", Double.NaN), 0);
+        assertTrue(Double.isNaN(c.getDoubleAttribute("/a=b", "no-such-attribute", Double.NaN)));
+
+        c.disconnect();
+    }
+
+    @Test
+    public void getBooleanAttribute() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        MockCommandContext mcc = new MockCommandContext();
+        c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+
+        mcc.install("/a=b", "boolean", true);
+
+        c.connect();
+
+        assertTrue(c.getBooleanAttribute("/a=b", "boolean", false));
+        assertTrue(c.getBooleanAttribute(new ManagementPath("/a=b"), "boolean", false));
+        assertFalse(c.getBooleanAttribute("/a=b", "no-such-attribute", false));
+
+        c.disconnect();
+    }
+
+    // getAttributeValues() --------------------------------------------------------------------------------------------
+
+    @Test
+    public void getAttributeValues() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        MockCommandContext mcc = new MockCommandContext();
+        MockCommandContextFactory mccf = new MockCommandContextFactory(mcc);
+        c.setCommandContextFactory(mccf);
+
+        mcc.install("/subsystem=datasources/data-source=X/statistics=pool", "ActiveCount", 1);
+        mcc.install("/subsystem=datasources/data-source=X/statistics=pool", "AvailableCount", 19);
+        mcc.install("/subsystem=datasources/data-source=X/statistics=pool", "InUseCount", 1L);
+        mcc.install("/subsystem=datasources/data-source=X/statistics=pool", "Name", "X");
+
+        c.connect();
+
+        MockModelControllerClient mmcc = (MockModelControllerClient)mcc.getModelControllerClient();
+        int before = mmcc.getExecutionCount();
+
+        Map<String, Object> values = c.getAttributeValues(
+                "/subsystem=datasources/data-source=X/statistics=pool",
+                Arrays.asList("InUseCount", "no-such-attribute", "ActiveCount", "Name"));
+
+        assertEquals(1, mmcc.getExecutionCount() - before);
+
+        assertEquals(4, values.size());
+
+        Iterator<String> i = values.keySet().iterator();
+        assertEquals("InUseCount", i.next());
+        assertEquals("no-such-attribute", i.next());
+        assertEquals("ActiveCount", i.next());
+        assertEquals("Name", i.next());
+
+        assertEquals(1L, values.get("InUseCount"));
+        assertNull(values.get("no-such-attribute"));
+        assertTrue(values.containsKey("no-such-attribute"));
+        assertEquals(1, values.get("ActiveCount"));
+        assertEquals("X", values.get("Name"));
+
+        c.disconnect();
+    }
+
+    @Test
+    public void getAttributeValues_NoSuchPath() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        MockCommandContext mcc = new MockCommandContext();
+        MockCommandContextFactory mccf = new MockCommandContextFactory(mcc);
+        c.setCommandContextFactory(mccf);
+
+        mcc.install("/a=d", "x", "y");
+
+        c.connect();
+
+        try {
+            c.getAttributeValues(new ManagementPath("/a=b"), Collections.singletonList("x"));
+            fail("should throw exception");
+        }
+        catch(JBossCliOperationFailureException e) {
+            String s = e.getMessage();
+            log.info(s);
+            assertTrue(s.contains("JBAS014883"));
+        }
+
+        c.disconnect();
+    }
+
+    @Test
+    public void getAttributeValues_BeforeConnecting() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        try {
+            c.getAttributeValues("/", Collections.singletonList("release-version"));
+            fail("should have thrown exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("not connected"));
+        }
+    }
+
+    // readAttributes() ------------------------------------------------------------------------------------------------
+
+    @Test
+    public void readAttributes() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        MockCommandContext mcc = new MockCommandContext();
+        MockCommandContextFactory mccf = new MockCommandContextFactory(mcc);
+        c.setCommandContextFactory(mccf);
+
+        mcc.install("/a=b", "c", "d");
+        mcc.install("/x=y", "z", 10);
+
+        c.connect();
+
+        MockModelControllerClient mmcc = (MockModelControllerClient)mcc.getModelControllerClient();
+        int before = mmcc.getExecutionCount();
+
+        List<AttributeRead> reads = Arrays.asList(
+                new AttributeRead("/a=b", "c"),
+                new AttributeRead("/no=such-path", "c"),
+                new AttributeRead("/x=y", "z"),
+                new AttributeRead("/x=y", "no-such-attribute"));
+
+        List<AttributeReadResult> results = c.readAttributes(reads);
+
+        //
+        // the unknown resource fails the composite, and the reads that follow it are sent again
+        //
+
+        assertEquals(2, mmcc.getExecutionCount() - before);
+        assertEquals(4, results.size());
+
+        AttributeReadResult r = results.get(0);
+        assertEquals(reads.get(0), r.getRead());
+        assertTrue(r.isSuccess());
+        assertEquals("d", r.getValue());
+
+        r = results.get(1);
+        assertEquals(reads.get(1), r.getRead());
+        assertFalse(r.isSuccess());
+        assertNull(r.getValue());
+        assertTrue(r.getFailure() instanceof JBossCliOperationFailureException);
+        assertTrue(r.getFailure().getMessage().contains("JBAS014883"));
+
+        r = results.get(2);
+        assertEquals(reads.get(2), r.getRead());
+        assertTrue(r.isSuccess());
+        assertEquals(10, r.getValue());
+
+        //
+        // unknown attributes are not failures, same semantics as getAttributeValue()
+        //
+
+        r = results.get(3);
+        assertEquals(reads.get(3), r.getRead());
+        assertTrue(r.isSuccess());
+        assertNull(r.getValue());
+
+        c.disconnect();
+    }
+
+    @Test
+    public void readAttributes_FailuresAreIsolated() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        MockCommandContext mcc = new MockCommandContext();
+        MockCommandContextFactory mccf = new MockCommandContextFactory(mcc);
+        c.setCommandContextFactory(mccf);
+
+        mcc.install("/a=b", "c", "d");
+        mcc.install("/x=y", "z", 10);
+
+        c.connect();
+
+        MockModelControllerClient mmcc = (MockModelControllerClient)mcc.getModelControllerClient();
+        int before = mmcc.getExecutionCount();
+
+        List<AttributeRead> reads = Arrays.asList(
+                new AttributeRead("/no=such-path", "c"),
+                new AttributeRead("/a=b", "c"),
+                new AttributeRead("/no=such-path-2", "c"),
+                new AttributeRead("/x=y", "z"));
+
+        List<AttributeReadResult> results = c.readAttributes(reads);
+
+        assertEquals(3, mmcc.getExecutionCount() - before);
+
+        assertFalse(results.get(0).isSuccess());
+        assertTrue(results.get(0).getFailure().getMessage().contains("\"such-path\""));
+        assertTrue(results.get(1).isSuccess());
+        assertEquals("d", results.get(1).getValue());
+        assertFalse(results.get(2).isSuccess());
+        assertTrue(results.get(2).getFailure().getMessage().contains("\"such-path-2\""));
+        assertTrue(results.get(3).isSuccess());
+        assertEquals(10, results.get(3).getValue());
+
+        c.disconnect();
+    }
+
+    @Test
+    public void readAttributes_Empty() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        MockCommandContext mcc = new MockCommandContext();
+        MockCommandContextFactory mccf = new MockCommandContextFactory(mcc);
+        c.setCommandContextFactory(mccf);
+
+        c.connect();
+
+        MockModelControllerClient mmcc = (MockModelControllerClient)mcc.getModelControllerClient();
+        int before = mmcc.getExecutionCount();
+
+        List<AttributeReadResult> results = c.readAttributes(Collections.emptyList());
+
+        assertTrue(results.isEmpty());
+        assertEquals(0, mmcc.getExecutionCount() - before);
+
+        c.disconnect();
+    }
+
+    @Test
+    public void readAttributes_BeforeConnecting() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        try {
+            c.readAttributes(Collections.singletonList(new AttributeRead("/", "release-version")));
+            fail("should have thrown exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("not connected"));
+        }
+    }
+
+    // visitAttributeValue() -------------------------------------------------------------------------------------------
+
+    @Test
+    public void visitAttributeValue() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        MockCommandContext mcc = new MockCommandContext();
+        c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+
+        ModelNode value = new ModelNode();
+        value.add("x").add(2L);
+
+        mcc.install("/a=b", "list", value);
+
+        c.connect();
+
+        MockModelNodeVisitor v = new MockModelNodeVisitor();
+
+        c.visitAttributeValue(new ManagementPath("/a=b"), "list", v);
+
+        assertEquals(Arrays.asList("startList(2)", "string(x)", "long(2)", "endList"), v.getEvents());
+
+        v = new MockModelNodeVisitor();
+
+        c.visitAttributeValue(new ManagementPath("/a=b"), "no-such-attribute", v);
+
+        assertEquals(Collections.singletonList("undefined"), v.getEvents());
+
+        c.disconnect();
+    }
+
+    @Test
+    public void visitAttributeValue_BeforeConnecting() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        try {
+
+            c.visitAttributeValue(new ManagementPath("/a=b"), "c", new MockModelNodeVisitor());
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("not connected"));
+        }
+    }
+
+    @Test
+    public void visitResource() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        MockCommandContext mcc = new MockCommandContext();
+        c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+
+        mcc.install("/a=b", "c", "d");
+
+        c.connect();
+
+        MockModelNodeVisitor v = new MockModelNodeVisitor();
+
+        c.visitResource(new ManagementPath("/a=b"), false, v);
+
+        assertEquals(Arrays.asList("startObject(1)", "key(c)", "string(d)", "endObject"), v.getEvents());
+
+        c.disconnect();
+    }
+
+    // getAttributeValueAsync() ----------------------------------------------------------------------------------------
+
+    @Test
+    public void getAttributeValueAsync() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        MockCommandContext mcc = new MockCommandContext();
+        MockCommandContextFactory mccf = new MockCommandContextFactory(mcc);
+        c.setCommandContextFactory(mccf);
+
+        mcc.install("/a=b", "c", "d");
+        mcc.install("/a=b", "e", 5L);
+
+        c.connect();
+
+        CompletableFuture<Object> f = c.getAttributeValueAsync("/a=b", "c");
+        CompletableFuture<Object> f2 = c.getAttributeValueAsync(new ManagementPath("/a=b"), "e");
+        CompletableFuture<Object> f3 = c.getAttributeValueAsync("/a=b", "no-such-attribute");
+
+        assertEquals("d", f.get());
+        assertEquals(5L, f2.get());
+        assertNull(f3.get());
+
+        c.disconnect();
+    }
+
+    @Test
+    public void getAttributeValueAsync_NoSuchPath() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        MockCommandContext mcc = new MockCommandContext();
+        MockCommandContextFactory mccf = new MockCommandContextFactory(mcc);
+        c.setCommandContextFactory(mccf);
+
+        mcc.install("/a=d", "x", "y");
+
+        c.connect();
+
+        CompletableFuture<Object> f = c.getAttributeValueAsync(new ManagementPath("/a=b"), "c");
+
+        try {
+
+            f.get();
+            fail("should throw exception");
+        }
+        catch(ExecutionException e) {
+
+            JBossCliOperationFailureException cause = (JBossCliOperationFailureException)e.getCause();
+            assertTrue(cause.getMessage().contains("JBAS014883"));
+        }
+
+        c.disconnect();
+    }
+
+    @Test
+    public void getAttributeValueAsync_BeforeConnecting() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        try {
+            c.getAttributeValueAsync("/", "release-version");
+            fail("should have thrown exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("not connected"));
+        }
+    }
+
+    // readAttributesAsync() -------------------------------------------------------------------------------------------
+
+    @Test
+    public void readAttributesAsync() throws Exception {
+
+        JBossControllerClient c = getJBossControllerClientToTest();
+
+        MockCommandContext mcc = new MockCommandContext();
+        MockCommandContextFactory mccf = new MockCommandContextFactory(mcc);
+        c.setCommandContextFactory(mccf);
+
+        mcc.install("/a=b", "c", "d");
+
+        c.connect();
+
+        List<AttributeRead> reads = Arrays.asList(
+                new AttributeRead("/a=b", "c"), new AttributeRead("/x=y", "z"), new AttributeRead("/a=b", "c"));
+
+        List<AttributeReadResult> results = c.readAttributesAsync(reads).get();
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("d", results.get(0).getValue());
+        assertFalse(results.get(1).isSuccess());
+
+        // not executed by the failed composite, sent again
+        assertTrue(results.get(2).isSuccess());
+        assertEquals("d", results.get(2).getValue());
+
+        c.disconnect();
+    }
+
     // setCommandContextFactory() --------------------------------------------------------------------------------------
 
     @Test
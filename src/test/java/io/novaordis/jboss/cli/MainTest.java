@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class MainTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void run() throws Exception {
+
+        MockCommandContext mcc = new MockCommandContext();
+        mcc.install("/a=b", "c", "d");
+
+        JBossControllerClientFactory f = address -> {
+
+            JBossControllerClientImpl c = new JBossControllerClientImpl(address);
+            c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+            return c;
+        };
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        int exitCode = Main.run(Arrays.asList("/a=b", "c"), f, null, new PrintStream(out), new PrintStream(err));
+
+        assertEquals(0, exitCode);
+        assertEquals("d\n", out.toString());
+        assertEquals("", err.toString());
+    }
+
+    @Test
+    public void run_InvalidArguments() throws Exception {
+
+        JBossControllerClientFactory f = address -> {
+
+            throw new RuntimeException("should not be invoked");
+        };
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        int exitCode =
+                Main.run(Arrays.asList("--no-such-option"), f, null, new PrintStream(out), new PrintStream(err));
+
+        assertEquals(1, exitCode);
+        assertEquals("", out.toString());
+        assertEquals("[error]: unknown option --no-such-option\n", err.toString());
+    }
+
+    @Test
+    public void run_BatchFromStdin() throws Exception {
+
+        MockCommandContext mcc = new MockCommandContext();
+        mcc.install("/a=b", "c", "d");
+        mcc.install("/a=b", "e", "f");
+
+        JBossControllerClientFactory f = address -> {
+
+            JBossControllerClientImpl c = new JBossControllerClientImpl(address);
+            c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+            return c;
+        };
+
+        InputStream in = new ByteArrayInputStream("/a=b:c\n/a=b:e\n".getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        int exitCode = Main.run(Arrays.asList("--file=-"), f, in, new PrintStream(out), new PrintStream(err));
+
+        assertEquals(0, exitCode);
+        assertEquals("/a=b:c=d\n/a=b:e=f\n", out.toString());
+        assertEquals("", err.toString());
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -16,7 +16,16 @@
 
 package io.novaordis.jboss.cli;
 
+import io.novaordis.jboss.cli.model.AttributeRead;
+import io.novaordis.jboss.cli.model.AttributeReadResult;
 import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import io.novaordis.jboss.cli.model.ManagementPath;
+import io.novaordis.jboss.cli.model.ResourceSnapshot;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Ovidiu Feodorov <ovidiu@novaordis.com>
@@ -88,6 +97,119 @@ public class MockJBossControllerClient implements JBossControllerClient {
         throw new RuntimeException("getAttributeValue() NOT YET IMPLEMENTED");
     }
 
+    @Override
+    public Object getAttributeValue(ManagementPath path, String attributeName) throws JBossCliException {
+        throw new RuntimeException("getAttributeValue() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public long getLongAttribute(String path, String attributeName, long undefinedValue) throws JBossCliException {
+        throw new RuntimeException("getLongAttribute() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public long getLongAttribute(ManagementPath path, String attributeName, long undefinedValue)
+            throws JBossCliException {
+        throw new RuntimeException("getLongAttribute() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public int getIntAttribute(String path, String attributeName, int undefinedValue) throws JBossCliException {
+        throw new RuntimeException("getIntAttribute() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public int getIntAttribute(ManagementPath path, String attributeName, int undefinedValue) throws JBossCliException {
+        throw new RuntimeException("getIntAttribute() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public double getDoubleAttribute(String path, String attributeName, double undefinedValue)
+            throws JBossCliException {
+        throw new RuntimeException("getDoubleAttribute() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public double getDoubleAttribute(ManagementPath path, String attributeName, double undefinedValue)
+            throws JBossCliException {
+        throw new RuntimeException("getDoubleAttribute() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public boolean getBooleanAttribute(String path, String attributeName, boolean undefinedValue)
+            throws JBossCliException {
+        throw new RuntimeException("getBooleanAttribute() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public boolean getBooleanAttribute(ManagementPath path, String attributeName, boolean undefinedValue)
+            throws JBossCliException {
+        throw new RuntimeException("getBooleanAttribute() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public Map<String, Object> getAttributeValues(String path, Collection<String> attributeNames)
+            throws JBossCliException {
+        throw new RuntimeException("getAttributeValues() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public Map<String, Object> getAttributeValues(ManagementPath path, Collection<String> attributeNames)
+            throws JBossCliException {
+        throw new RuntimeException("getAttributeValues() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public Map<ManagementPath, Object> getWildcardAttributeValues(ManagementPath path, String attributeName)
+            throws JBossCliException {
+        throw new RuntimeException("getWildcardAttributeValues() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public List<AttributeReadResult> readAttributes(List<AttributeRead> reads) throws JBossCliException {
+        throw new RuntimeException("readAttributes() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public void visitAttributeValue(ManagementPath path, String attributeName, ModelNodeVisitor visitor)
+            throws JBossCliException {
+        throw new RuntimeException("visitAttributeValue() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public void visitResource(ManagementPath path, boolean recursive, ModelNodeVisitor visitor)
+            throws JBossCliException {
+        throw new RuntimeException("visitResource() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public ResourceSnapshot getSnapshot(ManagementPath path) throws JBossCliException {
+        throw new RuntimeException("getSnapshot() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public CompletableFuture<Object> getAttributeValueAsync(String path, String attributeName)
+            throws JBossCliException {
+        throw new RuntimeException("getAttributeValueAsync() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public CompletableFuture<Object> getAttributeValueAsync(ManagementPath path, String attributeName)
+            throws JBossCliException {
+        throw new RuntimeException("getAttributeValueAsync() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public CompletableFuture<List<AttributeReadResult>> readAttributesAsync(List<AttributeRead> reads)
+            throws JBossCliException {
+        throw new RuntimeException("readAttributesAsync() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public ClientMetrics getMetrics() {
+        throw new RuntimeException("getMetrics() NOT YET IMPLEMENTED");
+    }
+
     @Override
     public void setCommandContextFactory(Object commandContextFactory) {
         throw new RuntimeException("setCommandContextFactory() NOT YET IMPLEMENTED");
@@ -16,6 +16,7 @@
 
 package io.novaordis.jboss.cli;
 
+import io.novaordis.jboss.cli.model.ManagementPath;
 import org.jboss.as.cli.Util;
 import org.jboss.as.controller.client.ModelControllerClient;
 import org.jboss.as.controller.client.Operation;
@@ -25,11 +26,14 @@ import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.dmr.Property;
 import org.jboss.threads.AsyncFuture;
+import org.jboss.threads.AsyncFutureTask;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Ovidiu Feodorov <ovidiu@novaordis.com>
@@ -45,11 +49,16 @@ public class MockModelControllerClient implements ModelControllerClient {
 
     private Map<String, Map<String, Object>> values;
 
+    private final AtomicInteger executionCount;
+
+    private volatile boolean closed;
+
     // Constructors ----------------------------------------------------------------------------------------------------
 
     public MockModelControllerClient() {
 
         this.values = new HashMap<>();
+        this.executionCount = new AtomicInteger(0);
     }
 
     // ModelControllerClient implementation ----------------------------------------------------------------------------
@@ -57,33 +66,171 @@ public class MockModelControllerClient implements ModelControllerClient {
     @Override
     public ModelNode execute(ModelNode operation) throws IOException {
 
+        executionCount.incrementAndGet();
+
+        return dispatch(operation);
+    }
+
+    @Override
+    public ModelNode execute(Operation operation) throws IOException {
+        throw new RuntimeException("execute() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public ModelNode execute(ModelNode operation, OperationMessageHandler messageHandler) throws IOException {
+        throw new RuntimeException("execute() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public ModelNode execute(Operation operation, OperationMessageHandler messageHandler) throws IOException {
+        throw new RuntimeException("execute() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public OperationResponse executeOperation(Operation operation, OperationMessageHandler messageHandler) throws IOException {
+        throw new RuntimeException("executeOperation() NOT YET IMPLEMENTED");
+    }
+
+    /**
+     * The response is computed synchronously, the returned future is already complete.
+     */
+    @Override
+    public AsyncFuture<ModelNode> executeAsync(ModelNode operation, OperationMessageHandler messageHandler) {
+
+        executionCount.incrementAndGet();
+
+        return new CompletedAsyncFuture(dispatch(operation));
+    }
+
+    @Override
+    public AsyncFuture<ModelNode> executeAsync(Operation operation, OperationMessageHandler messageHandler) {
+        throw new RuntimeException("executeAsync() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public AsyncFuture<OperationResponse> executeOperationAsync(Operation operation, OperationMessageHandler messageHandler) {
+        throw new RuntimeException("executeOperationAsync() NOT YET IMPLEMENTED");
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        closed = true;
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    /**
+     * Install custom attribute values.
+     */
+    public void install(String path, String attributeName, Object attributeValue) {
+
+        Map<String, Object> attributes = values.get(path);
+
+        if (attributes == null) {
+            attributes = new HashMap<>();
+            values.put(path, attributes);
+        }
+
+        attributes.put(attributeName, attributeValue);
+    }
+
+    /**
+     * @return the number of operations sent into this client, which is the number of round trips a real client would
+     * have made.
+     */
+    public int getExecutionCount() {
+
+        return executionCount.get();
+    }
+
+    public boolean isClosed() {
+
+        return closed;
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    private ModelNode dispatch(ModelNode operation) {
+
         ModelNode operationNameNode = operation.get(Util.OPERATION);
         String operationNode = operationNameNode.asString();
-        if (!"read-attribute".equals(operationNode)) {
-            throw new RuntimeException("operation " + operationNode + " NOT IMPLEMENTED");
+
+        if ("read-attribute".equals(operationNode)) {
+
+            return readAttribute(operation);
         }
+        else if ("read-resource".equals(operationNode)) {
 
-        ModelNode address = operation.get(Util.ADDRESS);
+            return readResource(operation);
+        }
+        else if ("read-resource-description".equals(operationNode)) {
 
-        if (!ModelType.LIST.equals(address.getType())) {
+            return readResourceDescription(operation);
+        }
+        else if ("composite".equals(operationNode)) {
 
-            throw new IllegalArgumentException("expecting a LIST");
+            return composite(operation);
         }
 
-        List<ModelNode> pathAsNodes = address.asList();
+        throw new RuntimeException("operation " + operationNode + " NOT IMPLEMENTED");
+    }
 
-        String path = "/";
+    /**
+     * All failures the mock produces (unknown resources and attributes) are model-stage failures, which, on a real
+     * controller, fail the composite regardless of rollback-on-runtime-failure: the steps that follow the failed step
+     * are not executed, and do not appear in the response.
+     */
+    private ModelNode composite(ModelNode operation) {
 
-        for(ModelNode element: pathAsNodes) {
+        ModelNode response = new ModelNode();
+        ModelNode result = response.get(Util.RESULT);
+        result.setEmptyObject();
 
-            Property p = element.asProperty();
+        String failedSteps = "";
+        int i = 1;
 
-            if (!"/".equals(path)) {
+        for(ModelNode step: operation.get(Util.STEPS).asList()) {
 
-                path += "/";
+            ModelNode stepResponse = dispatch(step);
+            result.get("step-" + i).set(stepResponse);
+
+            if (!Util.isSuccess(stepResponse)) {
+
+                failedSteps += " step-" + i;
+                break;
             }
 
-            path += p.getName() + "=" + p.getValue().asString();
+            i ++;
+        }
+
+        if (failedSteps.isEmpty()) {
+
+            response.get(Util.OUTCOME).set(Util.SUCCESS);
+        }
+        else {
+
+            response.get(Util.OUTCOME).set(ModelNodeUtil.FAILED);
+            response.get(Util.FAILURE_DESCRIPTION).set("JBAS014653: Composite operation failed. Steps that failed:" +
+                    failedSteps);
+        }
+
+        return response;
+    }
+
+    private ModelNode readAttribute(ModelNode operation) {
+
+        ModelNode address = operation.get(Util.ADDRESS);
+        List<ModelNode> pathAsNodes = address.asList();
+        String path = toPath(address);
+
+        if (path.contains("=" + ManagementPath.WILDCARD)) {
+
+            return wildcardReadAttribute(operation);
         }
 
         if (!values.containsKey(path)) {
@@ -120,69 +267,194 @@ public class MockModelControllerClient implements ModelControllerClient {
         return ModelNodeUtil.buildSuccess(attributeValue);
     }
 
-    @Override
-    public ModelNode execute(Operation operation) throws IOException {
-        throw new RuntimeException("execute() NOT YET IMPLEMENTED");
-    }
+    /**
+     * Mimics the controller's expansion: one (address, outcome, result) element for each installed path matched by
+     * the wildcard path, in path order.
+     */
+    private ModelNode wildcardReadAttribute(ModelNode operation) {
 
-    @Override
-    public ModelNode execute(ModelNode operation, OperationMessageHandler messageHandler) throws IOException {
-        throw new RuntimeException("execute() NOT YET IMPLEMENTED");
-    }
+        ManagementPath wildcardPath;
 
-    @Override
-    public ModelNode execute(Operation operation, OperationMessageHandler messageHandler) throws IOException {
-        throw new RuntimeException("execute() NOT YET IMPLEMENTED");
-    }
+        try {
 
-    @Override
-    public OperationResponse executeOperation(Operation operation, OperationMessageHandler messageHandler) throws IOException {
-        throw new RuntimeException("executeOperation() NOT YET IMPLEMENTED");
-    }
+            wildcardPath = ManagementPath.fromAddress(operation.get(Util.ADDRESS));
+        }
+        catch(JBossCliException e) {
 
-    @Override
-    public AsyncFuture<ModelNode> executeAsync(ModelNode operation, OperationMessageHandler messageHandler) {
-        throw new RuntimeException("executeAsync() NOT YET IMPLEMENTED");
-    }
+            throw new IllegalArgumentException(e);
+        }
 
-    @Override
-    public AsyncFuture<ModelNode> executeAsync(Operation operation, OperationMessageHandler messageHandler) {
-        throw new RuntimeException("executeAsync() NOT YET IMPLEMENTED");
-    }
+        ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(Util.SUCCESS);
+        ModelNode result = response.get(Util.RESULT);
+        result.setEmptyList();
 
-    @Override
-    public AsyncFuture<OperationResponse> executeOperationAsync(Operation operation, OperationMessageHandler messageHandler) {
-        throw new RuntimeException("executeOperationAsync() NOT YET IMPLEMENTED");
+        for(String p: new TreeSet<>(values.keySet())) {
+
+            ManagementPath path;
+
+            try {
+
+                path = new ManagementPath(p);
+            }
+            catch(JBossCliException e) {
+
+                throw new IllegalArgumentException(e);
+            }
+
+            if (!wildcardPath.matches(path)) {
+
+                continue;
+            }
+
+            ModelNode concreteOperation = operation.clone();
+            concreteOperation.get(Util.ADDRESS).set(path.getAddress());
+            ModelNode element = readAttribute(concreteOperation);
+            element.get(Util.ADDRESS).set(path.getAddress());
+            result.add(element);
+        }
+
+        return response;
     }
 
-    @Override
-    public void close() throws IOException {
-        throw new RuntimeException("close() NOT YET IMPLEMENTED");
+    /**
+     * Describes the installed attributes of the resource, with their types. Wildcard paths are not supported.
+     */
+    private ModelNode readResourceDescription(ModelNode operation) {
+
+        ModelNode address = operation.get(Util.ADDRESS);
+        String path = toPath(address);
+
+        if (!values.containsKey(path)) {
+
+            return ModelNodeUtil.buildFailure(
+                    "JBAS014883: No resource definition is registered for address " + address.asList());
+        }
+
+        ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(Util.SUCCESS);
+        ModelNode result = response.get(Util.RESULT);
+        result.get(Util.DESCRIPTION).set("mock resource " + path);
+        result.get(Util.ATTRIBUTES).setEmptyObject();
+
+        for(Map.Entry<String, Object> e: values.get(path).entrySet()) {
+
+            ModelNode value = ModelNodeUtil.buildSuccess(e.getValue()).get(Util.RESULT);
+            ModelNode attribute = result.get(Util.ATTRIBUTES, e.getKey());
+            attribute.get(Util.TYPE).set(value.getType());
+            attribute.get(Util.DESCRIPTION).set("mock attribute " + e.getKey());
+        }
+
+        return response;
     }
 
-    // Public ----------------------------------------------------------------------------------------------------------
+    private ModelNode readResource(ModelNode operation) {
+
+        ModelNode address = operation.get(Util.ADDRESS);
+        String path = toPath(address);
+
+        if (!values.containsKey(path)) {
+
+            return ModelNodeUtil.buildFailure(
+                    "JBAS014883: No resource definition is registered for address " + address.asList());
+        }
+
+        boolean recursive = operation.hasDefined(ModelNodeUtil.RECURSIVE) &&
+                operation.get(ModelNodeUtil.RECURSIVE).asBoolean();
+
+        ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(Util.SUCCESS);
+        response.get(Util.RESULT).set(buildResource(path, recursive));
+        return response;
+    }
 
     /**
-     * Install custom attribute values.
+     * Renders the attributes installed for the path and, if recursive, the installed paths that are its direct
+     * children, as child type => {name => resource}.
      */
-    public void install(String path, String attributeName, Object attributeValue) {
+    private ModelNode buildResource(String path, boolean recursive) {
+
+        ModelNode resource = new ModelNode();
+        resource.setEmptyObject();
 
         Map<String, Object> attributes = values.get(path);
 
-        if (attributes == null) {
-            attributes = new HashMap<>();
-            values.put(path, attributes);
+        if (attributes != null) {
+
+            for(Map.Entry<String, Object> e: attributes.entrySet()) {
+
+                ModelNode value = ModelNodeUtil.buildSuccess(e.getValue()).get(Util.RESULT);
+                resource.get(e.getKey()).set(value);
+            }
         }
 
-        attributes.put(attributeName, attributeValue);
+        if (!recursive) {
+
+            return resource;
+        }
+
+        String prefix = "/".equals(path) ? "/" : path + "/";
+
+        for(String p: new TreeSet<>(values.keySet())) {
+
+            if (!p.startsWith(prefix) || p.length() == prefix.length()) {
+
+                continue;
+            }
+
+            String rest = p.substring(prefix.length());
+
+            if (rest.indexOf('/') != -1) {
+
+                //
+                // not a direct child; intermediate resources must be installed explicitly
+                //
+
+                continue;
+            }
+
+            int i = rest.indexOf('=');
+            resource.get(rest.substring(0, i), rest.substring(i + 1)).set(buildResource(p, true));
+        }
+
+        return resource;
     }
 
-    // Package protected -----------------------------------------------------------------------------------------------
+    private static String toPath(ModelNode address) {
 
-    // Protected -------------------------------------------------------------------------------------------------------
+        if (!ModelType.LIST.equals(address.getType())) {
 
-    // Private ---------------------------------------------------------------------------------------------------------
+            throw new IllegalArgumentException("expecting a LIST");
+        }
+
+        List<ModelNode> pathAsNodes = address.asList();
+
+        String path = "/";
+
+        for(ModelNode element: pathAsNodes) {
+
+            Property p = element.asProperty();
+
+            if (!"/".equals(path)) {
+
+                path += "/";
+            }
+
+            path += p.getName() + "=" + p.getValue().asString();
+        }
+
+        return path;
+    }
 
     // Inner classes ---------------------------------------------------------------------------------------------------
 
+    private static class CompletedAsyncFuture extends AsyncFutureTask<ModelNode> {
+
+        CompletedAsyncFuture(ModelNode response) {
+
+            super(Runnable::run);
+            setResult(response);
+        }
+    }
+
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import org.jboss.dmr.ModelType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the events as human readable strings.
+ *
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class MockModelNodeVisitor implements ModelNodeVisitor {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private List<String> events;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    public MockModelNodeVisitor() {
+
+        this.events = new ArrayList<>();
+    }
+
+    // ModelNodeVisitor implementation ---------------------------------------------------------------------------------
+
+    @Override
+    public void startObject(int size) {
+
+        events.add("startObject(" + size + ")");
+    }
+
+    @Override
+    public void key(String name) {
+
+        events.add("key(" + name + ")");
+    }
+
+    @Override
+    public void endObject() {
+
+        events.add("endObject");
+    }
+
+    @Override
+    public void startList(int size) {
+
+        events.add("startList(" + size + ")");
+    }
+
+    @Override
+    public void endList() {
+
+        events.add("endList");
+    }
+
+    @Override
+    public void startProperty(String name) {
+
+        events.add("startProperty(" + name + ")");
+    }
+
+    @Override
+    public void endProperty() {
+
+        events.add("endProperty");
+    }
+
+    @Override
+    public void undefinedValue() {
+
+        events.add("undefined");
+    }
+
+    @Override
+    public void stringValue(String value) {
+
+        events.add("string(" + value + ")");
+    }
+
+    @Override
+    public void booleanValue(boolean value) {
+
+        events.add("boolean(" + value + ")");
+    }
+
+    @Override
+    public void intValue(int value) {
+
+        events.add("int(" + value + ")");
+    }
+
+    @Override
+    public void longValue(long value) {
+
+        events.add("long(" + value + ")");
+    }
+
+    @Override
+    public void doubleValue(double value) {
+
+        events.add("double(" + value + ")");
+    }
+
+    @Override
+    public void bigDecimalValue(BigDecimal value) {
+
+        events.add("bigDecimal(" + value + ")");
+    }
+
+    @Override
+    public void bigIntegerValue(BigInteger value) {
+
+        events.add("bigInteger(" + value + ")");
+    }
+
+    @Override
+    public void bytesValue(byte[] value) {
+
+        events.add("bytes(" + value.length + ")");
+    }
+
+    @Override
+    public void expressionValue(String expression) {
+
+        events.add("expression(" + expression + ")");
+    }
+
+    @Override
+    public void typeValue(ModelType value) {
+
+        events.add("type(" + value + ")");
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    public List<String> getEvents() {
+
+        return events;
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
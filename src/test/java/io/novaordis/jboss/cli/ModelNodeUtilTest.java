@@ -16,6 +16,7 @@
 
 package io.novaordis.jboss.cli;
 
+import io.novaordis.jboss.cli.model.ManagementPath;
 import org.jboss.as.cli.Util;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -24,7 +25,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
-
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -231,19 +239,41 @@ public class ModelNodeUtilTest {
         ModelNode response = new ModelNode();
 
         response.get(Util.OUTCOME).set(Util.SUCCESS);
-        response.get(Util.RESULT).set(new BigDecimal(1));
+        response.get(Util.RESULT).add(1);
 
         try {
             ModelNodeUtil.operationResponseToValue(response);
+            fail("should throw exception");
         }
         catch(JBossCliException e) {
 
             String msg = e.getMessage();
             log.info(msg);
-            assertEquals("unsupported response type BIG_DECIMAL", msg);
+            assertEquals("unsupported response type LIST", msg);
         }
     }
 
+    @Test
+    public void operationResponseToValue_Success_BigDecimal() throws Exception {
+
+        Object o = ModelNodeUtil.operationResponseToValue(ModelNodeUtil.buildSuccess(new BigDecimal("1.25")));
+        assertEquals(new BigDecimal("1.25"), o);
+    }
+
+    @Test
+    public void operationResponseToValue_Success_BigInteger() throws Exception {
+
+        Object o = ModelNodeUtil.operationResponseToValue(ModelNodeUtil.buildSuccess(new BigInteger("12345")));
+        assertEquals(new BigInteger("12345"), o);
+    }
+
+    @Test
+    public void operationResponseToValue_Success_Bytes() throws Exception {
+
+        Object o = ModelNodeUtil.operationResponseToValue(ModelNodeUtil.buildSuccess(new byte[] {1, 2, 3}));
+        assertArrayEquals(new byte[] {1, 2, 3}, (byte[])o);
+    }
+
     @Test
     public void operationResponseToValue_UnknownAttributeReturnsNull() throws Exception {
 
@@ -280,6 +310,559 @@ public class ModelNodeUtilTest {
         assertNull(result);
     }
 
+    // operationResponseToLong() and the other primitive converters ----------------------------------------------------
+
+    @Test
+    public void operationResponseToLong() throws Exception {
+
+        assertEquals(7L, ModelNodeUtil.operationResponseToLong(ModelNodeUtil.buildSuccess(7L), -1L));
+        assertEquals(7L, ModelNodeUtil.operationResponseToLong(ModelNodeUtil.buildSuccess(7), -1L));
+        assertEquals(7L, ModelNodeUtil.operationResponseToLong(ModelNodeUtil.buildSuccess("7"), -1L));
+    }
+
+    @Test
+    public void operationResponseToLong_Undefined() throws Exception {
+
+        ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(Util.SUCCESS);
+        response.get(Util.RESULT);
+
+        assertEquals(-1L, ModelNodeUtil.operationResponseToLong(response, -1L));
+    }
+
+    @Test
+    public void operationResponseToLong_UnknownAttribute() throws Exception {
+
+        ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(ModelNodeUtil.FAILED);
+        response.get(Util.FAILURE_DESCRIPTION).set("JBAS014792: Unknown attribute no-such-attr");
+
+        assertEquals(-1L, ModelNodeUtil.operationResponseToLong(response, -1L));
+    }
+
+    @Test
+    public void operationResponseToLong_Failure() throws Exception {
+
+        try {
+
+            ModelNodeUtil.operationResponseToLong(ModelNodeUtil.buildFailure("something went wrong"), -1L);
+            fail("should throw exception");
+        }
+        catch(JBossCliOperationFailureException e) {
+
+            assertEquals("something went wrong", e.getMessage());
+        }
+    }
+
+    @Test
+    public void operationResponseToLong_NotANumber() throws Exception {
+
+        try {
+
+            ModelNodeUtil.operationResponseToLong(ModelNodeUtil.buildSuccess("blah"), -1L);
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertEquals("cannot convert \"blah\" to long", e.getMessage());
+        }
+    }
+
+    @Test
+    public void operationResponseToLong_UnsupportedType() throws Exception {
+
+        try {
+
+            ModelNodeUtil.operationResponseToLong(ModelNodeUtil.buildSuccess(true), -1L);
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertEquals("cannot convert BOOLEAN to long", e.getMessage());
+        }
+    }
+
+    @Test
+    public void operationResponseToInt() throws Exception {
+
+        assertEquals(7, ModelNodeUtil.operationResponseToInt(ModelNodeUtil.buildSuccess(7), -1));
+        assertEquals(7, ModelNodeUtil.operationResponseToInt(ModelNodeUtil.buildSuccess(7L), -1));
+        assertEquals(7, ModelNodeUtil.operationResponseToInt(ModelNodeUtil.buildSuccess("7"), -1));
+    }
+
+    @Test
+    public void operationResponseToInt_LongOutOfRange() throws Exception {
+
+        try {
+
+            ModelNodeUtil.operationResponseToInt(ModelNodeUtil.buildSuccess(Long.MAX_VALUE), -1);
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("out of int range"));
+        }
+    }
+
+    @Test
+    public void operationResponseToDouble() throws Exception {
+
+        assertEquals(1.5, ModelNodeUtil.operationResponseToDouble(ModelNodeUtil.buildSuccess(1.5), Double.NaN), 0);
+        assertEquals(2.0, ModelNodeUtil.operationResponseToDouble(ModelNodeUtil.buildSuccess(2L), Double.NaN), 0);
+        assertEquals(2.5, ModelNodeUtil.operationResponseToDouble(ModelNodeUtil.buildSuccess("2.5"), Double.NaN), 0);
+    }
+
+    @Test
+    public void operationResponseToBoolean() throws Exception {
+
+        assertTrue(ModelNodeUtil.operationResponseToBoolean(ModelNodeUtil.buildSuccess(true), false));
+        assertTrue(ModelNodeUtil.operationResponseToBoolean(ModelNodeUtil.buildSuccess("TRUE"), false));
+        assertFalse(ModelNodeUtil.operationResponseToBoolean(ModelNodeUtil.buildSuccess("false"), true));
+
+        try {
+
+            ModelNodeUtil.operationResponseToBoolean(ModelNodeUtil.buildSuccess(1), false);
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertEquals("cannot convert INT to boolean", e.getMessage());
+        }
+    }
+
+    @Test
+    public void toLong_Null() throws Exception {
+
+        assertEquals(5L, ModelNodeUtil.toLong(null, 5L));
+        assertEquals(5, ModelNodeUtil.toInt(null, 5));
+        assertEquals(5.0, ModelNodeUtil.toDouble(null, 5.0), 0);
+        assertTrue(ModelNodeUtil.toBoolean(null, true));
+    }
+
+    // walk() ----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void walk_Scalars() throws Exception {
+
+        MockModelNodeVisitor v = new MockModelNodeVisitor();
+
+        ModelNodeUtil.walk(new ModelNode("a"), v);
+        ModelNodeUtil.walk(new ModelNode(true), v);
+        ModelNodeUtil.walk(new ModelNode(1), v);
+        ModelNodeUtil.walk(new ModelNode(2L), v);
+        ModelNodeUtil.walk(new ModelNode(1.5d), v);
+        ModelNodeUtil.walk(new ModelNode(new BigDecimal("1.25")), v);
+        ModelNodeUtil.walk(new ModelNode(new BigInteger("12")), v);
+        ModelNodeUtil.walk(new ModelNode(new byte[] {1, 2}), v);
+        ModelNodeUtil.walk(new ModelNode().setExpression("${a:b}"), v);
+        ModelNodeUtil.walk(new ModelNode(ModelType.LONG), v);
+        ModelNodeUtil.walk(new ModelNode(), v);
+
+        assertEquals(Arrays.asList(
+                "string(a)", "boolean(true)", "int(1)", "long(2)", "double(1.5)", "bigDecimal(1.25)",
+                "bigInteger(12)", "bytes(2)", "expression(${a:b})", "type(LONG)", "undefined"), v.getEvents());
+    }
+
+    @Test
+    public void walk_Nested() throws Exception {
+
+        ModelNode n = new ModelNode();
+        n.get("name").set("x");
+        n.get("list").add(1L).add("two");
+        n.get("list").add().get("k").set(true);
+        n.get("property").set("p", 7);
+        n.get("empty").setEmptyList();
+
+        MockModelNodeVisitor v = new MockModelNodeVisitor();
+
+        ModelNodeUtil.walk(n, v);
+
+        assertEquals(Arrays.asList(
+                "startObject(4)",
+                "key(name)", "string(x)",
+                "key(list)", "startList(3)", "long(1)", "string(two)",
+                "startObject(1)", "key(k)", "boolean(true)", "endObject", "endList",
+                "key(property)", "startProperty(p)", "int(7)", "endProperty",
+                "key(empty)", "startList(0)", "endList",
+                "endObject"), v.getEvents());
+
+        //
+        // the walk must not modify the node
+        //
+
+        assertEquals(3, n.get("list").asList().size());
+    }
+
+    @Test
+    public void walk_VisitorAbortsWalk() throws Exception {
+
+        ModelNode n = new ModelNode();
+        n.add("a").add("b");
+
+        List<String> seen = new ArrayList<>();
+
+        try {
+
+            ModelNodeUtil.walk(n, new ModelNodeVisitor() {
+
+                @Override
+                public void stringValue(String value) throws JBossCliException {
+
+                    seen.add(value);
+                    throw new JBossCliException("SYNTHETIC");
+                }
+            });
+
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertEquals("SYNTHETIC", e.getMessage());
+        }
+
+        assertEquals(Collections.singletonList("a"), seen);
+    }
+
+    @Test
+    public void walkOperationResponse() throws Exception {
+
+        ModelNode value = new ModelNode();
+        value.add(1).add(2);
+
+        MockModelNodeVisitor v = new MockModelNodeVisitor();
+
+        ModelNodeUtil.walkOperationResponse(ModelNodeUtil.buildSuccess(value), v);
+
+        assertEquals(Arrays.asList("startList(2)", "int(1)", "int(2)", "endList"), v.getEvents());
+    }
+
+    @Test
+    public void walkOperationResponse_UnknownAttribute() throws Exception {
+
+        MockModelNodeVisitor v = new MockModelNodeVisitor();
+
+        ModelNodeUtil.walkOperationResponse(ModelNodeUtil.buildFailure("JBAS014792: Unknown attribute x"), v);
+
+        assertEquals(Collections.singletonList("undefined"), v.getEvents());
+    }
+
+    @Test
+    public void walkOperationResponse_Failure() throws Exception {
+
+        try {
+
+            ModelNodeUtil.walkOperationResponse(ModelNodeUtil.buildFailure("blah"), new MockModelNodeVisitor());
+            fail("should throw exception");
+        }
+        catch(JBossCliOperationFailureException e) {
+
+            assertEquals("blah", e.getMessage());
+        }
+    }
+
+    // operationResponseToValues() -------------------------------------------------------------------------------------
+
+    @Test
+    public void operationResponseToValues() throws Exception {
+
+        ModelNode response = new ModelNode();
+
+        response.get(Util.OUTCOME).set(Util.SUCCESS);
+        response.get(Util.RESULT, "a").set("b");
+        response.get(Util.RESULT, "c").set(1);
+        response.get(Util.RESULT, "d");
+
+        Map<String, Object> values = ModelNodeUtil.operationResponseToValues(response, Arrays.asList("c", "d", "e"));
+
+        assertEquals(3, values.size());
+        assertEquals(1, values.get("c"));
+        assertNull(values.get("d"));
+        assertTrue(values.containsKey("d"));
+        assertNull(values.get("e"));
+        assertTrue(values.containsKey("e"));
+    }
+
+    @Test
+    public void operationResponseToValues_Failure() throws Exception {
+
+        ModelNode response = ModelNodeUtil.buildFailure("JBAS014883: No resource definition is registered");
+
+        try {
+
+            ModelNodeUtil.operationResponseToValues(response, Arrays.asList("a", "b"));
+            fail("should throw exception");
+        }
+        catch(JBossCliOperationFailureException e) {
+
+            assertEquals("JBAS014883: No resource definition is registered", e.getMessage());
+        }
+    }
+
+    @Test
+    public void operationResponseToValues_NullNames() throws Exception {
+
+        try {
+
+            ModelNodeUtil.operationResponseToValues(ModelNodeUtil.buildSuccess("x"), null);
+            fail("should throw exception");
+        }
+        catch(IllegalArgumentException e) {
+
+            assertEquals("null attribute names", e.getMessage());
+        }
+    }
+
+    // wildcardResponseToValues() --------------------------------------------------------------------------------------
+
+    @Test
+    public void wildcardResponseToValues() throws Exception {
+
+        ManagementPath a = new ManagementPath("/subsystem=datasources/data-source=A");
+        ManagementPath b = new ManagementPath("/subsystem=datasources/data-source=B");
+
+        ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(Util.SUCCESS);
+        ModelNode result = response.get(Util.RESULT);
+
+        ModelNode e = ModelNodeUtil.buildSuccess(3);
+        e.get(Util.ADDRESS).set(a.getAddress());
+        result.add(e);
+
+        e = new ModelNode();
+        e.get(Util.OUTCOME).set(Util.SUCCESS);
+        e.get(Util.RESULT);
+        e.get(Util.ADDRESS).set(b.getAddress());
+        result.add(e);
+
+        Map<ManagementPath, Object> values = ModelNodeUtil.wildcardResponseToValues(response);
+
+        assertEquals(2, values.size());
+        assertEquals(Arrays.asList(a, b), new ArrayList<>(values.keySet()));
+        assertEquals(3, values.get(a));
+        assertNull(values.get(b));
+    }
+
+    @Test
+    public void wildcardResponseToValues_NoMatch() throws Exception {
+
+        ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(Util.SUCCESS);
+        response.get(Util.RESULT).setEmptyList();
+
+        assertTrue(ModelNodeUtil.wildcardResponseToValues(response).isEmpty());
+    }
+
+    @Test
+    public void wildcardResponseToValues_ElementFailure() throws Exception {
+
+        ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(Util.SUCCESS);
+
+        ModelNode e = ModelNodeUtil.buildFailure("SYNTHETIC");
+        e.get(Util.ADDRESS).set(new ManagementPath("/a=b").getAddress());
+        response.get(Util.RESULT).add(e);
+
+        try {
+
+            ModelNodeUtil.wildcardResponseToValues(response);
+            fail("should throw exception");
+        }
+        catch(JBossCliOperationFailureException ex) {
+
+            String msg = ex.getMessage();
+            assertTrue(msg.contains("SYNTHETIC"));
+        }
+    }
+
+    @Test
+    public void wildcardResponseToValues_NotAWildcardResponse() throws Exception {
+
+        try {
+
+            ModelNodeUtil.wildcardResponseToValues(ModelNodeUtil.buildSuccess("something"));
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            String msg = e.getMessage();
+            assertTrue(msg.contains("not a wildcard operation response"));
+        }
+    }
+
+    // descriptionResponseToDescription() ------------------------------------------------------------------------------
+
+    @Test
+    public void descriptionResponseToDescription() throws Exception {
+
+        ModelNode description = new ModelNode();
+        description.get(Util.DESCRIPTION).set("test");
+
+        ModelNode d = ModelNodeUtil.descriptionResponseToDescription(ModelNodeUtil.buildSuccess(description));
+        assertEquals("test", d.get(Util.DESCRIPTION).asString());
+    }
+
+    @Test
+    public void descriptionResponseToDescription_Wildcard() throws Exception {
+
+        ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(Util.SUCCESS);
+
+        ModelNode failed = ModelNodeUtil.buildFailure("SYNTHETIC");
+        failed.get(Util.ADDRESS).set(new ManagementPath("/a=b").getAddress());
+        response.get(Util.RESULT).add(failed);
+
+        ModelNode e = new ModelNode();
+        e.get(Util.OUTCOME).set(Util.SUCCESS);
+        e.get(Util.ADDRESS).set(new ManagementPath("/a=c").getAddress());
+        e.get(Util.RESULT, Util.DESCRIPTION).set("test");
+        response.get(Util.RESULT).add(e);
+
+        ModelNode d = ModelNodeUtil.descriptionResponseToDescription(response);
+        assertEquals("test", d.get(Util.DESCRIPTION).asString());
+    }
+
+    @Test
+    public void descriptionResponseToDescription_Wildcard_NoMatch() throws Exception {
+
+        ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(Util.SUCCESS);
+        response.get(Util.RESULT).setEmptyList();
+
+        try {
+
+            ModelNodeUtil.descriptionResponseToDescription(response);
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            String msg = e.getMessage();
+            assertTrue(msg.contains("no resource matched"));
+        }
+    }
+
+    // buildReadResourceRequest() --------------------------------------------------------------------------------------
+
+    @Test
+    public void buildReadResourceRequest() throws Exception {
+
+        ManagementPath path = new ManagementPath("/subsystem=datasources/data-source=X/statistics=pool");
+
+        ModelNode request = ModelNodeUtil.buildReadResourceRequest(path, true, true);
+
+        assertEquals(Util.READ_RESOURCE, request.get(Util.OPERATION).asString());
+        assertEquals(path.getAddress(), request.get(Util.ADDRESS));
+        assertTrue(request.get(Util.INCLUDE_RUNTIME).asBoolean());
+        assertTrue(request.get(ModelNodeUtil.ATTRIBUTES_ONLY).asBoolean());
+    }
+
+    // buildCompositeRequest() -----------------------------------------------------------------------------------------
+
+    @Test
+    public void buildCompositeRequest() throws Exception {
+
+        ModelNode step1 = ModelNodeUtil.buildReadAttributeRequest(new ManagementPath("/a=b"), "c");
+        ModelNode step2 = ModelNodeUtil.buildReadAttributeRequest(new ManagementPath("/x=y"), "z");
+
+        ModelNode request = ModelNodeUtil.buildCompositeRequest(Arrays.asList(step1, step2));
+
+        assertEquals(Util.COMPOSITE, request.get(Util.OPERATION).asString());
+        assertTrue(request.get(Util.ADDRESS).asList().isEmpty());
+
+        List<ModelNode> steps = request.get(Util.STEPS).asList();
+        assertEquals(2, steps.size());
+        assertEquals(step1, steps.get(0));
+        assertEquals(step2, steps.get(1));
+
+        assertFalse(request.get(Util.OPERATION_HEADERS, Util.ROLLBACK_ON_RUNTIME_FAILURE).asBoolean());
+    }
+
+    // compositeResponseToStepResponses() ------------------------------------------------------------------------------
+
+    @Test
+    public void compositeResponseToStepResponses() throws Exception {
+
+        ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(ModelNodeUtil.FAILED);
+        response.get(Util.FAILURE_DESCRIPTION).set("composite failed");
+        response.get(Util.RESULT, "step-1").set(ModelNodeUtil.buildSuccess("a"));
+        response.get(Util.RESULT, "step-2").set(ModelNodeUtil.buildFailure("b"));
+
+        List<ModelNode> stepResponses = ModelNodeUtil.compositeResponseToStepResponses(response, 3);
+
+        assertEquals(3, stepResponses.size());
+        assertEquals("a", ModelNodeUtil.operationResponseToValue(stepResponses.get(0)));
+
+        try {
+
+            ModelNodeUtil.operationResponseToValue(stepResponses.get(1));
+            fail("should throw exception");
+        }
+        catch(JBossCliOperationFailureException e) {
+
+            assertEquals("b", e.getMessage());
+        }
+
+        //
+        // missing step, synthesized failure
+        //
+
+        try {
+
+            ModelNodeUtil.operationResponseToValue(stepResponses.get(2));
+            fail("should throw exception");
+        }
+        catch(JBossCliOperationFailureException e) {
+
+            assertEquals("composite failed", e.getMessage());
+        }
+    }
+
+    @Test
+    public void compositeResponseToStepResponses_NotAResponse() throws Exception {
+
+        try {
+
+            ModelNodeUtil.compositeResponseToStepResponses(new ModelNode(), 1);
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().startsWith("node has no '" + Util.OUTCOME + "' key"));
+        }
+    }
+
+    // isStepOutcomeFinal() --------------------------------------------------------------------------------------------
+
+    @Test
+    public void isStepOutcomeFinal() throws Exception {
+
+        ModelNode response = new ModelNode();
+        response.get(Util.OUTCOME).set(Util.SUCCESS);
+        response.get(Util.RESULT, "step-1").set(ModelNodeUtil.buildSuccess("a"));
+
+        assertTrue(ModelNodeUtil.isStepOutcomeFinal(response, 1));
+
+        response = new ModelNode();
+        response.get(Util.OUTCOME).set(ModelNodeUtil.FAILED);
+        response.get(Util.FAILURE_DESCRIPTION).set("composite failed");
+        response.get(Util.RESULT, "step-1").set(ModelNodeUtil.buildSuccess("a"));
+        response.get(Util.RESULT, "step-2").set(ModelNodeUtil.buildFailure("b"));
+        response.get(Util.RESULT, "step-3", Util.OUTCOME).set("cancelled");
+
+        // succeeded
+        assertTrue(ModelNodeUtil.isStepOutcomeFinal(response, 1));
+
+        // failed on its own
+        assertTrue(ModelNodeUtil.isStepOutcomeFinal(response, 2));
+
+        // not executed
+        assertFalse(ModelNodeUtil.isStepOutcomeFinal(response, 3));
+        assertFalse(ModelNodeUtil.isStepOutcomeFinal(response, 4));
+
+        // rejected as a whole
+        assertFalse(ModelNodeUtil.isStepOutcomeFinal(ModelNodeUtil.buildFailure("rejected"), 1));
+    }
+
     // buildFailure() --------------------------------------------------------------------------------------------------
 
     @Test
@@ -333,6 +916,17 @@ public class ModelNodeUtilTest {
         assertEquals(1, result.asInt());
     }
 
+    @Test
+    public void buildSuccess_Long() throws Exception {
+
+        ModelNode n = ModelNodeUtil.buildSuccess(1L);
+
+        ModelNode result = n.get(Util.RESULT);
+
+        assertEquals(ModelType.LONG, result.getType());
+        assertEquals(1L, result.asLong());
+    }
+
     @Test
     public void buildSuccess_Null() throws Exception {
 
@@ -347,6 +941,41 @@ public class ModelNodeUtilTest {
         }
     }
 
+    // buildReadAttributeRequest() -------------------------------------------------------------------------------------
+
+    @Test
+    public void buildReadAttributeRequest() throws Exception {
+
+        ManagementPath path = new ManagementPath("/subsystem=web/connector=http");
+
+        ModelNode request = ModelNodeUtil.buildReadAttributeRequest(path, "bytesReceived");
+
+        assertEquals(Util.READ_ATTRIBUTE, request.get(Util.OPERATION).asString());
+        assertEquals("bytesReceived", request.get(Util.NAME).asString());
+        assertEquals(path.getAddress(), request.get(Util.ADDRESS));
+
+        //
+        // the request must be modifiable, even if the path address is protected
+        //
+
+        request.get(Util.ADDRESS).add("a", "b");
+        assertEquals(2, path.getAddress().asList().size());
+    }
+
+    @Test
+    public void buildOperation_NullPath() throws Exception {
+
+        try {
+
+            ModelNodeUtil.buildOperation(null, Util.READ_RESOURCE);
+            fail("should throw exception");
+        }
+        catch(IllegalArgumentException e) {
+
+            assertEquals("null path", e.getMessage());
+        }
+    }
+
     // Package protected -----------------------------------------------------------------------------------------------
 
     // Protected -------------------------------------------------------------------------------------------------------
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class OperationRequestCacheTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void constructor_InvalidCapacity() throws Exception {
+
+        try {
+
+            new OperationRequestCache(-1);
+            fail("should throw exception");
+        }
+        catch(IllegalArgumentException e) {
+
+            assertEquals("invalid capacity -1", e.getMessage());
+        }
+    }
+
+    @Test
+    public void hitAndMiss() throws Exception {
+
+        OperationRequestCache c = new OperationRequestCache(10);
+
+        assertNull(c.get("/a=b", "c"));
+        assertEquals(0, c.getHitCount());
+        assertEquals(1, c.getMissCount());
+
+        ModelNode request = new ModelNode();
+        c.put("/a=b", "c", request);
+
+        assertSame(request, c.get("/a=b", "c"));
+        assertEquals(1, c.getHitCount());
+        assertEquals(1, c.getMissCount());
+
+        assertNull(c.get("/a=b", "d"));
+        assertEquals(1, c.getHitCount());
+        assertEquals(2, c.getMissCount());
+        assertEquals(1, c.size());
+    }
+
+    @Test
+    public void put_RequestIsProtected() throws Exception {
+
+        OperationRequestCache c = new OperationRequestCache(10);
+
+        ModelNode request = new ModelNode();
+        request.get("operation").set("read-attribute");
+        c.put("/a=b", "c", request);
+
+        try {
+
+            c.get("/a=b", "c").get("operation").set("something-else");
+            fail("should throw exception");
+        }
+        catch(UnsupportedOperationException | IllegalStateException e) {
+
+            // ok
+        }
+    }
+
+    @Test
+    public void eviction_LeastRecentlyUsed() throws Exception {
+
+        OperationRequestCache c = new OperationRequestCache(2);
+
+        ModelNode r1 = new ModelNode();
+        ModelNode r2 = new ModelNode();
+        ModelNode r3 = new ModelNode();
+
+        c.put("/a=b", "1", r1);
+        c.put("/a=b", "2", r2);
+
+        //
+        // access "1" so "2" becomes the least recently used
+        //
+
+        assertSame(r1, c.get("/a=b", "1"));
+
+        c.put("/a=b", "3", r3);
+
+        assertEquals(2, c.size());
+        assertEquals(1, c.getEvictionCount());
+        assertSame(r1, c.get("/a=b", "1"));
+        assertNull(c.get("/a=b", "2"));
+        assertSame(r3, c.get("/a=b", "3"));
+    }
+
+    @Test
+    public void zeroCapacity_DisablesCaching() throws Exception {
+
+        OperationRequestCache c = new OperationRequestCache(0);
+
+        c.put("/a=b", "c", new ModelNode());
+
+        assertEquals(0, c.size());
+        assertNull(c.get("/a=b", "c"));
+        assertEquals(0, c.getEvictionCount());
+    }
+
+    @Test
+    public void clear() throws Exception {
+
+        OperationRequestCache c = new OperationRequestCache(10);
+
+        c.put("/a=b", "c", new ModelNode());
+        c.clear();
+
+        assertEquals(0, c.size());
+        assertNull(c.get("/a=b", "c"));
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
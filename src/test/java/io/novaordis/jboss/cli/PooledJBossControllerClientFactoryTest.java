@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class PooledJBossControllerClientFactoryTest extends JBossControllerClientFactoryTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private MockCommandContext mcc;
+    private AtomicInteger created;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void connect_ReusesConnection() throws Exception {
+
+        PooledJBossControllerClientFactory f = getJBossControllerClientFactoryToTest();
+
+        JBossControllerAddress a = new JBossControllerAddress();
+
+        JBossControllerClient c = f.buildControllerClient(a);
+        assertFalse(c.isConnected());
+
+        c.connect();
+        assertTrue(c.isConnected());
+        assertEquals(1, created.get());
+        assertEquals(1, f.getActiveCount(a));
+        assertEquals(0, f.getIdleCount(a));
+
+        assertEquals("d", c.getAttributeValue("/a=b", "c"));
+
+        c.disconnect();
+        assertFalse(c.isConnected());
+        assertEquals(0, f.getActiveCount(a));
+        assertEquals(1, f.getIdleCount(a));
+
+        //
+        // a different client instance for the same controller gets the warm connection
+        //
+
+        JBossControllerClient c2 = f.buildControllerClient(a);
+        c2.connect();
+        assertEquals(1, created.get());
+        assertEquals("d", c2.getAttributeValue("/a=b", "c"));
+        c2.disconnect();
+
+        assertEquals(1, f.getIdleCount(a));
+    }
+
+    @Test
+    public void connect_MaxConnectionsReached_Timeout() throws Exception {
+
+        PooledJBossControllerClientFactory f =
+                new PooledJBossControllerClientFactory(buildDelegate(true), 2, 60000, 50);
+
+        JBossControllerAddress a = new JBossControllerAddress();
+
+        JBossControllerClient c = f.buildControllerClient(a);
+        JBossControllerClient c2 = f.buildControllerClient(a);
+        JBossControllerClient c3 = f.buildControllerClient(a);
+
+        c.connect();
+        c2.connect();
+        assertEquals(2, created.get());
+
+        try {
+
+            c3.connect();
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("timed out waiting for a connection"));
+        }
+
+        assertFalse(c3.isConnected());
+
+        c.disconnect();
+        c3.connect();
+        assertEquals(2, created.get());
+        assertEquals(2, f.getActiveCount(a));
+    }
+
+    @Test
+    public void connect_WaitsForReturnedConnection() throws Exception {
+
+        PooledJBossControllerClientFactory f =
+                new PooledJBossControllerClientFactory(buildDelegate(true), 1, 60000, 5000);
+
+        JBossControllerAddress a = new JBossControllerAddress();
+
+        JBossControllerClient c = f.buildControllerClient(a);
+        c.connect();
+
+        Thread t = new Thread(() -> {
+
+            try {
+
+                Thread.sleep(100);
+            }
+            catch(InterruptedException e) {
+
+                // ignore
+            }
+
+            c.disconnect();
+        });
+
+        t.start();
+
+        JBossControllerClient c2 = f.buildControllerClient(a);
+        c2.connect();
+
+        assertTrue(c2.isConnected());
+        assertEquals(1, created.get());
+
+        t.join();
+    }
+
+    @Test
+    public void idleEviction() throws Exception {
+
+        PooledJBossControllerClientFactory f =
+                new PooledJBossControllerClientFactory(buildDelegate(true), 2, 0, 1000);
+
+        JBossControllerAddress a = new JBossControllerAddress();
+
+        JBossControllerClient c = f.buildControllerClient(a);
+        c.connect();
+        c.disconnect();
+
+        assertEquals(1, f.getIdleCount(a));
+
+        assertEquals(1, f.evictIdle());
+        assertEquals(0, f.getIdleCount(a));
+
+        c.connect();
+        assertEquals(2, created.get());
+        c.disconnect();
+    }
+
+    @Test
+    public void validationOnBorrow_InvalidConnectionIsDiscarded() throws Exception {
+
+        //
+        // the root resource is not available, so validation fails
+        //
+
+        PooledJBossControllerClientFactory f =
+                new PooledJBossControllerClientFactory(buildDelegate(false), 2, 60000, 1000);
+
+        assertTrue(f.isValidateOnBorrow());
+
+        JBossControllerAddress a = new JBossControllerAddress();
+
+        JBossControllerClient c = f.buildControllerClient(a);
+        c.connect();
+        c.disconnect();
+
+        assertEquals(1, created.get());
+        assertEquals(1, f.getIdleCount(a));
+
+        c.connect();
+
+        //
+        // the idle connection was discarded and a new one created
+        //
+
+        assertEquals(2, created.get());
+        assertEquals(0, f.getIdleCount(a));
+        assertEquals(1, f.getActiveCount(a));
+        assertEquals("d", c.getAttributeValue("/a=b", "c"));
+
+        c.disconnect();
+    }
+
+    @Test
+    public void validationOnBorrow_Disabled() throws Exception {
+
+        PooledJBossControllerClientFactory f =
+                new PooledJBossControllerClientFactory(buildDelegate(false), 2, 60000, 1000);
+
+        f.setValidateOnBorrow(false);
+
+        JBossControllerAddress a = new JBossControllerAddress();
+
+        JBossControllerClient c = f.buildControllerClient(a);
+        c.connect();
+        c.disconnect();
+        c.connect();
+
+        assertEquals(1, created.get());
+        c.disconnect();
+    }
+
+    @Test
+    public void close() throws Exception {
+
+        PooledJBossControllerClientFactory f = getJBossControllerClientFactoryToTest();
+
+        JBossControllerAddress a = new JBossControllerAddress();
+
+        JBossControllerClient c = f.buildControllerClient(a);
+        c.connect();
+        c.disconnect();
+
+        assertEquals(1, f.getIdleCount(a));
+
+        f.close();
+
+        assertEquals(0, f.getIdleCount(a));
+
+        try {
+
+            f.buildControllerClient(a);
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("closed"));
+        }
+    }
+
+    @Test
+    public void setCommandContextFactory_Ignored() throws Exception {
+
+        PooledJBossControllerClientFactory f = getJBossControllerClientFactoryToTest();
+
+        JBossControllerClient c = f.buildControllerClient(new JBossControllerAddress());
+
+        //
+        // the connection still comes from the delegate factory
+        //
+
+        c.setCommandContextFactory(new MockCommandContextFactory(new MockCommandContext()));
+        c.connect();
+
+        assertEquals("d", c.getAttributeValue("/a=b", "c"));
+
+        c.disconnect();
+    }
+
+    @Test
+    public void getAttributeValue_NotConnected() throws Exception {
+
+        PooledJBossControllerClientFactory f = getJBossControllerClientFactoryToTest();
+
+        JBossControllerClient c = f.buildControllerClient(new JBossControllerAddress());
+
+        try {
+
+            c.getAttributeValue("/a=b", "c");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("not connected"));
+        }
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    @Override
+    protected PooledJBossControllerClientFactory getJBossControllerClientFactoryToTest() throws Exception {
+
+        return new PooledJBossControllerClientFactory(buildDelegate(true), 2, 60000, 1000);
+    }
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    /**
+     * A delegate factory that builds clients bound to a fresh mock command context, and counts them.
+     *
+     * @param validatable whether the root resource validation attribute is available.
+     */
+    private JBossControllerClientFactory buildDelegate(boolean validatable) {
+
+        mcc = new MockCommandContext();
+
+        if (validatable) {
+
+            mcc.install("/", PooledJBossControllerClientFactory.VALIDATION_ATTRIBUTE, "7.5.0.Final-redhat-21");
+        }
+
+        mcc.install("/a=b", "c", "d");
+
+        created = new AtomicInteger();
+
+        return address -> {
+
+            JBossControllerClientImpl c = new JBossControllerClientImpl(address);
+            c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+            created.incrementAndGet();
+            return c;
+        };
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
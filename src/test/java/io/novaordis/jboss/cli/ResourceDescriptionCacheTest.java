@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli;
+
+import io.novaordis.jboss.JBossInfo;
+import io.novaordis.jboss.cli.model.ManagementPath;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class ResourceDescriptionCacheTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    private static final String VERSION = "EAP-6.4.15.GA";
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private File directory;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    @Before
+    public void setUp() throws Exception {
+
+        directory = Files.createTempDirectory("resource-description-cache").toFile();
+    }
+
+    @After
+    public void cleanup() throws Exception {
+
+        File[] files = directory.listFiles();
+
+        if (files != null) {
+
+            for(File f: files) {
+
+                assertTrue(f.delete());
+            }
+        }
+
+        assertTrue(directory.delete());
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void versionKey_UnknownVersion() throws Exception {
+
+        try {
+
+            ResourceDescriptionCache.versionKey(new JBossInfo());
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            String msg = e.getMessage();
+            assertTrue(msg.contains("unknown version"));
+        }
+    }
+
+    @Test
+    public void getFile() throws Exception {
+
+        ResourceDescriptionCache c = new ResourceDescriptionCache(directory);
+
+        assertEquals(new File(directory, "EAP-6.4.15.GA.dmr"), c.getFile(VERSION));
+        assertEquals(new File(directory, "a_b_c.dmr"), c.getFile("a/b c"));
+    }
+
+    @Test
+    public void getDescription_ReadOnceAndPersisted() throws Exception {
+
+        MockCommandContext mcc = new MockCommandContext();
+        mcc.install("/subsystem=datasources/data-source=A", "max-pool-size", 20);
+        mcc.install("/subsystem=datasources/data-source=A", "jndi-name", "java:/A");
+
+        JBossControllerClientImpl client = new JBossControllerClientImpl();
+        client.setCommandContextFactory(new MockCommandContextFactory(mcc));
+        client.connect();
+
+        ManagementPath path = new ManagementPath("/subsystem=datasources/data-source=A");
+
+        ResourceDescriptionCache c = new ResourceDescriptionCache(directory);
+
+        assertNull(c.getDescription(VERSION, path, null));
+        assertFalse(c.getFile(VERSION).exists());
+
+        ModelNode d = c.getDescription(VERSION, path, client);
+        assertNotNull(d);
+        assertEquals(1, client.getMetrics().getCount(OperationType.READ_DESCRIPTION));
+        assertTrue(c.getFile(VERSION).isFile());
+
+        assertEquals(ModelType.INT, c.getAttributeType(VERSION, path, "max-pool-size", client));
+        assertEquals(ModelType.STRING, c.getAttributeType(VERSION, path, "jndi-name", client));
+        assertNull(c.getAttributeType(VERSION, path, "no-such-attribute", client));
+
+        c.validateAttribute(VERSION, path, "jndi-name", client);
+
+        try {
+
+            c.validateAttribute(VERSION, path, "no-such-attribute", client);
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            String msg = e.getMessage();
+            assertTrue(msg.contains("no attribute \"no-such-attribute\""));
+        }
+
+        //
+        // all lookups after the first one were served from memory
+        //
+
+        assertEquals(1, client.getMetrics().getCount(OperationType.READ_DESCRIPTION));
+
+        client.disconnect();
+
+        //
+        // a new cache instance, as in a new process, loads the description from disk, lazily
+        //
+
+        ResourceDescriptionCache c2 = new ResourceDescriptionCache(directory);
+        assertEquals(0, c2.getVersionCount());
+
+        ModelNode d2 = c2.getDescription(VERSION, path, null);
+        assertEquals(d, d2);
+        assertEquals(1, c2.getVersionCount());
+        assertEquals(ModelType.INT, c2.getAttributeType(VERSION, path, "max-pool-size", null));
+
+        //
+        // other versions do not share descriptions
+        //
+
+        assertNull(c2.get("EAP-7.0.0.GA", path));
+    }
+
+    @Test
+    public void getAttributeType_NothingCachedNoClient() throws Exception {
+
+        ResourceDescriptionCache c = new ResourceDescriptionCache(directory);
+
+        try {
+
+            c.getAttributeType(VERSION, new ManagementPath("/a=b"), "c", null);
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            String msg = e.getMessage();
+            assertTrue(msg.contains("no " + VERSION + " description cached for /a=b"));
+        }
+    }
+
+    @Test
+    public void put_DescriptionsAreProtected() throws Exception {
+
+        ResourceDescriptionCache c = new ResourceDescriptionCache(directory);
+
+        ModelNode d = new ModelNode();
+        d.get("description").set("test");
+
+        ModelNode cached = c.put(VERSION, ManagementPath.ROOT, d);
+
+        try {
+
+            cached.get("description").set("something else");
+            fail("should throw exception");
+        }
+        catch(UnsupportedOperationException e) {
+
+            // expected
+        }
+
+        //
+        // the cache does not share state with the original
+        //
+
+        d.get("description").set("something else");
+        assertEquals("test", c.get(VERSION, ManagementPath.ROOT).get("description").asString());
+        assertEquals(1, c.getHitCount());
+    }
+
+    @Test
+    public void corruptedFile_Ignored() throws Exception {
+
+        ResourceDescriptionCache c = new ResourceDescriptionCache(directory);
+
+        try (FileOutputStream fos = new FileOutputStream(c.getFile(VERSION))) {
+
+            fos.write(new byte[] { 'x', 'y', 'z' });
+        }
+
+        assertNull(c.get(VERSION, ManagementPath.ROOT));
+        assertEquals(1, c.getMissCount());
+
+        ModelNode d = new ModelNode();
+        d.get("description").set("test");
+        c.put(VERSION, ManagementPath.ROOT, d);
+
+        ResourceDescriptionCache c2 = new ResourceDescriptionCache(directory);
+        assertEquals("test", c2.get(VERSION, ManagementPath.ROOT).get("description").asString());
+    }
+
+    @Test
+    public void put_AppendsToTheFile() throws Exception {
+
+        ResourceDescriptionCache c = new ResourceDescriptionCache(directory);
+
+        ModelNode d = new ModelNode();
+        d.get("description").set("a");
+        c.put(VERSION, new ManagementPath("/a=b"), d);
+
+        byte[] first = Files.readAllBytes(c.getFile(VERSION).toPath());
+
+        d.get("description").set("x");
+        c.put(VERSION, new ManagementPath("/x=y"), d);
+
+        //
+        // the existing content is not rewritten
+        //
+
+        byte[] second = Files.readAllBytes(c.getFile(VERSION).toPath());
+        assertTrue(second.length > first.length);
+        assertArrayEquals(first, Arrays.copyOf(second, first.length));
+
+        ResourceDescriptionCache c2 = new ResourceDescriptionCache(directory);
+        assertEquals("a", c2.get(VERSION, new ManagementPath("/a=b")).get("description").asString());
+        assertEquals("x", c2.get(VERSION, new ManagementPath("/x=y")).get("description").asString());
+    }
+
+    @Test
+    public void partialRecord_Discarded() throws Exception {
+
+        ResourceDescriptionCache c = new ResourceDescriptionCache(directory);
+
+        ModelNode d = new ModelNode();
+        d.get("description").set("a");
+        c.put(VERSION, new ManagementPath("/a=b"), d);
+
+        long length = c.getFile(VERSION).length();
+
+        //
+        // an interrupted append
+        //
+
+        try (FileOutputStream fos = new FileOutputStream(c.getFile(VERSION), true)) {
+
+            fos.write(new byte[] { 0, 0, 1, 0, 'x' });
+        }
+
+        ResourceDescriptionCache c2 = new ResourceDescriptionCache(directory);
+        assertEquals("a", c2.get(VERSION, new ManagementPath("/a=b")).get("description").asString());
+        assertEquals(length, c2.getFile(VERSION).length());
+
+        d.get("description").set("x");
+        c2.put(VERSION, new ManagementPath("/x=y"), d);
+
+        ResourceDescriptionCache c3 = new ResourceDescriptionCache(directory);
+        assertEquals("a", c3.get(VERSION, new ManagementPath("/a=b")).get("description").asString());
+        assertEquals("x", c3.get(VERSION, new ManagementPath("/x=y")).get("description").asString());
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
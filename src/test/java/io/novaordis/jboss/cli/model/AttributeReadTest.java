@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class AttributeReadTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void constructor() throws Exception {
+
+        AttributeRead r = new AttributeRead("/subsystem=web/connector=http", "bytesReceived");
+
+        assertEquals(new ManagementPath("/subsystem=web/connector=http"), r.getPath());
+        assertEquals("bytesReceived", r.getAttributeName());
+        assertEquals("/subsystem=web/connector=http:bytesReceived", r.toString());
+    }
+
+    @Test
+    public void constructor_NullPath() throws Exception {
+
+        try {
+
+            new AttributeRead((ManagementPath)null, "a");
+            fail("should throw exception");
+        }
+        catch(IllegalArgumentException e) {
+
+            assertEquals("null path", e.getMessage());
+        }
+    }
+
+    @Test
+    public void constructor_NullAttributeName() throws Exception {
+
+        try {
+
+            new AttributeRead(ManagementPath.ROOT, null);
+            fail("should throw exception");
+        }
+        catch(IllegalArgumentException e) {
+
+            assertEquals("null attribute name", e.getMessage());
+        }
+    }
+
+    @Test
+    public void equalsAndHashCode() throws Exception {
+
+        AttributeRead r = new AttributeRead("/a=b", "c");
+        AttributeRead r2 = new AttributeRead(new ManagementPath("a=b"), "c");
+
+        assertEquals(r, r2);
+        assertEquals(r.hashCode(), r2.hashCode());
+        assertNotEquals(r, new AttributeRead("/a=b", "d"));
+        assertNotEquals(r, new AttributeRead("/a=c", "c"));
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
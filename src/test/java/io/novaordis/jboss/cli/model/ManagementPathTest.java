@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli.model;
+
+import io.novaordis.jboss.cli.JBossCliException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.dmr.Property;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class ManagementPathTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void constructor_Null() throws Exception {
+
+        try {
+
+            new ManagementPath(null);
+            fail("should throw exception");
+        }
+        catch(IllegalArgumentException e) {
+
+            assertEquals("null path", e.getMessage());
+        }
+    }
+
+    @Test
+    public void root() throws Exception {
+
+        ManagementPath p = new ManagementPath("/");
+
+        assertTrue(p.isRoot());
+        assertEquals(0, p.size());
+        assertEquals("/", p.getLiteral());
+        assertNull(p.getParent());
+        assertEquals(ManagementPath.ROOT, p);
+
+        ModelNode address = p.getAddress();
+        assertEquals(ModelType.LIST, address.getType());
+        assertTrue(address.asList().isEmpty());
+    }
+
+    @Test
+    public void root_EmptyString() throws Exception {
+
+        assertEquals(ManagementPath.ROOT, new ManagementPath(""));
+    }
+
+    @Test
+    public void twoElements() throws Exception {
+
+        ManagementPath p = new ManagementPath("/subsystem=web/connector=http");
+
+        assertFalse(p.isRoot());
+        assertEquals(2, p.size());
+        assertEquals("subsystem", p.getType(0));
+        assertEquals("web", p.getName(0));
+        assertEquals("connector", p.getType(1));
+        assertEquals("http", p.getName(1));
+        assertEquals("/subsystem=web/connector=http", p.getLiteral());
+        assertEquals("/subsystem=web/connector=http", p.toString());
+
+        List<ModelNode> address = p.getAddress().asList();
+        assertEquals(2, address.size());
+        Property p0 = address.get(0).asProperty();
+        assertEquals("subsystem", p0.getName());
+        assertEquals("web", p0.getValue().asString());
+        Property p1 = address.get(1).asProperty();
+        assertEquals("connector", p1.getName());
+        assertEquals("http", p1.getValue().asString());
+    }
+
+    @Test
+    public void noLeadingSlash_TrailingSlash() throws Exception {
+
+        ManagementPath p = new ManagementPath("subsystem=web/connector=http/");
+
+        assertEquals(new ManagementPath("/subsystem=web/connector=http"), p);
+    }
+
+    @Test
+    public void quotedValue() throws Exception {
+
+        ManagementPath p = new ManagementPath("/subsystem=naming/binding=\"java:global/a=b\"");
+
+        assertEquals(2, p.size());
+        assertEquals("binding", p.getType(1));
+        assertEquals("java:global/a=b", p.getName(1));
+        assertEquals("/subsystem=naming/binding=\"java:global/a=b\"", p.getLiteral());
+        assertEquals(p, new ManagementPath(p.getLiteral()));
+    }
+
+    @Test
+    public void quotedValue_EscapedQuote() throws Exception {
+
+        ManagementPath p = new ManagementPath("/a=\"x\\\"y\"");
+
+        assertEquals("x\"y", p.getName(0));
+        assertEquals(p, new ManagementPath(p.getLiteral()));
+    }
+
+    @Test
+    public void invalid_MissingEquals() throws Exception {
+
+        try {
+
+            new ManagementPath("/subsystem");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("missing '='"));
+        }
+    }
+
+    @Test
+    public void invalid_EmptyValue() throws Exception {
+
+        try {
+
+            new ManagementPath("/subsystem=/a=b");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("empty value"));
+        }
+    }
+
+    @Test
+    public void invalid_EmptyType() throws Exception {
+
+        try {
+
+            new ManagementPath("/=web");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("empty type"));
+        }
+    }
+
+    @Test
+    public void invalid_UnbalancedQuotes() throws Exception {
+
+        try {
+
+            new ManagementPath("/a=\"b");
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            assertTrue(e.getMessage().contains("unbalanced quotes"));
+        }
+    }
+
+    @Test
+    public void address_IsProtected() throws Exception {
+
+        ManagementPath p = new ManagementPath("/a=b");
+
+        try {
+
+            p.getAddress().add("c", "d");
+            fail("should throw exception");
+        }
+        catch(UnsupportedOperationException | IllegalStateException e) {
+
+            // ok
+        }
+
+        assertEquals(1, p.getAddress().asList().size());
+    }
+
+    @Test
+    public void parentAndAppend() throws Exception {
+
+        ManagementPath p = new ManagementPath("/a=b/c=d");
+
+        ManagementPath parent = p.getParent();
+        assertEquals(new ManagementPath("/a=b"), parent);
+        assertEquals(ManagementPath.ROOT, parent.getParent());
+
+        ManagementPath p2 = parent.append("c", "d");
+        assertEquals(p, p2);
+        assertEquals(p.hashCode(), p2.hashCode());
+        assertNotEquals(p, parent);
+    }
+
+    // wildcards -------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void wildcard() throws Exception {
+
+        ManagementPath p = new ManagementPath("/subsystem=datasources/data-source=*");
+        assertTrue(p.isWildcard());
+        assertEquals("*", p.getName(1));
+        assertEquals("/subsystem=datasources/data-source=*", p.getLiteral());
+
+        assertFalse(new ManagementPath("/subsystem=datasources").isWildcard());
+        assertFalse(ManagementPath.ROOT.isWildcard());
+        assertTrue(ManagementPath.ROOT.append("a", "*").isWildcard());
+    }
+
+    @Test
+    public void matches() throws Exception {
+
+        ManagementPath p = new ManagementPath("/subsystem=datasources/data-source=*/statistics=pool");
+
+        assertTrue(p.matches(new ManagementPath("/subsystem=datasources/data-source=A/statistics=pool")));
+        assertTrue(p.matches(new ManagementPath("/subsystem=datasources/data-source=B/statistics=pool")));
+        assertFalse(p.matches(new ManagementPath("/subsystem=datasources/data-source=A/statistics=jdbc")));
+        assertFalse(p.matches(new ManagementPath("/subsystem=datasources/xa-data-source=A/statistics=pool")));
+        assertFalse(p.matches(new ManagementPath("/subsystem=datasources/data-source=A")));
+        assertFalse(p.matches(null));
+
+        ManagementPath concrete = new ManagementPath("/a=b");
+        assertTrue(concrete.matches(new ManagementPath("/a=b")));
+        assertFalse(concrete.matches(new ManagementPath("/a=c")));
+    }
+
+    // fromAddress() ---------------------------------------------------------------------------------------------------
+
+    @Test
+    public void fromAddress() throws Exception {
+
+        ManagementPath p = new ManagementPath("/subsystem=naming/binding=\"java:global/a\"");
+
+        ManagementPath p2 = ManagementPath.fromAddress(p.getAddress());
+        assertEquals(p, p2);
+    }
+
+    @Test
+    public void fromAddress_ObjectElements() throws Exception {
+
+        //
+        // the controller may render address elements as single-key objects
+        //
+
+        ModelNode address = new ModelNode();
+        address.add().get("subsystem").set("datasources");
+        address.add().get("data-source").set("ExampleDS");
+
+        ManagementPath p = ManagementPath.fromAddress(address);
+        assertEquals(new ManagementPath("/subsystem=datasources/data-source=ExampleDS"), p);
+    }
+
+    @Test
+    public void fromAddress_Undefined() throws Exception {
+
+        assertEquals(ManagementPath.ROOT, ManagementPath.fromAddress(new ModelNode()));
+    }
+
+    @Test
+    public void fromAddress_NotAList() throws Exception {
+
+        try {
+
+            ManagementPath.fromAddress(new ModelNode("something"));
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            String msg = e.getMessage();
+            assertTrue(msg.contains("not a LIST"));
+        }
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
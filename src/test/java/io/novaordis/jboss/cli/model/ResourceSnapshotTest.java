@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli.model;
+
+import io.novaordis.jboss.cli.JBossCliException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class ResourceSnapshotTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void build_NotAnObject() throws Exception {
+
+        try {
+
+            ResourceSnapshot.build(ManagementPath.ROOT, new ModelNode("something"), 0L);
+            fail("should throw exception");
+        }
+        catch(JBossCliException e) {
+
+            String msg = e.getMessage();
+            assertTrue(msg.contains("not a read-resource result"));
+        }
+    }
+
+    @Test
+    public void build() throws Exception {
+
+        ManagementPath root = new ManagementPath("/subsystem=datasources");
+
+        ModelNode result = new ModelNode();
+        result.get("installed-drivers").add("h2");
+        result.get("connection-properties", "a").set("b");
+        result.get("jdbc-driver");
+
+        ModelNode a = result.get("data-source", "A");
+        a.get("enabled").set(true);
+        a.get("max-pool-size").set(20);
+        a.get("statistics", "pool", "ActiveCount").set(3);
+        a.get("statistics", "pool", "MaxWaitTime").set(10L);
+
+        ModelNode b = result.get("data-source", "B");
+        b.get("enabled").set(false);
+        b.get("max-pool-size");
+        b.get("statistics", "pool", "ActiveCount").set(5);
+
+        ResourceSnapshot s = ResourceSnapshot.build(root, result, 7L);
+
+        assertEquals(root, s.getRoot());
+        assertEquals(7L, s.getTimestamp());
+        assertEquals(5, s.size());
+
+        //
+        // root
+        //
+
+        assertTrue(s.contains(root));
+        assertEquals(new HashSet<>(Arrays.asList("installed-drivers", "connection-properties", "jdbc-driver")),
+                s.getAttributeNames(root));
+        ModelNode drivers = (ModelNode)s.getAttributeValue(root, "installed-drivers");
+        assertEquals("h2", drivers.get(0).asString());
+        ModelNode properties = (ModelNode)s.getAttributeValue(root, "connection-properties");
+        assertEquals("b", properties.get("a").asString());
+        assertTrue(s.hasAttribute(root, "jdbc-driver"));
+        assertNull(s.getAttributeValue(root, "jdbc-driver"));
+
+        ManagementPath pa = root.append("data-source", "A");
+        ManagementPath pb = root.append("data-source", "B");
+        assertEquals(Arrays.asList(pa, pb), s.getChildren(root));
+
+        //
+        // children
+        //
+
+        assertEquals(true, s.getAttributeValue(pa, "enabled"));
+        assertEquals(20, s.getAttributeValue(pa, "max-pool-size"));
+        assertEquals(false, s.getAttributeValue("/subsystem=datasources/data-source=B", "enabled"));
+        assertTrue(s.hasAttribute(pb, "max-pool-size"));
+        assertNull(s.getAttributeValue(pb, "max-pool-size"));
+
+        ManagementPath pool = pa.append("statistics", "pool");
+        assertEquals(Collections.singletonList(pool), s.getChildren(pa));
+        assertEquals(3, s.getAttributeValue(pool, "ActiveCount"));
+        assertEquals(10L, s.getAttributeValue(pool, "MaxWaitTime"));
+        assertEquals(5, s.getAttributeValue(pb.append("statistics", "pool"), "ActiveCount"));
+        assertTrue(s.getChildren(pool).isEmpty());
+
+        //
+        // attribute names are shared between resources
+        //
+
+        String n1 = s.getAttributeNames(pa).stream().filter("enabled"::equals).findFirst().orElse(null);
+        String n2 = s.getAttributeNames(pb).stream().filter("enabled"::equals).findFirst().orElse(null);
+        assertSame(n1, n2);
+
+        //
+        // misses
+        //
+
+        ManagementPath missing = root.append("data-source", "C");
+        assertFalse(s.contains(missing));
+        assertNull(s.getAttributeValue(missing, "enabled"));
+        assertFalse(s.hasAttribute(missing, "enabled"));
+        assertFalse(s.hasAttribute(pa, "no-such-attribute"));
+        assertTrue(s.getAttributeNames(missing).isEmpty());
+        assertTrue(s.getChildren(missing).isEmpty());
+    }
+
+    @Test
+    public void complexValuesAreProtected() throws Exception {
+
+        ModelNode result = new ModelNode();
+        result.get("list").add(1);
+
+        ResourceSnapshot s = ResourceSnapshot.build(ManagementPath.ROOT, result, 0L);
+
+        ModelNode list = (ModelNode)s.getAttributeValue(ManagementPath.ROOT, "list");
+
+        try {
+
+            list.add(2);
+            fail("should throw exception");
+        }
+        catch(UnsupportedOperationException e) {
+
+            // expected
+        }
+
+        //
+        // the snapshot does not share state with the original node
+        //
+
+        result.get("list").add(3);
+        assertEquals(1, ((ModelNode)s.getAttributeValue(ManagementPath.ROOT, "list")).asList().size());
+    }
+
+    @Test
+    public void expressionAndTypeValues() throws Exception {
+
+        //
+        // read-resource does not resolve expressions by default
+        //
+
+        ModelNode result = new ModelNode();
+        result.get("enabled").setExpression("${datasource.enabled:true}");
+        result.get("type").set(ModelType.LONG);
+        result.get("data-source").get("ExampleDS").get("jndi-name").setExpression("${jndi.name}");
+
+        ResourceSnapshot s = ResourceSnapshot.build(new ManagementPath("/subsystem=datasources"), result, 0L);
+
+        assertEquals("${datasource.enabled:true}",
+                s.getAttributeValue(new ManagementPath("/subsystem=datasources"), "enabled"));
+        assertEquals(ModelType.LONG, s.getAttributeValue(new ManagementPath("/subsystem=datasources"), "type"));
+        assertEquals("${jndi.name}",
+                s.getAttributeValue(new ManagementPath("/subsystem=datasources/data-source=ExampleDS"), "jndi-name"));
+    }
+
+    @Test
+    public void find() throws Exception {
+
+        ModelNode result = new ModelNode();
+        result.get("data-source", "A", "enabled").set(true);
+        result.get("data-source", "B", "enabled").set(true);
+        result.get("xa-data-source", "X", "enabled").set(true);
+
+        ManagementPath root = new ManagementPath("/subsystem=datasources");
+        ResourceSnapshot s = ResourceSnapshot.build(root, result, 0L);
+
+        List<ManagementPath> found = s.find(new ManagementPath("/subsystem=datasources/data-source=*"));
+        assertEquals(new HashSet<>(Arrays.asList(root.append("data-source", "A"), root.append("data-source", "B"))),
+                new HashSet<>(found));
+
+        assertEquals(Collections.singletonList(root.append("xa-data-source", "X")),
+                s.find(new ManagementPath("/subsystem=datasources/xa-data-source=X")));
+
+        assertTrue(s.find(new ManagementPath("/subsystem=datasources/xa-data-source=Y")).isEmpty());
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}
@@ -0,0 +1,842 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli.sampling;
+
+import io.novaordis.jboss.cli.JBossCliException;
+import io.novaordis.jboss.cli.JBossControllerClientFactory;
+import io.novaordis.jboss.cli.JBossControllerClientImpl;
+import io.novaordis.jboss.cli.MockCommandContext;
+import io.novaordis.jboss.cli.MockCommandContextFactory;
+import io.novaordis.jboss.cli.MockJBossControllerClient;
+import io.novaordis.jboss.cli.MockModelControllerClient;
+import io.novaordis.jboss.cli.model.AttributeRead;
+import io.novaordis.jboss.cli.model.AttributeReadResult;
+import io.novaordis.jboss.cli.model.JBossControllerAddress;
+import io.novaordis.jboss.cli.model.ManagementPath;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class AttributeSamplerTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    private AttributeSampler sampler;
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    @After
+    public void cleanup() {
+
+        if (sampler != null) {
+
+            sampler.shutdown();
+        }
+    }
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void subscribe_InvalidInterval() throws Exception {
+
+        sampler = new AttributeSampler(a -> null);
+
+        try {
+
+            sampler.subscribe(new JBossControllerAddress(), new ManagementPath("/a=b"), "c", 0, s -> {});
+            fail("should throw exception");
+        }
+        catch(IllegalArgumentException e) {
+
+            assertTrue(e.getMessage().contains("invalid interval"));
+        }
+    }
+
+    @Test
+    public void tick_DueSubscriptionsAreCoalescedPerController() throws Exception {
+
+        MockCommandContext mcc = new MockCommandContext();
+        mcc.install("/a=b", "c", "d");
+        mcc.install("/a=b", "e", 1L);
+        mcc.install("/x=y", "z", true);
+
+        Map<String, MockCommandContext> contexts = new HashMap<>();
+        contexts.put("host", mcc);
+
+        sampler = new AttributeSampler(buildFactory(contexts));
+
+        JBossControllerAddress a = new JBossControllerAddress(null, null, "host", 9999);
+
+        List<Sample> samples = new ArrayList<>();
+
+        Subscription s = sampler.subscribe(a, new ManagementPath("/a=b"), "c", 1000, samples::add);
+        Subscription s2 = sampler.subscribe(a, new ManagementPath("/a=b"), "e", 2000, samples::add);
+        Subscription s3 = sampler.subscribe(a, new ManagementPath("/x=y"), "z", 1000, samples::add);
+
+        //
+        // identical to the first one, must not result in an additional read
+        //
+
+        Subscription s4 = sampler.subscribe(a, new ManagementPath("/a=b"), "c", 1000, samples::add);
+
+        assertEquals(4, sampler.getSubscriptions().size());
+
+        assertEquals(1, tick(0L));
+        assertEquals(1, sampler.getRequestCount());
+
+        MockModelControllerClient mmcc = (MockModelControllerClient)mcc.getModelControllerClient();
+        int executions = mmcc.getExecutionCount();
+
+        assertEquals(4, samples.size());
+
+        Sample sample = samples.get(0);
+        assertEquals(s, sample.getSubscription());
+        assertEquals(0L, sample.getTimestamp());
+        assertTrue(sample.isSuccess());
+        assertEquals("d", sample.getValue());
+
+        sample = samples.get(1);
+        assertEquals(s2, sample.getSubscription());
+        assertEquals(1L, sample.getValue());
+
+        sample = samples.get(2);
+        assertEquals(s3, sample.getSubscription());
+        assertEquals(true, sample.getValue());
+
+        sample = samples.get(3);
+        assertEquals(s4, sample.getSubscription());
+        assertEquals("d", sample.getValue());
+
+        //
+        // nothing due
+        //
+
+        samples.clear();
+
+        assertEquals(0, tick(500L));
+        assertTrue(samples.isEmpty());
+
+        //
+        // only the 1000 ms subscriptions are due
+        //
+
+        assertEquals(1, tick(1000L));
+        assertEquals(3, samples.size());
+        assertEquals(2, sampler.getRequestCount());
+        assertEquals(executions + 1, mmcc.getExecutionCount());
+
+        for(Sample smp: samples) {
+
+            assertFalse(smp.getSubscription() == s2);
+        }
+
+        samples.clear();
+
+        assertEquals(1, tick(2000L));
+        assertEquals(4, samples.size());
+        assertEquals(executions + 2, mmcc.getExecutionCount());
+
+        //
+        // unsubscribe
+        //
+
+        assertTrue(sampler.unsubscribe(s));
+        assertFalse(sampler.unsubscribe(s));
+
+        samples.clear();
+
+        tick(3000L);
+        assertEquals(2, samples.size());
+    }
+
+    @Test
+    public void tick_SeveralControllers() throws Exception {
+
+        Map<String, MockCommandContext> contexts = new HashMap<>();
+        List<JBossControllerAddress> addresses = new ArrayList<>();
+
+        for(int i = 0; i < 3; i ++) {
+
+            MockCommandContext mcc = new MockCommandContext();
+            mcc.install("/a=b", "c", "value" + i);
+            contexts.put("host" + i, mcc);
+            addresses.add(new JBossControllerAddress(null, null, "host" + i, 9999));
+        }
+
+        sampler = new AttributeSampler(buildFactory(contexts));
+
+        List<Sample> samples = new ArrayList<>();
+
+        for(JBossControllerAddress a: addresses) {
+
+            sampler.subscribe(a, new ManagementPath("/a=b"), "c", 1000, smp -> {
+
+                synchronized (samples) {
+
+                    samples.add(smp);
+                }
+            });
+        }
+
+        assertEquals(3, tick(0L));
+        assertEquals(3, sampler.getRequestCount());
+        assertEquals(3, samples.size());
+
+        for(Sample smp: samples) {
+
+            String host = smp.getSubscription().getControllerAddress().getHost();
+            assertEquals("value" + host.substring("host".length()), smp.getValue());
+        }
+    }
+
+    @Test
+    public void tick_HungControllerDoesNotDelayOthers() throws Exception {
+
+        MockCommandContext mcc = new MockCommandContext();
+        mcc.install("/a=b", "c", "d");
+
+        Map<String, MockCommandContext> contexts = new HashMap<>();
+        contexts.put("host", mcc);
+
+        JBossControllerClientFactory factory = buildFactory(contexts);
+        CountDownLatch hung = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        sampler = new AttributeSampler(address -> {
+
+            if ("hung".equals(address.getHost())) {
+
+                hung.countDown();
+
+                try {
+
+                    release.await();
+                }
+                catch(InterruptedException e) {
+
+                    Thread.currentThread().interrupt();
+                }
+
+                throw new JBossCliException("cannot connect to hung");
+            }
+
+            return factory.buildControllerClient(address);
+
+        }, AttributeSampler.DEFAULT_RESOLUTION_MS, 2);
+
+        BlockingQueue<Sample> samples = new LinkedBlockingQueue<>();
+        BlockingQueue<Sample> hungSamples = new LinkedBlockingQueue<>();
+
+        sampler.subscribe(
+                new JBossControllerAddress(null, null, "hung", 9999), new ManagementPath("/a=b"), "c", 1000,
+                hungSamples::add);
+        sampler.subscribe(
+                new JBossControllerAddress(null, null, "host", 9999), new ManagementPath("/a=b"), "c", 1000,
+                samples::add);
+
+        assertEquals(2, sampler.tick(0L));
+        assertTrue(hung.await(5, TimeUnit.SECONDS));
+        assertEquals("d", samples.poll(5, TimeUnit.SECONDS).getValue());
+
+        //
+        // the hung controller is skipped while its sample is in progress, the other one is still sampled, once its
+        // own task completes
+        //
+
+        int requests;
+
+        while((requests = sampler.tick(1000L)) == 0) {
+
+            Thread.sleep(10L);
+        }
+
+        assertEquals(1, requests);
+        assertEquals("d", samples.poll(5, TimeUnit.SECONDS).getValue());
+        assertFalse(sampler.awaitSamples(10L));
+        assertTrue(hungSamples.isEmpty());
+
+        release.countDown();
+
+        Sample sample = hungSamples.poll(5, TimeUnit.SECONDS);
+        assertFalse(sample.isSuccess());
+        assertTrue(sampler.awaitSamples(5000L));
+
+        //
+        // the skipped subscription is still due
+        //
+
+        assertEquals(2, tick(2000L));
+        assertEquals(1, hungSamples.size());
+        assertEquals(1, samples.size());
+    }
+
+    @Test
+    public void tick_ReadFailureIsReportedPerSubscription() throws Exception {
+
+        MockCommandContext mcc = new MockCommandContext();
+        mcc.install("/a=b", "c", "d");
+
+        Map<String, MockCommandContext> contexts = new HashMap<>();
+        contexts.put("host", mcc);
+
+        sampler = new AttributeSampler(buildFactory(contexts));
+
+        JBossControllerAddress a = new JBossControllerAddress(null, null, "host", 9999);
+
+        List<Sample> samples = new ArrayList<>();
+
+        sampler.subscribe(a, new ManagementPath("/a=b"), "c", 1000, samples::add);
+        sampler.subscribe(a, new ManagementPath("/no=such"), "c", 1000, samples::add);
+
+        tick(0L);
+
+        assertEquals(2, samples.size());
+        assertTrue(samples.get(0).isSuccess());
+        assertEquals("d", samples.get(0).getValue());
+        assertFalse(samples.get(1).isSuccess());
+        assertNull(samples.get(1).getValue());
+        assertTrue(samples.get(1).getFailure() instanceof JBossCliException);
+    }
+
+    @Test
+    public void tick_ConnectionFailure_Retried() throws Exception {
+
+        Map<String, MockCommandContext> contexts = new HashMap<>();
+
+        sampler = new AttributeSampler(buildFactory(contexts));
+
+        JBossControllerAddress a = new JBossControllerAddress(null, null, "host", 9999);
+
+        List<Sample> samples = new ArrayList<>();
+
+        sampler.subscribe(a, new ManagementPath("/a=b"), "c", 1000, samples::add);
+
+        tick(0L);
+
+        assertEquals(1, samples.size());
+        assertFalse(samples.get(0).isSuccess());
+        assertTrue(samples.get(0).getFailure().getMessage().contains("cannot connect"));
+
+        //
+        // the controller becomes available
+        //
+
+        MockCommandContext mcc = new MockCommandContext();
+        mcc.install("/a=b", "c", "d");
+        contexts.put("host", mcc);
+
+        samples.clear();
+
+        tick(1000L);
+
+        assertEquals(1, samples.size());
+        assertEquals("d", samples.get(0).getValue());
+    }
+
+    @Test
+    public void tick_ListenerFailureDoesNotAffectOtherListeners() throws Exception {
+
+        MockCommandContext mcc = new MockCommandContext();
+        mcc.install("/a=b", "c", "d");
+
+        Map<String, MockCommandContext> contexts = new HashMap<>();
+        contexts.put("host", mcc);
+
+        sampler = new AttributeSampler(buildFactory(contexts));
+
+        JBossControllerAddress a = new JBossControllerAddress(null, null, "host", 9999);
+
+        List<Sample> samples = new ArrayList<>();
+
+        sampler.subscribe(a, new ManagementPath("/a=b"), "c", 1000, smp -> {
+            throw new RuntimeException("SYNTHETIC");
+        });
+
+        sampler.subscribe(a, new ManagementPath("/a=b"), "c", 1000, samples::add);
+
+        tick(0L);
+
+        assertEquals(1, samples.size());
+    }
+
+    @Test
+    public void subscribeToChanges_InvalidHeartbeat() throws Exception {
+
+        sampler = new AttributeSampler(a -> null);
+
+        try {
+
+            sampler.subscribeToChanges(
+                    new JBossControllerAddress(), new ManagementPath("/a=b"), "c", 1000, -1, s -> {});
+            fail("should throw exception");
+        }
+        catch(IllegalArgumentException e) {
+
+            assertTrue(e.getMessage().contains("invalid heartbeat"));
+        }
+    }
+
+    @Test
+    public void tick_ChangesOnly() throws Exception {
+
+        MockCommandContext mcc = new MockCommandContext();
+        mcc.install("/a=b", "c", 1L);
+
+        Map<String, MockCommandContext> contexts = new HashMap<>();
+        contexts.put("host", mcc);
+
+        sampler = new AttributeSampler(buildFactory(contexts));
+
+        JBossControllerAddress a = new JBossControllerAddress(null, null, "host", 9999);
+
+        List<Sample> changes = new ArrayList<>();
+        List<Sample> all = new ArrayList<>();
+
+        Subscription s = sampler.subscribeToChanges(a, new ManagementPath("/a=b"), "c", 1000, 0, changes::add);
+        assertTrue(s.isChangesOnly());
+        assertEquals(0L, s.getHeartbeatMs());
+
+        sampler.subscribe(a, new ManagementPath("/a=b"), "c", 1000, all::add);
+
+        //
+        // the first sample is always delivered
+        //
+
+        tick(0L);
+        assertEquals(1, changes.size());
+        assertEquals(1L, changes.get(0).getValue());
+        assertFalse(changes.get(0).isHeartbeat());
+
+        tick(1000L);
+        tick(2000L);
+        assertEquals(1, changes.size());
+        assertEquals(3, all.size());
+        assertEquals(2, sampler.getSuppressedCount());
+
+        mcc.install("/a=b", "c", 2L);
+
+        tick(3000L);
+        assertEquals(2, changes.size());
+        assertEquals(2L, changes.get(1).getValue());
+
+        tick(4000L);
+        assertEquals(2, changes.size());
+        assertEquals(3, sampler.getSuppressedCount());
+        assertEquals(5, all.size());
+    }
+
+    @Test
+    public void tick_ChangesOnly_Heartbeat() throws Exception {
+
+        MockCommandContext mcc = new MockCommandContext();
+        mcc.install("/a=b", "c", "d");
+
+        Map<String, MockCommandContext> contexts = new HashMap<>();
+        contexts.put("host", mcc);
+
+        sampler = new AttributeSampler(buildFactory(contexts));
+
+        JBossControllerAddress a = new JBossControllerAddress(null, null, "host", 9999);
+
+        List<Sample> samples = new ArrayList<>();
+
+        sampler.subscribeToChanges(a, new ManagementPath("/a=b"), "c", 1000, 3000, samples::add);
+
+        for(long t = 0; t <= 7000L; t += 1000L) {
+
+            tick(t);
+        }
+
+        //
+        // the first sample, and heartbeats at 3000 and 6000
+        //
+
+        assertEquals(3, samples.size());
+        assertFalse(samples.get(0).isHeartbeat());
+        assertEquals(3000L, samples.get(1).getTimestamp());
+        assertTrue(samples.get(1).isHeartbeat());
+        assertEquals("d", samples.get(1).getValue());
+        assertEquals(6000L, samples.get(2).getTimestamp());
+        assertTrue(samples.get(2).isHeartbeat());
+    }
+
+    @Test
+    public void tick_ChangesOnly_RepeatedFailuresAreSuppressed() throws Exception {
+
+        Map<String, MockCommandContext> contexts = new HashMap<>();
+
+        sampler = new AttributeSampler(buildFactory(contexts));
+
+        JBossControllerAddress a = new JBossControllerAddress(null, null, "host", 9999);
+
+        List<Sample> samples = new ArrayList<>();
+
+        sampler.subscribeToChanges(a, new ManagementPath("/a=b"), "c", 1000, 0, samples::add);
+
+        tick(0L);
+        tick(1000L);
+
+        assertEquals(1, samples.size());
+        assertFalse(samples.get(0).isSuccess());
+
+        //
+        // recovery is a change
+        //
+
+        MockCommandContext mcc = new MockCommandContext();
+        mcc.install("/a=b", "c", "d");
+        contexts.put("host", mcc);
+
+        tick(2000L);
+
+        assertEquals(2, samples.size());
+        assertEquals("d", samples.get(1).getValue());
+    }
+
+    @Test
+    public void tick_ChangesOnly_ManySubscriptions() throws Exception {
+
+        MockCommandContext mcc = new MockCommandContext();
+
+        Map<String, MockCommandContext> contexts = new HashMap<>();
+        contexts.put("host", mcc);
+
+        sampler = new AttributeSampler(buildFactory(contexts));
+
+        JBossControllerAddress a = new JBossControllerAddress(null, null, "host", 9999);
+
+        List<Sample> samples = new ArrayList<>();
+
+        //
+        // more subscriptions than the initial change table capacity
+        //
+
+        int count = ChangeTable.DEFAULT_CAPACITY * 3;
+
+        for(int i = 0; i < count; i ++) {
+
+            mcc.install("/a=b", "c" + i, i);
+            sampler.subscribeToChanges(a, new ManagementPath("/a=b"), "c" + i, 1000, 0, samples::add);
+        }
+
+        tick(0L);
+        assertEquals(count, samples.size());
+
+        samples.clear();
+        mcc.install("/a=b", "c7", -7);
+
+        tick(1000L);
+        assertEquals(1, samples.size());
+        assertEquals(-7, samples.get(0).getValue());
+    }
+
+    @Test
+    public void tick_ChangesOnly_ReusedSlotStartsEmpty() throws Exception {
+
+        MockCommandContext mcc = new MockCommandContext();
+        mcc.install("/a=b", "c", "d");
+
+        Map<String, MockCommandContext> contexts = new HashMap<>();
+        contexts.put("host", mcc);
+
+        sampler = new AttributeSampler(buildFactory(contexts));
+
+        JBossControllerAddress a = new JBossControllerAddress(null, null, "host", 9999);
+
+        List<Sample> samples = new ArrayList<>();
+
+        Subscription s = sampler.subscribeToChanges(a, new ManagementPath("/a=b"), "c", 1000, 0, samples::add);
+
+        tick(0L);
+        assertEquals(1, samples.size());
+
+        assertTrue(sampler.unsubscribe(s));
+
+        //
+        // the new subscription gets the released slot, but not the value stored in it
+        //
+
+        Subscription s2 = sampler.subscribeToChanges(a, new ManagementPath("/a=b"), "c", 1000, 0, samples::add);
+        assertEquals(-1, s.getSlot());
+        assertEquals(0, s2.getSlot());
+        assertTrue(s.getId() != s2.getId());
+
+        tick(1000L);
+        assertEquals(2, samples.size());
+        assertEquals(s2, samples.get(1).getSubscription());
+        assertEquals("d", samples.get(1).getValue());
+    }
+
+    @Test
+    public void startAndStop() throws Exception {
+
+        MockCommandContext mcc = new MockCommandContext();
+        mcc.install("/a=b", "c", "d");
+
+        Map<String, MockCommandContext> contexts = new HashMap<>();
+        contexts.put("host", mcc);
+
+        sampler = new AttributeSampler(buildFactory(contexts), 10L, 1);
+
+        CountDownLatch latch = new CountDownLatch(3);
+
+        sampler.subscribe(
+                new JBossControllerAddress(null, null, "host", 9999), new ManagementPath("/a=b"), "c", 20,
+                smp -> latch.countDown());
+
+        assertFalse(sampler.isStarted());
+
+        sampler.start();
+        assertTrue(sampler.isStarted());
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        sampler.stop();
+        assertFalse(sampler.isStarted());
+    }
+
+    @Test
+    public void stop_WhileReadIsBlocked() throws Exception {
+
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingClient client = new BlockingClient(null, reading, release);
+
+        sampler = new AttributeSampler(address -> client);
+
+        List<Sample> samples = new CopyOnWriteArrayList<>();
+
+        sampler.subscribe(
+                new JBossControllerAddress(null, null, "host", 9999), new ManagementPath("/a=b"), "c", 1000,
+                samples::add);
+
+        sampler.start();
+
+        assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+        sampler.stop();
+
+        assertFalse(client.isConnected());
+
+        //
+        // the read ignores the interruption, and completes after stop()
+        //
+
+        release.countDown();
+        assertTrue(sampler.awaitSamples(5000L));
+        assertTrue(client.done.await(5, TimeUnit.SECONDS));
+        Thread.sleep(50L);
+
+        assertTrue(samples.isEmpty());
+    }
+
+    @Test
+    public void stop_WhileConnecting() throws Exception {
+
+        CountDownLatch connecting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingClient client = new BlockingClient(connecting, null, release);
+
+        sampler = new AttributeSampler(address -> client);
+
+        List<Sample> samples = new CopyOnWriteArrayList<>();
+
+        sampler.subscribe(
+                new JBossControllerAddress(null, null, "host", 9999), new ManagementPath("/a=b"), "c", 1000,
+                samples::add);
+
+        sampler.start();
+
+        assertTrue(connecting.await(5, TimeUnit.SECONDS));
+
+        sampler.stop();
+
+        //
+        // the client connected after stop() is not kept
+        //
+
+        release.countDown();
+        assertTrue(client.done.await(5, TimeUnit.SECONDS));
+
+        long deadline = System.currentTimeMillis() + 5000L;
+
+        while(client.isConnected() && System.currentTimeMillis() < deadline) {
+
+            Thread.sleep(10L);
+        }
+
+        assertFalse(client.isConnected());
+        assertEquals(0L, sampler.getRequestCount());
+        assertTrue(samples.isEmpty());
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    /**
+     * Ticks and waits until the samples are delivered.
+     */
+    private int tick(long now) throws Exception {
+
+        int requests = sampler.tick(now);
+        assertTrue(sampler.awaitSamples(5000L));
+        return requests;
+    }
+
+    private static JBossControllerClientFactory buildFactory(Map<String, MockCommandContext> contexts) {
+
+        return address -> {
+
+            MockCommandContext mcc = contexts.get(address.getHost());
+
+            if (mcc == null) {
+
+                throw new JBossCliException("cannot connect to " + address.getHost());
+            }
+
+            JBossControllerClientImpl c = new JBossControllerClientImpl(address);
+            c.setCommandContextFactory(new MockCommandContextFactory(mcc));
+            return c;
+        };
+    }
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+    /**
+     * Blocks in connect() or in readAttributes(), ignoring interruptions, until released.
+     */
+    private static class BlockingClient extends MockJBossControllerClient {
+
+        private final CountDownLatch connecting;
+        private final CountDownLatch reading;
+        private final CountDownLatch release;
+
+        // counted down when the blocked call returns
+        private final CountDownLatch done;
+
+        private volatile boolean connected;
+
+        BlockingClient(CountDownLatch connecting, CountDownLatch reading, CountDownLatch release) {
+
+            this.connecting = connecting;
+            this.reading = reading;
+            this.release = release;
+            this.done = new CountDownLatch(1);
+        }
+
+        @Override
+        public void connect() {
+
+            if (connecting != null) {
+
+                connecting.countDown();
+                block();
+            }
+
+            connected = true;
+
+            if (connecting != null) {
+
+                done.countDown();
+            }
+        }
+
+        @Override
+        public void disconnect() {
+
+            connected = false;
+        }
+
+        @Override
+        public boolean isConnected() {
+
+            return connected;
+        }
+
+        @Override
+        public List<AttributeReadResult> readAttributes(List<AttributeRead> reads) {
+
+            if (reading != null) {
+
+                reading.countDown();
+                block();
+            }
+
+            List<AttributeReadResult> results = new ArrayList<>();
+
+            for(AttributeRead r: reads) {
+
+                results.add(AttributeReadResult.success(r, "d"));
+            }
+
+            done.countDown();
+            return results;
+        }
+
+        private void block() {
+
+            boolean interrupted = false;
+
+            while(true) {
+
+                try {
+
+                    release.await();
+                    break;
+                }
+                catch(InterruptedException e) {
+
+                    interrupted = true;
+                }
+            }
+
+            if (interrupted) {
+
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
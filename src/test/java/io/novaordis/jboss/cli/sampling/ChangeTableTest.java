@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Nova Ordis LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.novaordis.jboss.cli.sampling;
+
+import io.novaordis.jboss.cli.JBossCliException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Ovidiu Feodorov <ovidiu@novaordis.com>
+ * @since 10/18/26
+ */
+public class ChangeTableTest {
+
+    // Constants -------------------------------------------------------------------------------------------------------
+
+    // Static ----------------------------------------------------------------------------------------------------------
+
+    // Attributes ------------------------------------------------------------------------------------------------------
+
+    // Constructors ----------------------------------------------------------------------------------------------------
+
+    // Public ----------------------------------------------------------------------------------------------------------
+
+    // Tests -----------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void constructor_InvalidCapacity() throws Exception {
+
+        try {
+
+            new ChangeTable(0);
+            fail("should throw exception");
+        }
+        catch(IllegalArgumentException e) {
+
+            assertEquals("invalid capacity 0", e.getMessage());
+        }
+    }
+
+    @Test
+    public void allocate() throws Exception {
+
+        ChangeTable t = new ChangeTable(2);
+
+        assertEquals(0, t.allocate());
+        assertEquals(1, t.allocate());
+        assertEquals(2, t.capacity());
+
+        assertEquals(2, t.allocate());
+        assertEquals(4, t.capacity());
+
+        for(int i = 3; i < 17; i ++) {
+
+            assertEquals(i, t.allocate());
+        }
+
+        assertEquals(32, t.capacity());
+    }
+
+    @Test
+    public void allocate_ReleasedSlotsAreReused() throws Exception {
+
+        ChangeTable t = new ChangeTable(2);
+
+        assertEquals(0, t.allocate());
+        assertEquals(1, t.allocate());
+
+        //
+        // subscriptions come and go, the table does not grow
+        //
+
+        for(int i = 0; i < 1000; i ++) {
+
+            t.release(1);
+            assertEquals(1, t.allocate());
+        }
+
+        t.release(0);
+        t.release(1);
+        assertEquals(1, t.allocate());
+        assertEquals(0, t.allocate());
+        assertEquals(2, t.capacity());
+    }
+
+    @Test
+    public void update() throws Exception {
+
+        ChangeTable t = new ChangeTable(4);
+
+        assertEquals(ChangeTable.Delivery.CHANGED, t.update(0, 1, null, 0L, 0L));
+        assertNull(t.update(0, 1, null, 1L, 0L));
+
+        //
+        // same bits, different type
+        //
+
+        assertEquals(ChangeTable.Delivery.CHANGED, t.update(0, 1L, null, 2L, 0L));
+        assertNull(t.update(0, 1L, null, 3L, 0L));
+
+        assertEquals(ChangeTable.Delivery.CHANGED, t.update(0, 1.5d, null, 4L, 0L));
+        assertNull(t.update(0, 1.5d, null, 5L, 0L));
+
+        assertEquals(ChangeTable.Delivery.CHANGED, t.update(0, true, null, 6L, 0L));
+        assertNull(t.update(0, true, null, 7L, 0L));
+        assertEquals(ChangeTable.Delivery.CHANGED, t.update(0, false, null, 8L, 0L));
+
+        assertEquals(ChangeTable.Delivery.CHANGED, t.update(0, null, null, 9L, 0L));
+        assertNull(t.update(0, null, null, 10L, 0L));
+
+        assertEquals(ChangeTable.Delivery.CHANGED, t.update(0, "a", null, 11L, 0L));
+        assertNull(t.update(0, new String("a"), null, 12L, 0L));
+        assertEquals(ChangeTable.Delivery.CHANGED, t.update(0, new BigDecimal("1.0"), null, 13L, 0L));
+        assertNull(t.update(0, new BigDecimal("1.0"), null, 14L, 0L));
+
+        assertEquals(ChangeTable.Delivery.CHANGED, t.update(0, new byte[] {1, 2}, null, 15L, 0L));
+        assertNull(t.update(0, new byte[] {1, 2}, null, 16L, 0L));
+
+        //
+        // slots are independent
+        //
+
+        assertEquals(ChangeTable.Delivery.CHANGED, t.update(1, new byte[] {1, 2}, null, 17L, 0L));
+    }
+
+    @Test
+    public void update_Failures() throws Exception {
+
+        ChangeTable t = new ChangeTable(1);
+
+        assertEquals(ChangeTable.Delivery.CHANGED, t.update(0, null, new JBossCliException("A"), 0L, 0L));
+        assertNull(t.update(0, null, new JBossCliException("A"), 1L, 0L));
+        assertEquals(ChangeTable.Delivery.CHANGED, t.update(0, null, new JBossCliException("B"), 2L, 0L));
+        assertEquals(ChangeTable.Delivery.CHANGED, t.update(0, "B", null, 3L, 0L));
+    }
+
+    @Test
+    public void update_Heartbeat() throws Exception {
+
+        ChangeTable t = new ChangeTable(1);
+
+        assertEquals(ChangeTable.Delivery.CHANGED, t.update(0, 5, null, 100L, 50L));
+        assertNull(t.update(0, 5, null, 149L, 50L));
+        assertEquals(ChangeTable.Delivery.HEARTBEAT, t.update(0, 5, null, 150L, 50L));
+        assertNull(t.update(0, 5, null, 199L, 50L));
+
+        //
+        // a change restarts the heartbeat period
+        //
+
+        assertEquals(ChangeTable.Delivery.CHANGED, t.update(0, 6, null, 190L, 50L));
+        assertNull(t.update(0, 6, null, 210L, 50L));
+        assertEquals(ChangeTable.Delivery.HEARTBEAT, t.update(0, 6, null, 240L, 50L));
+    }
+
+    @Test
+    public void release() throws Exception {
+
+        ChangeTable t = new ChangeTable(1);
+
+        int slot = t.allocate();
+        assertEquals(ChangeTable.Delivery.CHANGED, t.update(slot, "x", null, 0L, 0L));
+        t.release(slot);
+
+        //
+        // the value is forgotten
+        //
+
+        assertEquals(slot, t.allocate());
+        assertEquals(ChangeTable.Delivery.CHANGED, t.update(slot, "x", null, 1L, 0L));
+    }
+
+    @Test
+    public void release_InvalidSlot() throws Exception {
+
+        ChangeTable t = new ChangeTable(4);
+        t.allocate();
+
+        try {
+
+            t.release(1);
+            fail("should throw exception");
+        }
+        catch(IllegalArgumentException e) {
+
+            assertEquals("invalid slot 1", e.getMessage());
+        }
+    }
+
+    // Package protected -----------------------------------------------------------------------------------------------
+
+    // Protected -------------------------------------------------------------------------------------------------------
+
+    // Private ---------------------------------------------------------------------------------------------------------
+
+    // Inner classes ---------------------------------------------------------------------------------------------------
+
+}